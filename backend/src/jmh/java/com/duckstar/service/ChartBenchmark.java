@@ -0,0 +1,79 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 차트 산출: 베이지안 점수 계산 + 동적 엡실론 정렬 + competition ranking
+ *  - episodeCount: 한 주에 집계되는 에피소드 수 (평소 50 전후 ~ 극단치 2000)
+ *  - 투표 수는 롱테일 (상위 몇 개에 몰리고 대부분 적음) 이라 동점 구간 비교가 많이 생김
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartBenchmark {
+
+    private static final int M = 10;
+    private static final double C = 7.0;
+    private static final int MIN_VOTES = 20;
+
+    @Param({"50", "200", "2000"})
+    public int episodeCount;
+
+    private List<Episode> episodes;
+    private int[] voterCounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 1, 5, 20, 0);
+
+        episodes = new ArrayList<>(episodeCount);
+        voterCounts = new int[episodeCount];
+        for (int i = 0; i < episodeCount; i++) {
+            Episode episode = Episode.create(null, 1, scheduledAt, null, false);
+
+            // 롱테일 투표 수 + 0.5 ~ 5.0 별점 분포
+            int voterCount = (int) Math.min(2000, Math.round(Math.exp(random.nextGaussian() * 1.5 + 2.5)));
+            int[] scores = new int[10];
+            int center = 4 + random.nextInt(6);
+            for (int v = 0; v < voterCount; v++) {
+                int score = (int) Math.round(center + random.nextGaussian() * 1.5);
+                scores[Math.max(0, Math.min(9, score))] += 1;
+            }
+            episode.setStats(voterCount, scores);
+
+            episodes.add(episode);
+            voterCounts[i] = voterCount;
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, List<Episode>> buildChart() {
+        // 정렬이 리스트를 바꾸므로 매번 같은 입력 순서로
+        return ChartService.buildChart(new ArrayList<>(episodes), M, C, MIN_VOTES);
+    }
+
+    @Benchmark
+    public void calculateBayesScore(Blackhole blackhole) {
+        for (Episode episode : episodes) {
+            episode.calculateBayesScore(M, C);
+            blackhole.consume(episode.getBayesScore());
+        }
+    }
+
+    @Benchmark
+    public void epsDynamic(Blackhole blackhole) {
+        for (int i = 1; i < voterCounts.length; i++) {
+            blackhole.consume(ChartService.epsDynamic(voterCounts[i - 1], voterCounts[i]));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.duckstar.util;
+
+import com.duckstar.util.AnimeTitleIndex.IndexedTitle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애니 제목 검색: 전체 제목 ChosungUtil 스캔 vs AnimeTitleIndex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimeSearchBenchmark {
+
+    @Param({"500", "5000"})
+    public int animeCount;
+
+    @Param({"ㄱㅁ", "귀멸", "칼날 대장", "the"})
+    public String query;
+
+    private List<IndexedTitle> titles;
+    private AnimeTitleIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] words = {
+                "귀멸의", "칼날", "대장장이", "마을", "진격의", "거인", "주술", "회전", "장송의",
+                "프리렌", "약사의", "혼잣말", "최애의", "아이", "봇치", "더", "록", "던전", "밥"
+        };
+        String[] engWords = {"the", "blade", "demon", "slayer", "of", "frieren", "dungeon", "meshi"};
+
+        titles = new ArrayList<>(animeCount);
+        for (int i = 0; i < animeCount; i++) {
+            titles.add(new IndexedTitle(
+                    (long) i,
+                    randomTitle(random, words, " "),
+                    randomTitle(random, engWords, " "),
+                    null
+            ));
+        }
+        index = AnimeTitleIndex.of(titles);
+    }
+
+    private static String randomTitle(Random random, String[] words, String delimiter) {
+        int n = 2 + random.nextInt(3);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(delimiter);
+            sb.append(words[random.nextInt(words.length)]);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public List<Long> chosungUtilScan() {
+        List<Long> result = new ArrayList<>();
+        for (IndexedTitle title : titles) {
+            if (ChosungUtil.searchMatch(query, title.titleKor())) {
+                result.add(title.animeId());
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Long> titleIndex() {
+        return index.search(query);
+    }
+}
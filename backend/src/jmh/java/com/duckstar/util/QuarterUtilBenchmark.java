@@ -0,0 +1,43 @@
+package com.duckstar.util;
+
+import com.duckstar.util.QuarterUtil.YQWRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시각 -> 분기 주차 변환 (투표, 편성표, 차트 요청마다 호출)
+ *  - 분기 경계 (앵커 전후) 를 포함해 2년 범위 시각에서 고르게
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QuarterUtilBenchmark {
+
+    private static final int TIME_COUNT = 1 << 12;
+
+    private LocalDateTime[] times;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        times = new LocalDateTime[TIME_COUNT];
+        for (int i = 0; i < TIME_COUNT; i++) {
+            times[i] = base.plusMinutes(random.nextInt(2 * 365 * 24 * 60));
+        }
+    }
+
+    @Benchmark
+    public YQWRecord getThisWeekRecord(Cursor cursor) {
+        return QuarterUtil.getThisWeekRecord(times[cursor.next++ & (TIME_COUNT - 1)]);
+    }
+}
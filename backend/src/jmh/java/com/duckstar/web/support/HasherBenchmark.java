@@ -0,0 +1,81 @@
+package com.duckstar.web.support;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ip 해시: 기존 구현(매 호출 Mac 생성 + String.format) vs Hasher
+ *  - ./gradlew jmh 의 gc 프로파일러로 호출당 할당량(gc.alloc.rate.norm) 함께 확인
+ *  - burst: 같은 ip 연속 (캐시 적중), distinct: 매번 다른 ip (캐시 미스)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HasherBenchmark {
+
+    private static final byte[] KEY = "benchmark-ip-hash-key".getBytes(StandardCharsets.UTF_8);
+    private static final int IP_COUNT = 1 << 16;
+
+    @Param({"true", "false"})
+    public boolean useHex;
+
+    private Hasher hasher;
+    private Hasher uncachedHasher;
+    private String[] ips;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        hasher = new Hasher(KEY, useHex);
+        uncachedHasher = new Hasher(KEY, useHex, 0);
+
+        ips = new String[IP_COUNT];
+        for (int i = 0; i < IP_COUNT; i++) {
+            ips[i] = "10." + ((i >> 16) & 0xff) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public String legacyBurst() throws Exception {
+        return legacyHash(ips[0]);
+    }
+
+    @Benchmark
+    public String hasherBurst() {
+        return hasher.hash(ips[0]);
+    }
+
+    @Benchmark
+    public String legacyDistinct(Cursor cursor) throws Exception {
+        return legacyHash(ips[cursor.next++ & (IP_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public String hasherDistinct(Cursor cursor) {
+        return uncachedHasher.hash(ips[cursor.next++ & (IP_COUNT - 1)]);
+    }
+
+    // 변경 전 Hasher.hash
+    private String legacyHash(String ip) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        byte[] macBytes = mac.doFinal(ip.getBytes(StandardCharsets.UTF_8));
+        if (!useHex) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(macBytes);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : macBytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -1,6 +1,5 @@
 package com.duckstar.abroad.reader;
 
-import com.duckstar.domain.Anime;
 import com.duckstar.domain.Quarter;
 import com.duckstar.service.QuarterService;
 import com.duckstar.service.WeekService;
@@ -11,9 +10,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
-import java.util.Map;
 
 import static com.duckstar.web.dto.admin.CsvRequestDto.*;
+import static com.duckstar.web.dto.admin.CsvResponseDto.*;
 
 @RestController
 @RequestMapping("/api/v1/csv")
@@ -24,32 +23,43 @@ public class CsvController {
     private final WeekService weekService;
     private final QuarterService quarterService;
 
-    @Operation(summary = "어워드 후보 csv를 서버에 변환 및 업로드")
+    @Operation(summary = "어워드 후보 csv를 서버에 변환 및 업로드",
+            description = "비동기로 진행, 진행 상황은 작업 조회 API 로 확인")
     @PostMapping(value = "/import/surveys/{surveyId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> importYearCandidates(
+    public ResponseEntity<ImportJobDto> importYearCandidates(
             @PathVariable Long surveyId,
             @ModelAttribute CandidatesCsvRequest request
     ) throws IOException {
-        csvImportService.importCandidates(surveyId, request.getCandidatesCsv());
-        return ResponseEntity.ok("✅ 데이터 import 성공");
+        CsvImportJob job = csvImportService.startCandidateImport(surveyId, request.getCandidatesCsv());
+        return ResponseEntity.accepted().body(ImportJobDto.of(job));
     }
 
-    @Operation(summary = "새로운 분기 정보 csv를 서버에 변환 및 업로드")
+    @Operation(summary = "새로운 분기 정보 csv를 서버에 변환 및 업로드",
+            description = "비동기로 진행, 진행 상황은 작업 조회 API 로 확인")
     @PostMapping(value = "/import/{year}/{quarter}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> importNewQuarter(
+    public ResponseEntity<ImportJobDto> importNewQuarter(
             @PathVariable Integer year,
             @PathVariable Integer quarter,
             @ModelAttribute NewQuarterRequestDto request
     ) throws IOException {
         Quarter savedQuarter = quarterService.getOrCreateQuarter(year, quarter);
 
-        Map<Integer, Long> animeIdMap = csvImportService.importAnimes(savedQuarter, request.getAnimeCsv());
-        Map<Integer, Long> characterIdMap = csvImportService.importCharacters(request.getCharactersCsv());
+        CsvImportJob job = csvImportService.startQuarterImport(savedQuarter, request);
+        return ResponseEntity.accepted().body(ImportJobDto.of(job));
+    }
 
-        Map<Long, Anime> animeMap = csvImportService.importAnimeCharacters(
-                request.getAnimeCharactersCsv(), animeIdMap, characterIdMap);
-        csvImportService.importEpisodes(request.getEpisodesCsv(), animeMap, animeIdMap);
-        return ResponseEntity.ok("✅ 데이터 import 성공");
+    @Operation(summary = "csv 임포트 작업 진행 상황 조회")
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<ImportJobDto> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(ImportJobDto.of(csvImportService.getJob(jobId)));
+    }
+
+    @Operation(summary = "실패한 csv 임포트 작업 재개",
+            description = "커밋되지 않은 배치, 반영되지 않은 이미지부터 다시 진행")
+    @PostMapping("/import/jobs/{jobId}/resume")
+    public ResponseEntity<ImportJobDto> resumeImportJob(@PathVariable Long jobId) {
+        CsvImportJob job = csvImportService.resume(jobId);
+        return ResponseEntity.accepted().body(ImportJobDto.of(job));
     }
 
     @PostMapping(value = "/import/{year}/{quarter}/{week}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
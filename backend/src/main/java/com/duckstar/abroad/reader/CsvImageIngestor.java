@@ -0,0 +1,327 @@
+package com.duckstar.abroad.reader;
+
+import com.duckstar.s3.S3Uploader;
+import com.duckstar.s3.StoredImageIndex;
+import com.duckstar.s3.StoredImageIndex.StoredVariants;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSV 임포트용 원격 이미지 수집 파이프라인
+ *
+ *  다운로드 (IO 풀, 호스트별 동시 연결 제한) -> WebP 변환 (CPU 풀) -> S3 업로드 (IO 풀)
+ *
+ *  - 단계마다 풀을 나눠서 느린 원격 서버가 변환/업로드를 막지 않음
+ *  - 다운로드한 원본 해시가 StoredImageIndex 에 있으면 변환, 업로드 생략 (같은 키 비주얼 재임포트 등)
+ *  - 이미지 하나가 실패해도 나머지는 계속 (실패분은 CsvImportJob 에 남아 재개 때 다시)
+ *  - DB 는 건드리지 않음 - URL 반영은 호출한 쪽에서 짧은 트랜잭션으로
+ */
+@Slf4j
+@Component
+public class CsvImageIngestor {
+
+    private static final int MAX_DIMENSION = 2048;
+    private static final int THUMBNAIL_WIDTH = 640;
+    private static final int MAX_DOWNLOAD_BYTES = 20 * 1024 * 1024;
+    private static final int MAX_FETCH_ATTEMPTS = 3;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+
+    private final S3Uploader s3Uploader;
+    private final StoredImageIndex storedImageIndex;
+    private final int perHostLimit;
+
+    private final ExecutorService fetchers;
+    private final ExecutorService transcoders;
+    private final ExecutorService uploaders;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private volatile SSLContext onnadaSslContext;
+
+    public enum ImageTarget {
+        ANIME("animes", true, StoredImageIndex.KEY_VISUAL),
+        CHARACTER("characters", false, StoredImageIndex.CHARACTER),
+        CANDIDATE("candidates", true, StoredImageIndex.KEY_VISUAL);
+
+        private final String dir;
+        private final boolean generateThumbnail;
+        private final String variant;
+
+        ImageTarget(String dir, boolean generateThumbnail, String variant) {
+            this.dir = dir;
+            this.generateThumbnail = generateThumbnail;
+            this.variant = variant;
+        }
+    }
+
+    /**
+     * @param mainSourceUrl  본 이미지 원본 주소 (없으면 null)
+     * @param thumbSourceUrl 썸네일 원본 주소 (캐릭터만) - 애니, 후보는 본 이미지에서 640px 썸네일 생성
+     */
+    public record ImageTask(
+            ImageTarget target,
+            Long entityId,
+            String mainSourceUrl,
+            String thumbSourceUrl
+    ) {
+        public String key() {
+            return target.dir + "/" + entityId;
+        }
+    }
+
+    public record ImageResult(
+            ImageTask task,
+            String mainUrl,
+            String thumbUrl
+    ) {}
+
+    private record Webp(byte[] main, byte[] thumb) {}
+
+    public CsvImageIngestor(
+            S3Uploader s3Uploader,
+            StoredImageIndex storedImageIndex,
+            @Value("${app.csv-import.fetch-threads:8}") int fetchThreads,
+            @Value("${app.csv-import.per-host-limit:3}") int perHostLimit,
+            @Value("${app.csv-import.transcode-threads:0}") int transcodeThreads,
+            @Value("${app.csv-import.upload-threads:8}") int uploadThreads
+    ) {
+        this.s3Uploader = s3Uploader;
+        this.storedImageIndex = storedImageIndex;
+        this.perHostLimit = perHostLimit;
+
+        // 0 이면 코어 수 (WebP 인코딩은 CPU 바운드)
+        int cpuThreads = transcodeThreads > 0 ?
+                transcodeThreads :
+                Runtime.getRuntime().availableProcessors();
+
+        this.fetchers = Executors.newFixedThreadPool(fetchThreads, namedThreads("csv-image-fetch-"));
+        this.transcoders = Executors.newFixedThreadPool(cpuThreads, namedThreads("csv-image-transcode-"));
+        this.uploaders = Executors.newFixedThreadPool(uploadThreads, namedThreads("csv-image-upload-"));
+    }
+
+    /**
+     * 작업마다 다운로드 -> 변환 -> 업로드를 이어 붙여 바로 반환 (실패한 작업은 exceptionally 완료)
+     */
+    public List<CompletableFuture<ImageResult>> submit(Collection<ImageTask> tasks) {
+        return tasks.stream()
+                .map(this::process)
+                .toList();
+    }
+
+    private CompletableFuture<ImageResult> process(ImageTask task) {
+        CompletableFuture<byte[]> main = fetchAsync(task.mainSourceUrl());
+        CompletableFuture<byte[]> thumb = fetchAsync(task.thumbSourceUrl());
+
+        return main.thenCombine(thumb, Webp::new)
+                .thenCompose(original -> {
+                    String contentHash = StoredImageIndex.hash(original.main(), original.thumb());
+
+                    Optional<StoredVariants> stored = storedImageIndex.acquire(contentHash, task.target().variant);
+                    if (stored.isPresent()) {
+                        return CompletableFuture.completedFuture(
+                                new ImageResult(task, stored.get().mainUrl(), stored.get().thumbUrl()));
+                    }
+
+                    return CompletableFuture.supplyAsync(() -> transcode(task, original), transcoders)
+                            .thenCompose(webp -> upload(task, contentHash, webp));
+                });
+    }
+
+    //=== 1. 다운로드 ===//
+
+    private CompletableFuture<byte[]> fetchAsync(String url) {
+        if (url == null || url.isBlank()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> fetchWithRetry(url), fetchers);
+    }
+
+    private byte[] fetchWithRetry(String url) {
+        Semaphore permits;
+        try {
+            permits = hostPermits.computeIfAbsent(new URL(url).getHost(), host -> new Semaphore(perHostLimit));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                permits.acquire();
+                try {
+                    return fetch(url);
+                } finally {
+                    permits.release();
+                }
+            } catch (IOException e) {
+                if (attempt >= MAX_FETCH_ATTEMPTS) {
+                    throw new UncheckedIOException(e);
+                }
+                log.warn("이미지 다운로드 재시도 {}/{} - {}, 이유: {}", attempt, MAX_FETCH_ATTEMPTS, url, e.getMessage());
+                sleep(500L * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("이미지 다운로드 중단 - " + url);
+            }
+        }
+    }
+
+    private byte[] fetch(String imageUrl) throws IOException {
+        URL url = new URL(imageUrl);
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        conn.setReadTimeout(READ_TIMEOUT_MILLIS);
+
+        // 온나다 다운로드에만 커스텀 Truststore 적용
+        if (conn instanceof HttpsURLConnection https && url.getHost().contains("onnada.com")) {
+            https.setSSLSocketFactory(onnadaSslContext().getSocketFactory());
+        }
+
+        try (InputStream in = conn.getInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > MAX_DOWNLOAD_BYTES) {
+                    throw new IOException("이미지가 너무 큼 (20MB 초과) - " + imageUrl);
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private SSLContext onnadaSslContext() throws IOException {
+        SSLContext context = onnadaSslContext;
+        if (context != null) {
+            return context;
+        }
+
+        synchronized (this) {
+            if (onnadaSslContext == null) {
+                try (InputStream is = getClass().getClassLoader().getResourceAsStream("truststore.p12")) {
+                    if (is == null) {
+                        throw new IllegalStateException("truststore.p12 not found in resources");
+                    }
+                    KeyStore trustStore = KeyStore.getInstance("PKCS12");
+                    trustStore.load(is, "secret".toCharArray());
+
+                    TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                    tmf.init(trustStore);
+
+                    SSLContext sslContext = SSLContext.getInstance("TLS");
+                    sslContext.init(null, tmf.getTrustManagers(), new SecureRandom());
+                    onnadaSslContext = sslContext;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return onnadaSslContext;
+        }
+    }
+
+    //=== 2. WebP 변환 ===//
+
+    private Webp transcode(ImageTask task, Webp original) {
+        try {
+            WebpWriter writer = WebpWriter.DEFAULT.withQ(80);  // 품질 80%
+
+            ImmutableImage mainImage = original.main() == null ?
+                    null :
+                    fitMaxDimension(ImmutableImage.loader().fromBytes(original.main()));
+
+            byte[] thumb = null;
+            if (original.thumb() != null) {
+                thumb = fitMaxDimension(ImmutableImage.loader().fromBytes(original.thumb())).bytes(writer);
+            } else if (task.target().generateThumbnail && mainImage != null) {
+                // 썸네일 (minWidth 640 보장, 비율 유지)
+                thumb = mainImage.scaleToWidth(THUMBNAIL_WIDTH).bytes(writer);
+            }
+
+            return new Webp(mainImage == null ? null : mainImage.bytes(writer), thumb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이미지가 너무 크면 리사이즈 (최대 2048x2048)
+    private static ImmutableImage fitMaxDimension(ImmutableImage image) {
+        if (image.width <= MAX_DIMENSION && image.height <= MAX_DIMENSION) {
+            return image;
+        }
+        double scale = Math.min((double) MAX_DIMENSION / image.width, (double) MAX_DIMENSION / image.height);
+        return image.scaleTo((int) (image.width * scale), (int) (image.height * scale));
+    }
+
+    //=== 3. 업로드 ===//
+
+    // key 는 원본 해시 기준 (엔티티 id 와 무관)
+    private CompletableFuture<ImageResult> upload(ImageTask task, String contentHash, Webp webp) {
+        String prefix = task.target().dir + "/" + contentHash;
+        CompletableFuture<String> main = uploadAsync(webp.main(), prefix + "/main.webp");
+        CompletableFuture<String> thumb = uploadAsync(webp.thumb(), prefix + "/thumb.webp");
+
+        return main.thenCombine(thumb, (mainUrl, thumbUrl) -> {
+            if (mainUrl != null) {
+                storedImageIndex.register(contentHash, task.target().variant, mainUrl, thumbUrl);
+            }
+            return new ImageResult(task, mainUrl, thumbUrl);
+        });
+    }
+
+    private CompletableFuture<String> uploadAsync(byte[] content, String s3Key) {
+        if (content == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> s3Uploader.uploadWithKey(content, s3Key), uploaders);
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(millis);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        fetchers.shutdownNow();
+        transcoders.shutdown();
+        uploaders.shutdown();
+        transcoders.awaitTermination(30, TimeUnit.SECONDS);
+        uploaders.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
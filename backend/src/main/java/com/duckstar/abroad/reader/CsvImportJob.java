@@ -0,0 +1,136 @@
+package com.duckstar.abroad.reader;
+
+import com.duckstar.abroad.reader.CsvImageIngestor.ImageTask;
+import lombok.Getter;
+import org.apache.commons.csv.CSVRecord;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSV 임포트 작업 하나의 진행 상태 (메모리 보관)
+ *
+ *  - 단계별 CSV 행은 요청 스레드에서 미리 파싱해 둠 -> 재개 시 파일 재업로드 불필요
+ *  - cursor 는 커밋된 배치까지만 전진 -> 실패 후 재개하면 커밋 안 된 배치부터 다시
+ *  - 이미지는 행 저장 후 pendingImages 에 쌓였다가 URL 반영이 커밋되면 빠짐 (재개 시 남은 것만)
+ *  - 작업 스레드 하나만 고치고, 조회 API 는 읽기만
+ */
+@Getter
+public class CsvImportJob {
+
+    public enum Kind {
+        QUARTER,
+        CANDIDATES
+    }
+
+    public enum Step {
+        ANIMES,
+        CHARACTERS,
+        ANIME_CHARACTERS,
+        EPISODES,
+        CANDIDATES,
+        IMAGES,
+        DONE
+    }
+
+    public enum Status {
+        RUNNING,
+        FAILED,
+        DONE
+    }
+
+    private final Long id;
+    private final Kind kind;
+    private final Long targetId;  // quarterId 또는 surveyId
+
+    private final Map<Step, List<CSVRecord>> records;
+
+    private volatile Step step;
+    private volatile int cursor;
+
+    // CSV 의 id -> 저장된 id
+    private final Map<Integer, Long> animeIdMap = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> characterIdMap = new ConcurrentHashMap<>();
+
+    // ImageTask.key() -> 아직 반영 안 된 이미지
+    private final Map<String, ImageTask> pendingImages = new ConcurrentHashMap<>();
+
+    private final AtomicInteger savedRows = new AtomicInteger();
+    private final AtomicInteger skippedRows = new AtomicInteger();
+    private final AtomicInteger imagesDone = new AtomicInteger();
+    private final AtomicInteger imagesFailed = new AtomicInteger();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile String errorMessage;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+
+    public CsvImportJob(Long id, Kind kind, Long targetId, Map<Step, List<CSVRecord>> records) {
+        this.id = id;
+        this.kind = kind;
+        this.targetId = targetId;
+        this.records = new EnumMap<>(records);
+        this.step = firstStep();
+    }
+
+    public List<CSVRecord> currentRecords() {
+        return records.getOrDefault(step, List.of());
+    }
+
+    public int getTotalRows() {
+        return records.values().stream().mapToInt(List::size).sum();
+    }
+
+    public int getTotalImages() {
+        return imagesDone.get() + pendingImages.size();
+    }
+
+    //=== 상태 전이 (작업 스레드) ===//
+
+    public void advanceCursor(int rows) {
+        cursor += rows;
+    }
+
+    public void nextStep() {
+        Step[] steps = Step.values();
+        Step next = steps[step.ordinal() + 1];
+        // 파일이 없는 단계는 건너뜀 (IMAGES, DONE 은 항상 거침)
+        while (next.ordinal() < Step.IMAGES.ordinal() && !records.containsKey(next)) {
+            next = steps[next.ordinal() + 1];
+        }
+        step = next;
+        cursor = 0;
+    }
+
+    public void resume() {
+        imagesFailed.set(0);
+        errorMessage = null;
+        finishedAt = null;
+        status = Status.RUNNING;
+    }
+
+    public void done() {
+        status = Status.DONE;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    private Step firstStep() {
+        return Arrays.stream(Step.values())
+                .filter(s -> s == Step.IMAGES || records.containsKey(s))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -1,6 +1,13 @@
 package com.duckstar.abroad.reader;
 
+import com.duckstar.abroad.reader.CsvImageIngestor.ImageResult;
+import com.duckstar.abroad.reader.CsvImageIngestor.ImageTarget;
+import com.duckstar.abroad.reader.CsvImageIngestor.ImageTask;
+import com.duckstar.abroad.reader.CsvImportJob.Kind;
+import com.duckstar.abroad.reader.CsvImportJob.Status;
+import com.duckstar.abroad.reader.CsvImportJob.Step;
 import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.AdminHandler;
 import com.duckstar.apiPayload.exception.handler.SurveyHandler;
 import com.duckstar.apiPayload.exception.handler.WeekHandler;
 import com.duckstar.abroad.aniLab.Anilab;
@@ -21,10 +28,20 @@ import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
 import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.s3.S3Uploader;
+import com.duckstar.s3.StoredImageIndex;
+import com.duckstar.s3.StoredImageIndex.StoredVariants;
+import com.duckstar.schedule.EpisodeTransitionScheduler;
+import com.duckstar.service.AnimeHomeCache;
+import com.duckstar.service.AnimeHomeCache.Section;
+import com.duckstar.service.AnimeSearchIndex;
+import com.duckstar.service.ChartSnapshotCache;
+import com.duckstar.service.ScheduleReadModel;
+import com.duckstar.service.VoteService.LiveCandidateReadModel;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sksamuel.scrimage.ImmutableImage;
 import com.sksamuel.scrimage.webp.WebpWriter;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
@@ -34,32 +51,42 @@ import org.apache.commons.io.input.BOMInputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManagerFactory;
 import java.io.*;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.security.*;
-import java.security.cert.CertificateException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static com.duckstar.web.dto.admin.CsvRequestDto.*;
 
+/**
+ * CSV 임포트
+ *
+ *  - 해외 순위 (AnimeCorner, Anilab): 요청 안에서 한 트랜잭션
+ *  - 새 분기 / 어워드 후보: 비동기 작업 (CsvImportJob)
+ *      1. 행은 IMPORT_BATCH_SIZE 개씩 짧은 트랜잭션으로 저장 (긴 트랜잭션 X)
+ *      2. 이미지는 CsvImageIngestor 로 병렬 수집 후 URL 만 배치로 반영
+ *      3. 진행 상황 조회, 실패 시 멈춘 지점부터 재개
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CsvImportService {
+
+    private static final int IMPORT_BATCH_SIZE = 50;
+    private static final int MAX_JOBS = 20;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final AnimeRepository animeRepository;
     private final CharacterRepository characterRepository;
     private final AnimeCharacterRepository animeCharacterRepository;
@@ -72,6 +99,24 @@ public class CsvImportService {
     private final AnilabRepository anilabRepository;
     private final SurveyRepository surveyRepository;
     private final SurveyCandidateRepository surveyCandidateRepository;
+    private final ChartSnapshotCache chartSnapshotCache;
+    private final AnimeSearchIndex animeSearchIndex;
+    private final EpisodeTransitionScheduler episodeTransitionScheduler;
+    private final ScheduleReadModel scheduleReadModel;
+    private final AnimeHomeCache animeHomeCache;
+    private final LiveCandidateReadModel liveCandidateReadModel;
+    private final CsvImageIngestor csvImageIngestor;
+    private final StoredImageIndex storedImageIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    // 작업은 한 번에 하나씩 (이미지 단계 안에서 병렬)
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, CsvImportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong jobSequence = new AtomicLong();
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -82,6 +127,7 @@ public class CsvImportService {
         System.out.println("지원하는 포맷: " + Arrays.toString(formats));
     }
 
+    @Transactional
     public void importAnimeCorner(Long weekId, MultipartFile animeCornerCsv) throws IOException {
         if (animeCornerCsv == null || animeCornerCsv.isEmpty()) {
             return;
@@ -151,8 +197,12 @@ public class CsvImportService {
 
             animeCornerRepository.save(animeCorner);
         }
+
+        // 발표된 차트 스냅샷 갱신
+        chartSnapshotCache.invalidate(weekId);
     }
 
+    @Transactional
     public void importAnilab(Long weekId, MultipartFile anilabCsv) throws IOException {
         if (anilabCsv == null || anilabCsv.isEmpty()) {
             return;
@@ -215,327 +265,494 @@ public class CsvImportService {
 
             anilabRepository.save(anilab);
         }
+
+        // 발표된 차트 스냅샷 갱신
+        chartSnapshotCache.invalidate(weekId);
     }
 
-    private File downloadImage(String imageUrl, File tempDir, String name) throws IOException {
-        // 1. 확장자 추출 (없으면 기본 jpg)
-        String extension = "jpg";
-        String path = new URL(imageUrl).getPath();
-        int dotIdx = path.lastIndexOf('.');
-        if (dotIdx != -1) {
-            String ext = path.substring(dotIdx + 1).toLowerCase();
-            if (List.of("jpg", "jpeg", "png", "webp").contains(ext)) {
-                extension = ext;
-            }
+    //=== 분기 / 후보 CSV 임포트 (비동기 작업) ===//
+
+    /**
+     * 새 분기 CSV 임포트 시작 - 파싱만 요청 스레드에서, 나머지는 작업 스레드에서
+     *
+     *  ANIMES -> CHARACTERS -> ANIME_CHARACTERS -> EPISODES -> IMAGES
+     *  (이미지 URL 은 저장된 행에 반영하므로 행을 먼저 저장하고 이미지는 마지막에 한꺼번에)
+     */
+    public CsvImportJob startQuarterImport(Quarter quarter, NewQuarterRequestDto request) throws IOException {
+        Map<Step, List<CSVRecord>> records = new EnumMap<>(Step.class);
+        putIfPresent(records, Step.ANIMES, request.getAnimeCsv());
+        putIfPresent(records, Step.CHARACTERS, request.getCharactersCsv());
+        putIfPresent(records, Step.ANIME_CHARACTERS, request.getAnimeCharactersCsv());
+        putIfPresent(records, Step.EPISODES, request.getEpisodesCsv());
+
+        return start(Kind.QUARTER, quarter.getId(), records);
+    }
+
+    public CsvImportJob startCandidateImport(Long surveyId, MultipartFile candidatesCsv) throws IOException {
+        if (!surveyRepository.existsById(surveyId)) {
+            throw new SurveyHandler(ErrorStatus.SURVEY_NOT_FOUND);
         }
 
-        // 2. 저장 파일 경로
-        File outputFile = new File(tempDir, name + "." + extension);
+        Map<Step, List<CSVRecord>> records = new EnumMap<>(Step.class);
+        putIfPresent(records, Step.CANDIDATES, candidatesCsv);
+
+        return start(Kind.CANDIDATES, surveyId, records);
+    }
 
-        // 3. 단순 다운로드
-        try (InputStream in = new URL(imageUrl).openStream()) {
-            Files.copy(in, outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    public CsvImportJob getJob(Long jobId) {
+        CsvImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new AdminHandler(ErrorStatus.IMPORT_JOB_NOT_FOUND);
         }
+        return job;
+    }
 
-        return outputFile;
+    /**
+     * 실패한 작업을 멈춘 배치부터 재개 (이미지 단계면 반영 안 된 이미지만 다시)
+     */
+    public CsvImportJob resume(Long jobId) {
+        CsvImportJob job = getJob(jobId);
+        synchronized (job) {
+            if (job.getStatus() != Status.FAILED) {
+                throw new AdminHandler(ErrorStatus.IMPORT_JOB_NOT_RESUMABLE);
+            }
+            job.resume();
+        }
+        jobExecutor.execute(() -> run(job));
+        return job;
     }
 
-    public void importCandidates(Long surveyId, MultipartFile csv) throws IOException {
-        Survey survey = surveyRepository.findById(surveyId).orElseThrow(() ->
-                new SurveyHandler(ErrorStatus.SURVEY_NOT_FOUND));
+    private CsvImportJob start(Kind kind, Long targetId, Map<Step, List<CSVRecord>> records) {
+        CsvImportJob job = new CsvImportJob(jobSequence.incrementAndGet(), kind, targetId, records);
 
-        Map<String, Long> animeMap = animeRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        Anime::getTitleKor,
-                        Anime::getId
-                ));
+        // 끝난 작업은 최근 MAX_JOBS 개만 보관
+        if (jobs.size() >= MAX_JOBS) {
+            jobs.values().stream()
+                    .filter(CsvImportJob::isFinished)
+                    .min(Comparator.comparing(CsvImportJob::getCreatedAt))
+                    .ifPresent(oldest -> jobs.remove(oldest.getId()));
+        }
+        jobs.put(job.getId(), job);
 
-        Reader reader = new InputStreamReader(csv.getInputStream(), StandardCharsets.UTF_8);
-        CSVFormat format = CSVFormat.Builder
-                .create()
-                .setHeader()
-                .setSkipHeaderRecord(true)
-                .build();
+        jobExecutor.execute(() -> run(job));
+        return job;
+    }
 
-        CSVParser parser = new CSVParser(reader, format);
-        for (CSVRecord record : parser) {
-            try {
-                Medium medium;
-                try {
-                    medium = Medium.valueOf(record.get("medium"));
-                } catch (IllegalArgumentException e) {
-                    medium = null;
+    private void run(CsvImportJob job) {
+        try {
+            while (job.getStep() != Step.DONE) {
+                switch (job.getStep()) {
+                    case ANIMES -> {
+                        saveRows(job, (record, batch) -> saveAnime(
+                                record, quarterRepository.getReferenceById(job.getTargetId()), batch));
+                        scheduleReadModel.invalidateAll();
+                        // 새 애니라 보통 비어 있지만, 임포트 도중 열린 상세 페이지가 있을 수 있음
+                        animeHomeCache.invalidate(job.getAnimeIdMap().values());
+                    }
+                    case CHARACTERS -> saveRows(job, this::saveCharacter);
+                    case ANIME_CHARACTERS -> {
+                        saveRows(job, (record, batch) -> saveAnimeCharacter(job, record));
+                        animeHomeCache.invalidate(job.getAnimeIdMap().values(), Section.CAST);
+                    }
+                    case EPISODES -> {
+                        saveRows(job, (record, batch) -> saveEpisode(job, record));
+                        episodeTransitionScheduler.reloadAfterCommit();
+                        scheduleReadModel.invalidateAll();
+                        animeHomeCache.invalidate(job.getAnimeIdMap().values(), Section.EPISODES);
+                    }
+                    case CANDIDATES -> {
+                        Map<String, Long> animeIdByTitle = animeRepository.findAll().stream()
+                                .filter(a -> a.getTitleKor() != null)
+                                .collect(Collectors.toMap(Anime::getTitleKor, Anime::getId, (a1, a2) -> a1));
+                        saveRows(job, (record, batch) -> saveCandidate(
+                                record, surveyRepository.getReferenceById(job.getTargetId()), animeIdByTitle, batch));
+                    }
+                    case IMAGES -> ingestImages(job);
                 }
+                job.nextStep();
+            }
+            job.done();
+            log.info("✅ CSV 임포트 완료 - job: {}, 저장 {}건, 건너뜀 {}건, 이미지 {}건",
+                    job.getId(), job.getSavedRows(), job.getSkippedRows(), job.getImagesDone());
 
-                Quarter quarter = quarterRepository
-                        .getReferenceById(Long.valueOf(record.get("quarterId")));
-
-                String mainImageUrl = record.get("mainImageUrl");
-                boolean isAlreadyUploaded = mainImageUrl.startsWith("https://" + bucket + "/");
-                if (isAlreadyUploaded) {
-                    String[] parts = mainImageUrl.split("/");
-                    Anime animeRef = animeRepository.getReferenceById(Long.valueOf(parts[4]));
-                    SurveyCandidate candidate = SurveyCandidate.createByAnime(
-                            survey,
-                            quarter,
-                            animeRef
-                    );
-
-                    surveyCandidateRepository.save(candidate);
-
-                } else { // ⚠️ Survey 전용 candidate 이미지 업로드 (애니메이션과 관계 맺지 않은 경우)
-                    String title = record.get("titleKor");
-                    SurveyCandidate candidate = SurveyCandidate.create(
-                            survey,
-                            quarter,
-                            null,
-                            title,
-                            null,
-                            null,
-                            medium
-                    );
-
-                    Long animeId = animeMap.get(title);
-                    if (animeId != null) {
-                        Anime anime = animeRepository.getReferenceById(animeId);
-                        candidate.setAnime(anime);
-                    }
-                    SurveyCandidate saved = surveyCandidateRepository.save(candidate);
+        } catch (Exception e) {
+            log.error("❌ CSV 임포트 실패 - job: {}, step: {}, cursor: {}", job.getId(), job.getStep(), job.getCursor(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    //=== 1. 행 저장 - IMPORT_BATCH_SIZE 행씩 짧은 트랜잭션 ===//
+
+    @FunctionalInterface
+    private interface RowSaver {
+        void save(CSVRecord record, Batch batch) throws Exception;
+    }
+
+    // 한 배치에서 나온 결과 - 커밋된 뒤에만 작업에 합침 (롤백된 배치의 id 가 남지 않도록)
+    private static class Batch {
+        final Map<Integer, Long> animeIds = new HashMap<>();
+        final Map<Integer, Long> characterIds = new HashMap<>();
+        final List<ImageTask> images = new ArrayList<>();
+        int saved;
+        int skipped;
+    }
 
+    private void saveRows(CsvImportJob job, RowSaver saver) {
+        List<CSVRecord> records = job.currentRecords();
+
+        while (job.getCursor() < records.size()) {
+            List<CSVRecord> rows = records.subList(
+                    job.getCursor(), Math.min(job.getCursor() + IMPORT_BATCH_SIZE, records.size()));
+
+            Batch batch = transactionTemplate.execute(status -> {
+                Batch result = new Batch();
+                for (CSVRecord record : rows) {
                     try {
-                        // S3 업로드 & image 필드 업데이트
-                        uploadCandidateMain(mainImageUrl, saved);
+                        saver.save(record, result);
+                        result.saved++;
                     } catch (Exception e) {
-                        log.warn("⚠️ 이미지 처리 실패 - id: {}, url: {}", saved.getId(), mainImageUrl, e);
+                        log.error("❌ CSV 레코드 처리 실패: {}", record, e);
+                        result.skipped++;
                     }
                 }
-
-            } catch (Exception e) {
-                log.error("❌ CSV 레코드 처리 실패: {}", record, e);
-            }
+                return result;
+            });
+
+            job.getAnimeIdMap().putAll(batch.animeIds);
+            job.getCharacterIdMap().putAll(batch.characterIds);
+            batch.images.forEach(task -> job.getPendingImages().put(task.key(), task));
+            job.getSavedRows().addAndGet(batch.saved);
+            job.getSkippedRows().addAndGet(batch.skipped);
+            job.advanceCursor(rows.size());
         }
     }
 
-    void importEpisodes(
-            MultipartFile episodesCsv,
-            Map<Long, Anime> animeMap,
-            Map<Integer, Long> animeIdMap
-    ) throws IOException {
-        Reader reader = new InputStreamReader(episodesCsv.getInputStream(), StandardCharsets.UTF_8);
-        CSVFormat format = CSVFormat.Builder
-                .create()
-                .setHeader()
-                .setSkipHeaderRecord(true)
-                .build();
+    private void saveAnime(CSVRecord record, Quarter quarter, Batch batch) throws IOException {
+        int oldId = Integer.parseInt(record.get("id"));
 
-        CSVParser parser = new CSVParser(reader, format);
+        Medium medium;
+        try {
+            medium = Medium.valueOf(record.get("medium"));
+        } catch (IllegalArgumentException e) {
+            medium = null;
+        }
 
-        List<Episode> rows = new ArrayList<>();
-        for (CSVRecord record : parser) {
-            Integer episodeNumber;
-            try {
-                episodeNumber = Integer.valueOf(record.get("episode_number"));
-            } catch (NumberFormatException e) {
-                episodeNumber = null;
-            }
+        AnimeStatus status;
+        try {
+            status = AnimeStatus.valueOf(record.get("status"));
+        } catch (IllegalArgumentException e) {
+            status = null;
+        }
 
-            LocalDateTime scheduledAt;
-            try {
-                scheduledAt = LocalDateTime.parse(record.get("scheduled_at"));
-            } catch (IllegalArgumentException e) {
-                scheduledAt = null;
-            }
-            LocalDateTime nextEpScheduledAt;
+        Integer totalEpisodes;
+        try {
+            totalEpisodes = Integer.valueOf(record.get("totalEpisodes"));
+        } catch (NumberFormatException e) {
+            totalEpisodes = null;
+        }
 
-            try {
-                nextEpScheduledAt = LocalDateTime.parse(record.get("next_ep_scheduled_at"));
-            } catch (IllegalArgumentException e) {
-                nextEpScheduledAt = null;
+        LocalDateTime premiereDateTime = null;
+        try {
+            String dateStr = record.get("premiereDateTime");
+            if (dateStr != null && !dateStr.isBlank()) {
+                premiereDateTime = LocalDateTime.parse(dateStr);
             }
+        } catch (Exception ignored) {
+        }
 
-            boolean isLastEpisode = Boolean.parseBoolean(record.get("is_last_episode"));
-
-            Episode episode = Episode.create(
-                    animeMap.get(animeIdMap.get(Integer.valueOf(record.get("anime_id")))),
-                    episodeNumber,
-                    scheduledAt,
-                    nextEpScheduledAt,
-                    isLastEpisode
-            );
-            rows.add(episode);
+        DayOfWeekShort dayOfWeek;
+        try {
+            dayOfWeek = DayOfWeekShort.valueOf(record.get("dayOfWeek"));
+        } catch (IllegalArgumentException e) {
+            dayOfWeek = null;
         }
-        episodeRepository.saveAll(rows);
-    }
 
-    Map<Long, Anime> importAnimeCharacters(
-            MultipartFile animeCharactersCsv,
-            Map<Integer, Long> animeIdMap,
-            Map<Integer, Long> characterIdMap
-    ) throws IOException {
+        String airTimeString = record.get("airTime");
+        LocalTime airTime = LocalTime.of(
+                Integer.parseInt(airTimeString.split(":")[0]),
+                Integer.parseInt(airTimeString.split(":")[1])
+        );
 
-        Reader reader = new InputStreamReader(animeCharactersCsv.getInputStream(), StandardCharsets.UTF_8);
-        CSVFormat format = CSVFormat.Builder
-                .create()
-                .setHeader()
-                .setSkipHeaderRecord(true)
+        int minAge;
+        try {
+            minAge = Integer.parseInt(record.get("minAge"));
+        } catch (NumberFormatException e) {
+            minAge = 0;
+        }
+
+        Map<SiteType, String> officialSiteMap =
+                OBJECT_MAPPER.readValue(record.get("officialSite"), new TypeReference<>() {
+                });
+
+        Anime anime = Anime.builder()
+                .medium(medium)
+                .status(status)
+                .totalEpisodes(totalEpisodes)
+                .premiereDateTime(premiereDateTime)
+                .titleKor(record.get("titleKor"))
+                .titleOrigin(record.get("titleOrigin"))
+                .titleEng(record.get("titleEng"))
+                .dayOfWeek(dayOfWeek)
+                .airTime(airTime)
+                .corp(record.get("corp"))
+                .director(record.get("director"))
+                .genre(record.get("genre"))
+                .author(record.get("author"))
+                .minAge(minAge)
+                .officialSite(officialSiteMap)
+//                    .synopsis(record.get("synopsis"))
                 .build();
 
-        Map<Long, Anime> animeMap = animeRepository.findAllById(animeIdMap.values()).stream()
-                .collect(Collectors.toMap(Anime::getId, a -> a));
-        Map<Long, Character> characterMap = characterRepository.findAllById(characterIdMap.values()).stream()
-                .collect(Collectors.toMap(Character::getId, c -> c));
+        Anime saved = animeRepository.save(anime);
+        animeSearchIndex.put(saved);
 
-        CSVParser parser = new CSVParser(reader, format);
+        animeQuarterRepository.save(AnimeQuarter.create(saved, quarter));
 
-        List<AnimeCharacter> rows = new ArrayList<>();
-        for (CSVRecord record : parser) {
-            Integer animeOldId = Integer.valueOf(record.get("anime_id"));
-            Integer characterOldId = Integer.valueOf(record.get("character_id"));
-            AnimeCharacter animeCharacter = AnimeCharacter.builder()
-                    .anime(animeMap.get(animeIdMap.get(animeOldId)))
-                    .character(characterMap.get(characterIdMap.get(characterOldId)))
-                    .build();
+        batch.animeIds.put(oldId, saved.getId());
+        addImage(batch, ImageTarget.ANIME, saved.getId(), record.get("mainImageUrl"), null);
+    }
 
-            rows.add(animeCharacter);
-        }
-        animeCharacterRepository.saveAll(rows);
+    private void saveCharacter(CSVRecord record, Batch batch) {
+        int oldId = Integer.parseInt(record.get("id"));
 
-        return animeMap;
+        Character character = Character.builder()
+                .nameKor(record.get("nameKor"))
+                .nameKanji(record.get("nameKanji"))
+                .nameEng(record.get("nameEng"))
+                .cv(record.get("cv"))
+                .build();
+
+        Character saved = characterRepository.save(character);
+
+        batch.characterIds.put(oldId, saved.getId());
+        addImage(batch, ImageTarget.CHARACTER, saved.getId(),
+                normalizeUrl(record.get("mainImageUrl")),
+                normalizeUrl(record.get("mainThumbnailUrl")));
     }
 
-    private String normalizeUrl(String url) {
-        if (url == null || url.isBlank()) {
-            return null;
+    private void saveAnimeCharacter(CsvImportJob job, CSVRecord record) {
+        Long animeId = job.getAnimeIdMap().get(Integer.valueOf(record.get("anime_id")));
+        Long characterId = job.getCharacterIdMap().get(Integer.valueOf(record.get("character_id")));
+        if (animeId == null || characterId == null) {
+            throw new IllegalArgumentException("저장되지 않은 애니 또는 캐릭터 - anime: " + animeId + ", character: " + characterId);
         }
-        if (!url.startsWith("http://") && !url.startsWith("https://")) {
-            return "https://" + url; // 온나다는 https만 지원하니까 https 강제
-        }
-        return url;
+
+        animeCharacterRepository.save(AnimeCharacter.builder()
+                .anime(animeRepository.getReferenceById(animeId))
+                .character(characterRepository.getReferenceById(characterId))
+                .build());
     }
 
-    public Map<Integer, Long> importCharacters(MultipartFile charactersCsv) throws IOException {
-        HashMap<Integer, Long> idMap = new HashMap<>();
+    private void saveEpisode(CsvImportJob job, CSVRecord record) {
+        Long animeId = job.getAnimeIdMap().get(Integer.valueOf(record.get("anime_id")));
+        if (animeId == null) {
+            throw new IllegalArgumentException("저장되지 않은 애니 - anime_id: " + record.get("anime_id"));
+        }
 
-        Reader reader = new InputStreamReader(charactersCsv.getInputStream(), StandardCharsets.UTF_8);
-        CSVFormat format = CSVFormat.Builder
-                .create()
-                .setHeader()
-                .setSkipHeaderRecord(true)
-                .build();
-        CSVParser parser = new CSVParser(reader, format);
+        Integer episodeNumber;
+        try {
+            episodeNumber = Integer.valueOf(record.get("episode_number"));
+        } catch (NumberFormatException e) {
+            episodeNumber = null;
+        }
 
-        for (CSVRecord record : parser) {
-            try {
-                int oldId = Integer.parseInt(record.get("id"));
-
-                Character character = Character.builder()
-                        .nameKor(record.get("nameKor"))
-                        .nameKanji(record.get("nameKanji"))
-                        .nameEng(record.get("nameEng"))
-                        .cv(record.get("cv"))
-                        .build();
-
-                Character saved = characterRepository.save(character);
-
-                String mainUrl = record.get("mainImageUrl");
-                mainUrl = normalizeUrl(mainUrl);
-                String thumbUrl = record.get("mainThumbnailUrl");
-                thumbUrl = normalizeUrl(thumbUrl);
-
-                Long newId = saved.getId();
-                try {
-                    newId = uploadAndUpdateCharacter(mainUrl, thumbUrl, saved);
-                } catch (Exception e) {
-                    log.warn("⚠️ 이미지 처리 실패 - id: {}", oldId, e);
-                } finally {
-                    idMap.put(oldId, newId);
-                }
+        LocalDateTime scheduledAt;
+        try {
+            scheduledAt = LocalDateTime.parse(record.get("scheduled_at"));
+        } catch (IllegalArgumentException e) {
+            scheduledAt = null;
+        }
 
-            } catch (Exception e) {
-                log.error("❌ CSV 레코드 처리 실패: {}", record, e);
-            }
+        LocalDateTime nextEpScheduledAt;
+        try {
+            nextEpScheduledAt = LocalDateTime.parse(record.get("next_ep_scheduled_at"));
+        } catch (IllegalArgumentException e) {
+            nextEpScheduledAt = null;
         }
 
-        return idMap;
+        boolean isLastEpisode = Boolean.parseBoolean(record.get("is_last_episode"));
+
+        episodeRepository.save(Episode.create(
+                animeRepository.getReferenceById(animeId),
+                episodeNumber,
+                scheduledAt,
+                nextEpScheduledAt,
+                isLastEpisode
+        ));
     }
 
-    private Long uploadAndUpdateCharacter(String main, String thumb, Character character) throws IOException {
-        File tempDir = Files.createTempDirectory("character").toFile();
+    private void saveCandidate(CSVRecord record, Survey survey, Map<String, Long> animeIdByTitle, Batch batch) {
+        Medium medium;
         try {
-            Long newId = character.getId();
+            medium = Medium.valueOf(record.get("medium"));
+        } catch (IllegalArgumentException e) {
+            medium = null;
+        }
 
-            String mainWebpUrl = null;
-            if (main != null) {
-                File mainWebp = downloadAndConvertToWebp(main, tempDir, "main");
-                String mainS3Key = "characters/" + newId + "/main.webp";
-                mainWebpUrl = s3Uploader.uploadWithKey(mainWebp, mainS3Key);
-            }
+        Quarter quarter = quarterRepository
+                .getReferenceById(Long.valueOf(record.get("quarterId")));
+
+        String mainImageUrl = record.get("mainImageUrl");
+        boolean isAlreadyUploaded = mainImageUrl.startsWith("https://" + bucket + "/");
+        if (isAlreadyUploaded) {
+            // animes/{id}/main.webp (예전 key) 또는 animes/{원본 해시}/main.webp
+            String[] parts = mainImageUrl.split("/");
+            Anime anime = parts[4].chars().allMatch(java.lang.Character::isDigit) ?
+                    animeRepository.getReferenceById(Long.valueOf(parts[4])) :
+                    animeRepository.findFirstByMainImageUrlOrderByIdAsc(mainImageUrl).orElseThrow(() ->
+                            new IllegalArgumentException("이미지 URL 에 해당하는 애니 없음 - " + mainImageUrl));
+            SurveyCandidate saved = surveyCandidateRepository.save(SurveyCandidate.createByAnime(
+                    survey,
+                    quarter,
+                    anime
+            ));
+
+            // 애니 이미지를 같이 쓰므로 참조 +1 (애니 이미지가 바뀌어도 후보 이미지는 남음)
+            storedImageIndex.acquireUrl(saved.getImageUrl());
+            return;
+        }
 
-            String thumbWebpUrl = null;
-            if (thumb != null) {
-                File thumbWebp = downloadAndConvertToWebp(thumb, tempDir, "thumb");
-                String thumbS3Key = "characters/" + newId + "/thumb.webp";
-                thumbWebpUrl = s3Uploader.uploadWithKey(thumbWebp, thumbS3Key);
-            }
+        // ⚠️ Survey 전용 candidate 이미지 업로드 (애니메이션과 관계 맺지 않은 경우)
+        String title = record.get("titleKor");
+        SurveyCandidate candidate = SurveyCandidate.create(
+                survey,
+                quarter,
+                null,
+                title,
+                null,
+                null,
+                medium
+        );
+
+        Long animeId = animeIdByTitle.get(title);
+        if (animeId != null) {
+            candidate.setAnime(animeRepository.getReferenceById(animeId));
+        }
+        SurveyCandidate saved = surveyCandidateRepository.save(candidate);
 
-            character.updateImage(mainWebpUrl, thumbWebpUrl);
+        addImage(batch, ImageTarget.CANDIDATE, saved.getId(), mainImageUrl, null);
+    }
 
-            return newId;
+    private static void addImage(Batch batch, ImageTarget target, Long entityId, String mainUrl, String thumbUrl) {
+        boolean hasMain = mainUrl != null && !mainUrl.isBlank();
+        boolean hasThumb = thumbUrl != null && !thumbUrl.isBlank();
+        if (hasMain || hasThumb) {
+            batch.images.add(new ImageTask(target, entityId, mainUrl, thumbUrl));
+        }
+    }
 
-        } catch (CertificateException | KeyStoreException | NoSuchAlgorithmException | KeyManagementException e) {
-            throw new RuntimeException(e);
-        } finally {
-            FileSystemUtils.deleteRecursively(tempDir);
+    //=== 2. 이미지 - 병렬 수집 후 끝난 순서대로 배치 반영 ===//
+
+    private void ingestImages(CsvImportJob job) throws InterruptedException {
+        List<ImageTask> tasks = List.copyOf(job.getPendingImages().values());
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        BlockingQueue<ImageResult> completed = new LinkedBlockingQueue<>();
+        CompletableFuture<?>[] tracked = csvImageIngestor.submit(tasks).stream()
+                .map(future -> future.whenComplete((result, e) -> {
+                    if (e != null) {
+                        job.getImagesFailed().incrementAndGet();
+                        log.warn("⚠️ 이미지 처리 실패 - {}", e.getMessage());
+                    } else {
+                        completed.add(result);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Void> all = CompletableFuture.allOf(tracked);
+
+        List<ImageResult> batch = new ArrayList<>();
+        while (!all.isDone() || !completed.isEmpty()) {
+            ImageResult result = completed.poll(1, TimeUnit.SECONDS);
+            if (result != null) {
+                batch.add(result);
+            }
+            // 배치가 찼거나, 잠시 끊겼으면 모인 만큼 반영
+            if (batch.size() >= IMPORT_BATCH_SIZE || (result == null && !batch.isEmpty())) {
+                applyImages(job, batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            applyImages(job, batch);
+        }
+
+        int remaining = job.getPendingImages().size();
+        if (remaining > 0) {
+            throw new IllegalStateException("이미지 " + remaining + "건 처리 실패 - 재개 시 실패한 이미지만 다시 처리");
         }
     }
 
-    private File downloadAndConvertToWebp(
-            String imageUrl, File tempDir, String name
-    ) throws IOException, KeyStoreException, CertificateException,
-            NoSuchAlgorithmException, KeyManagementException {
-
-        URL url = new URL(imageUrl);
-        HttpsURLConnection conn = (HttpsURLConnection) url.openConnection();
-
-        // 1. HTTPS 연결 설정 (온나다 다운로드에만 커스텀 Truststore 적용)
-        if (url.getHost().contains("onnada.com")) {
-            char[] password = "secret".toCharArray();
-            KeyStore trustStore = KeyStore.getInstance("PKCS12");
-            try (InputStream is = getClass().getClassLoader().getResourceAsStream("truststore.p12")) {
-                if (is == null) {
-                    throw new IllegalStateException("truststore.p12 not found in resources");
-                }
-                trustStore.load(is, password);
+    private void applyImages(CsvImportJob job, List<ImageResult> results) {
+        Map<ImageTarget, Map<Long, ImageResult>> byTarget = results.stream()
+                .collect(Collectors.groupingBy(
+                        result -> result.task().target(),
+                        () -> new EnumMap<>(ImageTarget.class),
+                        Collectors.toMap(result -> result.task().entityId(), result -> result)
+                ));
+
+        transactionTemplate.executeWithoutResult(status -> byTarget.forEach((target, resultById) -> {
+            switch (target) {
+                case ANIME -> animeRepository.findAllById(resultById.keySet()).forEach(anime -> {
+                    ImageResult result = resultById.get(anime.getId());
+                    anime.updateImage(result.mainUrl(), result.thumbUrl());
+                });
+                case CHARACTER -> characterRepository.findAllById(resultById.keySet()).forEach(character -> {
+                    ImageResult result = resultById.get(character.getId());
+                    character.updateImage(result.mainUrl(), result.thumbUrl());
+                });
+                case CANDIDATE -> surveyCandidateRepository.findAllById(resultById.keySet()).forEach(candidate -> {
+                    ImageResult result = resultById.get(candidate.getId());
+                    candidate.updateImage(result.mainUrl(), result.thumbUrl());
+                });
             }
+        }));
 
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            tmf.init(trustStore);
+        // 애니 메인 이미지 -> 정보 섹션, 캐릭터 이미지 -> 이 작업으로 들어온 애니들의 캐스팅 섹션
+        Map<Long, ImageResult> animeResults = byTarget.get(ImageTarget.ANIME);
+        if (animeResults != null) {
+            animeHomeCache.invalidate(animeResults.keySet(), Section.INFO);
+            liveCandidateReadModel.invalidate();
+        }
+        if (byTarget.containsKey(ImageTarget.CHARACTER)) {
+            animeHomeCache.invalidate(job.getAnimeIdMap().values(), Section.CAST);
+        }
 
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, tmf.getTrustManagers(), new SecureRandom());
+        results.forEach(result -> job.getPendingImages().remove(result.task().key()));
+        job.getImagesDone().addAndGet(results.size());
+    }
 
-            conn.setSSLSocketFactory(sslContext.getSocketFactory());
+    private static void putIfPresent(Map<Step, List<CSVRecord>> records, Step step, MultipartFile csv) throws IOException {
+        if (csv == null || csv.isEmpty()) {
+            return;
         }
 
-        // 3. 원본 파일 저장
-        String extension = "jpg";
-        String path = url.getPath();
-        int dotIdx = path.lastIndexOf('.');
-        if (dotIdx != -1) {
-            String ext = path.substring(dotIdx + 1).toLowerCase();
-            if (List.of("jpg", "jpeg", "png", "webp").contains(ext)) {
-                extension = ext;
-            }
+        Reader reader = new InputStreamReader(csv.getInputStream(), StandardCharsets.UTF_8);
+        CSVFormat format = CSVFormat.Builder
+                .create()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .build();
+
+        try (CSVParser parser = new CSVParser(reader, format)) {
+            records.put(step, parser.getRecords());
         }
+    }
 
-        File original = new File(tempDir, name + "." + extension);
-        try (InputStream in = conn.getInputStream()) {
-            Files.copy(in, original.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    private String normalizeUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        if (!url.startsWith("http://") && !url.startsWith("https://")) {
+            return "https://" + url; // 온나다는 https만 지원하니까 https 강제
         }
+        return url;
+    }
 
-        // 4. WebP 변환,
-        // 5. 원본 삭제
-        return convertToWebpAndGet(tempDir, name, original);
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
     }
 
     private static File convertToWebpAndGet(File tempDir, String name, File original) throws IOException {
@@ -566,230 +783,39 @@ public class CsvImportService {
         return convertToWebpAndGet(tempDir, name, original);
     }
 
-    public Map<Integer, Long> importAnimes(Quarter quarter, MultipartFile animeCsv) throws IOException {
-        HashMap<Integer, Long> idMap = new HashMap<>();
-
-        Reader reader = new InputStreamReader(animeCsv.getInputStream(), StandardCharsets.UTF_8);
-        CSVFormat format = CSVFormat.Builder
-                .create()
-                .setHeader()
-                .setSkipHeaderRecord(true)
-                .build();
-        CSVParser parser = new CSVParser(reader, format);
-
-        for (CSVRecord record : parser) {
-            try {
-                int oldId = Integer.parseInt(record.get("id"));
-
-                Medium medium;
-                try {
-                    medium = Medium.valueOf(record.get("medium"));
-                } catch (IllegalArgumentException e) {
-                    medium = null;
-                }
-
-                AnimeStatus status;
-                try {
-                    status = AnimeStatus.valueOf(record.get("status"));
-                } catch (IllegalArgumentException e) {
-                    status = null;
-                }
-
-                Integer totalEpisodes;
-                try {
-                    totalEpisodes = Integer.valueOf(record.get("totalEpisodes"));
-                } catch (NumberFormatException e) {
-                    totalEpisodes = null;
-                }
-
-                LocalDateTime premiereDateTime = null;
-                try {
-                    String dateStr = record.get("premiereDateTime");
-                    if (dateStr != null && !dateStr.isBlank()) {
-                        premiereDateTime = LocalDateTime.parse(dateStr);
-                    }
-                } catch (Exception ignored) {
-                }
-
-                DayOfWeekShort dayOfWeek;
-                try {
-                    dayOfWeek = DayOfWeekShort.valueOf(record.get("dayOfWeek"));
-                } catch (IllegalArgumentException e) {
-                    dayOfWeek = null;
-                }
-
-                String airTimeString = record.get("airTime");
-                LocalTime airTime = LocalTime.of(
-                        Integer.parseInt(airTimeString.split(":")[0]),
-                        Integer.parseInt(airTimeString.split(":")[1])
-                );
-
-                int minAge;
-                try {
-                    minAge = Integer.parseInt(record.get("minAge"));
-                } catch (NumberFormatException e) {
-                    minAge = 0;
-                }
-
-                String jsonString = record.get("officialSite");
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                Map<SiteType, String> officialSiteMap =
-                        objectMapper.readValue(jsonString, new TypeReference<>() {
-                        });
-
-                Anime anime = Anime.builder()
-                        .medium(medium)
-                        .status(status)
-                        .totalEpisodes(totalEpisodes)
-                        .premiereDateTime(premiereDateTime)
-                        .titleKor(record.get("titleKor"))
-                        .titleOrigin(record.get("titleOrigin"))
-                        .titleEng(record.get("titleEng"))
-                        .dayOfWeek(dayOfWeek)
-                        .airTime(airTime)
-                        .corp(record.get("corp"))
-                        .director(record.get("director"))
-                        .genre(record.get("genre"))
-                        .author(record.get("author"))
-                        .minAge(minAge)
-                        .officialSite(officialSiteMap)
-//                    .synopsis(record.get("synopsis"))
-                        .build();
-
-                Anime saved = animeRepository.save(anime);
-
-                animeQuarterRepository.save(AnimeQuarter.create(saved, quarter));
-
-                String imageUrl = record.get("mainImageUrl");
-
-                Long newId = saved.getId();
-
-                try {
-                    // S3 업로드 & image 필드 업데이트
-                    newId = uploadAnimeMain(imageUrl, saved);
-                } catch (Exception e) {
-                    log.warn("⚠️ 이미지 처리 실패 - id: {}, url: {}", oldId, imageUrl, e);
-                } finally {
-                    idMap.put(oldId, newId);
-                }
-            } catch (Exception e) {
-                log.error("❌ CSV 레코드 처리 실패: {}", record, e);
-            }
-        }
-
-        return idMap;
-    }
-
-    private Long uploadAnimeMain(String imageUrl, Anime anime) throws IOException {
-        File tempDir = Files.createTempDirectory("anime").toFile();
-        try {
-            // 메인 webp 변환
-            File mainWebp = downloadAndConvertToWebp(imageUrl, tempDir, "main");
-
-            // 썸네일 생성 (minWidth 640 보장, 비율 유지)
-            File thumbWebp = s3Uploader.createThumbnail(mainWebp, 640);
-
-            return uploadAnimeImages(anime, mainWebp, thumbWebp, 1);
-
-        } catch (CertificateException | KeyStoreException | NoSuchAlgorithmException | KeyManagementException e) {
-            throw new RuntimeException(e);
-        } finally {
-            FileSystemUtils.deleteRecursively(tempDir);
-        }
-    }
-
-    private Long uploadCandidateMain(String imageUrl, SurveyCandidate candidate) throws IOException {
-        File tempDir = Files.createTempDirectory("candidate").toFile();
-        try {
-            // 메인 webp 변환
-            File mainWebp = downloadAndConvertToWebp(imageUrl, tempDir, "main");
-
-            // 썸네일 생성 (minWidth 640 보장, 비율 유지)
-            File thumbWebp = s3Uploader.createThumbnail(mainWebp, 640);
-
-            return uploadCandidateImages(candidate, mainWebp, thumbWebp, 1);
-
-        } catch (CertificateException | KeyStoreException | NoSuchAlgorithmException | KeyManagementException e) {
-            throw new RuntimeException(e);
-        } finally {
-            FileSystemUtils.deleteRecursively(tempDir);
-        }
-    }
-
-    private Long uploadCandidateImages(
-            SurveyCandidate candidate,
-            File mainWebp,
-            File thumbWebp,
-            int version
-    ) {
-        // S3 업로드
-        Long id = candidate.getId();
-
-        String tail = version >= 2 ? "_v" + version + ".webp" : ".webp";
-
-        String mainS3Key = "candidates/" + id + "/main" + tail;
-        String thumbS3Key = "candidates/" + id + "/thumb" + tail;
-
-        String mainUrl = s3Uploader.uploadWithKey(mainWebp, mainS3Key);
-        String thumbUrl = s3Uploader.uploadWithKey(thumbWebp, thumbS3Key);
-
-        candidate.updateImage(mainUrl, thumbUrl);
-
-        return id;
-    }
-
+    /**
+     * 관리자 애니 메인 이미지 업로드 - 같은 원본을 이미 변환해 뒀으면 재사용
+     *  (key 가 원본 해시라서 이미지가 바뀌면 URL 도 바뀜 -> 예전 버전 key (_v2...) 불필요)
+     */
+    @Transactional
     public void uploadAnimeMain(MultipartFile main, Anime anime) throws IOException {
-        File tempDir = Files.createTempDirectory("anime").toFile();
-        try {
-            // 메인 webp 변환
-            File mainWebp = convertToWebpAndGet(tempDir, "main", main.getInputStream());
-
-            // 썸네일 생성 (minWidth 640 보장, 비율 유지)
-            File thumbWebp = s3Uploader.createThumbnail(mainWebp, 640);
+        byte[] source = main.getBytes();
+        String contentHash = StoredImageIndex.hash(source);
 
-            uploadAnimeImages(anime, mainWebp, thumbWebp, 1);
-
-        } finally {
-            FileSystemUtils.deleteRecursively(tempDir);
+        Optional<StoredVariants> stored = storedImageIndex.acquire(contentHash, StoredImageIndex.KEY_VISUAL);
+        if (stored.isPresent()) {
+            anime.updateImage(stored.get().mainUrl(), stored.get().thumbUrl());
+            return;
         }
-    }
 
-    public void updateAnimeMain(MultipartFile main, int version, Anime anime) throws IOException {
         File tempDir = Files.createTempDirectory("anime").toFile();
         try {
             // 메인 webp 변환
-            File mainWebp = convertToWebpAndGet(tempDir, "main", main.getInputStream());
+            File mainWebp = convertToWebpAndGet(tempDir, "main", new ByteArrayInputStream(source));
 
             // 썸네일 생성 (minWidth 640 보장, 비율 유지)
             File thumbWebp = s3Uploader.createThumbnail(mainWebp, 640);
 
-            uploadAnimeImages(anime, mainWebp, thumbWebp, version);
+            // S3 업로드
+            String prefix = "animes/" + contentHash;
+            String mainUrl = s3Uploader.uploadWithKey(mainWebp, prefix + "/main.webp");
+            String thumbUrl = s3Uploader.uploadWithKey(thumbWebp, prefix + "/thumb.webp");
+
+            storedImageIndex.register(contentHash, StoredImageIndex.KEY_VISUAL, mainUrl, thumbUrl);
+            anime.updateImage(mainUrl, thumbUrl);
 
         } finally {
             FileSystemUtils.deleteRecursively(tempDir);
         }
     }
-
-    private Long uploadAnimeImages(
-            Anime anime,
-            File mainWebp,
-            File thumbWebp,
-            int version
-    ) {
-        // S3 업로드
-        Long newId = anime.getId();
-
-        String tail = version >= 2 ? "_v" + version + ".webp" : ".webp";
-
-        String mainS3Key = "animes/" + newId + "/main" + tail;
-        String thumbS3Key = "animes/" + newId + "/thumb" + tail;
-
-        String mainUrl = s3Uploader.uploadWithKey(mainWebp, mainS3Key);
-        String thumbUrl = s3Uploader.uploadWithKey(thumbWebp, thumbS3Key);
-
-        anime.updateImage(mainUrl, thumbUrl);
-
-        return newId;
-    }
 }
@@ -15,6 +15,7 @@ public enum ErrorStatus implements BaseErrorCode {
     _BAD_REQUEST(HttpStatus.BAD_REQUEST,"COMMON400","잘못된 요청입니다."),
     _UNAUTHORIZED(HttpStatus.UNAUTHORIZED,"COMMON401","인증이 필요합니다."),
     _FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON403", "금지된 요청입니다."),
+    QUERY_DEADLINE_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "COMMON503", "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요."),
 
     // 분기 관련
     QUARTER_NOT_FOUND(HttpStatus.BAD_REQUEST, "QUARTER4001", "존재하지 않는 분기입니다."),
@@ -93,6 +94,7 @@ public enum ErrorStatus implements BaseErrorCode {
     COMMENT_CONTENT_REQUIRED(HttpStatus.BAD_REQUEST, "COMMENT4001", "댓글 작성 시 사진이나 글 중 하나는 있어야 합니다."),
     COMMENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "COMMENT4002", "댓글이 존재하지 않습니다."),
     CANNOT_POST_BEFORE_EPISODE_START(HttpStatus.BAD_REQUEST, "COMMENT4003", "아직 방영하지 않은 에피소드에는 댓글을 달 수 없습니다."),
+    INVALID_COMMENT_CURSOR(HttpStatus.BAD_REQUEST, "COMMENT4004", "잘못된 댓글 커서입니다."),
 
     POST_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMENT4011", "댓글/답글 작성 권한이 없습니다."),
     DELETE_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMENT4012", "댓글/답글 삭제 권한이 없습니다."),
@@ -115,10 +117,15 @@ public enum ErrorStatus implements BaseErrorCode {
     UNSUPPORTED_IMAGE_EXTENSION(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "IMAGE4151", "지원하지 않는 이미지 확장자입니다."),
 
     S3_FILE_UPLOAD_FAILURE(HttpStatus.BAD_GATEWAY, "IMAGE5021", "S3 업로드에 실패했습니다"),
+    IMAGE_PIPELINE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "IMAGE5031", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 관리자 관련
     BAN_NOT_FOUND(HttpStatus.BAD_REQUEST, "ADMIN4001", "밴 목록에 없는 IP 해시값입니다."),
     LOG_NOT_FOUND(HttpStatus.BAD_REQUEST, "ADMIN4002", "로그가 존재하지 않습니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.BAD_REQUEST, "ADMIN4003", "존재하지 않는 CSV 임포트 작업입니다."),
+    IMPORT_JOB_NOT_RESUMABLE(HttpStatus.CONFLICT, "ADMIN4091", "진행 중이거나 이미 끝난 CSV 임포트 작업입니다."),
+    CHART_JOB_NOT_FOUND(HttpStatus.BAD_REQUEST, "ADMIN4004", "존재하지 않는 차트 발표 작업입니다."),
+    CHART_JOB_NOT_RESUMABLE(HttpStatus.CONFLICT, "ADMIN4092", "진행 중이거나 이미 끝난 차트 발표 작업입니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -8,6 +8,7 @@ import com.duckstar.domain.enums.SiteType;
 import com.duckstar.domain.vo.RankInfo;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -22,6 +23,7 @@ import static com.duckstar.domain.enums.DayOfWeekShort.adjustTimeByDirection;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
 @Table(
         indexes = {
                 @Index(name = "idx_anime_t",
@@ -106,6 +108,12 @@ public class Anime extends BaseEntity {
 
     private Integer weeksOnTop10;
 
+    //=== 댓글 ===//
+
+    // 삭제되지 않은 댓글 + 답글 수, CommentCounter 가 bulk UPDATE 로만 변경
+    @Builder.Default
+    private Integer commentCount = 0;
+
     public void setStatus(AnimeStatus status) {
         this.status = status;
     }
@@ -157,6 +165,17 @@ public class Anime extends BaseEntity {
         this.weeksOnTop10 = newRankInfo.getWeeksOnTop10();
     }
 
+    /**
+     * 이번 주 RankInfo 로 스트릭 반영 - 같은 RankInfo 로 다시 호출해도 결과 동일
+     */
+    public void applyRankInfo(RankInfo rankInfo) {
+        if (rankInfo.getRankDiff() == null) {  // NEW
+            initRankInfo(rankInfo.getRank(), rankInfo.getPeakDate());
+        } else {
+            updateRankInfo(rankInfo);
+        }
+    }
+
     public void updateImage(String mainImageUrl, String mainThumbnailUrl) {
         this.mainImageUrl = mainImageUrl;
         this.mainThumbnailUrl = mainThumbnailUrl;
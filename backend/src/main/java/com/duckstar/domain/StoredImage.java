@@ -0,0 +1,60 @@
+package com.duckstar.domain;
+
+import com.duckstar.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 바이트 해시로 찾는 변환 결과 (본 이미지 + 썸네일)
+ *
+ *  - 같은 원본 + 같은 변환 방식(variant)이면 다시 변환/업로드하지 않고 URL 재사용
+ *  - refCount: 이 URL 을 들고 있는 행 수 - 0 이 되면 객체 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stored_image_hv",
+                        columnNames = {"content_hash", "variant"})
+        },
+        indexes = {
+                @Index(name = "idx_stored_image_m",
+                        columnList = "main_url")
+        }
+)
+public class StoredImage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // sha-256 hex
+    @Column(columnDefinition = "char(64)", nullable = false)
+    private String contentHash;
+
+    @Column(columnDefinition = "varchar(20)", nullable = false)
+    private String variant;
+
+    @Column(nullable = false)
+    private String mainUrl;
+
+    private String thumbUrl;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    private StoredImage(String contentHash, String variant, String mainUrl, String thumbUrl) {
+        this.contentHash = contentHash;
+        this.variant = variant;
+        this.mainUrl = mainUrl;
+        this.thumbUrl = thumbUrl;
+        this.refCount = 1;
+    }
+
+    public static StoredImage create(String contentHash, String variant, String mainUrl, String thumbUrl) {
+        return new StoredImage(contentHash, variant, mainUrl, thumbUrl);
+    }
+}
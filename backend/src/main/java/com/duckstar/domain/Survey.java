@@ -42,22 +42,6 @@ public class Survey extends BaseEntity {
 
 //    private Boolean announcePrepared = false;
 
-    public void updateStatus(LocalDateTime now) {
-        if (status == SurveyStatus.NOT_YET) {
-            if (startDateTime != null && !now.isBefore(startDateTime)) {
-                status = SurveyStatus.OPEN;
-            }
-        } else if (status == SurveyStatus.OPEN) {
-            if (endDateTime != null && !now.isBefore(endDateTime)) {
-                status = SurveyStatus.CLOSED;
-            }
-        } else if (status == SurveyStatus.CLOSED) {
-            if (endDateTime != null && !now.isBefore(endDateTime.plusHours(18))) {
-                status = SurveyStatus.RESULT_OPEN;
-            }
-        }
-    }
-
     public void setVotesAndVoterCount(int votes, int voterCount) {
         this.votes = votes;
         this.voterCount = voterCount;
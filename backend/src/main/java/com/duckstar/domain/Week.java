@@ -1,6 +1,7 @@
 package com.duckstar.domain;
 
 import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.domain.enums.ChartPublishStep;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -58,6 +59,11 @@ public class Week extends BaseEntity {
 
     private Boolean announcePrepared = false;
 
+    // 주간 차트 발표의 다음 단계 (발표 시작 전 null)
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(10)")
+    private ChartPublishStep publishStep;
+
     protected Week(
             Quarter quarter,
             Integer weekValue,
@@ -91,4 +97,8 @@ public class Week extends BaseEntity {
     public void setAnnouncePrepared(boolean announcePrepared) {
         this.announcePrepared = announcePrepared;
     }
+
+    public void setPublishStep(ChartPublishStep publishStep) {
+        this.publishStep = publishStep;
+    }
 }
\ No newline at end of file
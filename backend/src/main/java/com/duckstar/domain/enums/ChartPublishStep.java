@@ -0,0 +1,17 @@
+package com.duckstar.domain.enums;
+
+/**
+ * 주간 차트 발표 단계 (Week 에 저장 - 다음에 돌 단계)
+ */
+public enum ChartPublishStep {
+    TALLY,    // 유효 별점 집계 -> 에피소드 통계, 투표 마감
+    RANK,     // 베이지안 순위 -> 에피소드 RankInfo
+    STREAK,   // 애니 스트릭 반영, 발표 준비 완료
+    BANNERS,  // 홈 배너 생성
+    WARM_UP,  // 차트 스냅샷, 순위 애니 상세 캐시 예열
+    DONE;
+
+    public ChartPublishStep next() {
+        return values()[ordinal() + 1];
+    }
+}
@@ -40,22 +40,8 @@ public class CommentLike extends BaseEntity {
         this.member = member;
     }
 
+    // 좋아요 수 증감과 isLiked 전환은 CommentService 에서 SQL 로 (동시 요청 시 중복 증감 방지)
     public static CommentLike create(Comment comment, Member member) {
-        comment.addLikeCount();
         return new CommentLike(comment, member);
     }
-
-    public void restoreLike() {
-        if (!isLiked) {
-            isLiked = true;
-            comment.addLikeCount();
-        }
-    }
-
-    public void discardLike() {
-        if (isLiked) {
-            isLiked = false;
-            comment.removeLikeCount();
-        }
-    }
 }
\ No newline at end of file
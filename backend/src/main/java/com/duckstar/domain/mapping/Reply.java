@@ -8,11 +8,13 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.Optional;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         indexes = {
@@ -50,6 +52,7 @@ public class Reply extends BaseEntity {
     @Column(columnDefinition = "varchar(15)", nullable = false)
     private CommentStatus status = CommentStatus.NORMAL;
 
+    // CommentCounter 가 SQL 로 원자적 증감
     private Integer likeCount = 0;
 
     protected Reply(
@@ -76,7 +79,6 @@ public class Reply extends BaseEntity {
             String attachedImageUrl,
             String body
     ) {
-        parent.addReply();
         return new Reply(
                 parent,
                 author,
@@ -90,12 +92,4 @@ public class Reply extends BaseEntity {
     public void setStatus(CommentStatus status) {
         this.status = status;
     }
-
-    public void addLikeCount() {
-        likeCount += 1;
-    }
-
-    public void removeLikeCount() {
-        if (likeCount > 0) likeCount -= 1;
-    }
 }
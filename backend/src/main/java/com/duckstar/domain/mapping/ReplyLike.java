@@ -40,18 +40,8 @@ public class ReplyLike extends BaseEntity {
         this.member = member;
     }
 
+    // 좋아요 수 증감과 isLiked 전환은 ReplyService 에서 SQL 로 (동시 요청 시 중복 증감 방지)
     public static ReplyLike create(Reply reply, Member member) {
-        reply.addLikeCount();
         return new ReplyLike(reply, member);
     }
-
-    public void restoreLike() {
-        isLiked = true;
-        reply.addLikeCount();
-    }
-
-    public void discardLike() {
-        isLiked = false;
-        reply.removeLikeCount();
-    }
 }
\ No newline at end of file
@@ -8,9 +8,11 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
+@DynamicUpdate
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -67,6 +69,7 @@ public abstract class Comment extends BaseEntity {
     @Column(columnDefinition = "varchar(15)", nullable = false)
     protected CommentStatus status = CommentStatus.NORMAL;
 
+    // 카운터는 CommentCounter 가 SQL 로 원자적 증감 (엔티티로 read-modify-write X)
     private Integer likeCount = 0;
 
     private Integer replyCount = 0;
@@ -89,22 +92,6 @@ public abstract class Comment extends BaseEntity {
         this.body = body;
     }
 
-    public void addLikeCount() {
-        likeCount += 1;
-    }
-
-    public void removeLikeCount() {
-        if (likeCount > 0) likeCount -= 1;
-    }
-
-    public void addReply() {
-        replyCount += 1;
-    }
-
-    public void removeReply() {
-        if (replyCount > 0) replyCount -= 1;
-    }
-
     public void setEpisode(Episode episode) {
         this.episode = episode;
     }
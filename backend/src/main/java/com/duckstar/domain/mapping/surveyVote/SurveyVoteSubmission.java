@@ -21,7 +21,10 @@ import lombok.NoArgsConstructor;
         },
         indexes = {
                 @Index(name = "idx_submission_sm",
-                        columnList = "survey_id, member_id")
+                        columnList = "survey_id, member_id"),
+                // 투표 여부 일괄 조회 (principal_key IN ...)
+                @Index(name = "idx_submission_ps",
+                        columnList = "principal_key, survey_id")
         }
 )
 public class SurveyVoteSubmission extends BaseEntity {
@@ -8,6 +8,7 @@ import com.duckstar.domain.vo.RankInfo;
 import com.duckstar.util.QuarterUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -15,6 +16,8 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 별점 통계는 StarTallyBuffer 가 상대값 UPDATE 로 반영하므로, 변경된 컬럼만 UPDATE 해야 덮어쓰지 않음
+@DynamicUpdate
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_episode_as",
@@ -79,6 +82,9 @@ public class Episode extends BaseEntity {
 
     private Double bayesScore = 0.0;
 
+    // 이 에피소드에 연결된 댓글 + 답글 수 (삭제 제외), CommentCounter 가 bulk UPDATE 로만 변경
+    private Integer commentCount = 0;
+
     @Embedded
     private RankInfo rankInfo;
 
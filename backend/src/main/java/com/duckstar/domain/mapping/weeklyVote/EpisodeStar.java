@@ -48,18 +48,14 @@ public class EpisodeStar extends BaseEntity {
         this.isLateParticipating = isLateParticipating;
     }
 
+    /**
+     * 에피소드 별점 통계는 StarTallyBuffer 가 반영 (Episode 행 락 회피)
+     */
     public static EpisodeStar create(
-            boolean isBlocked,
             WeekVoteSubmission weekVoteSubmission,
             Episode episode,
             Integer starScore
     ) {
-        if (!isBlocked) {
-            // AnimeVote 와 다르게 바로바로 반영
-            episode.addVoterCount();
-            episode.addStar(starScore);
-        }
-
         return new EpisodeStar(
                 weekVoteSubmission,
                 episode,
@@ -68,17 +64,13 @@ public class EpisodeStar extends BaseEntity {
         );
     }
 
-    public void updateStarScore(boolean isBlocked, int newScore) {
+    /**
+     * @return 이전 별점 (회수 상태였다면 null)
+     */
+    public Integer updateStarScore(int newScore) {
         Integer oldScore = this.starScore;
-
-        if (!isBlocked) {
-            if (oldScore == null) {
-                this.episode.addVoterCount();
-            }
-            episode.updateStar(oldScore, newScore);
-        }
-
         this.starScore = newScore;
+        return oldScore;
     }
 
     public void setWeekVoteSubmission(WeekVoteSubmission weekVoteSubmission) {
@@ -89,11 +81,13 @@ public class EpisodeStar extends BaseEntity {
         this.starScore = starScore;
     }
 
-    public void withdrawScore() {
-        int oldScore = this.starScore;
+    /**
+     * @return 회수된 별점 (이미 회수 상태였다면 null)
+     */
+    public Integer withdrawScore() {
+        Integer oldScore = this.starScore;
         this.starScore = null;
-        this.episode.removeVoterCount();
-        this.episode.removeStar(oldScore);
+        return oldScore;
     }
 
     public boolean isLateParticipating() {
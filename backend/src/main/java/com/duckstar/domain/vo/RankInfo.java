@@ -51,12 +51,64 @@ public class RankInfo {
         this.rankedVoterCount = rankedVoterCount;
     }
 
+    /**
+     * 애니의 지난 기록 (lastRank, 스트릭, 최고 순위) 과 이번 순위로 RankInfo 계산
+     *  - anime 은 읽기만 함, 스트릭 반영은 Anime.applyRankInfo 로 따로
+     */
     public static RankInfo create(
             Anime anime,
             int rank,
             LocalDate lastWeekEndAt,
             Double rankedAverage,
             Integer rankedVoterCount
+    ) {
+        return create(
+                anime.getLastRank(),
+                anime.getSameRankWeekStreak(),
+                anime.getPeakRank(),
+                anime.getPeakDate(),
+                anime.getWeeksOnTop10(),
+                rank,
+                lastWeekEndAt,
+                rankedAverage,
+                rankedVoterCount
+        );
+    }
+
+    /**
+     * 같은 주 같은 애니의 앞 순위 RankInfo 를 지난 기록으로 삼아 계산
+     *  - previous 를 Anime.applyRankInfo 로 반영한 뒤 create 한 것과 같음
+     */
+    public static RankInfo createAfter(
+            RankInfo previous,
+            int rank,
+            LocalDate lastWeekEndAt,
+            Double rankedAverage,
+            Integer rankedVoterCount
+    ) {
+        return create(
+                previous.rank,
+                previous.consecutiveWeeksAtSameRank,
+                previous.peakRank,
+                previous.peakDate,
+                previous.weeksOnTop10,
+                rank,
+                lastWeekEndAt,
+                rankedAverage,
+                rankedVoterCount
+        );
+    }
+
+    private static RankInfo create(
+            Integer lastRank,
+            Integer sameRankWeekStreak,
+            Integer oldPeakRank,
+            LocalDate oldPeakDate,
+            Integer oldWeeksOnTop10,
+            int rank,
+            LocalDate lastWeekEndAt,
+            Double rankedAverage,
+            Integer rankedVoterCount
     ) {
         boolean isPrized = rank <= 3;
         boolean isTop10 = rank <= 10;
@@ -71,31 +123,26 @@ public class RankInfo {
                 .rankedVoterCount(rankedVoterCount)
                 .build();
 
-        Integer lastRank = anime.getLastRank();
         boolean notNew = lastRank != null;
 
         if (notNew) {
             newRankInfo.rankDiff = lastRank - rank;
 
             if (newRankInfo.rankDiff.equals(0)) {
-                newRankInfo.consecutiveWeeksAtSameRank = anime.getSameRankWeekStreak() + 1;
+                newRankInfo.consecutiveWeeksAtSameRank = sameRankWeekStreak + 1;
             } else {
                 newRankInfo.consecutiveWeeksAtSameRank = 1;
             }
 
-            Integer oldPeakRank = anime.getPeakRank();
             if (rank < oldPeakRank) {
                 newRankInfo.peakRank = rank;
                 newRankInfo.peakDate = lastWeekEndAt;
             } else {
                 newRankInfo.peakRank = oldPeakRank;
-                newRankInfo.peakDate = anime.getPeakDate();
+                newRankInfo.peakDate = oldPeakDate;
             }
 
-            newRankInfo.weeksOnTop10 = isTop10 ? anime.getWeeksOnTop10() + 1 : anime.getWeeksOnTop10();
-
-            // anime 스트릭 갱신
-            anime.updateRankInfo(newRankInfo);
+            newRankInfo.weeksOnTop10 = isTop10 ? oldWeeksOnTop10 + 1 : oldWeeksOnTop10;
 
         } else {
             newRankInfo.rankDiff = null;
@@ -103,9 +150,6 @@ public class RankInfo {
             newRankInfo.peakRank = rank;
             newRankInfo.peakDate = lastWeekEndAt;
             newRankInfo.weeksOnTop10 = isTop10 ? 1 : 0;
-
-            // anime 초기 랭크 정보 셋팅
-            anime.initRankInfo(rank, lastWeekEndAt);
         }
 
         return newRankInfo;
@@ -1,8 +1,12 @@
 package com.duckstar.repository.AnimeComment;
 
+import com.duckstar.domain.enums.CommentStatus;
 import com.duckstar.domain.mapping.comment.AnimeComment;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -19,4 +23,35 @@ public interface AnimeCommentRepository extends JpaRepository<AnimeComment, Long
     List<AnimeComment> findAllByAnime_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(Long animeId, LocalDateTime createdAtIsGreaterThan);
 
     boolean existsByEpisode(Episode episode);
+
+    //=== 좋아요, 답글 수 카운터 (CommentCounter) ===//
+
+    @Query("select c.likeCount from Comment c where c.id = :commentId")
+    Integer findLikeCountById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("update Comment c set c.likeCount = greatest(coalesce(c.likeCount, 0) + :delta, 0) " +
+            "where c.id = :commentId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = greatest(coalesce(c.replyCount, 0) + :delta, 0) " +
+            "where c.id = :commentId")
+    int addReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Query("select max(c.id) from Comment c")
+    Long findMaxCommentId();
+
+    @Modifying
+    @Query("update Comment c set " +
+            "c.likeCount = (select cast(count(l) as Integer) from CommentLike l " +
+            "   where l.comment.id = c.id and l.isLiked = true), " +
+            "c.replyCount = (select cast(count(r) as Integer) from Reply r " +
+            "   where r.parent.id = c.id and r.status = :visible) " +
+            "where c.id between :fromId and :toId")
+    int reconcileCounts(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("visible") CommentStatus visible
+    );
 }
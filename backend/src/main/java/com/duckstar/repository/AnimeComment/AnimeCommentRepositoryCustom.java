@@ -2,16 +2,27 @@ package com.duckstar.repository.AnimeComment;
 
 import com.duckstar.domain.enums.CommentSortType;
 import com.duckstar.security.MemberPrincipal;
+import com.duckstar.util.CommentCursor;
 import com.duckstar.web.dto.CommentResponseDto.CommentDto;
 
 import java.util.List;
 
 public interface AnimeCommentRepositoryCustom {
-    List<CommentDto> getCommentDtos(
+
+    /**
+     * 댓글 + 그 댓글 뒤부터 이어 읽을 커서
+     */
+    record CommentRow(CommentDto commentDto, CommentCursor cursor) {}
+
+    /**
+     * @param after 커서 (null 이면 offset 부터)
+     */
+    List<CommentRow> getCommentRows(
             Long animeId,
             List<Long> episodeIds,
             CommentSortType sortBy,
             MemberPrincipal principal,
+            CommentCursor after,
             int offset,
             int limit
     );
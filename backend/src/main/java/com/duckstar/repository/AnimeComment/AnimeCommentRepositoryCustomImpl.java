@@ -8,20 +8,19 @@ import com.duckstar.domain.mapping.comment.QAnimeComment;
 import com.duckstar.domain.mapping.weeklyVote.QEpisode;
 import com.duckstar.domain.mapping.weeklyVote.QEpisodeStar;
 import com.duckstar.security.MemberPrincipal;
+import com.duckstar.util.CommentCursor;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.duckstar.web.dto.CommentResponseDto.*;
 
@@ -37,56 +36,23 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
     private final QEpisodeStar episodeStar = QEpisodeStar.episodeStar;
 
     @Override
-    public List<CommentDto> getCommentDtos(
+    public List<CommentRow> getCommentRows(
             Long animeId,
             List<Long> episodeIds,
             CommentSortType sortBy,
             MemberPrincipal principal,
+            CommentCursor after,
             int offset,
             int limit
     ) {
-        Long principalId;
-        boolean isAdmin;
-        Expression<Long> likeIdSubquery;
-        Expression<Boolean> isLikedExpression;
-
-        if (principal != null) {
-            principalId = principal.getId();
-            isAdmin = principal.isAdmin();
-
-            likeIdSubquery = JPAExpressions
-                    .select(commentLike.id)
-                    .from(commentLike)
-                    .where(
-                            commentLike.comment.id.eq(animeComment.id),
-                            commentLike.member.id.eq(principalId)
-                    )
-                    .limit(1);
-
-            isLikedExpression = JPAExpressions
-                    .select(commentLike.isLiked)
-                    .from(commentLike)
-                    .where(
-                            commentLike.comment.id.eq(animeComment.id),
-                            commentLike.member.id.eq(principalId)
-                    )
-                    .limit(1);
-        } else {
-            principalId = null;
-            isAdmin = false;
-
-            likeIdSubquery = Expressions.nullExpression(Long.class);
-            isLikedExpression = Expressions.constant(false);
-        }
-
         BooleanExpression animeCondition = animeComment.dtype.eq("A").and(
                 animeComment.contentIdForIdx.eq(animeId));
 
-        BooleanExpression episodeCondition = episodeIds.isEmpty() ? null : episode.id.in(episodeIds);
+        // FK 컬럼으로 바로 거름 (Episode 조인 X)
+        BooleanExpression episodeCondition = episodeIds.isEmpty() ? null :
+                animeComment.episode.id.in(episodeIds);
 
-        List<Tuple> tuples = queryFactory.select(
-                        likeIdSubquery,
-                        isLikedExpression,
+        JPAQuery<Tuple> query = queryFactory.select(
                         animeComment.status,
                         animeComment.id,
                         animeComment.likeCount,
@@ -100,51 +66,101 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
                         animeComment.body,
                         animeComment.replyCount,
                         animeComment.surveyCandidate.id,
-                        episode.episodeNumber,
-                        episodeStar.starScore,
-                        episodeStar.isLateParticipating
+                        animeComment.episode.id,
+                        animeComment.episodeStar.id
                 )
                 .from(animeComment)
-                .leftJoin(episode).on(episode.id.eq(animeComment.episode.id))
-                .leftJoin(episodeStar).on(episodeStar.id.eq(animeComment.episodeStar.id))
                 .where(
                         animeCondition,
                         episodeCondition,
                         animeComment.status.notIn(CommentStatus.DELETED, CommentStatus.ADMIN_DELETED)
-                                .or(animeComment.replyCount.gt(0))
+                                .or(animeComment.replyCount.gt(0)),
+                        after == null ? null : keysetCondition(after)
                 )
                 .orderBy(getOrder(sortBy))  // 정렬
-                .offset(offset)
-                .limit(limit)
-                .fetch();
+                .limit(limit);
 
-        //=== 이 부분 왜 있지? ===//
-        List<Long> commentIds = tuples.stream()
-                .map(t -> t.get(animeComment.id))
-                .toList();
-        if (commentIds.isEmpty()) {
+        // 커서가 없으면 기존 page 방식 (offset)
+        if (after == null && offset > 0) {
+            query.offset(offset);
+        }
+
+        List<Tuple> tuples = query.fetch();
+        if (tuples.isEmpty()) {
             return List.of();
         }
-        //=== 주석 처리하고 테스트 ===//
+
+        //=== 페이지에 나온 댓글만 모아서 한 번씩 조회 ===//
+        Set<Long> commentIds = new HashSet<>();
+        Set<Long> taggedEpisodeIds = new HashSet<>();
+        Set<Long> episodeStarIds = new HashSet<>();
+        for (Tuple t : tuples) {
+            commentIds.add(t.get(animeComment.id));
+            if (Boolean.TRUE.equals(t.get(animeComment.isUserTaggedEp)) && t.get(animeComment.episode.id) != null) {
+                taggedEpisodeIds.add(t.get(animeComment.episode.id));
+            }
+            if (t.get(animeComment.episodeStar.id) != null) {
+                episodeStarIds.add(t.get(animeComment.episodeStar.id));
+            }
+        }
+
+        Long principalId = principal != null ? principal.getId() : null;
+        boolean isAdmin = principal != null && principal.isAdmin();
+
+        Map<Long, Tuple> likeMap = principalId == null ? Map.of() : queryFactory.select(
+                        commentLike.comment.id,
+                        commentLike.id,
+                        commentLike.isLiked
+                )
+                .from(commentLike)
+                .where(
+                        commentLike.comment.id.in(commentIds),
+                        commentLike.member.id.eq(principalId)
+                )
+                .fetch().stream()
+                .collect(Collectors.toMap(t -> t.get(commentLike.comment.id), t -> t, (a, b) -> a));
+
+        Map<Long, Integer> episodeNumberMap = taggedEpisodeIds.isEmpty() ? Map.of() : queryFactory.select(
+                        episode.id,
+                        episode.episodeNumber
+                )
+                .from(episode)
+                .where(episode.id.in(taggedEpisodeIds))
+                .fetch().stream()
+                .filter(t -> t.get(episode.episodeNumber) != null)
+                .collect(Collectors.toMap(t -> t.get(episode.id), t -> t.get(episode.episodeNumber)));
+
+        Map<Long, Tuple> episodeStarMap = episodeStarIds.isEmpty() ? Map.of() : queryFactory.select(
+                        episodeStar.id,
+                        episodeStar.starScore,
+                        episodeStar.isLateParticipating
+                )
+                .from(episodeStar)
+                .where(episodeStar.id.in(episodeStarIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(t -> t.get(episodeStar.id), t -> t));
 
         return tuples.stream()
-                .map(t ->
-                        toCommentDto(
-                                t,
-                                principalId,
-                                isAdmin,
-                                isLikedExpression,
-                                likeIdSubquery
-                        ))
+                .map(t -> new CommentRow(
+                        toCommentDto(t, principalId, isAdmin, likeMap, episodeNumberMap, episodeStarMap),
+                        new CommentCursor(
+                                sortBy,
+                                Optional.ofNullable(t.get(animeComment.likeCount)).orElse(0),
+                                Optional.ofNullable(t.get(animeComment.replyCount)).orElse(0),
+                                t.get(animeComment.createdAt),
+                                t.get(animeComment.id)
+                        )
+                ))
                 .toList();
     }
 
-    public CommentDto toCommentDto(
+    private CommentDto toCommentDto(
             Tuple t,
             Long principalId,
             boolean isAdmin,
-            Expression<Boolean> isLikedExpression,
-            Expression<Long> likeIdSubquery
+            Map<Long, Tuple> likeMap,
+            Map<Long, Integer> episodeNumberMap,
+            Map<Long, Tuple> episodeStarMap
     ) {
         Long commentId = t.get(animeComment.id);
 
@@ -153,7 +169,7 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
 
         Boolean isUserTaggedEp = t.get(animeComment.isUserTaggedEp);
         Integer episodeNumber = Boolean.TRUE.equals(isUserTaggedEp) ?
-                t.get(episode.episodeNumber) :
+                episodeNumberMap.get(t.get(animeComment.episode.id)) :
                 null;
 
         Integer replyCount = t.get(animeComment.replyCount);
@@ -171,14 +187,17 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
         Long authorId = t.get(animeComment.author.id);
         boolean canDelete = Objects.equals(authorId, principalId) || isAdmin;
 
+        Tuple like = likeMap.get(commentId);
+        Tuple star = episodeStarMap.get(t.get(animeComment.episodeStar.id));
+
         return CommentDto.builder()
                 .status(status)
                 .commentId(commentId)
 
                 .canDeleteThis(canDelete)
 
-                .isLiked(t.get(isLikedExpression))
-                .commentLikeId(t.get(likeIdSubquery))
+                .isLiked(like != null && Boolean.TRUE.equals(like.get(commentLike.isLiked)))
+                .commentLikeId(like != null ? like.get(commentLike.id) : null)
                 .likeCount(t.get(animeComment.likeCount))
 
                 .authorId(authorId)
@@ -193,8 +212,8 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
                 .body(t.get(animeComment.body))
 
                 .replyCount(replyCount)
-                .starScore(t.get(episodeStar.starScore))
-                .isLateParticipating(t.get(episodeStar.isLateParticipating))
+                .starScore(star != null ? star.get(episodeStar.starScore) : null)
+                .isLateParticipating(star != null ? star.get(episodeStar.isLateParticipating) : null)
 
                 .surveyCandidateId(t.get(animeComment.surveyCandidate.id))
                 .build();
@@ -235,14 +254,45 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
     }
 
     private OrderSpecifier<?>[] getOrder(CommentSortType sortBy) {
+        // id 는 keyset 커서의 동점 처리용
         return switch (sortBy) {
             case POPULAR -> new OrderSpecifier<?>[]{
                     animeComment.likeCount.desc(),
                     animeComment.replyCount.desc(),
-                    animeComment.createdAt.desc()
+                    animeComment.createdAt.desc(),
+                    animeComment.id.desc()
+            };
+            case RECENT -> new OrderSpecifier<?>[]{
+                    animeComment.createdAt.desc(),
+                    animeComment.id.desc()
+            };
+            case OLDEST -> new OrderSpecifier<?>[]{
+                    animeComment.createdAt.asc(),
+                    animeComment.id.asc()
             };
-            case RECENT -> new OrderSpecifier<?>[]{animeComment.createdAt.desc()};
-            case OLDEST -> new OrderSpecifier<?>[]{animeComment.createdAt.asc()};
+        };
+    }
+
+    /**
+     * 정렬 키 튜플이 커서보다 "뒤" 인 행
+     */
+    private BooleanExpression keysetCondition(CommentCursor after) {
+        LocalDateTime createdAt = after.createdAt();
+        Long commentId = after.commentId();
+
+        return switch (after.sortBy()) {
+            case RECENT -> animeComment.createdAt.lt(createdAt)
+                    .or(animeComment.createdAt.eq(createdAt).and(animeComment.id.lt(commentId)));
+            case OLDEST -> animeComment.createdAt.gt(createdAt)
+                    .or(animeComment.createdAt.eq(createdAt).and(animeComment.id.gt(commentId)));
+            case POPULAR -> {
+                BooleanExpression byCreatedAt = animeComment.createdAt.lt(createdAt)
+                        .or(animeComment.createdAt.eq(createdAt).and(animeComment.id.lt(commentId)));
+                BooleanExpression byReplyCount = animeComment.replyCount.lt(after.replyCount())
+                        .or(animeComment.replyCount.eq(after.replyCount()).and(byCreatedAt));
+                yield animeComment.likeCount.lt(after.likeCount())
+                        .or(animeComment.likeCount.eq(after.likeCount()).and(byReplyCount));
+            }
         };
     }
 }
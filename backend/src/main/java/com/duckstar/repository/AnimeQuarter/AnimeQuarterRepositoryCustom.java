@@ -12,5 +12,6 @@ import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 public interface AnimeQuarterRepositoryCustom {
     List<AnimePreviewDto> getAnimePreviewsByQuarter(Long quarterId);
     List<QuarterDto> getQuarterDtosByAnimeId(Long animeId);
+    List<Long> getAnimeIdsByQuarterId(Long quarterId);
     Page<AdminAnimeDto> getAdminAnimeDtosByQuarterId(Long quarterId, Pageable pageable);
 }
@@ -138,6 +138,14 @@ public class AnimeQuarterRepositoryCustomImpl implements AnimeQuarterRepositoryC
                 .fetch();
     }
 
+    @Override
+    public List<Long> getAnimeIdsByQuarterId(Long quarterId) {
+        return queryFactory.select(animeQuarter.anime.id)
+                .from(animeQuarter)
+                .where(animeQuarter.quarter.id.eq(quarterId))
+                .fetch();
+    }
+
     @Override
     public Page<AdminAnimeDto> getAdminAnimeDtosByQuarterId(Long quarterId, Pageable pageable) {
         List<AdminAnimeDto> content = queryFactory.select(
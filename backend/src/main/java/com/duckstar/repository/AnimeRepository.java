@@ -1,7 +1,53 @@
 package com.duckstar.repository;
 
 import com.duckstar.domain.Anime;
+import com.duckstar.domain.enums.CommentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
 
 public interface AnimeRepository extends JpaRepository<Anime, Long> {
+
+    // 해시 key 이미지는 URL 에 애니 id 가 없으므로 URL 로 찾음 (같은 이미지를 쓰는 애니가 여럿이면 먼저 만든 쪽)
+    Optional<Anime> findFirstByMainImageUrlOrderByIdAsc(String mainImageUrl);
+
+    //=== 댓글 수 카운터 (CommentCounter) ===//
+
+    @Query("select a.commentCount from Anime a where a.id = :animeId")
+    Integer findCommentCountById(@Param("animeId") Long animeId);
+
+    @Modifying
+    @Query("update Anime a set a.commentCount = coalesce(a.commentCount, 0) + :delta where a.id = :animeId")
+    int addCommentCount(@Param("animeId") Long animeId, @Param("delta") int delta);
+
+    @Query("select max(a.id) from Anime a")
+    Long findMaxAnimeId();
+
+    // 보이는 댓글 + 답글 수를 같은 문장에서 세어 그대로 씀 (0 으로 비우는 단계 없음)
+    String VISIBLE_COMMENT_COUNT = "cast(" +
+            "(select count(c) from AnimeComment c " +
+            "   where c.contentIdForIdx = a.id and c.status not in :hidden) + " +
+            "(select count(r) from Reply r join AnimeComment p on p.id = r.parent.id " +
+            "   where p.contentIdForIdx = a.id and r.status not in :hidden) as Integer)";
+
+    @Modifying
+    @Query("update Anime a set a.commentCount = " + VISIBLE_COMMENT_COUNT + " " +
+            "where a.id between :fromId and :toId")
+    int reconcileCommentCounts(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("hidden") Collection<CommentStatus> hidden
+    );
+
+    @Modifying
+    @Query("update Anime a set a.commentCount = " + VISIBLE_COMMENT_COUNT + " " +
+            "where a.id in :animeIds")
+    int recountCommentCounts(
+            @Param("animeIds") Collection<Long> animeIds,
+            @Param("hidden") Collection<CommentStatus> hidden
+    );
 }
@@ -1,13 +1,16 @@
 package com.duckstar.repository.Episode;
 
 import com.duckstar.domain.Anime;
+import com.duckstar.domain.enums.CommentStatus;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +36,43 @@ public interface EpisodeRepository extends JpaRepository<Episode, Long>, Episode
     );
 
     List<Episode> findByAnime_IdAndEpisodeNumber(Long animeId, Integer episodeNumber);
+
+    @Query("SELECT e FROM Episode e JOIN FETCH e.anime WHERE e.id IN :ids")
+    List<Episode> findAllWithAnimeByIdIn(@Param("ids") Collection<Long> ids);
+
+    //=== 댓글 수 카운터 (CommentCounter) ===//
+
+    @Query("select e.commentCount from Episode e where e.anime.id = :animeId and e.id in :episodeIds")
+    List<Integer> findCommentCounts(
+            @Param("animeId") Long animeId,
+            @Param("episodeIds") Collection<Long> episodeIds
+    );
+
+    @Modifying
+    @Query("update Episode e set e.commentCount = coalesce(e.commentCount, 0) + :delta where e.id = :episodeId")
+    int addCommentCount(@Param("episodeId") Long episodeId, @Param("delta") int delta);
+
+    // 보이는 댓글 + 답글 수를 같은 문장에서 세어 그대로 씀 (0 으로 비우는 단계 없음, idx_comment_cec 사용)
+    String VISIBLE_COMMENT_COUNT = "cast(" +
+            "(select count(c) from AnimeComment c " +
+            "   where c.contentIdForIdx = e.anime.id and c.episode.id = e.id and c.status not in :hidden) + " +
+            "(select count(r) from Reply r join AnimeComment p on p.id = r.parent.id " +
+            "   where p.contentIdForIdx = e.anime.id and p.episode.id = e.id and r.status not in :hidden) as Integer)";
+
+    @Modifying
+    @Query("update Episode e set e.commentCount = " + VISIBLE_COMMENT_COUNT + " " +
+            "where e.anime.id between :fromAnimeId and :toAnimeId")
+    int reconcileCommentCounts(
+            @Param("fromAnimeId") Long fromAnimeId,
+            @Param("toAnimeId") Long toAnimeId,
+            @Param("hidden") Collection<CommentStatus> hidden
+    );
+
+    @Modifying
+    @Query("update Episode e set e.commentCount = " + VISIBLE_COMMENT_COUNT + " " +
+            "where e.anime.id in :animeIds")
+    int recountCommentCounts(
+            @Param("animeIds") Collection<Long> animeIds,
+            @Param("hidden") Collection<CommentStatus> hidden
+    );
 }
@@ -7,7 +7,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import static com.duckstar.service.AnimeService.AnimeCommandServiceImpl.*;
+import static com.duckstar.schedule.EpisodeTransitionScheduler.*;
 import static com.duckstar.web.dto.AnimeResponseDto.*;
 import static com.duckstar.web.dto.EpisodeResponseDto.*;
 import static com.duckstar.web.dto.SearchResponseDto.*;
@@ -17,15 +17,19 @@ import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 public interface EpisodeRepositoryCustom {
     List<EpisodeDto> getEpisodeDtosByAnimeId(Long animeId);
 
-    List<LiveCandidateDto> getLiveCandidateDtos(List<String> principalKeys);
+    List<Episode> findLiveCandidatesWithAnime();
 
-    List<WeekCandidateDto> getWeekCandidateDtos(Long weekId, String principalKey);
+    List<Episode> findAllWithAnimeByDuration(LocalDateTime weekStart, LocalDateTime weekEnd);
+
+    List<WeekCandidateDto> getWeekCandidateDtos(Long weekId);
 
     List<AnimePreviewDto> getAnimePreviewsByDuration(LocalDateTime weekStart, LocalDateTime weekEnd);
 
+    List<AnimePreviewDto> getSearchPreviewsByAnimeIds(List<Long> animeIds, LocalDateTime now);
+
     List<AnimeRankDto> getAnimeRankDtosByWeekId(Long weekId, LocalDateTime weekEndDateTime, int offset, int limit);
 
-    List<PremieredEpRecord> findPremieredEpRecordsInWindow(LocalDateTime windowStart, LocalDateTime windowEnd);
+    List<EpisodeTransitionRecord> findTransitionRecordsBefore(LocalDateTime horizon);
 
     Optional<CandidateFormDto> getCandidateFormDto(Long episodeId, List<String> principalKeys);
 
@@ -34,4 +38,6 @@ public interface EpisodeRepositoryCustom {
     List<ScheduleInfoDto> getScheduleInfoDtosByWeekId(Week week);
 
     List<Episode> findEpisodesByReleaseOrderByAnimeId(Long animeId);
+
+    void addStarStats(Long episodeId, long[] delta);
 }
@@ -25,7 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static com.duckstar.service.AnimeService.AnimeCommandServiceImpl.*;
+import static com.duckstar.schedule.EpisodeTransitionScheduler.*;
 import static com.duckstar.util.QuarterUtil.*;
 import static com.duckstar.web.dto.AnimeResponseDto.*;
 import static com.duckstar.web.dto.EpisodeResponseDto.*;
@@ -81,26 +81,9 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
     }
 
     @Override
-    public List<LiveCandidateDto> getLiveCandidateDtos(List<String> principalKeys) {
-        List<Tuple> tuples = queryFactory.select(
-                        anime.id,
-                        anime.titleKor,
-                        anime.mainThumbnailUrl,
-                        anime.genre,
-                        anime.medium,
-                        anime.premiereDateTime,  // 일단 투표에서 영화 제외
-                        anime.airTime,
-                        episode,
-                        episodeStar,
-                        episodeStar.weekVoteSubmission.isBlocked
-                )
-                .from(episode)
-                .join(episode.anime, anime)
-                .leftJoin(episodeStar).on(
-                        episodeStar.episode.id.eq(episode.id),
-                        episodeStar.weekVoteSubmission.principalKey.in(principalKeys),
-                        episodeStar.starScore.isNotNull()
-                )
+    public List<Episode> findLiveCandidatesWithAnime() {
+        return queryFactory.selectFrom(episode)
+                .join(episode.anime, anime).fetchJoin()
                 .where(episode.evaluateState.eq(EpEvaluateState.VOTING_WINDOW)
 
                         // 극장판은 일단 보류
@@ -111,63 +94,30 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                         )*/)
                 .orderBy(episode.scheduledAt.asc())
                 .fetch();
-
-        return tuples.stream()
-                .map(t -> {
-                    Episode episode = t.get(this.episode);
-                    if (episode == null) {
-                        return null;
-                    }
-
-                    //=== 에피소드가 속한 주 계산 ===//
-                    LocalDateTime scheduledAt = episode.getScheduledAt();
-                    YQWRecord record = scheduledAt != null ?
-                            getThisWeekRecord(scheduledAt) :
-                            null;
-
-                    // EpisodeStar 존재 시 별점 통계 셋팅
-                    StarInfoDto info = null;
-                    EpisodeStar episodeStar = t.get(this.episodeStar);
-                    if (episodeStar != null) {
-                        Boolean isBlocked = t.get(this.episodeStar.weekVoteSubmission.isBlocked);
-                        info = StarInfoDto.of(isBlocked, episodeStar, episode);
-                    }
-
-                    // VoteResultDto 구성
-                    VoteResultDto result = VoteResultDto.builder()
-                            .voterCount(episode.getVoterCount())
-                            .info(info)
-                            .build();
-
-                    // 최종 DTO 리턴
-                    return LiveCandidateDto.builder()
-                            .year(record != null ? record.yearValue() : null)
-                            .quarter(record != null ? record.quarterValue() : null)
-                            .week(record != null ? record.weekValue() : null)
-                            .episodeId(episode.getId())
-                            .animeId(t.get(anime.id))
-                            .mainThumbnailUrl(t.get(anime.mainThumbnailUrl))
-                            .titleKor(t.get(anime.titleKor))
-                            .dayOfWeek(DayOfWeekShort.getLogicalDay(scheduledAt))
-                            .scheduledAt(scheduledAt)
-                            .genre(t.get(anime.genre))
-                            .medium(t.get(anime.medium))
-                            .result(result)
-                            .build();
-                })
-                .toList();
     }
 
     @Override
-    public List<WeekCandidateDto> getWeekCandidateDtos(Long weekId, String principalKey) {
-        principalKey = principalKey == null ? "" : principalKey;
+    public List<Episode> findAllWithAnimeByDuration(LocalDateTime weekStart, LocalDateTime weekEnd) {
+        // 차트 발표 단계에서 애니 스트릭을 건드리므로 애니까지 한 번에
+        return queryFactory.selectFrom(episode)
+                .join(episode.anime, anime).fetchJoin()
+                .where(
+                        episode.scheduledAt.goe(weekStart),
+                        episode.scheduledAt.lt(weekEnd),
+                        episode.isBreak.isFalse()
+                )
+                .fetch();
+    }
 
+    @Override
+    public List<WeekCandidateDto> getWeekCandidateDtos(Long weekId) {
+        // hasVoted 는 보는 사람 기준이라 호출하는 쪽에서 WeekVoteStateCache 로 덮어씀
         return queryFactory.select(
                         Projections.constructor(
                                 WeekCandidateDto.class,
                                 episode.id,
                                 episode.evaluateState,
-                                episodeStar.starScore.isNotNull(),
+                                Expressions.constant(false),
                                 anime.mainThumbnailUrl,
                                 anime.titleKor
                         )
@@ -175,11 +125,6 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                 .from(episode)
                 .join(episode.anime, anime)
                 .join(week).on(week.id.eq(weekId))
-                .leftJoin(episodeStar)
-                .on(
-                        episodeStar.episode.id.eq(episode.id),
-                        episodeStar.weekVoteSubmission.principalKey.eq(principalKey)
-                )
                 .where(
                         episode.isBreak.isFalse(),
                         episode.scheduledAt.between(week.startDateTime, week.endDateTime)
@@ -276,6 +221,80 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                 .toList();
     }
 
+    @Override
+    public List<AnimePreviewDto> getSearchPreviewsByAnimeIds(List<Long> animeIds, LocalDateTime now) {
+        if (animeIds == null || animeIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 애니별 현재 에피소드를 함께 조회 (애니마다 findCurrentEpisode 하던 N+1 제거)
+        List<Tuple> tuples = queryFactory.select(
+                        anime.id,
+                        anime.titleKor,
+                        anime.mainThumbnailUrl,
+                        anime.status,
+                        anime.dayOfWeek,
+                        anime.airTime,
+                        anime.genre,
+                        anime.medium,
+                        episode.scheduledAt,
+                        episode.isBreak,
+                        episode.isRescheduled
+                )
+                .from(anime)
+                .leftJoin(episode).on(
+                        episode.anime.id.eq(anime.id),
+                        episode.scheduledAt.loe(now),
+                        episode.nextEpScheduledAt.gt(now)
+                )
+                .where(anime.id.in(animeIds))
+                .fetch();
+
+        Map<Long, List<OttDto>> ottDtosMap = queryFactory
+                .select(
+                        animeOtt.anime.id,
+                        ott.type,
+                        animeOtt.watchUrl
+                )
+                .from(animeOtt)
+                .join(animeOtt.ott, ott)
+                .where(animeOtt.anime.id.in(animeIds))
+                .orderBy(ott.typeOrder.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        t -> t.get(animeOtt.anime.id),
+                        Collectors.mapping(
+                                t -> new OttDto(
+                                        t.get(ott.type),
+                                        t.get(animeOtt.watchUrl)
+                                ),
+                                Collectors.toList()
+                        )
+                ));
+
+        return tuples.stream()
+                .map(t -> {
+                    Long animeId = t.get(anime.id);
+
+                    return AnimePreviewDto.builder()
+                            .animeId(animeId)
+                            .mainThumbnailUrl(t.get(anime.mainThumbnailUrl))
+                            .status(t.get(anime.status))
+                            .isBreak(t.get(episode.isBreak))
+                            .titleKor(t.get(anime.titleKor))
+                            .dayOfWeek(t.get(anime.dayOfWeek))
+                            .isRescheduled(t.get(episode.isRescheduled))
+                            .scheduledAt(t.get(episode.scheduledAt))
+                            .airTime(t.get(anime.airTime))
+                            .genre(t.get(anime.genre))
+                            .medium(t.get(anime.medium))
+                            .ottDtos(ottDtosMap.getOrDefault(animeId, List.of()))
+                            .build();
+                })
+                .toList();
+    }
+
     @Override
     public List<AnimeRankDto> getAnimeRankDtosByWeekId(
             Long weekId,
@@ -369,42 +388,22 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
     }
 
     @Override
-    public List<PremieredEpRecord> findPremieredEpRecordsInWindow(
-            LocalDateTime windowStart, LocalDateTime windowEnd) {
-        // 방영 종료 체크: scheduledAt + 24분이 윈도우 안에 있는 경우
-        // 즉, scheduledAt이 (windowStart - 24분) ~ (windowEnd - 24분) 범위에 있어야 함
-        LocalDateTime finishedEpWindowStart = windowStart.minusMinutes(24);
-        LocalDateTime finishedEpWindowEnd = windowEnd.minusMinutes(24);
-
-        // 실시간 투표 종료 체크 : scheduledAt + 36시간
-        LocalDateTime liveVoteFinishedEpWindowStart = windowStart.minusHours(36);
-        LocalDateTime liveVoteFinishedEpWindowEnd = windowEnd.minusHours(36);
-
+    public List<EpisodeTransitionRecord> findTransitionRecordsBefore(LocalDateTime horizon) {
+        // LOGIN_REQUIRED, ALWAYS_OPEN 은 스케줄러가 바꾸지 않으므로 제외
         return queryFactory.select(
                         Projections.constructor(
-                                PremieredEpRecord.class,
-                                episode,
-                                episode.scheduledAt.eq(anime.premiereDateTime),  // 첫 번째 에피소드인지
-                                episode.isLastEpisode,  // 마지막 에피소드인지
-                                episode.scheduledAt.between(
-                                        finishedEpWindowStart, finishedEpWindowEnd),
-                                episode.scheduledAt.between(
-                                        liveVoteFinishedEpWindowStart, liveVoteFinishedEpWindowEnd),
-                                anime
+                                EpisodeTransitionRecord.class,
+                                episode.id,
+                                episode.scheduledAt,
+                                episode.evaluateState,
+                                episode.isLastEpisode
                         )
                 )
                 .from(episode)
-                .join(episode.anime, anime)
                 .where(
                         episode.isBreak.isFalse(),
-                        // 방영 시작 체크: scheduledAt이 윈도우 안에 있음
-                        episode.scheduledAt.between(windowStart, windowEnd)
-                                // 방영 종료 체크: scheduledAt + 24분이 윈도우 안에 있음
-                                .or(episode.scheduledAt.between(
-                                        finishedEpWindowStart, finishedEpWindowEnd))
-                                // 실시간 투표 종료 체크: scheduledAt + 36시간이 윈도우 안에 있음
-                                .or(episode.scheduledAt.between(
-                                        liveVoteFinishedEpWindowStart, liveVoteFinishedEpWindowEnd))
+                        episode.evaluateState.in(EpEvaluateState.CLOSED, EpEvaluateState.VOTING_WINDOW),
+                        episode.scheduledAt.lt(horizon)
                 )
                 .fetch();
     }
@@ -611,4 +610,23 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                 .orderBy(episode.scheduledAt.asc())
                 .fetch();
     }
+
+    @Override
+    public void addStarStats(Long episodeId, long[] delta) {
+        // 엔티티를 거치지 않는 상대값 UPDATE: 다른 트랜잭션의 값을 덮어쓰지 않음
+        queryFactory.update(episode)
+                .set(episode.voterCount, episode.voterCount.add((int) delta[0]))
+                .set(episode.star_0_5, episode.star_0_5.add((int) delta[1]))
+                .set(episode.star_1_0, episode.star_1_0.add((int) delta[2]))
+                .set(episode.star_1_5, episode.star_1_5.add((int) delta[3]))
+                .set(episode.star_2_0, episode.star_2_0.add((int) delta[4]))
+                .set(episode.star_2_5, episode.star_2_5.add((int) delta[5]))
+                .set(episode.star_3_0, episode.star_3_0.add((int) delta[6]))
+                .set(episode.star_3_5, episode.star_3_5.add((int) delta[7]))
+                .set(episode.star_4_0, episode.star_4_0.add((int) delta[8]))
+                .set(episode.star_4_5, episode.star_4_5.add((int) delta[9]))
+                .set(episode.star_5_0, episode.star_5_0.add((int) delta[10]))
+                .where(episode.id.eq(episodeId))
+                .execute();
+    }
 }
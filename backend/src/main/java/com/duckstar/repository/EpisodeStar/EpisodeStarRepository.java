@@ -1,8 +1,14 @@
 package com.duckstar.repository.EpisodeStar;
 
 import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +18,44 @@ public interface EpisodeStarRepository extends JpaRepository<EpisodeStar, Long>,
     Optional<EpisodeStar> findByEpisode_IdAndWeekVoteSubmission_Id(Long episodeId, Long weekVoteSubmissionId);
 
     List<EpisodeStar> findAllByWeekVoteSubmission_Id(Long weekVoteSubmissionId);
+
+    boolean existsByWeekVoteSubmission_IdAndStarScoreIsNotNull(Long weekVoteSubmissionId);
+
+    //=== 로그인 투표 이관 (bulk) ===//
+
+    @Query("select es.episode.id from EpisodeStar es " +
+            "where es.weekVoteSubmission.id = :submissionId")
+    List<Long> findEpisodeIdsBySubmissionId(@Param("submissionId") Long submissionId);
+
+    // 회원 별점 행은 그대로 두고 점수만 덮어씀 (댓글이 episode_star 를 참조할 수 있으므로)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update EpisodeStar es set es.starScore = :starScore, es.updatedAt = :now " +
+            "where es.weekVoteSubmission.id = :submissionId and es.episode.id in :episodeIds")
+    int updateStarScoreBySubmissionIdAndEpisodeIdIn(
+            @Param("submissionId") Long submissionId,
+            @Param("episodeIds") Collection<Long> episodeIds,
+            @Param("starScore") Integer starScore,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from EpisodeStar es " +
+            "where es.weekVoteSubmission.id = :submissionId and es.starScore is null")
+    int deleteRetractedBySubmissionId(@Param("submissionId") Long submissionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from EpisodeStar es " +
+            "where es.weekVoteSubmission.id = :submissionId and es.episode.id in :episodeIds")
+    int deleteAllBySubmissionIdAndEpisodeIdIn(
+            @Param("submissionId") Long submissionId,
+            @Param("episodeIds") Collection<Long> episodeIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update EpisodeStar es set es.weekVoteSubmission = :target " +
+            "where es.weekVoteSubmission.id = :sourceId")
+    int moveAllToSubmission(
+            @Param("sourceId") Long sourceId,
+            @Param("target") WeekVoteSubmission target
+    );
 }
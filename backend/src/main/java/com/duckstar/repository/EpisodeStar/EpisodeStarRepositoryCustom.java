@@ -1,11 +1,20 @@
 package com.duckstar.repository.EpisodeStar;
 
-import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
-
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface EpisodeStarRepositoryCustom {
-    List<EpisodeStar> findAllEligibleByWeekId(Long weekId);
+
+    /**
+     * 집계 대상 별점 한 건 (차트 집계 / 실시간 재집계용 projection)
+     */
+    record EligibleStarRecord(
+            Long episodeId,
+            Long submissionId,
+            String ipHash,
+            Integer starScore
+    ) {}
+
+    Stream<EligibleStarRecord> streamEligibleRecordsByWeekId(Long weekId);
 
     Long getVoteTimeLeftForLatestEpVoted(Long submissionId);
 }
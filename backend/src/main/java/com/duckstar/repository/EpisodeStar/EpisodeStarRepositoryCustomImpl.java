@@ -1,13 +1,15 @@
 package com.duckstar.repository.EpisodeStar;
 
 import com.duckstar.domain.mapping.weeklyVote.*;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,15 +21,30 @@ public class EpisodeStarRepositoryCustomImpl implements EpisodeStarRepositoryCus
     private final QWeekVoteSubmission weekVoteSubmission = QWeekVoteSubmission.weekVoteSubmission;
 
     @Override
-    public List<EpisodeStar> findAllEligibleByWeekId(Long weekId) {
-        return queryFactory.selectFrom(episodeStar)
+    public Stream<EligibleStarRecord> streamEligibleRecordsByWeekId(Long weekId) {
+        // 엔티티 대신 projection 을 forward-only 커서로 흘려보냄 (영속성 컨텍스트 적재 X)
+        // ⚠️ 호출 측에서 트랜잭션 안에서 소비하고 반드시 close
+        return queryFactory.select(
+                        Projections.constructor(
+                                EligibleStarRecord.class,
+                                episodeStar.episode.id,
+                                weekVoteSubmission.id,
+                                weekVoteSubmission.ipHash,
+                                episodeStar.starScore
+                        )
+                )
+                .from(episodeStar)
                 .join(episodeStar.weekVoteSubmission, weekVoteSubmission)
                 .where(
                         weekVoteSubmission.week.id.eq(weekId)
                                 .and(episodeStar.starScore.isNotNull())
                                 .and(weekVoteSubmission.isBlocked.isFalse())
                 )
-                .fetch();
+                // 같은 에피소드의 표가 연속으로 오도록 정렬
+                .orderBy(episodeStar.episode.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)  // MySQL 스트리밍
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
     }
 
     @Override
@@ -7,4 +7,6 @@ import java.util.List;
 
 public interface HomeBannerRepository extends JpaRepository<HomeBanner, Long> {
     List<HomeBanner> getHomeBannersByWeekIdOrderByBannerNumberAsc(Long weekId);
+
+    boolean existsByWeek_Id(Long weekId);
 }
@@ -2,6 +2,9 @@ package com.duckstar.repository.Reply;
 
 import com.duckstar.domain.mapping.Reply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,4 +12,24 @@ public interface ReplyRepository extends JpaRepository<Reply, Long>, ReplyReposi
     Integer countAllByParent_id(Long parentId);
 
     List<Reply> findAllByAuthor_Id(Long authorId);
+
+    //=== 좋아요 수 카운터 (CommentCounter) ===//
+
+    @Query("select r.likeCount from Reply r where r.id = :replyId")
+    Integer findLikeCountById(@Param("replyId") Long replyId);
+
+    @Modifying
+    @Query("update Reply r set r.likeCount = greatest(coalesce(r.likeCount, 0) + :delta, 0) " +
+            "where r.id = :replyId")
+    int addLikeCount(@Param("replyId") Long replyId, @Param("delta") int delta);
+
+    @Query("select max(r.id) from Reply r")
+    Long findMaxReplyId();
+
+    @Modifying
+    @Query("update Reply r set " +
+            "r.likeCount = (select cast(count(l) as Integer) from ReplyLike l " +
+            "   where l.reply.id = r.id and l.isLiked = true) " +
+            "where r.id between :fromId and :toId")
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
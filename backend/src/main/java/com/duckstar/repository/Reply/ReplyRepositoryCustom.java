@@ -2,7 +2,9 @@ package com.duckstar.repository.Reply;
 
 import com.duckstar.security.MemberPrincipal;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static com.duckstar.web.dto.CommentResponseDto.*;
 
@@ -13,4 +15,14 @@ public interface ReplyRepositoryCustom {
             int offset,
             int limit
     );
+
+    /**
+     * 댓글마다 첫 답글 limitPerParent 개 (getReplyDtos page 0 과 같은 정렬) - 한 번의 윈도 쿼리
+     * @return parentId -> 답글 (답글 없는 댓글은 키 없음)
+     */
+    Map<Long, List<ReplyDto>> getFirstReplyDtosByParentIds(
+            Collection<Long> parentIds,
+            MemberPrincipal principal,
+            int limitPerParent
+    );
 }
@@ -10,18 +10,43 @@ import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Objects;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.duckstar.web.dto.CommentResponseDto.*;
 
 @Repository
 @RequiredArgsConstructor
 public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
+
+    /**
+     * Querydsl 은 윈도 함수를 지원하지 않아 HQL 로 작성 (Hibernate 6 : 서브쿼리 FROM + row_number)
+     */
+    private static final String FIRST_REPLIES_QUERY = """
+            select x.parentId, x.id, x.status, x.likeCount, x.authorId, x.nickname, x.profileImageUrl,
+                   x.voteCount, x.createdAt, x.listenerNickname, x.attachedImageUrl, x.body
+            from (
+                select r.parent.id as parentId, r.id as id, r.status as status, r.likeCount as likeCount,
+                       a.id as authorId, a.nickname as nickname, a.profileImageUrl as profileImageUrl,
+                       r.voteCount as voteCount, r.createdAt as createdAt, l.nickname as listenerNickname,
+                       r.attachedImageUrl as attachedImageUrl, r.body as body,
+                       row_number() over (partition by r.parent.id order by r.createdAt asc, r.id asc) as rn
+                from Reply r
+                join r.author a
+                left join r.listener l
+                where r.parent.id in :parentIds and r.status not in :hidden
+            ) x
+            where x.rn <= :limit
+            order by x.parentId, x.rn
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private final QReply reply = QReply.reply;
     private final QReplyLike replyLike = QReplyLike.replyLike;
 
@@ -90,7 +115,7 @@ public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
                                 reply.status.ne(CommentStatus.ADMIN_DELETED)
                         )
                 )
-                .orderBy(reply.createdAt.asc())
+                .orderBy(reply.createdAt.asc(), reply.id.asc())
                 .offset(offset)
                 .limit(limit)
                 .fetch();
@@ -134,4 +159,77 @@ public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
                 })
                 .toList();
     }
+
+    @Override
+    public Map<Long, List<ReplyDto>> getFirstReplyDtosByParentIds(
+            Collection<Long> parentIds,
+            MemberPrincipal principal,
+            int limitPerParent
+    ) {
+        if (parentIds.isEmpty() || limitPerParent <= 0) {
+            return Map.of();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(FIRST_REPLIES_QUERY, Object[].class)
+                .setParameter("parentIds", parentIds)
+                .setParameter("hidden", List.of(CommentStatus.DELETED, CommentStatus.ADMIN_DELETED))
+                .setParameter("limit", limitPerParent)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        Long principalId = principal != null ? principal.getId() : null;
+        boolean isAdmin = principal != null && principal.isAdmin();
+
+        //=== 좋아요 상태는 답글 전체를 모아 한 번에 ===//
+        List<Long> replyIds = rows.stream()
+                .map(row -> (Long) row[1])
+                .toList();
+
+        Map<Long, Tuple> likeMap = principalId == null ? Map.of() : queryFactory.select(
+                        replyLike.reply.id,
+                        replyLike.id,
+                        replyLike.isLiked
+                )
+                .from(replyLike)
+                .where(
+                        replyLike.reply.id.in(replyIds),
+                        replyLike.member.id.eq(principalId)
+                )
+                .fetch().stream()
+                .collect(Collectors.toMap(t -> t.get(replyLike.reply.id), t -> t, (a, b) -> a));
+
+        Map<Long, List<ReplyDto>> repliesByParentId = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long replyId = (Long) row[1];
+            Long authorId = (Long) row[4];
+            String listenerNickname = (String) row[9];
+            Tuple like = likeMap.get(replyId);
+
+            ReplyDto replyDto = ReplyDto.builder()
+                    .status((CommentStatus) row[2])
+                    .replyId(replyId)
+
+                    .canDeleteThis(Objects.equals(authorId, principalId) || isAdmin)
+
+                    .isLiked(like != null && Boolean.TRUE.equals(like.get(replyLike.isLiked)))
+                    .replyLikeId(like != null ? like.get(replyLike.id) : null)
+                    .likeCount((Integer) row[3])
+
+                    .authorId(authorId)
+                    .nickname((String) row[5])
+                    .profileImageUrl((String) row[6])
+                    .voteCount((Integer) row[7])
+
+                    .createdAt((LocalDateTime) row[8])
+                    .listenerNickname(listenerNickname == null ? "" : listenerNickname)
+                    .attachedImageUrl((String) row[10])
+                    .body((String) row[11])
+                    .build();
+
+            repliesByParentId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(replyDto);
+        }
+        return repliesByParentId;
+    }
 }
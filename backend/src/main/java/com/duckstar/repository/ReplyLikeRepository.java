@@ -4,9 +4,25 @@ import com.duckstar.domain.Member;
 import com.duckstar.domain.mapping.Reply;
 import com.duckstar.domain.mapping.ReplyLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ReplyLikeRepository extends JpaRepository<ReplyLike, Long> {
     Optional<ReplyLike> findByReplyAndMember(Reply reply, Member member);
+
+    /**
+     * 좋아요 상태를 바꾼 경우에만 1 (이미 그 상태면 0) - 카운터는 1 일 때만 증감
+     */
+    @Modifying
+    @Query("update ReplyLike l set l.isLiked = :liked, l.updatedAt = :now " +
+            "where l.id = :likeId and l.isLiked <> :liked")
+    int updateIsLiked(
+            @Param("likeId") Long likeId,
+            @Param("liked") boolean liked,
+            @Param("now") LocalDateTime now
+    );
 }
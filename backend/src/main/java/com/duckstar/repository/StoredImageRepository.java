@@ -0,0 +1,35 @@
+package com.duckstar.repository;
+
+import com.duckstar.domain.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+    Optional<StoredImage> findByContentHashAndVariant(String contentHash, String variant);
+
+    Optional<StoredImage> findByMainUrl(String mainUrl);
+
+    /**
+     * 행이 (아직) 있으면 1 - 마지막 참조 해제와 겹쳐 이미 지워졌으면 0
+     */
+    @Modifying
+    @Query("update StoredImage s set s.refCount = s.refCount + :delta, s.updatedAt = :now " +
+            "where s.id = :id")
+    int addRefCount(
+            @Param("id") Long id,
+            @Param("delta") int delta,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("select s.refCount from StoredImage s where s.id = :id")
+    Integer findRefCountById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from StoredImage s where s.id = :id and s.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
@@ -3,7 +3,11 @@ package com.duckstar.repository;
 import com.duckstar.domain.Survey;
 import com.duckstar.domain.enums.SurveyStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -11,4 +15,32 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
     List<Survey> findAllByStatus(SurveyStatus status);
 
     List<Survey> findAllByStatusIn(Collection<SurveyStatus> statuses);
-}
\ No newline at end of file
+
+    /**
+     * 시작 시각이 지난 서베이 일괄 전이 (from 상태인 것만)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Survey s set s.status = :to, s.updatedAt = :now " +
+            "where s.id in :ids and s.status = :from and s.startDateTime <= :dueBefore")
+    int transitionStarted(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") SurveyStatus from,
+            @Param("to") SurveyStatus to,
+            @Param("dueBefore") LocalDateTime dueBefore,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 종료 시각 기준으로 due 인 서베이 일괄 전이 (from 상태인 것만)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Survey s set s.status = :to, s.updatedAt = :now " +
+            "where s.id in :ids and s.status = :from and s.endDateTime <= :dueBefore")
+    int transitionEnded(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") SurveyStatus from,
+            @Param("to") SurveyStatus to,
+            @Param("dueBefore") LocalDateTime dueBefore,
+            @Param("now") LocalDateTime now
+    );
+}
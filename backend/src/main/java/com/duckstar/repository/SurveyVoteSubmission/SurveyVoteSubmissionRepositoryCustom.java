@@ -1,11 +1,14 @@
 package com.duckstar.repository.SurveyVoteSubmission;
 
 import com.duckstar.domain.mapping.surveyVote.SurveyVoteSubmission;
+import com.duckstar.service.SurveyVotedIndex.VotedSurveyRecord;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SurveyVoteSubmissionRepositoryCustom {
     Optional<SurveyVoteSubmission> findLocalSubmission(Long surveyId, String cookieId);
     Long getEligibleCountBySurveyId(Long surveyId, List<String> outlaws);
+    List<VotedSurveyRecord> findVotedSurveyRecords(Collection<String> principalKeys);
 }
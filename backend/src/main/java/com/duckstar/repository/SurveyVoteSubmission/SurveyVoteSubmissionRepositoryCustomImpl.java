@@ -2,10 +2,13 @@ package com.duckstar.repository.SurveyVoteSubmission;
 
 import com.duckstar.domain.mapping.surveyVote.QSurveyVoteSubmission;
 import com.duckstar.domain.mapping.surveyVote.SurveyVoteSubmission;
+import com.duckstar.service.SurveyVotedIndex.VotedSurveyRecord;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +48,18 @@ public class SurveyVoteSubmissionRepositoryCustomImpl implements SurveyVoteSubmi
                 )
                 .fetchOne();
     }
+
+    @Override
+    public List<VotedSurveyRecord> findVotedSurveyRecords(Collection<String> principalKeys) {
+        return queryFactory.select(
+                        Projections.constructor(
+                                VotedSurveyRecord.class,
+                                surveyVoteSubmission.principalKey,
+                                surveyVoteSubmission.survey.id
+                        )
+                )
+                .from(surveyVoteSubmission)
+                .where(surveyVoteSubmission.principalKey.in(principalKeys))
+                .fetch();
+    }
 }
@@ -2,6 +2,9 @@ package com.duckstar.repository.WeekVoteSubmission;
 
 import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +20,11 @@ public interface WeekVoteSubmissionRepository extends JpaRepository<WeekVoteSubm
     List<WeekVoteSubmission> findByIpHash(String ipHash);
 
     List<WeekVoteSubmission> findByWeek_IdAndIpHash(Long weekId, String ipHash);
+
+    /**
+     * 회원에게 이관이 끝난 비로그인 submission 삭제 (EpisodeStar 를 먼저 옮기거나 지운 뒤)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from WeekVoteSubmission s where s.id = :submissionId and s.member is null")
+    int deleteLocalSubmission(@Param("submissionId") Long submissionId);
 }
@@ -1,6 +1,7 @@
 package com.duckstar.repository.WeekVoteSubmission;
 
 import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
+import com.duckstar.service.VoteService.WeekVoteStateCache.VoteStateRecord;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +14,6 @@ public interface WeekVoteSubmissionRepositoryCustom {
     List<SubmissionCountDto> getSubmissionCountDtos(int offset, int limit);
 
     List<EpisodeStarDto> getEpisodeStarDtosByWeekIdAndIpHash(Long weekId, String ipHash);
+
+    List<VoteStateRecord> getVoteStateRecords(Long weekId, String principalKey);
 }
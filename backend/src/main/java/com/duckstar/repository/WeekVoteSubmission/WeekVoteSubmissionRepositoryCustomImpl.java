@@ -5,6 +5,7 @@ import com.duckstar.domain.mapping.weeklyVote.QEpisodeStar;
 import com.duckstar.domain.mapping.weeklyVote.QWeekVoteSubmission;
 import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
 import com.duckstar.security.domain.QShadowBan;
+import com.duckstar.service.VoteService.WeekVoteStateCache.VoteStateRecord;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -81,4 +82,26 @@ public class WeekVoteSubmissionRepositoryCustomImpl implements WeekVoteSubmissio
                 .orderBy(episodeStar.updatedAt.desc())
                 .fetch();
     }
+
+    @Override
+    public List<VoteStateRecord> getVoteStateRecords(Long weekId, String principalKey) {
+        // 제출: idx_submission_wp (week_id, principal_key) -> 별점: idx_episode_star_s (submission_id)
+        return queryFactory.select(
+                        Projections.constructor(
+                                VoteStateRecord.class,
+                                weekVoteSubmission.id,
+                                weekVoteSubmission.isBlocked,
+                                episodeStar.episode.id,
+                                episodeStar.id,
+                                episodeStar.starScore
+                        )
+                )
+                .from(weekVoteSubmission)
+                .leftJoin(episodeStar).on(episodeStar.weekVoteSubmission.id.eq(weekVoteSubmission.id))
+                .where(
+                        weekVoteSubmission.week.id.eq(weekId),
+                        weekVoteSubmission.principalKey.eq(principalKey)
+                )
+                .fetch();
+    }
 }
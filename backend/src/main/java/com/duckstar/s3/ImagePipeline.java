@@ -0,0 +1,312 @@
+package com.duckstar.s3;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import com.duckstar.s3.StoredImageIndex.StoredVariants;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 처리 파이프라인
+ *
+ *  요청 스레드: 크기/형식 검증, 헤더만 읽어 해상도 확인, key 할당 후 바로 URL 반환
+ *  워커 스레드: 한 번 디코딩해서 WebP 본 이미지 + 썸네일 생성 -> 두 파일 병렬 업로드
+ *
+ *  - 워커 큐가 가득 차면 요청 단계에서 IMAGE_PIPELINE_BUSY (503)
+ *  - 트랜잭션 안에서 호출되면 커밋 후에 처리 시작 (롤백 시 업로드 X)
+ *  - 같은 원본 + 같은 프로필을 이미 올렸으면 (StoredImageIndex) 처리 없이 그 URL 재사용
+ *    새 원본은 key 를 원본 해시로 정하고, 업로드가 끝나면 색인에 등록
+ *  - 저장소는 ImageStorage (S3 / 로컬 파일 시스템)
+ */
+@Slf4j
+@Component
+public class ImagePipeline {
+
+    private static final long MAX_FILE_SIZE = 20 * 1024 * 1024;
+    private static final int MAX_RESOLUTION = 4096;
+
+    private static final List<String> ALLOWED_EXT = List.of("jpg", "jpeg", "png", "gif", "webp");
+    private static final List<String> ALLOWED_MIME = List.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+    private static final String WEBP = "image/webp";
+    private static final String GIF = "image/gif";
+
+    private final ImageStorage imageStorage;
+    private final StoredImageIndex storedImageIndex;
+
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService uploaders;
+
+    public enum ImageProfile {
+        /**
+         * 프로필 사진 - GIF 는 첫 프레임만 (WebP 변환)
+         */
+        PROFILE(160, false),
+
+        /**
+         * 댓글/답글 첨부 - GIF 는 원본 그대로 (움짤 유지), 썸네일만 WebP
+         */
+        COMMENT(640, true);
+
+        private final int thumbnailWidth;
+        private final boolean keepGif;
+
+        ImageProfile(int thumbnailWidth, boolean keepGif) {
+            this.thumbnailWidth = thumbnailWidth;
+            this.keepGif = keepGif;
+        }
+    }
+
+    /**
+     * 할당된 key 의 URL 과 처리 완료 시점
+     */
+    public record ImageUpload(
+            String url,
+            String thumbnailUrl,
+            CompletableFuture<Void> completion
+    ) {}
+
+    private record ImageJob(
+            byte[] content,
+            String contentHash,
+            boolean isGif,
+            ImageProfile profile,
+            String key,
+            String thumbnailKey,
+            CompletableFuture<Void> completion
+    ) {}
+
+    public ImagePipeline(
+            ImageStorage imageStorage,
+            StoredImageIndex storedImageIndex,
+            @Value("${app.image.pipeline.workers:2}") int workerCount,
+            @Value("${app.image.pipeline.queue-capacity:16}") int queueCapacity,
+            @Value("${app.image.pipeline.uploaders:4}") int uploaderCount
+    ) {
+        this.imageStorage = imageStorage;
+        this.storedImageIndex = storedImageIndex;
+
+        // 커밋 후 제출 시점에 큐가 차 있으면 제출한 스레드에서 처리 (이미 커밋되어 버릴 수 없음)
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreads("image-worker-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.uploaders = Executors.newFixedThreadPool(uploaderCount, namedThreads("image-upload-"));
+    }
+
+    public ImageUpload submit(MultipartFile file, String dir, ImageProfile profile) {
+        validateFile(file);
+
+        // 큐가 가득 차면 바이트를 읽기 전에 거절 (backpressure)
+        if (workers.getQueue().remainingCapacity() == 0) {
+            throw new ImageHandler(ErrorStatus.IMAGE_PIPELINE_BUSY);
+        }
+
+        // 요청이 끝나면 멀티파트 임시 파일이 지워지므로 바이트로 들고 감
+        byte[] content;
+        try {
+            content = file.getBytes();
+        } catch (IOException e) {
+            throw new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE);
+        }
+
+        String format = validateHeader(content);
+        boolean isGif = "gif".equals(format);
+
+        // 이미 올린 원본이면 참조만 +1 (호출한 트랜잭션이 롤백되면 같이 취소)
+        String contentHash = StoredImageIndex.hash(content);
+        Optional<StoredVariants> stored = storedImageIndex.acquire(contentHash, profile.name());
+        if (stored.isPresent()) {
+            return new ImageUpload(
+                    stored.get().mainUrl(), stored.get().thumbUrl(), CompletableFuture.completedFuture(null));
+        }
+
+        String id = dir + "/" + contentHash;
+        String key = id + (isGif && profile.keepGif ? ".gif" : ".webp");
+        String thumbnailKey = id + "_thumb.webp";
+
+        ImageJob job = new ImageJob(content, contentHash, isGif, profile, key, thumbnailKey, new CompletableFuture<>());
+        dispatchAfterCommit(job);
+
+        return new ImageUpload(imageStorage.urlOf(key), imageStorage.urlOf(thumbnailKey), job.completion());
+    }
+
+    /**
+     * 파이프라인으로 올린 이미지 참조 해제 - 마지막 참조면 삭제 (트랜잭션 안이면 커밋 후)
+     */
+    public void delete(String url) {
+        if (!storedImageIndex.release(url)) {
+            return;
+        }
+
+        Runnable task = () -> {
+            imageStorage.delete(url);
+            if (url.endsWith(".webp") || url.endsWith(".gif")) {
+                imageStorage.delete(FilenameUtils.removeExtension(url) + "_thumb.webp");
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    uploaders.execute(task);
+                }
+            });
+        } else {
+            uploaders.execute(task);
+        }
+    }
+
+    private void dispatchAfterCommit(ImageJob job) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    workers.execute(() -> process(job));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        job.completion().cancel(false);
+                    }
+                }
+            });
+        } else {
+            workers.execute(() -> process(job));
+        }
+    }
+
+    private void process(ImageJob job) {
+        try {
+            // 한 번만 디코딩 (GIF 는 첫 프레임)
+            ImmutableImage image = ImmutableImage.loader().fromBytes(job.content());
+
+            WebpWriter writer = WebpWriter.DEFAULT.withQ(80);
+
+            CompletableFuture<Void> main;
+            if (job.isGif() && job.profile().keepGif) {
+                main = upload(job.key(), job.content(), GIF);
+            } else {
+                main = upload(job.key(), image.bytes(writer), WEBP);
+            }
+
+            ImmutableImage thumbnail = image.width > job.profile().thumbnailWidth ?
+                    image.scaleToWidth(job.profile().thumbnailWidth) :
+                    image;
+            CompletableFuture<Void> thumb = upload(job.thumbnailKey(), thumbnail.bytes(writer), WEBP);
+
+            CompletableFuture.allOf(main, thumb).whenComplete((v, e) -> {
+                if (e != null) {
+                    fail(job, e);
+                } else {
+                    storedImageIndex.register(job.contentHash(), job.profile().name(),
+                            imageStorage.urlOf(job.key()), imageStorage.urlOf(job.thumbnailKey()));
+                    job.completion().complete(null);
+                }
+            });
+        } catch (Exception e) {
+            fail(job, e);
+        }
+    }
+
+    private CompletableFuture<Void> upload(String key, byte[] content, String contentType) {
+        return CompletableFuture.runAsync(() -> imageStorage.put(key, content, contentType), uploaders);
+    }
+
+    private void fail(ImageJob job, Throwable e) {
+        log.error("❌ 이미지 처리 실패 - key: {}", job.key(), e);
+        job.completion().completeExceptionally(e);
+    }
+
+    private void validateFile(MultipartFile file) {
+        // 파일 크기 검증 (20MB)
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new ImageHandler(ErrorStatus.FILE_SIZE_EXCEEDED);
+        }
+
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE);
+        }
+
+        String ext = FilenameUtils.getExtension(file.getOriginalFilename());
+        boolean validExt = ext != null && ALLOWED_EXT.contains(ext.toLowerCase(Locale.ROOT));
+        boolean validMime = ALLOWED_MIME.contains(contentType);
+
+        if (!validExt || !validMime) {
+            throw new ImageHandler(ErrorStatus.UNSUPPORTED_IMAGE_EXTENSION);
+        }
+    }
+
+    /**
+     * 헤더만 읽어 실제 형식과 해상도 확인 (픽셀 디코딩 X)
+     * @return 실제 이미지 형식 (소문자)
+     */
+    private String validateHeader(byte[] content) {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                throw new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 해상도 검증 (최대 4096x4096)
+                if (width > MAX_RESOLUTION || height > MAX_RESOLUTION) {
+                    throw new ImageHandler(ErrorStatus.IMAGE_RESOLUTION_TOO_HIGH);
+                }
+                return reader.getFormatName().toLowerCase(Locale.ROOT);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        uploaders.shutdown();
+        uploaders.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
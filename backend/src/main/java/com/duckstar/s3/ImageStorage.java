@@ -0,0 +1,22 @@
+package com.duckstar.s3;
+
+/**
+ * 이미지 저장소 - 운영은 S3, 로컬/테스트는 파일 시스템 (app.image.storage)
+ */
+public interface ImageStorage {
+
+    /**
+     * key 위치에 저장
+     */
+    void put(String key, byte[] content, String contentType);
+
+    /**
+     * key 의 공개 URL (저장 전에도 계산 가능)
+     */
+    String urlOf(String key);
+
+    /**
+     * 이 저장소의 URL 이 아니면 무시
+     */
+    void delete(String url);
+}
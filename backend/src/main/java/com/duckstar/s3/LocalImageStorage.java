@@ -0,0 +1,76 @@
+package com.duckstar.s3;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 파일 시스템 저장소 (로컬 개발 / 테스트용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.image.storage", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalImageStorage(
+            @Value("${app.image.local.root:build/images}") String root,
+            @Value("${app.image.local.base-url:http://localhost:8080/images}") String baseUrl
+    ) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+
+            // 쓰는 중인 파일이 보이지 않도록 임시 파일에 쓰고 이동
+            Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("❌ 로컬 이미지 저장 실패 - key: {}", key, e);
+            throw new ImageHandler(ErrorStatus.S3_FILE_UPLOAD_FAILURE);
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public void delete(String url) {
+        String prefix = baseUrl + "/";
+        if (url == null || !url.startsWith(prefix)) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(resolve(url.substring(prefix.length())));
+        } catch (IOException e) {
+            log.warn("로컬 이미지 삭제 실패 - url: {}", url, e);
+        }
+    }
+
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new ImageHandler(ErrorStatus.INVALID_S3_IMAGE_URL);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,56 @@
+package com.duckstar.s3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+@Component
+@ConditionalOnProperty(name = "app.image.storage", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+public class S3ImageStorage implements ImageStorage {
+
+    private final S3Client s3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .cacheControl("public, max-age=31536000")
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .build(),
+                RequestBody.fromBytes(content)
+        );
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return "https://" + bucket + "/" + key;
+    }
+
+    @Override
+    public void delete(String url) {
+        String bucketUrl = "https://" + bucket + "/";
+        if (url == null || !url.startsWith(bucketUrl)) {
+            return;
+        }
+
+        s3Client.deleteObject(
+                DeleteObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(url.substring(bucketUrl.length()))
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package com.duckstar.s3;
+
+import com.duckstar.domain.StoredImage;
+import com.duckstar.repository.StoredImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 원본 해시 -> 변환/업로드된 이미지 색인 (StoredImage)
+ *
+ *  - 변환 전에 원본 바이트 해시로 찾아서 있으면 변환, 업로드 모두 생략하고 URL 재사용
+ *  - 새로 올리는 객체 key 는 해시로 정함 (같은 원본을 동시에 올려도 같은 객체를 같은 바이트로 덮어씀)
+ *  - refCount 로 참조 수 관리 -> 마지막 참조가 풀릴 때만 객체 삭제
+ *  - 해시 도입 전에 올린 객체 (색인에 없는 URL) 는 예전처럼 바로 삭제 대상
+ */
+@Slf4j
+@Component
+public class StoredImageIndex {
+
+    // 애니 / 후보 메인 이미지: 최대 2048px WebP + 640px 썸네일
+    public static final String KEY_VISUAL = "KEY_VISUAL";
+    // 캐릭터: 본 이미지, 썸네일 각각 원본에서 변환
+    public static final String CHARACTER = "CHARACTER";
+
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private final StoredImageRepository storedImageRepository;
+
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate newTransaction;
+
+    public record StoredVariants(String mainUrl, String thumbUrl) {}
+
+    public StoredImageIndex(
+            StoredImageRepository storedImageRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.storedImageRepository = storedImageRepository;
+
+        // 호출한 트랜잭션이 있으면 참여 (롤백되면 참조 증감도 취소)
+        this.transaction = new TransactionTemplate(transactionManager);
+
+        // 등록은 유니크 충돌이 호출한 트랜잭션을 롤백 전용으로 만들지 않도록 따로
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param sources 원본 바이트 (캐릭터처럼 본 이미지, 썸네일 원본이 따로면 순서대로 - null 가능)
+     * @return sha-256 hex
+     */
+    public static String hash(byte[]... sources) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (byte[] source : sources) {
+            // 길이를 먼저 넣어서 (a, bc) 와 (ab, c) 가 같은 해시가 되지 않도록
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(source == null ? -1 : source.length).array());
+            if (source != null) {
+                digest.update(source);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 같은 원본의 변환 결과가 있으면 참조 +1 후 URL 반환
+     */
+    public Optional<StoredVariants> acquire(String contentHash, String variant) {
+        return transaction.execute(status ->
+                storedImageRepository.findByContentHashAndVariant(contentHash, variant)
+                        // 마지막 참조 해제와 겹쳐 방금 지워졌으면 없는 것으로
+                        .filter(image -> storedImageRepository.addRefCount(image.getId(), 1, LocalDateTime.now()) == 1)
+                        .map(image -> new StoredVariants(image.getMainUrl(), image.getThumbUrl())));
+    }
+
+    /**
+     * 이미 있는 이미지 URL 을 다른 행이 복사해 쓸 때 참조 +1 (색인에 없는 URL 이면 무시)
+     */
+    public void acquireUrl(String mainUrl) {
+        if (mainUrl == null) {
+            return;
+        }
+        transaction.executeWithoutResult(status ->
+                storedImageRepository.findByMainUrl(mainUrl).ifPresent(image ->
+                        storedImageRepository.addRefCount(image.getId(), 1, LocalDateTime.now())));
+    }
+
+    /**
+     * 새로 업로드한 결과 등록 (참조 1) - 같은 원본이 먼저 등록됐으면 그쪽 참조 +1
+     *  - 업로드가 끝난 뒤에만 호출 (색인에 있으면 객체가 있다는 보장)
+     *  - 별도 트랜잭션이라 호출한 쪽이 롤백돼도 남음 -> 참조가 하나 더 세어질 뿐 객체가 지워지진 않음
+     */
+    public void register(String contentHash, String variant, String mainUrl, String thumbUrl) {
+        for (int attempt = 1; attempt <= MAX_REGISTER_ATTEMPTS; attempt++) {
+            try {
+                newTransaction.executeWithoutResult(status ->
+                        storedImageRepository.save(StoredImage.create(contentHash, variant, mainUrl, thumbUrl)));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 원본을 올린 쪽이 먼저 등록
+                Boolean acquired = newTransaction.execute(status ->
+                        storedImageRepository.findByContentHashAndVariant(contentHash, variant)
+                                .map(image -> storedImageRepository.addRefCount(image.getId(), 1, LocalDateTime.now()) == 1)
+                                .orElse(false));
+                if (Boolean.TRUE.equals(acquired)) {
+                    return;
+                }
+            }
+        }
+        log.warn("이미지 색인 등록 실패 - hash: {}, variant: {}", contentHash, variant);
+    }
+
+    /**
+     * 참조 -1
+     * @return 객체를 지워도 되면 true (마지막 참조였거나 색인에 없는 URL)
+     */
+    public boolean release(String mainUrl) {
+        if (mainUrl == null) {
+            return false;
+        }
+
+        Boolean deletable = transaction.execute(status -> {
+            Optional<StoredImage> image = storedImageRepository.findByMainUrl(mainUrl);
+            if (image.isEmpty()) {
+                return true;
+            }
+
+            Long id = image.get().getId();
+            storedImageRepository.addRefCount(id, -1, LocalDateTime.now());
+            return storedImageRepository.deleteIfUnreferenced(id) == 1;
+        });
+        return Boolean.TRUE.equals(deletable);
+    }
+}
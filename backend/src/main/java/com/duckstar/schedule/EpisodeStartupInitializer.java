@@ -1,6 +1,8 @@
 package com.duckstar.schedule;
 
-import com.duckstar.service.EpisodeService.EpisodeCommandService;
+import com.duckstar.domain.Week;
+import com.duckstar.service.CommentCounter;
+import com.duckstar.service.VoteService.VoteCommandService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
@@ -14,19 +16,36 @@ import java.time.LocalDateTime;
 @Profile("!test")
 public class EpisodeStartupInitializer {
 
-    private final EpisodeCommandService episodeCommandService;
+    private final EpisodeTransitionScheduler episodeTransitionScheduler;
     private final ScheduleHandler scheduleHandler;
+    private final VoteCommandService voteCommandService;
+    private final CommentCounter commentCounter;
 
     @EventListener(ApplicationReadyEvent.class)
     public void onReady() {
-        episodeCommandService.updateAllEpisodeStates();
+        // 상태가 바뀔 수 있는 에피소드만 전이 예약 (지난 전이는 첫 틱에 따라잡음)
+        episodeTransitionScheduler.reload();
 
         // 이번 주 Week 없다면 생성
         LocalDateTime now = LocalDateTime.now();
-        scheduleHandler.getSafeWeekByTime(now);
+        Week currentWeek = scheduleHandler.getSafeWeekByTime(now);
 
         // 지난 주 Week 없다면 생성
         LocalDateTime nowMinusWeek = LocalDateTime.now().minusWeeks(1);
-        scheduleHandler.getSafeWeekByTime(nowMinusWeek);
+        Week lastWeek = scheduleHandler.getSafeWeekByTime(nowMinusWeek);
+
+        //=== 별점 집계 복구 ===//
+        // StarTallyBuffer 에서 반영되지 못한 델타가 있을 수 있으므로 EpisodeStar 기준 재집계
+        // (발표 준비된 주차는 차트 집계 값이 확정이므로 제외)
+        voteCommandService.refreshEpisodeStatsByWeekId(currentWeek.getId());
+        if (!lastWeek.getAnnouncePrepared()) {
+            voteCommandService.refreshEpisodeStatsByWeekId(lastWeek.getId());
+        }
+
+        //=== 댓글 수 카운터 복구 ===//
+        // 새로 생긴 카운터 컬럼 채우기 + 재시작 전 어긋난 값 보정 - 기동을 막지 않도록 별도 스레드에서
+        Thread reconciler = new Thread(commentCounter::reconcileAll, "comment-count-reconcile");
+        reconciler.setDaemon(true);
+        reconciler.start();
     }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.duckstar.schedule;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.enums.AnimeStatus;
+import com.duckstar.domain.enums.EpEvaluateState;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.service.AnimeHomeCache;
+import com.duckstar.service.AnimeHomeCache.Section;
+import com.duckstar.service.ScheduleReadModel;
+import com.duckstar.service.VoteService.LiveCandidateReadModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.duckstar.util.QuarterUtil.getThisWeekStartedAt;
+
+/**
+ * 에피소드 상태 전이 스케줄러 (delay queue)
+ *
+ *  - 상태가 아직 바뀔 수 있는 에피소드(CLOSED, VOTING_WINDOW)만 조회해서
+ *    다음 전이 시각을 메모리 큐에 올려 둔다.
+ *      방영 시작(scheduledAt)      : CLOSED -> VOTING_WINDOW, 첫 화면 애니 UPCOMING -> NOW_SHOWING
+ *      방영 종료(+24분)            : 마지막 화면 애니 NOW_SHOWING -> ENDED
+ *      실시간 투표 종료(+36시간)    : VOTING_WINDOW -> LOGIN_REQUIRED
+ *  - 큐 머리만 보고 due 인 전이가 있을 때만 DB 에 접근해 한 트랜잭션으로 반영한다.
+ *  - 큐는 이번 주 + 다음 주(주차 마감 기준)까지만 담고, 새 주차 시작 / 에피소드 편집 시 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EpisodeTransitionScheduler {
+
+    private static final int PREMIERE_MINUTES = 24;
+    private static final int LIVE_VOTE_HOURS = 36;
+
+    private final EpisodeRepository episodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleReadModel scheduleReadModel;
+    private final AnimeHomeCache animeHomeCache;
+    private final LiveCandidateReadModel liveCandidateReadModel;
+
+    private final NavigableSet<EpisodeTransition> queue = new ConcurrentSkipListSet<>();
+
+    public enum TransitionType {
+        PREMIERE_START,
+        PREMIERE_END,
+        LIVE_VOTE_END
+    }
+
+    public record EpisodeTransitionRecord(
+            Long episodeId,
+            LocalDateTime scheduledAt,
+            EpEvaluateState evaluateState,
+            Boolean isLastEpisode
+    ) {}
+
+    public record EpisodeTransition(
+            LocalDateTime dueAt,
+            Long episodeId,
+            TransitionType type
+    ) implements Comparable<EpisodeTransition> {
+
+        private static final Comparator<EpisodeTransition> ORDER = Comparator
+                .comparing(EpisodeTransition::dueAt)
+                .thenComparing(EpisodeTransition::episodeId)
+                .thenComparing(EpisodeTransition::type);
+
+        @Override
+        public int compareTo(EpisodeTransition o) {
+            return ORDER.compare(this, o);
+        }
+    }
+
+    /**
+     * 전이 대상 다시 채우기 (기동 시, 새 주차 시작 시)
+     */
+    public synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = getThisWeekStartedAt(now).plusWeeks(2);
+
+        List<EpisodeTransitionRecord> records = episodeRepository.findTransitionRecordsBefore(horizon);
+
+        List<EpisodeTransition> transitions = new ArrayList<>();
+        for (EpisodeTransitionRecord record : records) {
+            LocalDateTime scheduledAt = record.scheduledAt();
+
+            if (record.evaluateState() == EpEvaluateState.CLOSED) {
+                transitions.add(new EpisodeTransition(
+                        scheduledAt, record.episodeId(), TransitionType.PREMIERE_START));
+            }
+            if (Boolean.TRUE.equals(record.isLastEpisode())) {
+                transitions.add(new EpisodeTransition(
+                        scheduledAt.plusMinutes(PREMIERE_MINUTES), record.episodeId(), TransitionType.PREMIERE_END));
+            }
+            transitions.add(new EpisodeTransition(
+                    scheduledAt.plusHours(LIVE_VOTE_HOURS), record.episodeId(), TransitionType.LIVE_VOTE_END));
+        }
+
+        queue.clear();
+        queue.addAll(transitions);
+
+        // 일정 편집, 임포트, 새 주차 -> 투표 후보도 다시
+        liveCandidateReadModel.invalidate();
+
+        log.info("에피소드 상태 전이 예약 - 에피소드 {}건, 전이 {}건, 다음: {}",
+                records.size(), transitions.size(), queue.isEmpty() ? null : queue.first().dueAt());
+    }
+
+    /**
+     * 에피소드 일정 편집 후 호출 - 커밋 후 큐 다시 채우기
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.episode.transition-tick-ms:1000}")
+    public void tick() {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (queue.first().dueAt().isAfter(now)) {
+            return;
+        }
+
+        List<EpisodeTransition> due = new ArrayList<>();
+        EpisodeTransition head;
+        while ((head = queue.pollFirst()) != null) {
+            if (head.dueAt().isAfter(now)) {
+                queue.add(head);
+                break;
+            }
+            due.add(head);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                apply(due, now);
+                liveCandidateReadModel.invalidate();
+            });
+        } catch (RuntimeException e) {
+            // 다음 틱에 다시 시도
+            log.error("❌ 에피소드 상태 전이 실패 - {}", due, e);
+            queue.addAll(due);
+        }
+    }
+
+    private void apply(List<EpisodeTransition> due, LocalDateTime now) {
+        Set<Long> episodeIds = due.stream()
+                .map(EpisodeTransition::episodeId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Episode> episodeMap = episodeRepository.findAllWithAnimeByIdIn(episodeIds).stream()
+                .collect(Collectors.toMap(Episode::getId, Function.identity()));
+
+        // due 는 시각 순서이므로 같은 에피소드의 시작 -> 종료 순서가 지켜짐
+        for (EpisodeTransition transition : due) {
+            Episode episode = episodeMap.get(transition.episodeId());
+            // 예약 이후 삭제 / 휴방 처리된 에피소드
+            if (episode == null || episode.isBreak()) {
+                continue;
+            }
+
+            Anime anime = episode.getAnime();
+            switch (transition.type()) {
+                case PREMIERE_START -> {
+                    // 예약 이후 뒤로 미뤄진 에피소드
+                    if (episode.getScheduledAt().isAfter(now)) {
+                        continue;
+                    }
+
+                    if (episode.getEvaluateState() == EpEvaluateState.CLOSED) {
+                        episode.setEvaluateState(EpEvaluateState.VOTING_WINDOW);
+                    }
+
+                    // 방영 상태 체크
+                    boolean isFirstEpisode = Objects.equals(episode.getScheduledAt(), anime.getPremiereDateTime());
+                    if (anime.getStatus() == AnimeStatus.UPCOMING && isFirstEpisode) {
+                        anime.setStatus(AnimeStatus.NOW_SHOWING);
+                        scheduleReadModel.invalidateAnime(anime.getId());
+                        animeHomeCache.invalidate(anime.getId(), Section.INFO);
+
+                        // AnimeCandidate 합류 로직 등 .. 추후 필요할 때 구현
+                    }
+                }
+                case PREMIERE_END -> {
+                    // 방영 상태 체크
+                    if (anime.getStatus() == AnimeStatus.NOW_SHOWING && episode.getIsLastEpisode()
+                            && !episode.getScheduledAt().plusMinutes(PREMIERE_MINUTES).isAfter(now)) {
+                        anime.setStatus(AnimeStatus.ENDED);
+                        scheduleReadModel.invalidateAnime(anime.getId());
+                        animeHomeCache.invalidate(anime.getId(), Section.INFO);
+                    }
+                }
+                case LIVE_VOTE_END -> {
+                    if (episode.getEvaluateState() == EpEvaluateState.VOTING_WINDOW
+                            && !episode.getScheduledAt().plusHours(LIVE_VOTE_HOURS).isAfter(now)) {
+                        episode.setEvaluateState(EpEvaluateState.LOGIN_REQUIRED);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,9 +2,7 @@ package com.duckstar.schedule;
 
 import com.duckstar.domain.Quarter;
 import com.duckstar.domain.Week;
-import com.duckstar.service.AnimeService.AnimeCommandService;
 import com.duckstar.service.QuarterService;
-import com.duckstar.service.SurveyService;
 import com.duckstar.service.WeekService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,20 +23,14 @@ public class ScheduleHandler {
     private static final int ANCHOR_HOUR = 18;
 
     private final WeekService weekService;
-    private final AnimeCommandService animeCommandService;
-    private final SurveyService surveyService;
+    private final EpisodeTransitionScheduler episodeTransitionScheduler;
+    private final SurveyTransitionScheduler surveyTransitionScheduler;
     private final QuarterService quarterService;
 
-    // 매 분마다 시작 or 종영 체크
-    @Scheduled(cron = "0 * * * * *")
-    public void checkAnimeStatus() {
-        animeCommandService.updateStatesByWindows();
-    }
-
-    // ⚠️확장할 때 주의 : 매 1시간마다 서베이 상태 체크
+    // 매 1시간마다 서베이 전이 예약 다시 채우기 (전이 자체는 SurveyTransitionScheduler 가 정각에 반영)
     @Scheduled(cron = "0 0 * * * *")
     public void checkSurveyStatus() {
-        surveyService.updateStatus();
+        surveyTransitionScheduler.reload();
     }
 
     // 매주 월요일 18시
@@ -49,6 +41,9 @@ public class ScheduleHandler {
 
         // 새로운 주 생성
         getSafeWeekByTime(nowWithAnchorHour);
+
+        // 주차 마감 기준으로 에피소드 상태 전이 다시 예약
+        episodeTransitionScheduler.reload();
     }
 
     // 파사드
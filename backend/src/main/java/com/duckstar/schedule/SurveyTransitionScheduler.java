@@ -0,0 +1,174 @@
+package com.duckstar.schedule;
+
+import com.duckstar.domain.Survey;
+import com.duckstar.domain.enums.SurveyStatus;
+import com.duckstar.repository.SurveyRepository;
+import com.duckstar.service.SurveyReadModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * 서베이 상태 전이 스케줄러 (delay queue)
+ *
+ *  - 아직 상태가 바뀔 수 있는 서베이(NOT_YET, OPEN, CLOSED)의 전이 시각을 메모리 큐에 올려 둔다.
+ *      시작(startDateTime)        : NOT_YET -> OPEN
+ *      종료(endDateTime)          : OPEN -> CLOSED
+ *      결과 공개(종료 +18시간)     : CLOSED -> RESULT_OPEN
+ *  - due 인 전이가 있을 때만 한 트랜잭션에서 bulk UPDATE 로 반영하고, 커밋 후 SurveyReadModel 에 밀어 넣는다.
+ *  - DB 에서 직접 일정이 바뀌는 경우 대비로 매시 정각 다시 채운다. (ScheduleHandler)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyTransitionScheduler {
+
+    private static final int RESULT_OPEN_HOURS = 18;
+
+    private final SurveyRepository surveyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SurveyReadModel surveyReadModel;
+
+    private final NavigableSet<SurveyTransition> queue = new ConcurrentSkipListSet<>();
+
+    public record SurveyTransition(
+            LocalDateTime dueAt,
+            Long surveyId,
+            SurveyStatus to
+    ) implements Comparable<SurveyTransition> {
+
+        private static final Comparator<SurveyTransition> ORDER = Comparator
+                .comparing(SurveyTransition::dueAt)
+                .thenComparing(SurveyTransition::surveyId)
+                .thenComparing(SurveyTransition::to);
+
+        @Override
+        public int compareTo(SurveyTransition o) {
+            return ORDER.compare(this, o);
+        }
+    }
+
+    /**
+     * 전이 대상 다시 채우기 (기동 시, 매시 정각) - 지난 전이는 첫 틱에 따라잡음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        List<Survey> surveys = surveyRepository.findAllByStatusIn(
+                List.of(SurveyStatus.NOT_YET, SurveyStatus.OPEN, SurveyStatus.CLOSED));
+
+        List<SurveyTransition> transitions = new ArrayList<>();
+        for (Survey survey : surveys) {
+            LocalDateTime start = survey.getStartDateTime();
+            LocalDateTime end = survey.getEndDateTime();
+
+            if (survey.getStatus() == SurveyStatus.NOT_YET && start != null) {
+                transitions.add(new SurveyTransition(start, survey.getId(), SurveyStatus.OPEN));
+            }
+            if (end == null) {
+                continue;
+            }
+            if (survey.getStatus() != SurveyStatus.CLOSED) {
+                transitions.add(new SurveyTransition(end, survey.getId(), SurveyStatus.CLOSED));
+            }
+            transitions.add(new SurveyTransition(
+                    end.plusHours(RESULT_OPEN_HOURS), survey.getId(), SurveyStatus.RESULT_OPEN));
+        }
+
+        queue.clear();
+        queue.addAll(transitions);
+
+        surveyReadModel.reload();
+
+        log.info("서베이 상태 전이 예약 - 서베이 {}건, 전이 {}건, 다음: {}",
+                surveys.size(), transitions.size(), queue.isEmpty() ? null : queue.first().dueAt());
+    }
+
+    @Scheduled(fixedDelayString = "${app.survey.transition-tick-ms:1000}")
+    public void tick() {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (queue.first().dueAt().isAfter(now)) {
+            return;
+        }
+
+        List<SurveyTransition> due = new ArrayList<>();
+        SurveyTransition head;
+        while ((head = queue.pollFirst()) != null) {
+            if (head.dueAt().isAfter(now)) {
+                queue.add(head);
+                break;
+            }
+            due.add(head);
+        }
+
+        Map<Long, SurveyStatus> changes;
+        try {
+            changes = transactionTemplate.execute(status -> apply(due, now));
+        } catch (RuntimeException e) {
+            // 다음 틱에 다시 시도
+            log.error("❌ 서베이 상태 전이 실패 - {}", due, e);
+            queue.addAll(due);
+            return;
+        }
+
+        // execute 가 끝났으면 커밋된 상태
+        if (changes != null) {
+            surveyReadModel.applyStatusChanges(changes);
+        }
+    }
+
+    private Map<Long, SurveyStatus> apply(List<SurveyTransition> due, LocalDateTime now) {
+        Map<SurveyStatus, Set<Long>> idsByTarget = due.stream()
+                .collect(Collectors.groupingBy(
+                        SurveyTransition::to,
+                        () -> new EnumMap<>(SurveyStatus.class),
+                        Collectors.mapping(SurveyTransition::surveyId, Collectors.toSet())
+                ));
+
+        // 시작 -> 종료 -> 결과 공개 순서로 실행해서 밀린 전이는 한 틱에 여러 단계 진행
+        // 시각 조건을 다시 걸어 예약 이후 일정이 미뤄진 서베이는 건너뜀
+        int updated = 0;
+
+        Set<Long> openIds = idsByTarget.get(SurveyStatus.OPEN);
+        if (openIds != null) {
+            updated += surveyRepository.transitionStarted(
+                    openIds, SurveyStatus.NOT_YET, SurveyStatus.OPEN, now, now);
+        }
+
+        Set<Long> closeIds = idsByTarget.get(SurveyStatus.CLOSED);
+        if (closeIds != null) {
+            updated += surveyRepository.transitionEnded(
+                    closeIds, SurveyStatus.OPEN, SurveyStatus.CLOSED, now, now);
+        }
+
+        Set<Long> resultOpenIds = idsByTarget.get(SurveyStatus.RESULT_OPEN);
+        if (resultOpenIds != null) {
+            updated += surveyRepository.transitionEnded(
+                    resultOpenIds, SurveyStatus.CLOSED, SurveyStatus.RESULT_OPEN,
+                    now.minusHours(RESULT_OPEN_HOURS), now);
+        }
+
+        if (updated == 0) {
+            return Map.of();
+        }
+
+        Set<Long> surveyIds = due.stream()
+                .map(SurveyTransition::surveyId)
+                .collect(Collectors.toSet());
+
+        return surveyRepository.findAllById(surveyIds).stream()
+                .collect(Collectors.toMap(Survey::getId, Survey::getStatus));
+    }
+}
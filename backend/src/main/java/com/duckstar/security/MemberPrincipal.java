@@ -32,6 +32,14 @@ public class MemberPrincipal implements OAuth2User {
         );
     }
 
+    // 서명 검증된 토큰 claim 으로 생성 (DB 조회 X)
+    public static MemberPrincipal of(Long memberId, Role role) {
+        return new MemberPrincipal(
+                memberId,
+                createAuthorities(role)
+        );
+    }
+
     private static List<GrantedAuthority> createAuthorities(Role role) {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
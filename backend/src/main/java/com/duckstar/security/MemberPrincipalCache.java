@@ -0,0 +1,106 @@
+package com.duckstar.security;
+
+import com.duckstar.security.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * memberId -> MemberPrincipal 짧은 TTL 캐시
+ *
+ *  - 인증된 요청마다 회원을 DB 에서 다시 읽지 않도록 JwtAuthenticationFilter 에서 사용
+ *  - 권한, 프로필, 탈퇴/복구 등 회원 정보가 바뀌면 invalidate (커밋 후 한 번 더 제거)
+ *  - maxSize 를 넘으면 가장 오래 안 쓴 회원부터 제거 (LRU)
+ *  - 히트/미스는 actuator metrics 의 security.principal.cache 로 노출
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private final MemberRepository memberRepository;
+
+    private final long ttlNanos;
+
+    private final Map<Long, CachedPrincipal> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private record CachedPrincipal(MemberPrincipal principal, long expiresAt) {}
+
+    public MemberPrincipalCache(
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.principal-cache.ttl:60s}") Duration ttl,
+            @Value("${app.security.principal-cache.max-size:10000}") int maxSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = Collections.synchronizedMap(
+                new LinkedHashMap<>(256, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, CachedPrincipal> eldest) {
+                        return size() > maxSize;
+                    }
+                });
+
+        this.hitCounter = Counter.builder("security.principal.cache")
+                .tag("result", "hit")
+                .description("MemberPrincipal 캐시 조회")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.principal.cache")
+                .tag("result", "miss")
+                .description("MemberPrincipal 캐시 조회")
+                .register(meterRegistry);
+        Gauge.builder("security.principal.cache.size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<MemberPrincipal> get(Long memberId) {
+        long now = System.nanoTime();
+
+        CachedPrincipal cached = cache.get(memberId);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            hitCounter.increment();
+            return Optional.of(cached.principal());
+        }
+        missCounter.increment();
+
+        Optional<MemberPrincipal> loaded = memberRepository.findById(memberId)
+                .map(MemberPrincipal::of);
+
+        loaded.ifPresentOrElse(
+                principal -> cache.put(memberId, new CachedPrincipal(principal, now + ttlNanos)),
+                () -> cache.remove(memberId)
+        );
+        return loaded;
+    }
+
+    /**
+     * 회원 정보 변경 시 호출 - 즉시 제거하고, 커밋 전에 다시 캐시된 값도 커밋 후 제거
+     */
+    public void invalidate(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+
+        cache.remove(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(memberId);
+                }
+            });
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.duckstar.security.jwt.JwtAuthenticationFilter;
 import com.duckstar.security.oauth2.CustomOAuth2AccessTokenResponseConverter;
 import com.duckstar.security.oauth2.CustomOAuth2UserService;
 import com.duckstar.security.oauth2.UserLoginSuccessHandler;
+import com.duckstar.security.ratelimit.RateLimitFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -22,11 +23,11 @@ import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCo
 import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizationRequestResolver;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestResolver;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -44,6 +45,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final UserLoginSuccessHandler userLoginSuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> customAccessTokenResponseClient() {
@@ -146,6 +148,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/comments/*/replies/**").permitAll()
 
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
 
                         .anyRequest().authenticated()
                 )
@@ -163,8 +166,10 @@ public class SecurityConfig {
                                         token.accessTokenResponseClient(customClient)
                                 )
                 )
-                // JWT 검증 필터 (모든 요청에서 AccessToken 확인)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                // 경로별 요청 제한 (OAuth 로그인 진입/콜백도 막기 위해 OAuth2 필터 앞)
+                .addFilterBefore(rateLimitFilter, OAuth2AuthorizationRequestRedirectFilter.class)
+                // JWT 검증 필터 (모든 요청에서 AccessToken 확인, 회원 기준 요청 제한을 위해 제한 필터 앞)
+                .addFilterBefore(jwtAuthenticationFilter, RateLimitFilter.class);
 
         return http.build();
     }
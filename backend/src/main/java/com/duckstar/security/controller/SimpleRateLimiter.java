@@ -1,38 +1,40 @@
 package com.duckstar.security.controller;
 
+import com.duckstar.security.ratelimit.RateLimitPolicy;
+import com.duckstar.security.ratelimit.RateLimiterEngine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 키별 요청 제한
+ *
+ *  - 키마다 요청 시각 목록을 들고 있지 않고, long 하나로 슬라이딩 윈도우 카운트만 유지
+ *  - 한동안 요청이 없던 키는 주기적으로 정리 (최대 키 수 초과 시 즉시 정리)
+ */
 @Slf4j
 @Component
 public class SimpleRateLimiter {
 
-    private final Map<String, List<LocalDateTime>> requests = new ConcurrentHashMap<>();
+    private final RateLimiterEngine engine;
 
-    public boolean isAllowed(String key, int maxRequests, Duration window) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime cutoff = now.minus(window);
-
-        List<LocalDateTime> userRequests = requests.computeIfAbsent(key, k -> new ArrayList<>());
+    public SimpleRateLimiter(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this.engine = new RateLimiterEngine(maxKeys);
+    }
 
-        // 오래된 요청 제거
-        userRequests.removeIf(time -> time.isBefore(cutoff));
+    public boolean isAllowed(String key, int maxRequests, Duration window) {
+        return tryAcquire(key, RateLimitPolicy.slidingWindow(key, maxRequests, window));
+    }
 
-        if (userRequests.size() >= maxRequests) {
-            log.warn("Rate limit exceeded for key: {}, current requests: {}", key, userRequests.size());
-            return false;
+    public boolean tryAcquire(String key, RateLimitPolicy policy) {
+        boolean allowed = engine.tryAcquire(key, policy);
+        if (!allowed) {
+            log.warn("Rate limit exceeded for key: {}, policy: {}", key, policy.name());
         }
-
-        userRequests.add(now);
-        log.debug("Rate limit check passed for key: {}, current requests: {}", key, userRequests.size());
-        return true;
+        return allowed;
     }
 
     // 편의 메서드
@@ -45,4 +47,11 @@ public class SimpleRateLimiter {
     public boolean isAllowedByUser(Long userId, int maxRequests, Duration window) {
         return isAllowed("user:" + userId, maxRequests, window);
     }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.evict-interval-ms:30000}")
+    public void evictIdle() {
+        int before = engine.size();
+        engine.evictIdle();
+        log.debug("Rate limiter idle keys evicted - {} -> {}", before, engine.size());
+    }
 }
@@ -0,0 +1,102 @@
+package com.duckstar.security.domain;
+
+import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.security.domain.enums.VoteMigrationTarget;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 끝나지 않은 비로그인 투표 이관 (로그인 트랜잭션과 함께 커밋)
+ *
+ *  - 이관이 커밋되면 같은 트랜잭션에서 삭제 -> 남아 있는 행은 재시작 후에도 다시 시도
+ *  - nextAttemptAt: 이 시각 전에는 다른 실행이 잡지 않음 (진행 중 임대 / 실패 후 backoff)
+ *  - isFailed: 재시도 한도를 넘긴 이관 - 더 시도하지 않고 확인용으로 남겨 둠
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        indexes = {
+                @Index(name = "idx_pending_vote_migration_fn",
+                        columnList = "is_failed, next_attempt_at")
+        }
+)
+public class PendingVoteMigration extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(10)", nullable = false)
+    private VoteMigrationTarget target;
+
+    // weekId 또는 surveyId
+    @Column(nullable = false)
+    private Long targetId;
+
+    // 비로그인 투표 때 발급된 쿠키 값
+    @Column(nullable = false)
+    private String cookieId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Boolean isFailed = false;
+
+    protected PendingVoteMigration(
+            VoteMigrationTarget target,
+            Long targetId,
+            String cookieId,
+            Long memberId,
+            LocalDateTime nextAttemptAt
+    ) {
+        this.target = target;
+        this.targetId = targetId;
+        this.cookieId = cookieId;
+        this.memberId = memberId;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static PendingVoteMigration create(
+            VoteMigrationTarget target,
+            Long targetId,
+            String cookieId,
+            Long memberId,
+            LocalDateTime leaseUntil
+    ) {
+        return new PendingVoteMigration(target, targetId, cookieId, memberId, leaseUntil);
+    }
+
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void fail(String error, LocalDateTime nextAttemptAt) {
+        this.attempts += 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 재시도 중단 - 주기 점검에서 더 이상 잡지 않음
+     */
+    public void markFailed() {
+        this.isFailed = true;
+    }
+}
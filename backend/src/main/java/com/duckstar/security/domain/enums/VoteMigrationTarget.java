@@ -0,0 +1,5 @@
+package com.duckstar.security.domain.enums;
+
+public enum VoteMigrationTarget {
+    WEEK, SURVEY
+}
@@ -2,9 +2,8 @@ package com.duckstar.security.jwt;
 
 import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.MemberHandler;
-import com.duckstar.domain.Member;
 import com.duckstar.security.MemberPrincipal;
-import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.security.MemberPrincipalCache;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,7 +27,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Override
     protected void doFilterInternal(
@@ -50,12 +49,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     if (jwtTokenProvider.isAccessToken(claims)) {
                         Long memberId = Long.valueOf(claims.getSubject());
 
-                        // 3. DB 조회 (권한 포함)
-                        Member member = memberRepository.findById(memberId)
+                        // 3. Principal 생성
+                        //  - 조회 요청도 claim 의 권한 대신 회원 상태 기준 (탈퇴/권한 변경 즉시 반영)
+                        //  - 짧은 TTL 캐시, 미스일 때만 DB 조회
+                        MemberPrincipal principal = memberPrincipalCache.get(memberId)
                                 .orElseThrow(() -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
 
-                        MemberPrincipal principal = MemberPrincipal.of(member);
-
                         // 4. Authentication 객체 생성
                         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                                 principal,
@@ -4,6 +4,7 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.AuthHandler;
 import com.duckstar.domain.Member;
 import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.MemberPrincipalCache;
 import com.duckstar.security.domain.enums.MemberStatus;
 import com.duckstar.security.domain.enums.OAuthProvider;
 import com.duckstar.security.repository.MemberRepository;
@@ -26,6 +27,7 @@ import java.util.UUID;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Override
     @Transactional
@@ -69,6 +71,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 .map(m -> {
                     if (m.getStatus() == MemberStatus.INACTIVE) {
                         m.restore(oauthProvider, providerId, nickname, profileImageUrl);
+                        memberPrincipalCache.invalidate(m.getId());
                     }
                     return m;
                 })
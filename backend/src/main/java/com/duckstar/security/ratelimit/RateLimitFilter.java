@@ -0,0 +1,153 @@
+package com.duckstar.security.ratelimit;
+
+import com.duckstar.apiPayload.ApiResponse;
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.controller.SimpleRateLimiter;
+import com.duckstar.web.support.IdentifierExtractor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 경로별 요청 제한 필터 (JWT 인증 필터 뒤)
+ *
+ *  - vote    : 투표 제출/회수 - 토큰 버킷, ip 기준
+ *  - comment : 댓글/답글 작성·수정·좋아요 - 슬라이딩 윈도우, 로그인 회원 기준 (비로그인은 ip)
+ *  - login   : OAuth 로그인 진입/콜백 - 슬라이딩 윈도우, ip 기준
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final SimpleRateLimiter rateLimiter;
+    private final IdentifierExtractor identifierExtractor;
+    private final ObjectMapper objectMapper;
+
+    private final List<RouteRule> rules;
+
+    private record RouteRule(
+            Set<HttpMethod> methods,  // 비어 있으면 모든 메서드
+            List<String> patterns,
+            RateLimitPolicy policy,
+            boolean perMember
+    ) {
+        boolean matches(HttpMethod method, String path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (String pattern : patterns) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public RateLimitFilter(
+            SimpleRateLimiter rateLimiter,
+            IdentifierExtractor identifierExtractor,
+            ObjectMapper objectMapper,
+            @Value("${app.rate-limit.vote-per-minute:30}") int votePerMinute,
+            @Value("${app.rate-limit.comment-per-minute:20}") int commentPerMinute,
+            @Value("${app.rate-limit.login-per-minute:20}") int loginPerMinute
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.identifierExtractor = identifierExtractor;
+        this.objectMapper = objectMapper;
+
+        Duration minute = Duration.ofMinutes(1);
+        this.rules = List.of(
+                new RouteRule(
+                        Set.of(HttpMethod.POST),
+                        List.of("/api/v1/vote/**"),
+                        RateLimitPolicy.tokenBucket("vote", votePerMinute, minute),
+                        false
+                ),
+                new RouteRule(
+                        Set.of(HttpMethod.POST, HttpMethod.PATCH),
+                        List.of("/api/v1/animes/*", "/api/v1/comments/**", "/api/v1/replies/**"),
+                        RateLimitPolicy.slidingWindow("comment", commentPerMinute, minute),
+                        true
+                ),
+                new RouteRule(
+                        Set.of(),
+                        List.of("/oauth2/authorization/**", "/login/oauth2/**"),
+                        RateLimitPolicy.slidingWindow("login", loginPerMinute, minute),
+                        false
+                )
+        );
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RouteRule rule = findRule(request);
+        if (rule != null) {
+            String key = rule.policy().name() + ":" + resolveSubject(request, rule.perMember());
+            if (!rateLimiter.tryAcquire(key, rule.policy())) {
+                writeTooManyRequests(response);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteRule findRule(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        String path = request.getRequestURI();
+        for (RouteRule rule : rules) {
+            if (rule.matches(method, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveSubject(HttpServletRequest request, boolean perMember) {
+        if (perMember) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+                return "user:" + principal.getId();
+            }
+        }
+        return "ip:" + identifierExtractor.extract(request);
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response) throws IOException {
+        ErrorStatus status = ErrorStatus.TOO_MANY_REQUESTS;
+
+        response.setStatus(status.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(
+                response.getWriter(),
+                ApiResponse.onFailure(status.getCode(), status.getMessage(), null)
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.duckstar.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 정책 - window 동안 limit 회
+ */
+public record RateLimitPolicy(
+        String name,
+        Algorithm algorithm,
+        int limit,
+        Duration window
+) {
+    // 슬라이딩 윈도우 카운터는 16비트로 저장
+    public static final int MAX_LIMIT = 0xFFFF;
+
+    public enum Algorithm {
+        /**
+         * 토큰 버킷 (GCRA) - 윈도우 동안 limit 개까지 몰아서 허용, 이후 window / limit 간격으로 회복
+         */
+        TOKEN_BUCKET,
+
+        /**
+         * 슬라이딩 윈도우 카운터 - 직전 윈도우 카운트를 경과 비율만큼 가중해서 추정
+         */
+        SLIDING_WINDOW
+    }
+
+    public RateLimitPolicy {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+    }
+
+    public static RateLimitPolicy tokenBucket(String name, int limit, Duration window) {
+        return new RateLimitPolicy(name, Algorithm.TOKEN_BUCKET, limit, window);
+    }
+
+    public static RateLimitPolicy slidingWindow(String name, int limit, Duration window) {
+        return new RateLimitPolicy(name, Algorithm.SLIDING_WINDOW, limit, window);
+    }
+}
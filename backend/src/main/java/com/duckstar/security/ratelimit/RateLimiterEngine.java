@@ -0,0 +1,138 @@
+package com.duckstar.security.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 요청 제한 엔진
+ *
+ *  - 키마다 long 하나(AtomicLong)만 두고 CAS 로 갱신 (락, 시간 객체 할당 없음)
+ *      TOKEN_BUCKET   : 다음 허용 예정 시각(TAT, nanos)
+ *      SLIDING_WINDOW : [윈도우 번호 32비트 | 직전 카운트 16비트 | 현재 카운트 16비트]
+ *  - 윈도우 2배 이상 요청이 없던 키는 evictIdle 에서 제거, 키 수가 maxKeys 를 넘으면 즉시 정리
+ */
+@Slf4j
+public class RateLimiterEngine {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final LongSupplier nanoClock;
+    private final int maxKeys;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiterEngine(int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    public RateLimiterEngine(int maxKeys, LongSupplier nanoClock) {
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    private static final class Bucket {
+        private final AtomicLong state = new AtomicLong(UNSET);
+        private final long idleAfterNanos;
+        private volatile long lastSeen;
+
+        private Bucket(long idleAfterNanos, long now) {
+            this.idleAfterNanos = idleAfterNanos;
+            this.lastSeen = now;
+        }
+    }
+
+    public boolean tryAcquire(String key, RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evictIdle(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(policy.window().toNanos() * 2, now));
+        }
+        bucket.lastSeen = now;
+
+        return switch (policy.algorithm()) {
+            case TOKEN_BUCKET -> acquireTokenBucket(bucket.state, policy, now);
+            case SLIDING_WINDOW -> acquireSlidingWindow(bucket.state, policy, now);
+        };
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public void evictIdle() {
+        evictIdle(nanoClock.getAsLong());
+    }
+
+    private void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> now - bucket.lastSeen > bucket.idleAfterNanos);
+
+        // 크롤러 등으로 활성 키만으로 한도를 넘으면 임의로 버린다 (해당 키는 제한이 초기화됨)
+        int overflow = buckets.size() - maxKeys;
+        if (overflow >= 0) {
+            int toRemove = overflow + Math.max(1, maxKeys / 10);
+            Iterator<Bucket> it = buckets.values().iterator();
+            while (toRemove-- > 0 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+            log.warn("Rate limiter key limit reached - maxKeys: {}, size: {}", maxKeys, buckets.size());
+        }
+    }
+
+    private static boolean acquireTokenBucket(AtomicLong state, RateLimitPolicy policy, long now) {
+        long windowNanos = policy.window().toNanos();
+        long interval = windowNanos / policy.limit();
+        long burst = windowNanos - interval;
+
+        while (true) {
+            long tat = state.get();
+            long base = (tat == UNSET || tat - now < 0) ? now : tat;
+            if (base - now > burst) {
+                return false;
+            }
+            if (state.compareAndSet(tat, base + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean acquireSlidingWindow(AtomicLong state, RateLimitPolicy policy, long now) {
+        long windowNanos = policy.window().toNanos();
+        int index = (int) Math.floorDiv(now, windowNanos);
+        double remainingRatio = (windowNanos - Math.floorMod(now, windowNanos)) / (double) windowNanos;
+
+        while (true) {
+            long current = state.get();
+
+            int prevCount = 0;
+            int currCount = 0;
+            if (current != UNSET) {
+                int stateIndex = (int) (current >>> 32);
+                if (stateIndex == index) {
+                    prevCount = (int) ((current >>> 16) & 0xFFFF);
+                    currCount = (int) (current & 0xFFFF);
+                } else if (stateIndex == index - 1) {
+                    prevCount = (int) (current & 0xFFFF);
+                }
+            }
+
+            if (prevCount * remainingRatio + currCount >= policy.limit()) {
+                return false;
+            }
+
+            long next = ((long) index << 32) | ((long) prevCount << 16) | (currCount + 1);
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.duckstar.security.repository;
+
+import com.duckstar.security.domain.PendingVoteMigration;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PendingVoteMigrationRepository extends JpaRepository<PendingVoteMigration, Long> {
+
+    /**
+     * 시도할 때가 된 이관 (오래된 것부터, 재시도 중단된 것 제외) - 임대를 걸 때까지 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PendingVoteMigration p " +
+            "where p.isFailed = false and p.nextAttemptAt <= :now order by p.id asc")
+    List<PendingVoteMigration> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 같은 이관을 두 실행이 동시에 잡으면 뒤에 온 쪽은 삭제된 뒤에 빈 결과를 받음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PendingVoteMigration p where p.id = :id")
+    Optional<PendingVoteMigration> findByIdForUpdate(@Param("id") Long id);
+}
@@ -5,21 +5,19 @@ import com.duckstar.apiPayload.exception.handler.AuthHandler;
 import com.duckstar.apiPayload.exception.handler.MemberHandler;
 import com.duckstar.domain.Member;
 import com.duckstar.domain.Quarter;
-import com.duckstar.domain.Survey;
 import com.duckstar.domain.Week;
 import com.duckstar.domain.enums.CommentStatus;
 import com.duckstar.domain.enums.SurveyStatus;
 import com.duckstar.domain.enums.SurveyType;
-import com.duckstar.domain.mapping.surveyVote.SurveyVoteSubmission;
-import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
 import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
 import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
 import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
 import com.duckstar.repository.Reply.ReplyRepository;
-import com.duckstar.repository.SurveyRepository;
 import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
+import com.duckstar.security.MemberPrincipalCache;
 import com.duckstar.security.domain.MemberToken;
+import com.duckstar.security.domain.enums.VoteMigrationTarget;
 import com.duckstar.security.jwt.JwtTokenProvider;
 import com.duckstar.security.providers.google.GoogleApiClient;
 import com.duckstar.security.providers.kakao.KakaoApiClient;
@@ -27,6 +25,10 @@ import com.duckstar.security.providers.naver.NaverApiClient;
 import com.duckstar.security.providers.naver.NaverTokenResponse;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.security.repository.MemberTokenRepository;
+import com.duckstar.security.service.VoteMigrationService.VoteMigration;
+import com.duckstar.service.CommentCounter;
+import com.duckstar.service.SurveyReadModel;
+import com.duckstar.service.SurveyReadModel.SurveyView;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.support.VoteCookieManager;
 import feign.FeignException;
@@ -41,16 +43,19 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -58,12 +63,14 @@ import java.util.stream.Collectors;
 public class AuthService {
     private final MemberTokenRepository memberTokenRepository;
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
     private final AnimeCommentRepository animeCommentRepository;
     private final ReplyRepository replyRepository;
 
     private final JwtTokenProvider jwtTokenProvider;
     private final KakaoApiClient kakaoApiClient;
     private final WeekVoteSubmissionRepository weekVoteSubmissionRepository;
+    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
     private final VoteCookieManager voteCookieManager;
     private final GoogleApiClient googleApiClient;
     private final NaverApiClient naverApiClient;
@@ -73,8 +80,9 @@ public class AuthService {
     private static final String BASE_VOTE_COOKIE = "vote_cookie_id";
     private static final String BASE_SURVEY_COOKIE = "survey_cookie_id";
 
-    private final SurveyRepository surveyRepository;
-    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+    private final SurveyReadModel surveyReadModel;
+    private final VoteMigrationService voteMigrationService;
+    private final CommentCounter commentCounter;
 
     @Value("${app.cookie.same-site}")
     private String sameSite;
@@ -117,64 +125,49 @@ public class AuthService {
         );
 
         // 2. 비회원 투표 마이그레이션 -> 회원의 투표로 저장
+        //  - 여기서는 쿠키만 읽어 대상을 모으고, 실제 이관은 커밋 후 비동기로 (VoteMigrationService)
+        List<VoteMigration> migrations = new ArrayList<>();
+        List<String> migratedCookieNames = new ArrayList<>();
+
         // 2-1. 주간 투표
         Week week = weekService.getCurrentWeek();
+        boolean isWeekVoteMigrated = addWeekVoteMigration(request, week, memberId, migrations, migratedCookieNames);
 
         //=== 2-1. 월 18시 ~ 화 15시에는 지난 주차와 공존하는 경우 있으므로 확인 ===//
         LocalDateTime hybridStart = week.getStartDateTime();  // 이번 주 월요일 18시
         LocalDateTime hybridEnd = hybridStart.with(DayOfWeek.TUESDAY).withHour(15).withMinute(0);  // 화요일 15시
         boolean isHybrid = !LocalDateTime.now().isBefore(hybridStart) && LocalDateTime.now().isBefore(hybridEnd);
-
-        boolean isWeekVoteMigrated;
         if (isHybrid) {
-            boolean isCurrentMigrated = migrateWeekVoteSubmission(
-                    request,
-                    response,
-                    week,
-                    member
-            );
-
             Week lastWeek = weekService.getWeekByTime(week.getStartDateTime().minusWeeks(1));
-            boolean isLastWeekMigrated = migrateWeekVoteSubmission(
-                    request,
-                    response,
-                    lastWeek,
-                    member
-            );
-
-            isWeekVoteMigrated = isCurrentMigrated || isLastWeekMigrated;
-        } else {
-            isWeekVoteMigrated = migrateWeekVoteSubmission(
-                    request,
-                    response,
-                    week,
-                    member
-            );
+            boolean isLastWeekMigrated =
+                    addWeekVoteMigration(request, lastWeek, memberId, migrations, migratedCookieNames);
+            isWeekVoteMigrated = isWeekVoteMigrated || isLastWeekMigrated;
         }
 
-        // 2-2. 서베이 투표
-        List<Survey> surveys = surveyRepository.findAllByStatus(SurveyStatus.OPEN);
-
-        boolean isSurveyVoteMigrated = false;
-        if (!surveys.isEmpty()) {
-            isSurveyVoteMigrated = surveys.stream()
-                    .map(s -> migrateSurveyVoteSubmission(
-                            request,
-                            response,
-                            s,
-                            member
-                    )).toList()
-                    .contains(true);
-        }
+        // 2-2. 서베이 투표 (OPEN 서베이만)
+        boolean isSurveyVoteMigrated = surveyReadModel.getSurveys().stream()
+                .filter(s -> s.status() == SurveyStatus.OPEN)
+                .map(s -> addSurveyVoteMigration(request, s, memberId, migrations, migratedCookieNames))
+                .toList()
+                .contains(true);
 
+        // 이관 대상은 로그인 트랜잭션과 함께 저장 -> 커밋된 뒤에만 쿠키 삭제 (롤백되면 쿠키 유지)
+        voteMigrationService.enqueue(migrations);
+        expireCookiesAfterCommit(response, migratedCookieNames);
+
+        // 이관 결과는 기다리지 않음 - 예전과 같은 조건 (옮길 비로그인 투표가 있는지) 으로 판단
         return isWeekVoteMigrated || isSurveyVoteMigrated;
     }
 
-    private boolean migrateWeekVoteSubmission(
+    /**
+     * @return 옮길 비로그인 투표가 있는지 (Case 1 이거나, Case 2 에서 회수하지 않은 별점이 있으면)
+     */
+    private boolean addWeekVoteMigration(
             HttpServletRequest request,
-            HttpServletResponse response,
             Week week,
-            Member member
+            Long memberId,
+            List<VoteMigration> migrations,
+            List<String> migratedCookieNames
     ) {
         Quarter quarter = week.getQuarter();
         String voteCookieId = voteCookieManager.readCookie(
@@ -196,119 +189,48 @@ public class AuthService {
             return false;
         }
 
-        boolean isMigrated = false;
-        WeekVoteSubmission localSubmission = localSubmissionOpt.get();
-
-        Optional<WeekVoteSubmission> memberSubmissionOpt =
-                weekVoteSubmissionRepository.findByWeek_IdAndMember_Id(weekId, member.getId());
-        //Case 1. 비로그인 투표 기록 ⭕️ -> 투표하지 ❌않은 멤버 로그인
-        if (memberSubmissionOpt.isEmpty()) {
-            // ** 마이그레이션 ** //
-            localSubmission.setMember(
-                    member,
-                    voteCookieManager.toPrincipalKey(member.getId(), null)
-            );
-
-            isMigrated = true;
+        migrations.add(new VoteMigration(VoteMigrationTarget.WEEK, weekId, voteCookieId, memberId));
 
-        //Case 2. 비로그인 투표 기록 ⭕️ -> 다른 기기에서 ⭕투표한 멤버 로그인
-        //  - 다른 기기에서 투표한 멤버의 기록에 비로그인 투표 기록을 UPSERT
-        } else {
-            WeekVoteSubmission memberSubmission = memberSubmissionOpt.get();
-
-            Map<Long, EpisodeStar> memberEpisodeStarMap =
-                    episodeStarRepository.findAllByWeekVoteSubmission_Id(memberSubmission.getId())
-                    .stream()
-                    .collect(Collectors.toMap(
-                            es -> es.getEpisode().getId(),
-                            es -> es
-                    ));
-
-            List<EpisodeStar> localEpisodeStars =
-                    episodeStarRepository.findAllByWeekVoteSubmission_Id(localSubmission.getId())
-                            .stream()
-                            .filter(es -> es.getStarScore() != null)  // 로컬에서 회수한 별점은 제외
-                            .toList();
-
-            if (!localEpisodeStars.isEmpty()) {
-                List<Long> deleteIds = new ArrayList<>();
-                for (EpisodeStar localEpisodeStar : localEpisodeStars) {
-                    // 이미 멤버가 투표한 적이 있는 후보인가?
-                    EpisodeStar memberEpisodeStar =
-                            memberEpisodeStarMap.get(localEpisodeStar.getEpisode().getId());
-                    if (memberEpisodeStar != null) {  // 투표한 적이 있음
-                        // 비로그인의 투표 점수로 업데이트
-                        memberEpisodeStar.setStarScore(localEpisodeStar.getStarScore());
-                        // 비로그인 투표는 삭제
-                        deleteIds.add(localEpisodeStar.getId());
-                    } else {
-                        // 새로운 후보에 대한 투표라면, 멤버의 submission 으로 전환
-                        localEpisodeStar.setWeekVoteSubmission(memberSubmission);
-                    }
-                }
-                isMigrated = true;
-
-                episodeStarRepository.deleteAllById(deleteIds);
-            }
-            weekVoteSubmissionRepository.delete(localSubmission);
-        }
-
-        // 마지막엔 역할을 다 한 쿠키를 반드시 삭제
-        expireCookie(response,
+        // 역할을 다 한 쿠키 (이관 작업은 쿠키 값을 들고 감)
+        migratedCookieNames.add(
                 BASE_VOTE_COOKIE + "_" +
                         quarter.getYearValue() +
                         "Q" + quarter.getQuarterValue() +
                         "W" + week.getWeekValue()
         );
-        return isMigrated;
+
+        //Case 1. 투표하지 ❌않은 멤버 / Case 2. 다른 기기에서 ⭕투표한 멤버 - 옮길 별점이 있을 때만
+        return weekVoteSubmissionRepository.findByWeek_IdAndMember_Id(weekId, memberId).isEmpty() ||
+                episodeStarRepository.existsByWeekVoteSubmission_IdAndStarScoreIsNotNull(localSubmissionOpt.get().getId());
     }
 
-    @Transactional
-    public boolean migrateSurveyVoteSubmission(
+    /**
+     * Case 1 (투표하지 ❌않은 멤버) 에서만 이관하고 쿠키 삭제 - Case 2 는 비로그인 투표 기록을 보존
+     * @return 이관 대상인지
+     */
+    private boolean addSurveyVoteMigration(
             HttpServletRequest request,
-            HttpServletResponse response,
-            Survey survey,
-            Member member
+            SurveyView survey,
+            Long memberId,
+            List<VoteMigration> migrations,
+            List<String> migratedCookieNames
     ) {
-        SurveyType surveyType = survey.getSurveyType();
+        SurveyType surveyType = survey.type();
         String cookieId = voteCookieManager.readCookie(request, surveyType);
         if (cookieId == null || cookieId.isBlank()) {
             return false;
         }
 
-        Long surveyId = survey.getId();
-        Optional<SurveyVoteSubmission> localSubmissionOpt =
-                surveyVoteSubmissionRepository.findLocalSubmission(surveyId, cookieId);
-        if (localSubmissionOpt.isEmpty()) {
-            // 비로그인 투표 기록 없는 경우 스킵
+        Long surveyId = survey.surveyId();
+        if (surveyVoteSubmissionRepository.findLocalSubmission(surveyId, cookieId).isEmpty() ||
+                surveyVoteSubmissionRepository.findBySurvey_IdAndMember_Id(surveyId, memberId).isPresent()) {
             return false;
         }
 
-        boolean isMigrated = false;
-        SurveyVoteSubmission localSubmission = localSubmissionOpt.get();
-
-        Long memberId = member.getId();
-        Optional<SurveyVoteSubmission> memberSubmissionOpt =
-                surveyVoteSubmissionRepository.findBySurvey_IdAndMember_Id(surveyId, memberId);
-        //Case 1. 비로그인 투표 기록 ⭕️ -> 투표하지 ❌않은 멤버 로그인
-        if (memberSubmissionOpt.isEmpty()) {
-            localSubmission.setMember(
-                    member,
-                    voteCookieManager.toPrincipalKey(memberId, null)
-            );
-            member.setGender(localSubmission.getGender());
-            member.setAgeGroup(localSubmission.getAgeGroup());
-
-            isMigrated = true;
-
-            // Case 1에서만 - 역할을 다 한 쿠키를 삭제
-            expireCookie(response, BASE_SURVEY_COOKIE + "_" + surveyType.name());
-
-        //Case 2. 비로그인 투표 기록 ⭕️ -> 다른 기기에서 ⭕투표한 멤버 로그인
-        //  - 서베이 방식에서는 기존 비로그인 투표 기록을 보존한다.
-        } else { /* do nothing */ }
+        migrations.add(new VoteMigration(VoteMigrationTarget.SURVEY, surveyId, cookieId, memberId));
 
-        return isMigrated;
+        migratedCookieNames.add(BASE_SURVEY_COOKIE + "_" + surveyType.name());
+        return true;
     }
 
     @Transactional
@@ -404,6 +326,22 @@ public class AuthService {
         return thisWeekSec > 0L ? thisWeekSec : lastWeekSec;
     }
 
+    /**
+     * 커밋 후 쿠키 삭제 (응답이 나가기 전이므로 헤더 추가 가능)
+     */
+    private void expireCookiesAfterCommit(HttpServletResponse response, List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                names.forEach(name -> expireCookie(response, name));
+            }
+        });
+    }
+
     private void expireCookie(HttpServletResponse response, String name) {
         ResponseCookie cookie = ResponseCookie.from(name, "")
                 .httpOnly(true)
@@ -505,6 +443,7 @@ public class AuthService {
     }
 
     private void cleanupAfterWithdraw(HttpServletResponse response, Long memberId) {
+        memberPrincipalCache.invalidate(memberId);
         memberTokenRepository.deleteAllByMember_Id(memberId);
 
         // 투표 기록에서 회원 정보 삭제
@@ -514,15 +453,29 @@ public class AuthService {
                     sub.setMember(null, voteCookieManager.toPrincipalKey(null, cookieId));
                 });
 
+        Set<Long> commentedAnimeIds = new HashSet<>();
+
         // 애니 댓글 삭제
         animeCommentRepository.findAllByAuthor_Id(memberId)
-                .forEach(ac -> ac.setStatus(CommentStatus.DELETED));
+                .forEach(ac -> {
+                    ac.setStatus(CommentStatus.DELETED);
+                    commentedAnimeIds.add(ac.getContentIdForIdx());
+                });
 
         // 캐릭터 댓글 삭제
 
         // 답글 삭제
         replyRepository.findAllByAuthor_Id(memberId)
-                .forEach(r -> r.setStatus(CommentStatus.DELETED));
+                .forEach(r -> {
+                    if (r.getStatus() == CommentStatus.NORMAL) {
+                        animeCommentRepository.addReplyCount(r.getParent().getId(), -1);
+                    }
+                    r.setStatus(CommentStatus.DELETED);
+                    commentedAnimeIds.add(r.getParent().getContentIdForIdx());
+                });
+
+        // 댓글 수 카운터 다시 집계
+        commentCounter.recount(commentedAnimeIds);
 
         expireCookie(response, "ACCESS_TOKEN");
         expireCookie(response, "REFRESH_TOKEN");
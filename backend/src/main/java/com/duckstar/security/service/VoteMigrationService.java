@@ -0,0 +1,330 @@
+package com.duckstar.security.service;
+
+import com.duckstar.domain.Member;
+import com.duckstar.domain.mapping.surveyVote.SurveyVoteSubmission;
+import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
+import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
+import com.duckstar.security.domain.PendingVoteMigration;
+import com.duckstar.security.domain.enums.VoteMigrationTarget;
+import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.security.repository.PendingVoteMigrationRepository;
+import com.duckstar.service.SurveyVotedIndex;
+import com.duckstar.service.VoteService.WeekVoteStateCache;
+import com.duckstar.web.support.VoteCookieManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인 시 비로그인 투표 -> 회원 투표 이관
+ *
+ *  - 로그인 요청은 쿠키만 읽어 이관 대상을 PendingVoteMigration 으로 남기고 (로그인 트랜잭션과 함께 커밋),
+ *    실제 이관은 커밋 후 별도 스레드에서 진행
+ *  - 이관 단위(submission 하나)마다 한 트랜잭션, 이관이 커밋되면 같은 트랜잭션에서 행 삭제
+ *    (이관이 끝나면 비로그인 submission 이 없어지므로 재실행해도 no-op)
+ *  - 실패하면 backoff 후 재시도, 재시작 전 남은 행은 주기 점검에서 다시 잡음
+ *  - max-attempts 번 실패하면 isFailed 로 남겨 두고 재시도 중단 (행은 지우지 않으므로 확인 후 처리)
+ *  - 주간 투표 병합은 EpisodeStar 를 엔티티로 하나씩 고치지 않고 bulk UPDATE / DELETE 로 처리
+ *    (회원 쪽 별점 행은 댓글이 참조할 수 있으므로 지우지 않고 점수만 덮어씀)
+ */
+@Slf4j
+@Service
+public class VoteMigrationService {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration LEASE = Duration.ofMinutes(1);  // 실행 중인 이관을 다시 잡지 않는 시간
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final WeekVoteSubmissionRepository weekVoteSubmissionRepository;
+    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+    private final EpisodeStarRepository episodeStarRepository;
+    private final MemberRepository memberRepository;
+    private final PendingVoteMigrationRepository pendingVoteMigrationRepository;
+    private final VoteCookieManager voteCookieManager;
+    private final SurveyVotedIndex surveyVotedIndex;
+    private final WeekVoteStateCache weekVoteStateCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxAttempts;
+
+    private final ExecutorService executor;
+
+    /**
+     * @param targetId weekId 또는 surveyId
+     * @param cookieId 비로그인 투표 때 발급된 쿠키 값
+     */
+    public record VoteMigration(
+            VoteMigrationTarget target,
+            Long targetId,
+            String cookieId,
+            Long memberId
+    ) {}
+
+    public VoteMigrationService(
+            WeekVoteSubmissionRepository weekVoteSubmissionRepository,
+            SurveyVoteSubmissionRepository surveyVoteSubmissionRepository,
+            EpisodeStarRepository episodeStarRepository,
+            MemberRepository memberRepository,
+            PendingVoteMigrationRepository pendingVoteMigrationRepository,
+            VoteCookieManager voteCookieManager,
+            SurveyVotedIndex surveyVotedIndex,
+            WeekVoteStateCache weekVoteStateCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.vote-migration.threads:2}") int threads,
+            @Value("${app.vote-migration.max-attempts:10}") int maxAttempts
+    ) {
+        this.weekVoteSubmissionRepository = weekVoteSubmissionRepository;
+        this.surveyVoteSubmissionRepository = surveyVoteSubmissionRepository;
+        this.episodeStarRepository = episodeStarRepository;
+        this.memberRepository = memberRepository;
+        this.pendingVoteMigrationRepository = pendingVoteMigrationRepository;
+        this.voteCookieManager = voteCookieManager;
+        this.surveyVotedIndex = surveyVotedIndex;
+        this.weekVoteStateCache = weekVoteStateCache;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "vote-migration-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * 로그인 트랜잭션 안에서 호출 - 이관 대상을 같은 트랜잭션으로 저장하고, 커밋 후 바로 실행
+     *  (롤백 시 저장도 실행도 X)
+     */
+    public void enqueue(List<VoteMigration> migrations) {
+        if (migrations.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(LEASE);
+        List<Long> ids = pendingVoteMigrationRepository.saveAll(
+                        migrations.stream()
+                                .map(m -> PendingVoteMigration.create(
+                                        m.target(), m.targetId(), m.cookieId(), m.memberId(), leaseUntil))
+                                .toList()
+                ).stream()
+                .map(PendingVoteMigration::getId)
+                .toList();
+
+        Runnable dispatch = () -> ids.forEach(this::dispatch);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch.run();
+                }
+            });
+        } else {
+            dispatch.run();
+        }
+    }
+
+    /**
+     * 시도할 때가 된 이관 (재시도 대기 / 재시작 전에 끝나지 못한 것) 을 다시 실행
+     *  - 기동 직후 첫 실행에서 재시작 전 남은 이관도 처리
+     */
+    @Scheduled(fixedDelayString = "${app.vote-migration.sweep-interval-ms:5000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<PendingVoteMigration> due = pendingVoteMigrationRepository
+                    .findDueForUpdate(now, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            due.forEach(p -> p.lease(now.plus(LEASE)));
+            return due.stream().map(PendingVoteMigration::getId).toList();
+        });
+        if (ids != null) {
+            ids.forEach(this::dispatch);
+        }
+    }
+
+    private void dispatch(Long pendingId) {
+        try {
+            executor.execute(() -> run(pendingId));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 행이 남아 있으므로 다음 기동 때 처리
+            log.info("비로그인 투표 이관 보류 (종료 중) - pendingId: {}", pendingId);
+        }
+    }
+
+    private void run(Long pendingId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    pendingVoteMigrationRepository.findByIdForUpdate(pendingId)
+                            .filter(pending -> !pending.getIsFailed())
+                            .ifPresent(pending -> {
+                        migrate(new VoteMigration(
+                                pending.getTarget(),
+                                pending.getTargetId(),
+                                pending.getCookieId(),
+                                pending.getMemberId()
+                        ));
+                        pendingVoteMigrationRepository.delete(pending);
+                    }));
+        } catch (RuntimeException e) {
+            // 같은 회원의 동시 로그인 등으로 유니크 충돌 -> 잠시 후 다시 (그땐 병합 경로로 감)
+            Integer attempts = transactionTemplate.execute(status ->
+                    pendingVoteMigrationRepository.findById(pendingId)
+                            .map(pending -> {
+                                pending.fail(e.getMessage(), LocalDateTime.now().plus(backoff(pending.getAttempts())));
+                                if (pending.getAttempts() >= maxAttempts) {
+                                    pending.markFailed();
+                                }
+                                return pending.getAttempts();
+                            })
+                            .orElse(null));
+
+            if (attempts != null && attempts >= maxAttempts) {
+                log.error("❌ 비로그인 투표 이관 실패 {}회 - pendingId: {} (재시도 중단, 확인 필요)", attempts, pendingId, e);
+            } else {
+                log.warn("비로그인 투표 이관 재시도 예정 - pendingId: {}, 시도: {}, 이유: {}",
+                        pendingId, attempts, e.getMessage());
+            }
+        }
+    }
+
+    // 1초, 2초, 4초 ... 최대 10분
+    private static Duration backoff(int failedAttempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(failedAttempts, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void migrate(VoteMigration migration) {
+        switch (migration.target()) {
+            case WEEK -> migrateWeekVoteSubmission(migration);
+            case SURVEY -> migrateSurveyVoteSubmission(migration);
+        }
+    }
+
+    private void migrateWeekVoteSubmission(VoteMigration migration) {
+        Long weekId = migration.targetId();
+        Long memberId = migration.memberId();
+
+        Optional<WeekVoteSubmission> localSubmissionOpt =
+                weekVoteSubmissionRepository.findLocalSubmission(weekId, migration.cookieId());
+        if (localSubmissionOpt.isEmpty()) {
+            // 비로그인 투표 기록 없음 (또는 이미 이관됨)
+            return;
+        }
+        WeekVoteSubmission localSubmission = localSubmissionOpt.get();
+        String memberPrincipalKey = voteCookieManager.toPrincipalKey(memberId, null);
+
+        // 두 경우 모두 양쪽 principalKey 의 투표 상태가 바뀜 (커밋 후 제거)
+        weekVoteStateCache.invalidate(weekId, localSubmission.getPrincipalKey(), memberPrincipalKey);
+
+        Optional<WeekVoteSubmission> memberSubmissionOpt =
+                weekVoteSubmissionRepository.findByWeek_IdAndMember_Id(weekId, memberId);
+        //Case 1. 비로그인 투표 기록 ⭕️ -> 투표하지 ❌않은 멤버 로그인
+        if (memberSubmissionOpt.isEmpty()) {
+            localSubmission.setMember(
+                    memberRepository.getReferenceById(memberId),
+                    memberPrincipalKey
+            );
+            return;
+        }
+
+        //Case 2. 비로그인 투표 기록 ⭕️ -> 다른 기기에서 ⭕투표한 멤버 로그인
+        //  - 다른 기기에서 투표한 멤버의 기록에 비로그인 투표 기록을 UPSERT
+        WeekVoteSubmission memberSubmission = memberSubmissionOpt.get();
+        Long localSubmissionId = localSubmission.getId();
+
+        Long memberSubmissionId = memberSubmission.getId();
+
+        // 1. 로컬에서 회수한 별점은 이관하지 않음
+        episodeStarRepository.deleteRetractedBySubmissionId(localSubmissionId);
+
+        // 2. 겹치는 에피소드는 비로그인 별점이 우선 -> 회원 쪽 별점 행에 점수만 덮어쓰고 (점수별 한 번씩)
+        //    비로그인 쪽 행 삭제
+        Set<Long> memberEpisodeIds = new HashSet<>(episodeStarRepository.findEpisodeIdsBySubmissionId(memberSubmissionId));
+        Map<Integer, List<Long>> overlapsByScore = episodeStarRepository.findAllByWeekVoteSubmission_Id(localSubmissionId)
+                .stream()
+                .filter(es -> memberEpisodeIds.contains(es.getEpisode().getId()))
+                .collect(Collectors.groupingBy(
+                        EpisodeStar::getStarScore,
+                        Collectors.mapping(es -> es.getEpisode().getId(), Collectors.toList())
+                ));
+
+        if (!overlapsByScore.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            overlapsByScore.forEach((starScore, episodeIds) -> episodeStarRepository
+                    .updateStarScoreBySubmissionIdAndEpisodeIdIn(memberSubmissionId, episodeIds, starScore, now));
+
+            List<Long> overlappingEpisodeIds = overlapsByScore.values().stream()
+                    .flatMap(List::stream)
+                    .toList();
+            episodeStarRepository.deleteAllBySubmissionIdAndEpisodeIdIn(localSubmissionId, overlappingEpisodeIds);
+        }
+
+        // 3. 겹치지 않는 비로그인 별점을 회원 submission 으로 옮기고 비로그인 submission 삭제
+        episodeStarRepository.moveAllToSubmission(localSubmissionId, memberSubmission);
+        weekVoteSubmissionRepository.deleteLocalSubmission(localSubmissionId);
+    }
+
+    private void migrateSurveyVoteSubmission(VoteMigration migration) {
+        Long surveyId = migration.targetId();
+        Long memberId = migration.memberId();
+
+        Optional<SurveyVoteSubmission> localSubmissionOpt =
+                surveyVoteSubmissionRepository.findLocalSubmission(surveyId, migration.cookieId());
+        if (localSubmissionOpt.isEmpty()) {
+            return;
+        }
+
+        //Case 2. 비로그인 투표 기록 ⭕️ -> 다른 기기에서 ⭕투표한 멤버 로그인
+        //  - 서베이 방식에서는 기존 비로그인 투표 기록을 보존한다.
+        if (surveyVoteSubmissionRepository.findBySurvey_IdAndMember_Id(surveyId, memberId).isPresent()) {
+            return;
+        }
+
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null) {
+            return;
+        }
+
+        //Case 1. 비로그인 투표 기록 ⭕️ -> 투표하지 ❌않은 멤버 로그인
+        SurveyVoteSubmission localSubmission = localSubmissionOpt.get();
+        String localPrincipalKey = localSubmission.getPrincipalKey();
+        localSubmission.setMember(
+                member,
+                voteCookieManager.toPrincipalKey(memberId, null)
+        );
+        member.setGender(localSubmission.getGender());
+        member.setAgeGroup(localSubmission.getAgeGroup());
+
+        surveyVotedIndex.invalidate(localPrincipalKey, localSubmission.getPrincipalKey());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 끝내지 못한 이관은 행으로 남아 다음 기동 때 처리
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
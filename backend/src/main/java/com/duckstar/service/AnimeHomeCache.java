@@ -0,0 +1,298 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.AnimeHandler;
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.enums.DayOfWeekShort;
+import com.duckstar.repository.AnimeCharacter.AnimeCharacterRepository;
+import com.duckstar.repository.AnimeOtt.AnimeOttRepository;
+import com.duckstar.repository.AnimeQuarter.AnimeQuarterRepository;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.util.QuarterUtil;
+import com.duckstar.util.QuarterUtil.YQWRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import static com.duckstar.web.dto.AnimeResponseDto.*;
+import static com.duckstar.web.dto.EpisodeResponseDto.*;
+
+/**
+ * 애니 상세 페이지 (AnimeHomeDto) 캐시
+ *
+ *  - 애니마다 섹션별로 따로 들고 있어서, 바뀐 섹션만 버리고 나머지는 그대로 쓴다.
+ *      INFO     : 애니 정보 + 분기 + OTT
+ *      STATS    : 데뷔/최고 순위, TOP10 주 수 (차트 발표 시 변경)
+ *      EPISODES : 에피소드 일정
+ *      CAST     : 캐릭터/성우
+ *  - 편집한 쪽에서 커밋 후 invalidate(animeId, 섹션) 호출
+ *  - 섹션마다 generation 을 두어 만드는 도중 무효화되면 결과는 응답에만 쓰고 저장하지 않음
+ *  - 기동 시 이번 분기 라인업을 미리 채움
+ */
+@Slf4j
+@Component
+public class AnimeHomeCache {
+    private static final int MAX_ANIMES = 1024;
+
+    public enum Section {
+        INFO,
+        STATS,
+        EPISODES,
+        CAST
+    }
+
+    private static final Section[] ALL_SECTIONS = Section.values();
+
+    private final AnimeRepository animeRepository;
+    private final AnimeQuarterRepository animeQuarterRepository;
+    private final AnimeOttRepository animeOttRepository;
+    private final AnimeCharacterRepository animeCharacterRepository;
+    private final EpisodeRepository episodeRepository;
+    private final WeekRepository weekRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Long, Sections> entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Sections> eldest) {
+                    return size() > MAX_ANIMES;
+                }
+            });
+
+    public AnimeHomeCache(
+            AnimeRepository animeRepository,
+            AnimeQuarterRepository animeQuarterRepository,
+            AnimeOttRepository animeOttRepository,
+            AnimeCharacterRepository animeCharacterRepository,
+            EpisodeRepository episodeRepository,
+            WeekRepository weekRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.animeRepository = animeRepository;
+        this.animeQuarterRepository = animeQuarterRepository;
+        this.animeOttRepository = animeOttRepository;
+        this.animeCharacterRepository = animeCharacterRepository;
+        this.episodeRepository = episodeRepository;
+        this.weekRepository = weekRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 섹션별 값 + generation (인덱스는 Section.ordinal)
+     */
+    private static final class Sections {
+        final AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(ALL_SECTIONS.length);
+        final AtomicLongArray generations = new AtomicLongArray(ALL_SECTIONS.length);
+    }
+
+    //=== 조회 ===//
+
+    /**
+     * ⚠️ 캐시 미스인 섹션만 DB 조회 - 읽기 트랜잭션 안에서 호출
+     */
+    public AnimeHomeDto get(Long animeId) {
+        Sections sections = entries.computeIfAbsent(animeId, id -> new Sections());
+
+        AnimeInfoDto animeInfoDto = peek(sections, Section.INFO);
+        AnimeStatDto animeStatDto = peek(sections, Section.STATS);
+        if (animeInfoDto == null || animeStatDto == null) {
+            // 두 섹션 모두 Anime 한 건에서 나오므로 같이 채움
+            long infoGeneration = sections.generations.get(Section.INFO.ordinal());
+            long statGeneration = sections.generations.get(Section.STATS.ordinal());
+
+            Anime anime = animeRepository.findById(animeId).orElseThrow(() ->
+                    new AnimeHandler(ErrorStatus.ANIME_NOT_FOUND));
+
+            if (animeInfoDto == null) {
+                animeInfoDto = buildInfo(anime);
+                store(sections, Section.INFO, animeInfoDto, infoGeneration);
+            }
+            if (animeStatDto == null) {
+                animeStatDto = buildStat(anime);
+                store(sections, Section.STATS, animeStatDto, statGeneration);
+            }
+        }
+
+        return AnimeHomeDto.builder()
+                .animeInfoDto(animeInfoDto)
+                .animeStatDto(animeStatDto)
+                .episodeResponseDtos(
+                        getOrLoad(sections, Section.EPISODES, () ->
+                                List.copyOf(episodeRepository.getEpisodeDtosByAnimeId(animeId)))
+                )
+                .rackUnitDtos(
+                        null
+                        /*animeCandidateRepository.getRackUnitDtosByAnimeId(animeId)*/
+                )
+                .castPreviews(
+                        getOrLoad(sections, Section.CAST, () ->
+                                List.copyOf(animeCharacterRepository.getAllCharacterHomePreviewsByAnimeId(animeId)))
+                )
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T peek(Sections sections, Section section) {
+        return (T) sections.values.get(section.ordinal());
+    }
+
+    private <T> T getOrLoad(Sections sections, Section section, Supplier<T> loader) {
+        T cached = peek(sections, section);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startedGeneration = sections.generations.get(section.ordinal());
+        T value = loader.get();
+        store(sections, section, value, startedGeneration);
+        return value;
+    }
+
+    private void store(Sections sections, Section section, Object value, long startedGeneration) {
+        int i = section.ordinal();
+        sections.values.set(i, value);
+        // 만드는 사이 무효화되었으면 저장 취소
+        if (sections.generations.get(i) != startedGeneration) {
+            sections.values.compareAndSet(i, value, null);
+        }
+    }
+
+    //=== 무효화 ===//
+
+    public void invalidate(Long animeId, Section... sections) {
+        invalidate(List.of(animeId), sections);
+    }
+
+    /**
+     * @param sections 비우면 전체 섹션
+     */
+    public void invalidate(Collection<Long> animeIds, Section... sections) {
+        if (animeIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = List.copyOf(animeIds);
+        Section[] targets = sections.length == 0 ? ALL_SECTIONS : sections.clone();
+        afterCommit(() -> {
+            for (Long animeId : ids) {
+                Sections entry = entries.get(animeId);
+                if (entry == null) {
+                    continue;
+                }
+                for (Section section : targets) {
+                    int i = section.ordinal();
+                    entry.generations.incrementAndGet(i);
+                    entry.values.set(i, null);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    //=== 예열 ===//
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        YQWRecord record = QuarterUtil.getThisWeekRecord(LocalDateTime.now());
+        try {
+            List<Long> animeIds = readOnlyTransaction.execute(status ->
+                    weekRepository.findQuarterIdByYQ(record.yearValue(), record.quarterValue())
+                            .map(animeQuarterRepository::getAnimeIdsByQuarterId)
+                            .orElse(List.of()));
+            if (animeIds == null || animeIds.isEmpty()) {
+                return;
+            }
+
+            warm(animeIds);
+            log.info("애니 상세 캐시 예열 - {}년 {}분기 {}건", record.yearValue(), record.quarterValue(), animeIds.size());
+        } catch (RuntimeException e) {
+            // 요청 시점에 채워짐
+            log.warn("애니 상세 캐시 예열 실패", e);
+        }
+    }
+
+    /**
+     * 비어 있는 섹션만 채움 (애니 하나마다 짧은 읽기 트랜잭션)
+     */
+    public void warm(Collection<Long> animeIds) {
+        for (Long animeId : animeIds) {
+            readOnlyTransaction.executeWithoutResult(status -> get(animeId));
+        }
+    }
+
+    //=== 생성 ===//
+
+    private AnimeInfoDto buildInfo(Anime anime) {
+        Long animeId = anime.getId();
+        LocalTime airTime = anime.getAirTime();
+
+        return AnimeInfoDto.builder()
+                .medium(anime.getMedium())
+                .status(anime.getStatus())
+                .totalEpisodes(anime.getTotalEpisodes())
+                .premiereDateTime(anime.getPremiereDateTime())
+                .titleKor(anime.getTitleKor())
+                .titleOrigin(anime.getTitleOrigin())
+                .dayOfWeek(
+                        DayOfWeekShort.getLogicalDay(airTime, anime.getDayOfWeek())
+                )
+                .airTime(airTime)
+                .synopsis(anime.getSynopsis())
+                .corp(anime.getCorp())
+                .director(anime.getDirector())
+                .genre(anime.getGenre())
+                .author(anime.getAuthor())
+                .minAge(anime.getMinAge())
+                .officialSite(anime.getOfficialSite())
+                .mainImageUrl(anime.getMainImageUrl())
+                .mainThumbnailUrl(anime.getMainThumbnailUrl())
+                .quarterDtos(
+                        List.copyOf(animeQuarterRepository.getQuarterDtosByAnimeId(animeId))
+                )
+                .ottDtos(
+                        List.copyOf(animeOttRepository.getOttDtosByAnimeId(animeId))
+                )
+                .build();
+    }
+
+    private AnimeStatDto buildStat(Anime anime) {
+        return AnimeStatDto.builder()
+                .debutRank(anime.getDebutRank())
+                .debutDate(anime.getDebutDate())
+                .peakRank(anime.getPeakRank())
+                .peakDate(anime.getPeakDate())
+                .weeksOnTop10(anime.getWeeksOnTop10())
+                .build();
+    }
+}
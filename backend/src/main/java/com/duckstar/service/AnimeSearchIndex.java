@@ -0,0 +1,80 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.util.AnimeTitleIndex;
+import com.duckstar.util.AnimeTitleIndex.IndexedTitle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애니메이션 검색 색인 관리
+ *
+ *  - 기동 시 전체 애니 제목으로 색인 생성, 애니 생성 시 커밋 후 반영
+ *  - 변경은 dirty 표시만 하고 다음 검색 때 한 번 다시 만든다. (CSV 대량 등록 대비)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimeSearchIndex {
+
+    private final AnimeRepository animeRepository;
+
+    private final Map<Long, IndexedTitle> titles = new ConcurrentHashMap<>();
+    private volatile AnimeTitleIndex index = AnimeTitleIndex.EMPTY;
+    private volatile boolean dirty = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        animeRepository.findAll().forEach(anime -> titles.put(anime.getId(), toIndexedTitle(anime)));
+        rebuild();
+        log.info("애니 검색 색인 생성 - {}건", index.size());
+    }
+
+    public List<Long> search(String query) {
+        if (dirty) {
+            rebuild();
+        }
+        return index.search(query);
+    }
+
+    public void put(Anime anime) {
+        IndexedTitle title = toIndexedTitle(anime);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    titles.put(title.animeId(), title);
+                    dirty = true;
+                }
+            });
+        } else {
+            titles.put(title.animeId(), title);
+            dirty = true;
+        }
+    }
+
+    private synchronized void rebuild() {
+        dirty = false;
+        index = AnimeTitleIndex.of(new ArrayList<>(titles.values()));
+    }
+
+    private static IndexedTitle toIndexedTitle(Anime anime) {
+        return new IndexedTitle(
+                anime.getId(),
+                anime.getTitleKor(),
+                anime.getTitleEng(),
+                anime.getTitleOrigin()
+        );
+    }
+}
@@ -18,10 +18,16 @@ import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.OttRepository;
 import com.duckstar.s3.S3Uploader;
+import com.duckstar.schedule.EpisodeTransitionScheduler;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.service.AdminActionLogService;
+import com.duckstar.service.AnimeHomeCache;
+import com.duckstar.service.AnimeHomeCache.Section;
+import com.duckstar.service.AnimeSearchIndex;
 import com.duckstar.service.CommentService;
 import com.duckstar.service.QuarterService;
+import com.duckstar.service.ScheduleReadModel;
+import com.duckstar.service.VoteService.LiveCandidateReadModel;
 import com.duckstar.web.dto.OttDto;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -58,62 +64,13 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
     private final S3Uploader s3Uploader;
     private final CommentService commentService;
     private final AdminActionLogService adminActionLogService;
+    private final AnimeSearchIndex animeSearchIndex;
+    private final EpisodeTransitionScheduler episodeTransitionScheduler;
+    private final ScheduleReadModel scheduleReadModel;
+    private final AnimeHomeCache animeHomeCache;
+    private final LiveCandidateReadModel liveCandidateReadModel;
     private final AnimeCommentRepository animeCommentRepository;
 
-    public record PremieredEpRecord(
-            Episode episode,
-            Boolean isFirstEpisode,
-            Boolean isLastEpisode,
-
-            // 정책
-            Boolean isAfter24Minutes,
-            Boolean isAfter36Hours,
-
-            Anime anime
-    ) {}
-
-    @Override
-    public void updateStatesByWindows() {
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1분 윈도우, 24분 전 윈도우, 36시간 전 윈도우
-        // 에피소드들 조회
-        List<PremieredEpRecord> records = episodeRepository
-                .findPremieredEpRecordsInWindow(now.minusSeconds(30), now.plusSeconds(30));
-
-        records.forEach(record -> {
-            Boolean premiereFinished = record.isAfter24Minutes;
-            Boolean liveVoteFinished = record.isAfter36Hours;
-
-            // 36시간 전 윈도우 내
-            if (liveVoteFinished) {
-                Episode episode = record.episode;
-                episode.setEvaluateState(EpEvaluateState.LOGIN_REQUIRED);
-
-                // 24분 전 윈도우 내
-            } else if (premiereFinished) {
-                // 방영 상태 체크
-                Anime anime = record.anime;
-                if (anime.getStatus() == AnimeStatus.NOW_SHOWING && record.isLastEpisode) {
-                    anime.setStatus(AnimeStatus.ENDED);
-                }
-
-                // 1분 전 윈도우 내
-            } else {
-                Episode episode = record.episode;
-                episode.setEvaluateState(EpEvaluateState.VOTING_WINDOW);
-
-                // 방영 상태 체크
-                Anime anime = record.anime;
-                if (anime.getStatus() == AnimeStatus.UPCOMING && record.isFirstEpisode) {
-                    anime.setStatus(AnimeStatus.NOW_SHOWING);
-
-                    // AnimeCandidate 합류 로직 등 .. 추후 필요할 때 구현
-                }
-            }
-        });
-    }
-
     @Override
     public Long createAnime(Long memberId, PostRequestDto request) throws IOException {
         Member member = memberRepository.findById(memberId).orElseThrow(() ->
@@ -160,6 +117,8 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                 .build();
 
         Anime saved = animeRepository.save(anime);
+        animeSearchIndex.put(saved);
+        scheduleReadModel.invalidateAll();
         // 방영 상태 결정
         saved.setStatusWhenCreateByBase(LocalDateTime.now());
 
@@ -228,6 +187,7 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                     }
                 }
                 episodeRepository.saveAll(episodes);
+                episodeTransitionScheduler.reloadAfterCommit();
 
                 //=== lastEpScheduledAt에 따라 존재하는 모든 소속 분기 추가 ===//
                 lastEpWeekRecord = getThisWeekRecord(scheduledAt);
@@ -275,18 +235,17 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                     new AnimeHandler(ErrorStatus.ANIME_NOT_FOUND));
 
             String mainUrl = anime.getMainImageUrl();
-            if (mainUrl != null) {
-                int oldMainVer = extractVersion("main", mainUrl);
-                String thumbUrl = anime.getMainThumbnailUrl();
-                int oldThumbVer = extractVersion("thumb", thumbUrl);
+            String thumbUrl = anime.getMainThumbnailUrl();
 
-                csvImportService.updateAnimeMain(reqMain, Math.max(oldMainVer, oldThumbVer) + 1, anime);
+            csvImportService.uploadAnimeMain(reqMain, anime);
 
-                s3Uploader.delete(mainUrl);
-                s3Uploader.delete(thumbUrl);
-            } else {
-                csvImportService.uploadAnimeMain(reqMain, anime);
+            // 새 이미지 참조를 먼저 잡고 예전 이미지 해제 (같은 이미지를 다시 올린 경우 지워지지 않도록)
+            if (mainUrl != null) {
+                s3Uploader.release(mainUrl, thumbUrl);
             }
+            scheduleReadModel.invalidateAnime(animeId);
+            animeHomeCache.invalidate(animeId, Section.INFO);
+            liveCandidateReadModel.invalidate();
 
             return anime.getId();
         } else {
@@ -294,18 +253,6 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
         }
     }
 
-    private int extractVersion(String type, String imageUrl) {
-        // ".webp" 제거
-        String noExt = imageUrl.replaceFirst("\\.webp$", "");
-        // "main" 뒷부분 추출
-        String versionString = noExt.substring(noExt.lastIndexOf(type) + type.length());
-
-        if (versionString.startsWith("_v")) {
-            return Integer.parseInt(versionString.substring(2));
-        }
-        return 2; // 기본값
-    }
-
     @Override
     public EpisodeManageResultDto updateTotalEpisodes(
             Long memberId,
@@ -396,6 +343,10 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                     .ifPresent(ep -> ep.setIsLastEpisode(true));
         }
 
+        episodeTransitionScheduler.reloadAfterCommit();
+        scheduleReadModel.invalidateAnimeEpisodes(animeId);
+        animeHomeCache.invalidate(animeId, Section.INFO, Section.EPISODES);
+
         //=== 댓글 연관관계 재설정 및 로그 기록 ===//
         commentService.redefineRelationWithTails(
                 animeId, addedEpisodes, deletedEpisodes);
@@ -420,6 +371,7 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                 .orElseThrow(() -> new AnimeHandler(ErrorStatus.ANIME_NOT_FOUND));
 
         anime.setTotalEpisodes(null);
+        animeHomeCache.invalidate(animeId, Section.INFO);
 
         // 로그 기록
         AdminActionLog adminActionLog = adminActionLogService.saveAdminActionLog(
@@ -481,12 +433,18 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
 
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, anime, AdminTaskType.ANIME_DIRECTION_UPDATE));
+
+            episodeTransitionScheduler.reloadAfterCommit();
+            scheduleReadModel.invalidateAnimeEpisodes(animeId);
+            animeHomeCache.invalidate(animeId, Section.INFO, Section.EPISODES);
         }
 
         // 2. 상태 설정
         AnimeStatus statusReq = request.getStatus();
         if (statusReq != null && !statusReq.equals(anime.getStatus())) {
             anime.setStatus(statusReq);
+            scheduleReadModel.invalidateAnime(animeId);
+            animeHomeCache.invalidate(animeId, Section.INFO);
 
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, anime, AdminTaskType.ANIME_STATUS_UPDATE));
@@ -496,6 +454,7 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
         String corpReq = request.getCorp();
         if (corpReq != null && !corpReq.equals(anime.getCorp())) {
             anime.setCorp(corpReq);
+            animeHomeCache.invalidate(animeId, Section.INFO);
 
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, anime, AdminTaskType.ANIME_INFO_UPDATE));
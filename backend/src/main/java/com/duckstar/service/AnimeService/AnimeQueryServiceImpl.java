@@ -5,18 +5,15 @@ import com.duckstar.abroad.aniLab.AnilabRepository;
 import com.duckstar.abroad.animeCorner.AnimeCorner;
 import com.duckstar.abroad.animeCorner.AnimeCornerRepository;
 import com.duckstar.apiPayload.code.status.ErrorStatus;
-import com.duckstar.apiPayload.exception.handler.AnimeHandler;
 import com.duckstar.apiPayload.exception.handler.QuarterHandler;
 import com.duckstar.domain.Anime;
 import com.duckstar.domain.Quarter;
-import com.duckstar.domain.enums.DayOfWeekShort;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
-import com.duckstar.repository.AnimeCharacter.AnimeCharacterRepository;
-import com.duckstar.repository.AnimeOtt.AnimeOttRepository;
 import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.AnimeQuarter.AnimeQuarterRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.QuarterRepository;
+import com.duckstar.service.AnimeHomeCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,7 +22,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,12 +35,11 @@ import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 public class AnimeQueryServiceImpl implements AnimeQueryService {
     private final AnimeRepository animeRepository;
     private final AnimeQuarterRepository animeQuarterRepository;
-    private final AnimeOttRepository animeOttRepository;
-    private final AnimeCharacterRepository animeCharacterRepository;
     private final EpisodeRepository episodeRepository;
     private final AnimeCornerRepository animeCornerRepository;
     private final AnilabRepository anilabRepository;
     private final QuarterRepository quarterRepository;
+    private final AnimeHomeCache animeHomeCache;
 
     @Override
     public List<DuckstarRankPreviewDto> getAnimeRankPreviewsByWeekId(Long weekId, int size) {
@@ -94,63 +89,8 @@ public class AnimeQueryServiceImpl implements AnimeQueryService {
 
     @Override
     public AnimeHomeDto getAnimeHomeDtoById(Long animeId) {
-        // 애니 정보, 분기 성적 통계
-        Anime anime = animeRepository.findById(animeId).orElseThrow(() ->
-                new AnimeHandler(ErrorStatus.ANIME_NOT_FOUND));
-
-        LocalDateTime premiereDateTime = anime.getPremiereDateTime();
-
-        LocalTime airTime = anime.getAirTime();
-        AnimeInfoDto animeInfoDto = AnimeInfoDto.builder()
-                .medium(anime.getMedium())
-                .status(anime.getStatus())
-                .totalEpisodes(anime.getTotalEpisodes())
-                .premiereDateTime(premiereDateTime)
-                .titleKor(anime.getTitleKor())
-                .titleOrigin(anime.getTitleOrigin())
-                .dayOfWeek(
-                        DayOfWeekShort.getLogicalDay(airTime ,anime.getDayOfWeek())
-                )
-                .airTime(airTime)
-                .synopsis(anime.getSynopsis())
-                .corp(anime.getCorp())
-                .director(anime.getDirector())
-                .genre(anime.getGenre())
-                .author(anime.getAuthor())
-                .minAge(anime.getMinAge())
-                .officialSite(anime.getOfficialSite())
-                .mainImageUrl(anime.getMainImageUrl())
-                .mainThumbnailUrl(anime.getMainThumbnailUrl())
-                .quarterDtos(
-                        animeQuarterRepository.getQuarterDtosByAnimeId(animeId)
-                )
-                .ottDtos(
-                        animeOttRepository.getOttDtosByAnimeId(animeId)
-                )
-                .build();
-
-        AnimeStatDto animeStatDto = AnimeStatDto.builder()
-                .debutRank(anime.getDebutRank())
-                .debutDate(anime.getDebutDate())
-                .peakRank(anime.getPeakRank())
-                .peakDate(anime.getPeakDate())
-                .weeksOnTop10(anime.getWeeksOnTop10())
-                .build();
-
-        return AnimeHomeDto.builder()
-                .animeInfoDto(animeInfoDto)
-                .animeStatDto(animeStatDto)
-                .episodeResponseDtos(
-                        episodeRepository.getEpisodeDtosByAnimeId(animeId)
-                )
-                .rackUnitDtos(
-                        null
-                        /*animeCandidateRepository.getRackUnitDtosByAnimeId(animeId)*/
-                )
-                .castPreviews(
-                        animeCharacterRepository.getAllCharacterHomePreviewsByAnimeId(animeId)
-                )
-                .build();
+        // 애니 정보, 분기 성적 통계, 에피소드, 캐스팅 - 섹션별 캐시
+        return animeHomeCache.get(animeId);
     }
 
     public Optional<Episode> findCurrentEpisode(Anime anime, LocalDateTime now) {
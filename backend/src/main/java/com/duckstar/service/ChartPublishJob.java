@@ -0,0 +1,91 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.enums.ChartPublishStep;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주간 차트 발표 작업 하나의 진행 상태 (메모리 보관, 주차당 하나)
+ *
+ *  - 단계마다 짧은 트랜잭션 하나 -> 커밋된 뒤에만 다음 단계로
+ *  - 다음 단계는 그 트랜잭션에서 Week.publishStep 에도 저장 -> 재기동 후에는 저장된 단계로 작업 복원
+ *  - 실패 후 재개하면 실패한 단계부터 다시 (각 단계는 다시 돌려도 결과 동일)
+ *  - 작업 스레드 하나만 고치고, 조회 API 는 읽기만
+ */
+@Getter
+public class ChartPublishJob {
+
+    public enum Status {
+        RUNNING,
+        FAILED,
+        DONE
+    }
+
+    private final Long weekId;
+
+    private volatile ChartPublishStep step;
+    private volatile Status status = Status.RUNNING;
+    private volatile String errorMessage;
+
+    private volatile int rankedCount;
+    private volatile int bannerCount;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+
+    public ChartPublishJob(Long weekId, ChartPublishStep firstStep) {
+        this.weekId = weekId;
+        this.step = firstStep;
+    }
+
+    /**
+     * 재기동 등으로 메모리에서 사라진 작업을 저장된 단계로 복원
+     *  - 끝나지 않은 작업은 실패로 두어 재개 API 로 이어서 진행
+     *  - 순위/배너 건수는 복원하지 않음
+     */
+    public static ChartPublishJob restore(Long weekId, ChartPublishStep savedStep) {
+        ChartPublishJob job = new ChartPublishJob(weekId, savedStep);
+        if (savedStep == ChartPublishStep.DONE) {
+            job.done();
+        } else {
+            job.fail("서버 재기동으로 중단됨");
+        }
+        return job;
+    }
+
+    //=== 상태 전이 (작업 스레드) ===//
+
+    public void nextStep() {
+        step = step.next();
+    }
+
+    public void setRankedCount(int rankedCount) {
+        this.rankedCount = rankedCount;
+    }
+
+    public void setBannerCount(int bannerCount) {
+        this.bannerCount = bannerCount;
+    }
+
+    public void resume() {
+        errorMessage = null;
+        finishedAt = null;
+        status = Status.RUNNING;
+    }
+
+    public void done() {
+        status = Status.DONE;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+}
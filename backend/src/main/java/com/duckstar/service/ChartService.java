@@ -1,34 +1,46 @@
 package com.duckstar.service;
 
 import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.AdminHandler;
 import com.duckstar.apiPayload.exception.handler.SurveyHandler;
 import com.duckstar.apiPayload.exception.handler.WeekHandler;
+import com.duckstar.domain.Anime;
 import com.duckstar.domain.HomeBanner;
 import com.duckstar.domain.Survey;
 import com.duckstar.domain.Week;
 import com.duckstar.domain.enums.BannerType;
+import com.duckstar.domain.enums.ChartPublishStep;
 import com.duckstar.domain.enums.EpEvaluateState;
 import com.duckstar.domain.enums.SurveyStatus;
 import com.duckstar.domain.mapping.surveyVote.SurveyCandidate;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
-import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
 import com.duckstar.domain.vo.RankInfo;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepositoryCustom.EligibleStarRecord;
 import com.duckstar.repository.HomeBannerRepository;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
 import com.duckstar.repository.SurveyRepository;
 import com.duckstar.repository.SurveyVote.SurveyVoteRepository;
 import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.service.VoteService.LiveCandidateReadModel;
+import com.duckstar.service.VoteService.StarTallyBuffer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChartService {
@@ -37,6 +49,10 @@ public class ChartService {
     private final EpisodeRepository episodeRepository;
     private final EpisodeStarRepository episodeStarRepository;
     private final HomeBannerRepository homeBannerRepository;
+    private final StarTallyBuffer starTallyBuffer;
+    private final ChartSnapshotCache chartSnapshotCache;
+    private final AnimeHomeCache animeHomeCache;
+    private final LiveCandidateReadModel liveCandidateReadModel;
 
     // 0.5(중간 수준) -> 0.3 으로 작아질 수록 평점 가중치 우선됨
     // ⚠️ 권장: 0.5 또는 0.3
@@ -45,121 +61,268 @@ public class ChartService {
     private final SurveyCandidateRepository surveyCandidateRepository;
     private final SurveyVoteRepository surveyVoteRepository;
     private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 발표는 한 번에 하나씩
+    private final ExecutorService publishExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chart-publish");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, ChartPublishJob> publishJobs = new ConcurrentHashMap<>();
+
+    //=== 주간 차트 발표 (단계별 비동기) ===//
+
+    /**
+     * 검증만 하고 바로 반환 - 단계들은 별도 스레드에서 단계마다 짧은 트랜잭션으로
+     *  - 이미 진행 중이면 그 작업을, 실패한 작업이 있으면 실패한 단계부터 재개
+     *  - 재기동으로 작업이 사라졌으면 Week 에 저장된 단계부터
+     *  - 단계 저장 없이 발표 준비만 된 주차 (수동 집계 등) 는 배너가 없으면 배너 단계부터
+     */
+    public ChartPublishJob startPublish(Long weekId) {
+        synchronized (publishJobs) {
+            ChartPublishJob existing = publishJobs.get(weekId);
+            if (existing != null && existing.getStatus() == ChartPublishJob.Status.RUNNING) {
+                return existing;
+            }
+            if (existing != null && existing.getStatus() == ChartPublishJob.Status.FAILED) {
+                return resumePublish(weekId);
+            }
 
-    @Transactional
-    public void calculateRankByYQW(Long weekId) {
-        // 차트 계산, 발표 준비 완료
-        buildDuckstars(weekId, false);
+            ChartPublishStep firstStep = transactionTemplate.execute(status -> {
+                Week lastWeek = findWeek(weekId);
+                ChartPublishStep savedStep = lastWeek.getPublishStep();
+                if (savedStep == ChartPublishStep.DONE) {
+                    throw new WeekHandler(ErrorStatus.WEEK_ANNOUNCED_ALREADY);
+                }
+                if (savedStep != null) {
+                    return savedStep;
+                }
+                if (lastWeek.getAnnouncePrepared()) {
+                    if (homeBannerRepository.existsByWeek_Id(weekId)) {
+                        throw new WeekHandler(ErrorStatus.WEEK_ANNOUNCED_ALREADY);
+                    }
+                    return ChartPublishStep.BANNERS;
+                }
+                validateClosed(findEpisodes(lastWeek));
+                return ChartPublishStep.TALLY;
+            });
+
+            ChartPublishJob job = new ChartPublishJob(weekId, firstStep);
+            publishJobs.put(weekId, job);
+            publishExecutor.execute(() -> runPublish(job));
+            return job;
+        }
+    }
 
-        // 배너 생성
-        createBanners(weekId);
+    /**
+     * 메모리에 없으면 (재기동 등) Week 에 저장된 단계로 작업 복원
+     */
+    public ChartPublishJob getPublishJob(Long weekId) {
+        ChartPublishJob job = publishJobs.get(weekId);
+        if (job != null) {
+            return job;
+        }
+
+        ChartPublishStep savedStep = transactionTemplate.execute(status ->
+                findWeek(weekId).getPublishStep());
+        if (savedStep == null) {
+            throw new AdminHandler(ErrorStatus.CHART_JOB_NOT_FOUND);
+        }
+        return publishJobs.computeIfAbsent(weekId, id -> ChartPublishJob.restore(id, savedStep));
     }
 
+    /**
+     * 실패한 작업을 실패한 단계부터 재개
+     */
+    public ChartPublishJob resumePublish(Long weekId) {
+        ChartPublishJob job = getPublishJob(weekId);
+        synchronized (job) {
+            if (job.getStatus() != ChartPublishJob.Status.FAILED) {
+                throw new AdminHandler(ErrorStatus.CHART_JOB_NOT_RESUMABLE);
+            }
+            job.resume();
+        }
+        publishExecutor.execute(() -> runPublish(job));
+        return job;
+    }
+
+    private void runPublish(ChartPublishJob job) {
+        Long weekId = job.getWeekId();
+        try {
+            while (job.getStep() != ChartPublishStep.DONE) {
+                // 다음 단계는 단계 작업과 같은 트랜잭션에서 저장 (커밋된 단계만 건너뜀)
+                ChartPublishStep next = job.getStep().next();
+                switch (job.getStep()) {
+                    case TALLY -> transactionTemplate.executeWithoutResult(status -> {
+                        starTallyBuffer.markRecount();  // 집계 전 첫 조회보다 먼저
+                        Week week = findWeek(weekId);
+                        tally(week);
+                        week.setPublishStep(next);
+                    });
+                    case RANK -> job.setRankedCount(transactionTemplate.execute(status -> {
+                        Week week = findWeek(weekId);
+                        int rankedCount = rank(week);
+                        week.setPublishStep(next);
+                        return rankedCount;
+                    }));
+                    case STREAK -> transactionTemplate.executeWithoutResult(status -> {
+                        Week week = findWeek(weekId);
+                        updateStreaks(week);
+                        week.setPublishStep(next);
+                    });
+                    case BANNERS -> job.setBannerCount(transactionTemplate.execute(status -> {
+                        Week week = findWeek(weekId);
+                        int bannerCount = createBanners(week);
+                        week.setPublishStep(next);
+                        return bannerCount;
+                    }));
+                    case WARM_UP -> {
+                        warmUp(weekId);
+                        transactionTemplate.executeWithoutResult(status ->
+                                findWeek(weekId).setPublishStep(next));
+                    }
+                }
+                job.nextStep();
+            }
+            job.done();
+            log.info("✅ 주간 차트 발표 완료 - weekId: {}, 순위 {}건, 배너 {}건",
+                    weekId, job.getRankedCount(), job.getBannerCount());
+
+        } catch (Exception e) {
+            log.error("❌ 주간 차트 발표 실패 - weekId: {}, step: {}", weekId, job.getStep(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publishExecutor.shutdownNow();
+    }
+
+    /**
+     * 한 트랜잭션 안에서 집계 ~ 스트릭까지 (과거 주차 차트 정리용)
+     */
     @Transactional
     public void buildDuckstars(Long lastWeekId, Boolean isForOrganizing) {
-        Week lastWeek = weekRepository.findWeekById(lastWeekId).orElseThrow(() ->
-                new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+        // 집계 전 첫 조회보다 먼저
+        starTallyBuffer.markRecount();
+
+        Week lastWeek = findWeek(lastWeekId);
 
-        if (!isForOrganizing && lastWeek.getAnnouncePrepared()) {
-            throw new WeekHandler(ErrorStatus.WEEK_ANNOUNCED_ALREADY);
+        if (!isForOrganizing) {
+            if (lastWeek.getAnnouncePrepared()) {
+                throw new WeekHandler(ErrorStatus.WEEK_ANNOUNCED_ALREADY);
+            }
+            validateClosed(findEpisodes(lastWeek));
         }
 
-        //=== 회수된 표 제외 ===//
-        // WeekVoteSubmission과 관계지은 EpisodeStar들만 조회
-        // ALWAYS_OPEN 인 에피소드는 WeekVoteSubmission의 관계 없이 생성되므로 OK (추후 개발)
-        List<EpisodeStar> allEpisodeStars = episodeStarRepository.findAllEligibleByWeekId(lastWeekId);
+        tally(lastWeek);
+        rank(lastWeek);
+        updateStreaks(lastWeek);
+    }
 
-        Map<Long, List<EpisodeStar>> episodeStarMap = allEpisodeStars.stream()
-                .collect(Collectors.groupingBy(es -> es.getEpisode().getId()));
+    @Transactional
+    public void createBanners(Long lastWeekId) {
+        createBanners(findWeek(lastWeekId));
+    }
 
-        //=== 이번 주 휴방 아닌 에피소드들 - 표 집계 ===//
-        List<Episode> episodes = episodeRepository
+    private Week findWeek(Long weekId) {
+        return weekRepository.findWeekById(weekId).orElseThrow(() ->
+                new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+    }
+
+    // 이번 주 휴방 아닌 에피소드들
+    private List<Episode> findEpisodes(Week lastWeek) {
+        return episodeRepository
                 .findAllByScheduledAtGreaterThanEqualAndScheduledAtLessThan(
                         lastWeek.getStartDateTime(), lastWeek.getEndDateTime())
                 .stream()
                 .filter(e -> !e.isBreak())
                 .toList();
+    }
 
-        List<Integer> voterCountList = new ArrayList<>();
-        for (Episode episode : episodes) {
-            List<EpisodeStar> thisEpisodeStars =
-                    episodeStarMap.get(episode.getId());
-
-            if (!isForOrganizing
-                    // 모든 에피소드가 주차 마감을 기다리는 상태여야 함
-                    && episode.getEvaluateState() != EpEvaluateState.LOGIN_REQUIRED) {
-                throw new WeekHandler(ErrorStatus.WEEK_NOT_CLOSED);
-            }
-
-            if (thisEpisodeStars == null || thisEpisodeStars.isEmpty()) {
-                voterCountList.add(0);
+    // 순위가 붙은 에피소드 (애니 fetch join), 순위 순
+    private List<Episode> findRankedEpisodes(Week lastWeek) {
+        return episodeRepository
+                .findAllWithAnimeByDuration(lastWeek.getStartDateTime(), lastWeek.getEndDateTime())
+                .stream()
+                .filter(e -> e.getRankInfo() != null && e.getRankInfo().getRank() != null)
+                .sorted(Comparator.comparing(e -> e.getRankInfo().getRank()))
+                .toList();
+    }
 
-            } else {
-                //=== 같은 ip 에서 같은 점수 4개 이상 준 경우 감지 ===//
-                Map<String, List<Integer>> ipHashScoresMap = thisEpisodeStars.stream()
-                        .collect(Collectors.groupingBy(
-                                        es -> es.getWeekVoteSubmission().getIpHash(),
-                                        Collectors.mapping(EpisodeStar::getStarScore, Collectors.toList())
-                                )
-                        );
+    private void validateClosed(List<Episode> episodes) {
+        // 모든 에피소드가 주차 마감을 기다리는 상태여야 함
+        boolean isClosed = episodes.stream()
+                .allMatch(e -> e.getEvaluateState() == EpEvaluateState.LOGIN_REQUIRED);
+        if (!isClosed) {
+            throw new WeekHandler(ErrorStatus.WEEK_NOT_CLOSED);
+        }
+    }
 
-                List<String> blockedIpHashes = new ArrayList<>();
+    //=== 1. 집계 ===//
 
-                for (Map.Entry<String, List<Integer>> entry : ipHashScoresMap.entrySet()) {
-                    Map<Integer, Long> scoreCountMap = entry.getValue().stream()
-                            .collect(Collectors.groupingBy(s -> s, Collectors.counting()));
+    private void tally(Week lastWeek) {
+        //=== 회수된 표 제외, 단일 패스 집계 ===//
+        // WeekVoteSubmission과 관계지은 EpisodeStar들만 조회
+        // ALWAYS_OPEN 인 에피소드는 WeekVoteSubmission의 관계 없이 생성되므로 OK (추후 개발)
+        EligibleStarTally tally;
+        try (Stream<EligibleStarRecord> records =
+                     episodeStarRepository.streamEligibleRecordsByWeekId(lastWeek.getId())) {
+            tally = EligibleStarTally.of(records);
+        }
 
-                    boolean hasRepeatedScore = scoreCountMap.values().stream()
-                            .anyMatch(count -> count >= 4);
+        //=== 이번 주 휴방 아닌 에피소드들 - 표 집계 ===//
+        List<Episode> episodes = findEpisodes(lastWeek);
 
-                    if (hasRepeatedScore) {
-                        blockedIpHashes.add(entry.getKey());
-                    }
-                }
+        // 전체 투표 수
+        int totalVotes = 0;
+        for (Episode episode : episodes) {
+            EpisodeStarCount count = tally.countMap().get(episode.getId());
+            if (count == null) {
+                continue;
+            }
 
-                // 제외시키기
-                thisEpisodeStars = thisEpisodeStars.stream()
-                        .filter(es -> !blockedIpHashes.contains(es.getWeekVoteSubmission().getIpHash()))
-                        .toList();
+            // 같은 ip 에서 같은 점수 4개 이상 준 표는 집계 단계에서 이미 제외됨
+            totalVotes += count.voterCount;
 
-                int voterCount = thisEpisodeStars.size();
-                voterCountList.add(voterCount);
+            episode.setStats(count.voterCount, count.scores);
 
-                int[] scores = new int[10];
+            // 투표 마감
+            episode.setEvaluateState(EpEvaluateState.ALWAYS_OPEN);
+        }
 
-                for (EpisodeStar episodeStar : thisEpisodeStars) {
-                    Integer starScore = episodeStar.getStarScore();
-                    int idx = starScore - 1;
-                    scores[idx] += 1;
-                }
+        // 고유 투표자 수
+        lastWeek.updateAnimeVotes(totalVotes, tally.uniqueVoterCount());
 
-                episode.setStats(voterCount, scores);
+        // 재집계 값 커밋 후 실시간 집계 버퍼 초기화
+        starTallyBuffer.reset(episodes);
+        liveCandidateReadModel.invalidate();
+    }
 
-                // 투표 마감
-                episode.setEvaluateState(EpEvaluateState.ALWAYS_OPEN);
-            }
-        }
+    //=== 2. 순위 ===//
 
+    /**
+     * 집계된 에피소드 통계로 순위 계산 -> 에피소드 RankInfo (애니는 읽기만)
+     * @return 순위가 붙은 에피소드 수
+     */
+    private int rank(Week lastWeek) {
         List<Episode> votedEpisodes = new ArrayList<>(
-                episodes.stream()
+                episodeRepository
+                        .findAllWithAnimeByDuration(lastWeek.getStartDateTime(), lastWeek.getEndDateTime())
+                        .stream()
                         .filter(e -> e.getVoterCount() != null && e.getVoterCount() > 0)
                         .toList()
         );
-        List<Integer> votedCountList = new ArrayList<>(
-                voterCountList.stream()
-                        .filter(c -> c > 0)
-                        .sorted()
-                        .toList()
-        );
-        // 전체 투표 수
-        int totalVotes = votedCountList.stream().mapToInt(Integer::intValue).sum();
+        List<Integer> votedCountList = votedEpisodes.stream()
+                .map(Episode::getVoterCount)
+                .sorted()
+                .toList();
 
-        // 고유 투표자 수
-        int uniqueVoterCount = (int) allEpisodeStars.stream()
-                    .map(es -> es.getWeekVoteSubmission().getId())
-                    .distinct()
-                    .count();
-        lastWeek.updateAnimeVotes(totalVotes, uniqueVoterCount);
+        // 전체 투표 수, 고유 투표자 수 (집계 단계에서 저장)
+        int totalVotes = lastWeek.getAnimeVotes();
+        int uniqueVoterCount = lastWeek.getAnimeVoterCount();
         int minVotes = (int) Math.ceil(0.1 * uniqueVoterCount);
 
         // 가중치 총 합계
@@ -167,18 +330,13 @@ public class ChartService {
                 .mapToDouble(Episode::getWeightedSum)
                 .sum();  // 전체 합계 10점 만점 스케일로 맞춤
 
-        // === median 리스트 만들기 === //
-        List<Integer> medianList = votedEpisodes.stream()
-                .map(Episode::getVoterCount)
-                .sorted()
-                .toList();
-
-        int size = medianList.size();
+        // === median === //
+        int size = votedCountList.size();
 
         int median = (size == 0) ? 0 :
                 (size % 2 == 1)
-                        ? medianList.get(size / 2)
-                        : (medianList.get(size / 2 - 1) + medianList.get(size / 2)) / 2;
+                        ? votedCountList.get(size / 2)
+                        : (votedCountList.get(size / 2 - 1) + votedCountList.get(size / 2)) / 2;
 
         double C = totalVotes == 0 ? 0.0 : weightedSum / totalVotes;
 
@@ -191,13 +349,8 @@ public class ChartService {
         int mCap = (int) Math.min(100, Math.round(0.3 * uniqueVoterCount));
         m = Math.min(m, mCap); // 상한 (유입 급증 방지)
 
-        System.out.println("=====투표 정책=====");
-        System.out.println("totalVotes = " + totalVotes);
-        System.out.println("uniqueVoterCount = " + uniqueVoterCount);
-        System.out.println("minVotes = " + minVotes);
-        System.out.println("weightedSum = " + weightedSum);
-        System.out.println("m = " + m);
-        System.out.println("C = " + C);
+        log.debug("투표 정책 - weekId: {}, totalVotes: {}, uniqueVoterCount: {}, minVotes: {}, weightedSum: {}, m: {}, C: {}",
+                lastWeek.getId(), totalVotes, uniqueVoterCount, minVotes, weightedSum, m, C);
 
         //=== 정렬 및 차트 만들기 ===//
         Map<Integer, List<Episode>> chart = buildChart(
@@ -207,25 +360,176 @@ public class ChartService {
                 minVotes
         );
 
-        //=== Anime 스트릭과 결합, RankInfo 셋팅 ===//
+        //=== Anime 지난 기록과 결합, RankInfo 셋팅 ===//
+        return setRankInfos(lastWeek, chart);
+    }
+
+    // 같은 애니의 RankInfo 를 이어 붙이는 순서 (순위 -> 동점이면 에피소드 id)
+    private static final Comparator<Episode> RANK_ORDER = Comparator
+            .comparing((Episode e) -> e.getRankInfo().getRank())
+            .thenComparing(Episode::getId);
+
+    /**
+     * 차트 순서대로 RankInfo 셋팅 (애니는 읽기만)
+     *  - 한 애니의 에피소드가 여럿 순위에 들면 앞 순위 RankInfo 를 다음 계산의 지난 기록으로
+     *    -> 스트릭 단계에서 순위 순으로 반영한 결과가 애니를 차례로 고친 것과 같음
+     * @return 순위가 붙은 에피소드 수
+     */
+    static int setRankInfos(Week lastWeek, Map<Integer, List<Episode>> chart) {
+        LocalDate lastWeekEndDate = lastWeek.getEndDateTime().toLocalDate();
+        Map<Long, RankInfo> lastRankInfoMap = new HashMap<>();  // 애니 id -> 이번 주 마지막 RankInfo
+        int rankedCount = 0;
         for (Map.Entry<Integer, List<Episode>> entry : chart.entrySet()) {
             int rank = entry.getKey();
-            LocalDateTime lastWeekEndAt = lastWeek.getEndDateTime();
-            for (Episode episode : entry.getValue()) {  // 동점자 각각 처리
-                RankInfo rankInfo = RankInfo.create(
-                        episode.getAnime(),
-                        rank,
-                        lastWeekEndAt.toLocalDate(),
-                        episode.getUiStarAverage(),
-                        episode.getVoterCount()
-                );
+            List<Episode> ties = entry.getValue().stream()
+                    .sorted(Comparator.comparing(Episode::getId))
+                    .toList();
+            for (Episode episode : ties) {  // 동점자 각각 처리
+                Anime anime = episode.getAnime();
+                RankInfo previous = lastRankInfoMap.get(anime.getId());
+                RankInfo rankInfo = previous == null ?
+                        RankInfo.create(
+                                anime,
+                                rank,
+                                lastWeekEndDate,
+                                episode.getUiStarAverage(),
+                                episode.getVoterCount()
+                        ) :
+                        RankInfo.createAfter(
+                                previous,
+                                rank,
+                                lastWeekEndDate,
+                                episode.getUiStarAverage(),
+                                episode.getVoterCount()
+                        );
 
                 episode.setRankInfo(lastWeek, rankInfo);
+                lastRankInfoMap.put(anime.getId(), rankInfo);
+                rankedCount += 1;
             }
         }
+        return rankedCount;
+    }
+
+    //=== 3. 스트릭 ===//
+
+    /**
+     * 에피소드 RankInfo 를 애니 스트릭에 반영하고 발표 준비 완료
+     *  - 반영은 RankInfo 값을 그대로 덮어쓰므로 다시 돌려도 결과 동일
+     */
+    private void updateStreaks(Week lastWeek) {
+        Set<Long> rankedAnimeIds = applyRankInfos(findRankedEpisodes(lastWeek));
 
         // 발표 준비 완료
         lastWeek.setAnnouncePrepared(true);
+
+        // 커밋 후 차트 스냅샷 새로 만들기
+        chartSnapshotCache.invalidate(lastWeek.getId());
+        // 순위가 붙은 애니의 상세 페이지 통계만
+        animeHomeCache.invalidate(rankedAnimeIds, AnimeHomeCache.Section.STATS);
+    }
+
+    /**
+     * RankInfo 를 셋팅 때와 같은 순서로 애니에 반영 -> 같은 애니는 마지막 RankInfo 가 남음
+     * @return 순위가 붙은 애니 id
+     */
+    static Set<Long> applyRankInfos(List<Episode> rankedEpisodes) {
+        Set<Long> rankedAnimeIds = new HashSet<>();
+        rankedEpisodes.stream()
+                .sorted(RANK_ORDER)
+                .forEach(episode -> {
+                    episode.getAnime().applyRankInfo(episode.getRankInfo());
+                    rankedAnimeIds.add(episode.getAnime().getId());
+                });
+        return rankedAnimeIds;
+    }
+
+    private static final class EpisodeStarCount {
+        int voterCount;  // 반복 점수 ip 제외 후
+        final int[] scores = new int[10];
+    }
+
+    /**
+     * 주차 유효 별점의 단일 패스 집계 결과
+     *  - 에피소드 순으로 정렬된 스트림을 한 번만 훑으며,
+     *    에피소드 안에서 같은 ip 가 같은 점수를 4개 이상 준 경우 그 ip 의 표를 모두 제외
+     *  - 고유 투표자 수는 ip 제외 전 기준 (기존 집계와 동일)
+     */
+    private record EligibleStarTally(
+            Map<Long, EpisodeStarCount> countMap,
+            int uniqueVoterCount
+    ) {
+        private static EligibleStarTally of(Stream<EligibleStarRecord> records) {
+            Map<Long, EpisodeStarCount> countMap = new HashMap<>();
+
+            long[] submissionIds = new long[1024];
+            int size = 0;
+
+            Long currentEpisodeId = null;
+            Map<String, int[]> ipScoresMap = new HashMap<>();  // 현재 에피소드의 ip 별 점수 히스토그램
+
+            Iterator<EligibleStarRecord> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                EligibleStarRecord record = iterator.next();
+
+                if (!record.episodeId().equals(currentEpisodeId)) {
+                    closeEpisode(countMap, currentEpisodeId, ipScoresMap);
+                    currentEpisodeId = record.episodeId();
+                }
+
+                ipScoresMap.computeIfAbsent(record.ipHash(), k -> new int[10])
+                        [record.starScore() - 1] += 1;
+
+                if (size == submissionIds.length) {
+                    submissionIds = Arrays.copyOf(submissionIds, size * 2);
+                }
+                submissionIds[size++] = record.submissionId();
+            }
+            closeEpisode(countMap, currentEpisodeId, ipScoresMap);
+
+            // 고유 투표자 수: 정렬 후 중복 제거
+            Arrays.sort(submissionIds, 0, size);
+            int uniqueVoterCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || submissionIds[i] != submissionIds[i - 1]) {
+                    uniqueVoterCount += 1;
+                }
+            }
+
+            return new EligibleStarTally(countMap, uniqueVoterCount);
+        }
+
+        private static void closeEpisode(
+                Map<Long, EpisodeStarCount> countMap,
+                Long episodeId,
+                Map<String, int[]> ipScoresMap
+        ) {
+            if (episodeId == null) {
+                return;
+            }
+
+            EpisodeStarCount count = new EpisodeStarCount();
+            for (int[] ipScores : ipScoresMap.values()) {
+                //=== 같은 ip 에서 같은 점수 4개 이상 준 경우 감지 ===//
+                boolean hasRepeatedScore = false;
+                for (int c : ipScores) {
+                    if (c >= 4) {
+                        hasRepeatedScore = true;
+                        break;
+                    }
+                }
+                if (hasRepeatedScore) {
+                    continue;  // 제외시키기
+                }
+
+                for (int i = 0; i < ipScores.length; i++) {
+                    count.scores[i] += ipScores[i];
+                    count.voterCount += ipScores[i];
+                }
+            }
+            countMap.put(episodeId, count);
+            ipScoresMap.clear();
+        }
     }
 
     private int computeP75(List<Integer> voterCountList) {
@@ -252,7 +556,8 @@ public class ChartService {
         }
     }
 
-    private Map<Integer, List<Episode>> buildChart(
+    // 순수 계산 (상태 X) - ChartBenchmark 에서 직접 호출
+    static Map<Integer, List<Episode>> buildChart(
             List<Episode> episodes,
             int m,
             double C,
@@ -336,7 +641,7 @@ public class ChartService {
         return chart;
     }
 
-    private double epsDynamic(int a, int b) {
+    static double epsDynamic(int a, int b) {
         // 작은 표본 쪽 불확실성 우선 반영
         double base = BASE_WEIGHT * (1/Math.sqrt(a) + 1/Math.sqrt(b));
 
@@ -345,18 +650,18 @@ public class ChartService {
         return Math.max(min, base);
     }
 
-    @Transactional
-    public void createBanners(Long lastWeekId) {
-        Week lastWeek = weekRepository.findWeekById(lastWeekId).orElseThrow(() ->
-                new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+    //=== 4. 배너 ===//
 
-        List<Episode> episodes = episodeRepository
-                .findAllByScheduledAtGreaterThanEqualAndScheduledAtLessThan(
-                        lastWeek.getStartDateTime(), lastWeek.getEndDateTime())
-                .stream()
-                .filter(e -> e.getRankInfo() != null && e.getRankInfo().getRank() != null)
-                .sorted(Comparator.comparing(e -> e.getRankInfo().getRank()))
-                .toList();
+    /**
+     * @return 만든 배너 수 (이미 있으면 만들지 않고 0)
+     */
+    private int createBanners(Week lastWeek) {
+        if (homeBannerRepository.existsByWeek_Id(lastWeek.getId())) {
+            return 0;
+        }
+
+        List<Episode> episodes = findRankedEpisodes(lastWeek);
+        List<HomeBanner> banners = new ArrayList<>();
 
         int remainSize = 6;
         int batchSize = 10;
@@ -376,7 +681,7 @@ public class ChartService {
                     .toList();
 
             for (Episode episode : newEpisodes) {
-                homeBannerRepository.save(
+                banners.add(
                         HomeBanner.createByAnime(
                                 lastWeek,
                                 number,
@@ -399,7 +704,7 @@ public class ChartService {
                     .toList();
 
             for (Episode episode : hotEpisodes) {
-                homeBannerRepository.save(
+                banners.add(
                         HomeBanner.createByAnime(
                                 lastWeek,
                                 number,
@@ -413,6 +718,23 @@ public class ChartService {
 
             i += 1;
         }
+
+        homeBannerRepository.saveAll(banners);
+        return banners.size();
+    }
+
+    //=== 5. 예열 ===//
+
+    private void warmUp(Long weekId) {
+        // 스냅샷은 스트릭 단계 커밋 후 이미 만들어졌으면 그대로 씀
+        transactionTemplate.executeWithoutResult(status -> chartSnapshotCache.getOrLoad(weekId));
+
+        List<Long> rankedAnimeIds = transactionTemplate.execute(status ->
+                findRankedEpisodes(findWeek(weekId)).stream()
+                        .map(e -> e.getAnime().getId())
+                        .distinct()
+                        .toList());
+        animeHomeCache.warm(rankedAnimeIds);
     }
 
     public record SurveyStatRecord(
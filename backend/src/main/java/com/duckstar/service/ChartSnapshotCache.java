@@ -0,0 +1,202 @@
+package com.duckstar.service;
+
+import com.duckstar.abroad.aniLab.AnilabRepository;
+import com.duckstar.abroad.animeCorner.AnimeCornerRepository;
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.WeekHandler;
+import com.duckstar.domain.Week;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.service.AnimeService.AnimeQueryService;
+import com.duckstar.service.QueryFanOut.Branch;
+import com.duckstar.web.dto.RankInfoDto.DuckstarRankPreviewDto;
+import com.duckstar.web.dto.RankInfoDto.RankPreviewDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static com.duckstar.web.dto.AnimeResponseDto.*;
+
+/**
+ * 발표된 주차 차트 스냅샷 캐시
+ *
+ *  - 주차 차트는 announcePrepared 이후 바뀌지 않으므로, 덕스타 순위 / Anime Corner / AniLab / 투표자 수를
+ *    불변 스냅샷으로 한 번 만들어 두고 페이지 요청은 메모리에서 잘라서 응답한다.
+ *  - 키는 (weekId, version): 관리자가 차트를 다시 계산하거나 표를 회수하면 version 을 올려
+ *    이전 스냅샷을 버린다. (만드는 도중 무효화되어도 옛 version 으로 저장되므로 읽히지 않음)
+ *  - 페이지로 나가는 세 차트는 크기 상한 없이 전부 담고, 덕스타 미리보기는 홈 TOP N 용이라 N 최대값까지만
+ */
+@Slf4j
+@Component
+public class ChartSnapshotCache {
+    private static final int CHART_PAGE_SIZE = 500;  // 차트 전체를 이 크기씩 끊어 읽음 (상한 X)
+    private static final int PREVIEW_LIMIT = 50;     // 홈 TOP N 의 N 최대값 (HomeController @Max)
+    private static final int MAX_WEEKS = 64;
+
+    private final WeekRepository weekRepository;
+    private final EpisodeRepository episodeRepository;
+    private final AnimeCornerRepository animeCornerRepository;
+    private final AnilabRepository anilabRepository;
+    private final AnimeQueryService animeQueryService;
+    private final QueryFanOut queryFanOut;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<SnapshotKey, WeekChartSnapshot> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SnapshotKey, WeekChartSnapshot> eldest) {
+                    return size() > MAX_WEEKS;
+                }
+            });
+
+    public ChartSnapshotCache(
+            WeekRepository weekRepository,
+            EpisodeRepository episodeRepository,
+            AnimeCornerRepository animeCornerRepository,
+            AnilabRepository anilabRepository,
+            AnimeQueryService animeQueryService,
+            QueryFanOut queryFanOut,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.weekRepository = weekRepository;
+        this.episodeRepository = episodeRepository;
+        this.animeCornerRepository = animeCornerRepository;
+        this.anilabRepository = anilabRepository;
+        this.animeQueryService = animeQueryService;
+        this.queryFanOut = queryFanOut;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public record SnapshotKey(Long weekId, long version) {}
+
+    public record WeekChartSnapshot(
+            Long weekId,
+            long version,
+            Integer voterCount,
+            Integer voteTotalCount,
+            List<AnimeRankDto> animeRankDtos,
+            List<DuckstarRankPreviewDto> duckstarRankPreviews,
+            List<RankPreviewDto> animeCornerRankPreviews,
+            List<RankPreviewDto> anilabRankPreviews
+    ) {}
+
+    /**
+     * ⚠️ 캐시 미스일 때만 DB 조회 - 읽기 트랜잭션 안에서 호출
+     */
+    public WeekChartSnapshot getOrLoad(Long weekId) {
+        long version = currentVersion(weekId);
+        SnapshotKey key = new SnapshotKey(weekId, version);
+
+        WeekChartSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        snapshot = load(weekId, version);
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 차트 재계산, 표 회수, 해외 차트 등록 시 호출
+     *  - 트랜잭션 커밋 후 version 을 올리고 새 스냅샷을 미리 만들어 둔다.
+     */
+    public void invalidate(Long weekId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndWarm(weekId);
+                }
+            });
+        } else {
+            evictAndWarm(weekId);
+        }
+    }
+
+    private void evictAndWarm(Long weekId) {
+        long oldVersion = versions.computeIfAbsent(weekId, id -> new AtomicLong()).getAndIncrement();
+        snapshots.remove(new SnapshotKey(weekId, oldVersion));
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> getOrLoad(weekId));
+        } catch (WeekHandler e) {
+            // 아직 발표 준비되지 않은 주차는 요청 시점에 다시 시도
+            log.debug("차트 스냅샷 생략 - weekId: {}, 이유: {}", weekId, e.getMessage());
+        }
+    }
+
+    private long currentVersion(Long weekId) {
+        AtomicLong version = versions.get(weekId);
+        return version == null ? 0L : version.get();
+    }
+
+    private WeekChartSnapshot load(Long weekId, long version) {
+        Week week = weekRepository.findById(weekId)
+                .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+
+        if (!week.getAnnouncePrepared()) throw new WeekHandler(ErrorStatus.ANNOUNCEMENT_NOT_PREPARED);
+
+        // 네 차트는 서로 독립 -> 병렬 조회 (각 갈래는 DTO 까지 만들어서 반환)
+        try (QueryFanOut.Scope scope = queryFanOut.open("chart-snapshot")) {
+            Branch<List<AnimeRankDto>> animeRankDtos = scope.fork("duckstar", () -> List.copyOf(
+                    loadAll((offset, limit) ->
+                            episodeRepository.getAnimeRankDtosByWeekId(weekId, week.getEndDateTime(), offset, limit))));
+
+            Branch<List<DuckstarRankPreviewDto>> duckstarRankPreviews = scope.fork("duckstar-preview", () ->
+                    List.copyOf(animeQueryService.getAnimeRankPreviewsByWeekId(weekId, PREVIEW_LIMIT)));
+
+            Branch<List<RankPreviewDto>> animeCornerRankPreviews = scope.fork("anime-corner", () ->
+                    loadAll((offset, limit) -> animeCornerRepository.findAllByWeek_Id(weekId, offset, limit))
+                            .stream()
+                            .map(RankPreviewDto::of)
+                            .toList());
+
+            Branch<List<RankPreviewDto>> anilabRankPreviews = scope.fork("anilab", () ->
+                    loadAll((offset, limit) -> anilabRepository.findAllByWeek_Id(weekId, offset, limit))
+                            .stream()
+                            .map(RankPreviewDto::of)
+                            .toList());
+
+            scope.join();
+
+            return new WeekChartSnapshot(
+                    weekId,
+                    version,
+                    week.getAnimeVoterCount(),
+                    week.getAnimeVotes(),
+                    animeRankDtos.get(),
+                    duckstarRankPreviews.get(),
+                    animeCornerRankPreviews.get(),
+                    anilabRankPreviews.get()
+            );
+        }
+    }
+
+    /**
+     * 마지막 페이지 (CHART_PAGE_SIZE 미만) 가 나올 때까지 이어 읽음 - 차트 크기에 상한을 두지 않음
+     */
+    private static <T> List<T> loadAll(BiFunction<Integer, Integer, List<T>> page) {
+        List<T> all = new ArrayList<>();
+        List<T> rows;
+        do {
+            rows = page.apply(all.size(), CHART_PAGE_SIZE);
+            all.addAll(rows);
+        } while (rows.size() == CHART_PAGE_SIZE);
+        return all;
+    }
+}
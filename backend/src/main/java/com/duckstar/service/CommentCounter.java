@@ -0,0 +1,168 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.enums.CommentStatus;
+import com.duckstar.domain.mapping.comment.AnimeComment;
+import com.duckstar.domain.mapping.comment.Comment;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.Reply.ReplyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 댓글 관련 카운터
+ *
+ *  1. 애니 댓글 피드의 totalCount (삭제되지 않은 댓글 + 답글 수)
+ *      - Anime.commentCount, Episode.commentCount 를 댓글/답글 작성, 삭제 트랜잭션 안에서 원자적 증감
+ *      - 댓글의 에피소드 재연결, 회원 탈퇴처럼 한꺼번에 바뀌는 경우는 해당 애니만 다시 집계
+ *      - 재집계는 세는 것과 쓰는 것을 한 UPDATE 로 (0 으로 비웠다가 더하는 단계 없음 -> 중간 값 노출 X)
+ *  2. 댓글 좋아요 수, 답글 수 / 답글 좋아요 수
+ *      - 엔티티 필드를 읽고 고쳐 쓰지 않고 UPDATE ... SET x = x + :delta 로 증감 (동시 좋아요 유실 X)
+ *      - 트랜잭션의 마지막 쓰기로 호출해서 행 잠금을 커밋 직전에만 잡음
+ *  - 매일 새벽 원본 (AnimeComment, CommentLike, ReplyLike, Reply) 기준으로 id 구간별 재집계해서 어긋난 값 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCounter {
+
+    private static final long RECONCILE_CHUNK = 1000;
+    private static final List<CommentStatus> HIDDEN = List.of(CommentStatus.DELETED, CommentStatus.ADMIN_DELETED);
+
+    private final AnimeRepository animeRepository;
+    private final EpisodeRepository episodeRepository;
+    private final AnimeCommentRepository animeCommentRepository;
+    private final ReplyRepository replyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @return 아직 집계되지 않은(null) 카운터가 있으면 null
+     */
+    public Integer getTotalCount(Long animeId, List<Long> episodeIds) {
+        if (episodeIds.isEmpty()) {
+            return animeRepository.findCommentCountById(animeId);
+        }
+
+        int total = 0;
+        for (Integer count : episodeRepository.findCommentCounts(animeId, episodeIds)) {
+            if (count == null) {
+                return null;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    //=== 증감 (호출한 트랜잭션 안에서) ===//
+
+    public void onCommentAdded(AnimeComment comment) {
+        add(comment, 1);
+    }
+
+    public void onCommentRemoved(AnimeComment comment) {
+        add(comment, -1);
+    }
+
+    // 답글은 부모 댓글의 애니, 에피소드로 집계
+    public void onReplyAdded(Comment parent) {
+        add(parent, 1);
+        animeCommentRepository.addReplyCount(parent.getId(), 1);
+    }
+
+    public void onReplyRemoved(Comment parent) {
+        add(parent, -1);
+        animeCommentRepository.addReplyCount(parent.getId(), -1);
+    }
+
+    /**
+     * @return 증감 후 좋아요 수
+     */
+    public Integer addCommentLike(Long commentId, int delta) {
+        animeCommentRepository.addLikeCount(commentId, delta);
+        return animeCommentRepository.findLikeCountById(commentId);
+    }
+
+    /**
+     * @return 증감 후 좋아요 수
+     */
+    public Integer addReplyLike(Long replyId, int delta) {
+        replyRepository.addLikeCount(replyId, delta);
+        return replyRepository.findLikeCountById(replyId);
+    }
+
+    private void add(Comment comment, int delta) {
+        animeRepository.addCommentCount(comment.getContentIdForIdx(), delta);
+
+        Episode episode = comment.getEpisode();
+        if (episode != null) {
+            episodeRepository.addCommentCount(episode.getId(), delta);
+        }
+    }
+
+    //=== 재집계 ===//
+
+    /**
+     * 특정 애니들만 다시 집계 (호출한 트랜잭션 안에서)
+     */
+    public void recount(Collection<Long> animeIds) {
+        if (animeIds.isEmpty()) {
+            return;
+        }
+
+        episodeRepository.recountCommentCounts(animeIds, HIDDEN);
+        animeRepository.recountCommentCounts(animeIds, HIDDEN);
+    }
+
+    /**
+     * 댓글 수 재집계 - 애니 id 구간별로 짧은 트랜잭션 (애니 + 그 애니의 에피소드)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileAll() {
+        int animes = reconcileInChunks(animeRepository.findMaxAnimeId(), (fromId, toId) -> {
+            episodeRepository.reconcileCommentCounts(fromId, toId, HIDDEN);
+            return animeRepository.reconcileCommentCounts(fromId, toId, HIDDEN);
+        });
+
+        log.info("댓글 수 카운터 재집계 - 애니 {}건", animes);
+    }
+
+    /**
+     * 좋아요 수, 답글 수 재집계 - id 구간별로 짧은 트랜잭션 (긴 잠금 방지)
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void reconcileReactions() {
+        int comments = reconcileInChunks(animeCommentRepository.findMaxCommentId(), (fromId, toId) ->
+                animeCommentRepository.reconcileCounts(fromId, toId, CommentStatus.NORMAL));
+        int replies = reconcileInChunks(replyRepository.findMaxReplyId(),
+                replyRepository::reconcileLikeCounts);
+
+        log.info("좋아요, 답글 수 카운터 재집계 - 댓글 {}건, 답글 {}건", comments, replies);
+    }
+
+    private int reconcileInChunks(Long maxId, ChunkReconciler reconciler) {
+        if (maxId == null) {
+            return 0;
+        }
+
+        int total = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += RECONCILE_CHUNK) {
+            long from = fromId;
+            Integer updated = transactionTemplate.execute(status ->
+                    reconciler.reconcile(from, from + RECONCILE_CHUNK - 1));
+            total += updated != null ? updated : 0;
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface ChunkReconciler {
+        int reconcile(Long fromId, Long toId);
+    }
+}
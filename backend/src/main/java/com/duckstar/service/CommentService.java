@@ -11,14 +11,20 @@ import com.duckstar.domain.mapping.weeklyVote.Episode;
 import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
 import com.duckstar.domain.mapping.comment.AnimeComment;
 import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepositoryCustom.CommentRow;
 import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.CommentLikeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
-import com.duckstar.s3.S3Uploader;
+import com.duckstar.repository.Reply.ReplyRepository;
+import com.duckstar.s3.ImagePipeline;
+import com.duckstar.s3.ImagePipeline.ImageProfile;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.service.AnimeService.AnimeQueryService;
+import com.duckstar.service.VoteService.StarTallyBuffer;
+import com.duckstar.service.VoteService.WeekVoteStateCache;
+import com.duckstar.util.CommentCursor;
 import com.duckstar.web.dto.CommentResponseDto.CommentDto;
 import com.duckstar.web.dto.CommentResponseDto.DeleteResultDto;
 import com.duckstar.web.dto.PageInfo;
@@ -40,15 +46,22 @@ import static com.duckstar.web.dto.BoardRequestDto.*;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+
+    private static final int MAX_INCLUDE_REPLIES = 10;
+
     private final AnimeCommentRepository animeCommentRepository;
     private final EpisodeRepository episodeRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final MemberRepository memberRepository;
     private final AnimeRepository animeRepository;
     private final EpisodeStarRepository episodeStarRepository;
+    private final ReplyRepository replyRepository;
 
     private final AnimeQueryService animeQueryService;
-    private final S3Uploader s3Uploader;
+    private final ImagePipeline imagePipeline;
+    private final StarTallyBuffer starTallyBuffer;
+    private final WeekVoteStateCache weekVoteStateCache;
+    private final CommentCounter commentCounter;
 
     @Transactional
     public CommentDto leaveAnimeComment(
@@ -94,7 +107,7 @@ public class CommentService {
         String imageUrl = null;
         MultipartFile image = request.getAttachedImage();
         if (image != null && !image.isEmpty()) {
-            imageUrl = s3Uploader.uploadWithUUID(image, "comments");
+            imageUrl = imagePipeline.submit(image, "comments", ImageProfile.COMMENT).url();
         }
 
         AnimeComment animeComment = AnimeComment.create(
@@ -108,6 +121,7 @@ public class CommentService {
         );
 
         AnimeComment saved = animeCommentRepository.save(animeComment);
+        commentCounter.onCommentAdded(saved);
 
         return CommentDto.ofCreated(saved, author, voteCount);
     }
@@ -116,6 +130,8 @@ public class CommentService {
             Long animeId,
             List<Long> episodeIds,
             CommentSortType sortBy,
+            String cursor,
+            Integer includeReplies,
             Pageable pageable,
             MemberPrincipal principal
     ) {
@@ -126,23 +142,41 @@ public class CommentService {
         int page = pageable.getPageNumber();
         int size = pageable.getPageSize();
 
+        // 커서가 있으면 keyset, 없으면 기존 page 방식 (offset)
+        CommentCursor after = cursor != null ? CommentCursor.decode(cursor, sortBy) : null;
+
         Integer totalCount = null;
-        if (page == 0) {
-            totalCount = animeCommentRepository.countTotalElements(animeId, episodeIds);
+        if (after == null && page == 0) {
+            totalCount = commentCounter.getTotalCount(animeId, episodeIds);
+            if (totalCount == null) {
+                totalCount = animeCommentRepository.countTotalElements(animeId, episodeIds);
+            }
         }
 
-        List<CommentDto> rows = animeCommentRepository.getCommentDtos(
+        List<CommentRow> rows = animeCommentRepository.getCommentRows(
                 animeId,
                 episodeIds,
                 sortBy,
                 principal,
-                page * size,
+                after,
+                after == null ? page * size : 0,
                 size + 1
         );
 
         boolean commentsHasNext = rows.size() > size;
         if (commentsHasNext) rows = rows.subList(0, size);
 
+        String nextCursor = commentsHasNext ?
+                rows.get(rows.size() - 1).cursor().encode() :
+                null;
+
+        List<CommentDto> commentDtos = rows.stream()
+                .map(CommentRow::commentDto)
+                .toList();
+        if (includeReplies != null && includeReplies > 0) {
+            attachFirstReplies(commentDtos, Math.min(includeReplies, MAX_INCLUDE_REPLIES), principal);
+        }
+
         PageInfo pageInfo = PageInfo.builder()
                 .hasNext(commentsHasNext)
                 .page(page)
@@ -151,11 +185,45 @@ public class CommentService {
 
         return AnimeCommentSliceDto.builder()
                 .totalCount(totalCount)
-                .commentDtos(rows)
+                .commentDtos(commentDtos)
                 .pageInfo(pageInfo)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    /**
+     * 댓글마다 답글 API 를 따로 부르지 않도록 첫 답글 replySize 개를 한 번에 붙임
+     *  - 답글이 있는 댓글만 윈도 쿼리 한 번 (+ 좋아요 상태 한 번)
+     *  - 다음 답글은 답글 조회 API 를 page=1, size=replySize 로 이어서 요청
+     */
+    private void attachFirstReplies(List<CommentDto> commentDtos, int replySize, MemberPrincipal principal) {
+        List<Long> parentIds = commentDtos.stream()
+                .filter(dto -> dto.getReplyCount() != null && dto.getReplyCount() > 0)
+                .map(CommentDto::getCommentId)
+                .toList();
+
+        // hasNext 판단용으로 하나 더
+        Map<Long, List<ReplyDto>> repliesByParentId =
+                replyRepository.getFirstReplyDtosByParentIds(parentIds, principal, replySize + 1);
+
+        for (CommentDto dto : commentDtos) {
+            List<ReplyDto> replies = repliesByParentId.getOrDefault(dto.getCommentId(), List.of());
+
+            boolean repliesHasNext = replies.size() > replySize;
+            if (repliesHasNext) replies = replies.subList(0, replySize);
+
+            dto.setReplySlice(ReplySliceDto.builder()
+                    .totalCount(Optional.ofNullable(dto.getReplyCount()).orElse(0))
+                    .replyDtos(replies)
+                    .pageInfo(PageInfo.builder()
+                            .hasNext(repliesHasNext)
+                            .page(0)
+                            .size(replySize)
+                            .build())
+                    .build());
+        }
+    }
+
     @Transactional
     public LikeResultDto giveLike(
             Long commentId,
@@ -172,6 +240,7 @@ public class CommentService {
                 new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
 
         CommentLike commentLike = null;
+        boolean liked = false;
         if (commentLikeId != null) {
             commentLike = commentLikeRepository.findById(commentLikeId)
                     .orElseThrow(() -> new LikeHandler(ErrorStatus.LIKE_NOT_FOUND));
@@ -181,7 +250,7 @@ public class CommentService {
                 throw new LikeHandler(ErrorStatus.LIKE_UNAUTHORIZED);
             }
 
-            commentLike.restoreLike();
+            liked = commentLikeRepository.updateIsLiked(commentLikeId, true, LocalDateTime.now()) > 0;
         } else {
             Optional<CommentLike> likeOpt = commentLikeRepository.findByCommentAndMember(comment, member);
             // 여기서 존재하는 경우는 그냥 무시-> 빈 dto 반환
@@ -189,10 +258,19 @@ public class CommentService {
             if (likeOpt.isEmpty()) {
                 commentLike = CommentLike.create(comment, member);
                 commentLike = commentLikeRepository.save(commentLike);
+                liked = true;
             }
         }
 
-        return LikeResultDto.ofComment(commentLike);
+        if (commentLike == null) {
+            return LikeResultDto.ofComment(null, null);
+        }
+
+        Integer likeCount = liked ?
+                commentCounter.addCommentLike(commentId, 1) :
+                animeCommentRepository.findLikeCountById(commentId);
+
+        return LikeResultDto.ofComment(commentLike, likeCount);
     }
 
     @Transactional
@@ -221,11 +299,16 @@ public class CommentService {
             throw new LikeHandler(ErrorStatus.DISLIKE_UNAUTHORIZED);
         }
 
-        commentLike.discardLike();
+        LocalDateTime now = LocalDateTime.now();
+        boolean discarded = commentLikeRepository.updateIsLiked(commentLikeId, false, now) > 0;
+
+        Integer likeCount = discarded ?
+                commentCounter.addCommentLike(commentId, -1) :
+                animeCommentRepository.findLikeCountById(commentId);
 
         return DiscardLikeResultDto.builder()
-                .likeCount(commentLike.getComment().getLikeCount())
-                .discardedAt(commentLike.getUpdatedAt())
+                .likeCount(likeCount)
+                .discardedAt(now)
                 .build();
     }
 
@@ -247,9 +330,15 @@ public class CommentService {
         //=== 만약 늦참에 의해 생성된 댓글이라면 별점도 회수 ===//
         EpisodeStar episodeStar = comment.getEpisodeStar();
         if (episodeStar != null && episodeStar.isLateParticipating()) {
-            episodeStar.withdrawScore();
+            Integer oldScore = episodeStar.withdrawScore();
+            if (!episodeStar.getWeekVoteSubmission().isBlocked()) {
+                starTallyBuffer.record(episodeStar.getEpisode(), oldScore, null);
+            }
+            weekVoteStateCache.recordStar(episodeStar.getWeekVoteSubmission(), episodeStar);
         }
 
+        boolean wasVisible = comment.getStatus() == CommentStatus.NORMAL;
+
         if (isAuthor) {
             comment.setStatus(CommentStatus.DELETED);
 
@@ -260,6 +349,10 @@ public class CommentService {
             throw new CommentHandler(ErrorStatus.DELETE_UNAUTHORIZED);
         }
 
+        if (wasVisible) {
+            commentCounter.onCommentRemoved(comment);
+        }
+
         return DeleteResultDto.builder()
                 .status(comment.getStatus())
                 .createdAt(comment.getCreatedAt())
@@ -300,5 +393,12 @@ public class CommentService {
             animeCommentRepository.findAllByEpisode_IdIn(deletedEpisodeIds)
                     .forEach(ac -> ac.setEpisode(null));
         }
+
+        // 댓글 <-> 에피소드 관계가 바뀌었으므로 에피소드별 댓글 수 다시 집계
+        boolean changed = (addedTails != null && !addedTails.isEmpty()) ||
+                (deletedTails != null && !deletedTails.isEmpty());
+        if (changed) {
+            commentCounter.recount(List.of(animeId));
+        }
     }
 }
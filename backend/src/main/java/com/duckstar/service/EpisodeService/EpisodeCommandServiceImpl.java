@@ -12,9 +12,13 @@ import com.duckstar.domain.mapping.AdminActionLog;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.schedule.EpisodeTransitionScheduler;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.service.AdminActionLogService;
+import com.duckstar.service.AnimeHomeCache;
+import com.duckstar.service.AnimeHomeCache.Section;
 import com.duckstar.service.CommentService;
+import com.duckstar.service.ScheduleReadModel;
 import com.duckstar.util.QuarterUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -41,17 +45,13 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
 
     private final CommentService commentService;
     private final AdminActionLogService adminActionLogService;
+    private final EpisodeTransitionScheduler episodeTransitionScheduler;
+    private final ScheduleReadModel scheduleReadModel;
+    private final AnimeHomeCache animeHomeCache;
 
     final int MIN_EPISODE_GAP_MINUTES = 24;
     private final AnimeRepository animeRepository;
 
-    @Override
-    public void updateAllEpisodeStates() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Episode> allEpisodes = episodeRepository.findAll();
-        allEpisodes.forEach(episode -> episode.updateEvaluateState(now));
-    }
-
     @Override
     public List<ManagerProfileDto> modifyEpisode(
             Long memberId,
@@ -70,6 +70,7 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
         Integer episodeNumber = request.getEpisodeNumber();
         if (episodeNumber != null && !episodeNumber.equals(targetEp.getEpisodeNumber())) {
             targetEp.setEpisodeNumber(episodeNumber);
+            animeHomeCache.invalidate(targetEp.getAnime().getId(), Section.EPISODES);
 
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, targetEp, AdminTaskType.EPISODE_MODIFY_NUMBER));
@@ -83,6 +84,9 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
 
             // 시간 수정 및 앞뒤 간격 검증
             validateAndReschedule(episodes, idx, rescheduledAt);
+            episodeTransitionScheduler.reloadAfterCommit();
+            scheduleReadModel.invalidateAnimeEpisodes(targetEp.getAnime().getId());
+            animeHomeCache.invalidate(targetEp.getAnime().getId(), Section.EPISODES);
 
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, targetEp, AdminTaskType.EPISODE_RESCHEDULE));
@@ -164,6 +168,10 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
         );
         Episode saved = episodeRepository.save(newLast);
 
+        episodeTransitionScheduler.reloadAfterCommit();
+        scheduleReadModel.invalidateAnimeEpisodes(animeId);
+        animeHomeCache.invalidate(animeId, Section.EPISODES);
+
         //=== 댓글 연관관계 재설정 및 로그 기록 ===//
         commentService.redefineRelationWithTails(
                 animeId, List.of(saved), null);
@@ -227,6 +235,10 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
             }
         }
 
+        episodeTransitionScheduler.reloadAfterCommit();
+        scheduleReadModel.invalidateAnimeEpisodes(animeId);
+        animeHomeCache.invalidate(animeId, Section.INFO, Section.EPISODES);
+
         // 애니메이션 totalEpisodes 변경
         Integer totalEpisodes = anime.getTotalEpisodes();
         if (totalEpisodes != null) anime.setTotalEpisodes(totalEpisodes - 1);
@@ -285,6 +297,10 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
         );
         Episode saved = episodeRepository.save(newLast);
 
+        episodeTransitionScheduler.reloadAfterCommit();
+        scheduleReadModel.invalidateAnimeEpisodes(animeId);
+        animeHomeCache.invalidate(animeId, Section.INFO, Section.EPISODES);
+
         //=== 댓글 연관관계 재설정 및 로그 기록 ===//
         commentService.redefineRelationWithTails(
                 animeId, List.of(saved), null);
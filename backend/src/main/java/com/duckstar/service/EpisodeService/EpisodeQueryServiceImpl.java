@@ -9,6 +9,9 @@ import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.schedule.ScheduleHandler;
+import com.duckstar.service.VoteService.LiveCandidateReadModel;
+import com.duckstar.service.VoteService.StarTallyBuffer;
+import com.duckstar.service.VoteService.WeekVoteStateCache;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.dto.admin.ContentResponseDto.AdminEpisodeListDto;
 import com.duckstar.web.support.VoteCookieManager;
@@ -20,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.duckstar.web.dto.VoteResponseDto.*;
@@ -38,6 +42,9 @@ public class EpisodeQueryServiceImpl implements EpisodeQueryService {
 
     private final VoteCookieManager voteCookieManager;
     private final ScheduleHandler scheduleHandler;
+    private final StarTallyBuffer starTallyBuffer;
+    private final LiveCandidateReadModel liveCandidateReadModel;
+    private final WeekVoteStateCache weekVoteStateCache;
 
     /**
      * 별점 투표 방식
@@ -57,9 +64,15 @@ public class EpisodeQueryServiceImpl implements EpisodeQueryService {
                         .filter(Objects::nonNull)
                         .toList();
 
-        // 전체 VOTING_WINDOW 상태 에피소드들 조회
-        List<LiveCandidateDto> candidates = episodeRepository
-                .getLiveCandidateDtos(principalKeys);
+        // 전체 VOTING_WINDOW 상태 에피소드들 (메모리) + 보는 사람 별점
+        List<LiveCandidateDto> candidates = liveCandidateReadModel
+                .getLiveCandidates(principalKeys)
+                .stream()
+                // 아직 DB 에 반영되지 않은 실시간 집계 덮어쓰기
+                .map(c -> c.toBuilder()
+                        .result(starTallyBuffer.overlay(c.getEpisodeId(), c.getResult()))
+                        .build())
+                .toList();
 
         LocalDateTime now = LocalDateTime.now();
         Week currentWeek = scheduleHandler.getSafeWeekByTime(now);
@@ -101,7 +114,19 @@ public class EpisodeQueryServiceImpl implements EpisodeQueryService {
 
         Long weekId = weekService.getWeekIdByYQW(year, quarter, week);
 
-        return episodeRepository.getWeekCandidateDtos(weekId, principalKey);
+        // 보는 사람의 투표 여부는 캐시에서 (principalKey 없으면 전부 false)
+        Set<Long> votedEpisodeIds = weekVoteStateCache.get(weekId, principalKey).getVotedEpisodeIds();
+
+        return episodeRepository.getWeekCandidateDtos(weekId).stream()
+                .map(c -> !votedEpisodeIds.contains(c.getEpisodeId()) ? c :
+                        new WeekCandidateDto(
+                                c.getEpisodeId(),
+                                c.getState(),
+                                true,
+                                c.getMainThumbnailUrl(),
+                                c.getTitleKor()
+                        ))
+                .toList();
     }
 
     public CandidateFormDto getCandidateForm(
@@ -120,8 +145,26 @@ public class EpisodeQueryServiceImpl implements EpisodeQueryService {
                         .filter(Objects::nonNull)
                         .toList();
 
-        return episodeRepository.getCandidateFormDto(episodeId, principalKeys)
+        CandidateFormDto form = episodeRepository.getCandidateFormDto(episodeId, principalKeys)
                 .orElseThrow(() -> new EpisodeHandler(ErrorStatus.EPISODE_NOT_FOUND));
+
+        // 아직 DB 에 반영되지 않은 실시간 집계 덮어쓰기
+        VoteFormResultDto result = form.getResult();
+        VoteResultDto live = starTallyBuffer.overlay(
+                episodeId,
+                VoteResultDto.builder()
+                        .voterCount(result.getVoterCount())
+                        .info(result.getInfo())
+                        .build()
+        );
+
+        return form.toBuilder()
+                .voterCount(live.getVoterCount())
+                .result(result.toBuilder()
+                        .voterCount(live.getVoterCount())
+                        .info(live.getInfo())
+                        .build())
+                .build();
     }
 
     @Override
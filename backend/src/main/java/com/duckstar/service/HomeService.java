@@ -6,11 +6,11 @@ import com.duckstar.domain.HomeBanner;
 import com.duckstar.domain.Week;
 import com.duckstar.repository.HomeBannerRepository;
 import com.duckstar.repository.Week.WeekRepository;
-import com.duckstar.service.AnimeService.AnimeQueryService;
+import com.duckstar.service.ChartSnapshotCache.WeekChartSnapshot;
+import com.duckstar.service.QueryFanOut.Branch;
 import com.duckstar.web.dto.HomeDto;
 import com.duckstar.web.dto.HomeDto.HomeBannerDto;
 import com.duckstar.web.dto.HomeDto.WeeklyTopDto;
-import com.duckstar.web.dto.RankInfoDto.DuckstarRankPreviewDto;
 import com.duckstar.web.dto.WeekResponseDto.WeekDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -28,7 +28,8 @@ public class HomeService {
     private final WeekRepository weekRepository;
     private final HomeBannerRepository homeBannerRepository;
 
-    private final AnimeQueryService animeQueryService;
+    private final ChartSnapshotCache chartSnapshotCache;
+    private final QueryFanOut queryFanOut;
 
     public HomeDto getHome(int size) {
         LocalDateTime now = LocalDateTime.now();
@@ -48,8 +49,35 @@ public class HomeService {
                 .findFirst()
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
+        List<WeekDto> weekDtos = pastWeeks.stream()
+                .map(WeekDto::of)
+                .toList();
+
+        // 배너와 주간 TOP (스냅샷 캐시 미스면 차트 적재) 은 서로 독립 - 풀에 여유가 있을 때만 다른 스레드에서
+        try (QueryFanOut.Scope scope = queryFanOut.open("home")) {
+            Branch<List<HomeBannerDto>> homeBannerDtos = scope.fork("banners", () ->
+                    getHomeBannerDtos(pastWeeks));
+
+            Branch<WeeklyTopDto> weeklyTopDto = scope.fork("weekly-top", () ->
+                    getAnimeWeeklyTop(lastWeek.getId(), size));
+
+            scope.join();
+
+            return HomeDto.builder()
+                    .weeklyTopDto(weeklyTopDto.get())
+                    .homeBannerDtos(homeBannerDtos.get())
+                    .currentWeekDto(WeekDto.of(currentWeek))
+                    .pastWeekDtos(weekDtos)
+                    .build();
+        }
+    }
+
+    /**
+     * 지난 주 배너, 없으면 그 전 주 배너 (갈래의 트랜잭션 안에서 DTO 까지)
+     */
+    private List<HomeBannerDto> getHomeBannerDtos(List<Week> pastWeeks) {
         List<HomeBanner> homeBanners =
-                homeBannerRepository.getHomeBannersByWeekIdOrderByBannerNumberAsc(lastWeek.getId());
+                homeBannerRepository.getHomeBannersByWeekIdOrderByBannerNumberAsc(pastWeeks.get(0).getId());
 
         if (homeBanners.isEmpty() && pastWeeks.size() >= 2) {
             Week secondLastWeek = pastWeeks.get(1);
@@ -59,46 +87,28 @@ public class HomeService {
             }
         }
 
-        List<HomeBannerDto> homeBannerDtos = homeBanners.stream()
+        return homeBanners.stream()
                 .map(HomeBannerDto::ofAnime)
                 .toList();
-
-        List<WeekDto> weekDtos = pastWeeks.stream()
-                .map(WeekDto::of)
-                .toList();
-
-        return HomeDto.builder()
-                .weeklyTopDto(
-                        getAnimeWeeklyTop(lastWeek.getId(), size)
-                )
-                .homeBannerDtos(homeBannerDtos)
-                .currentWeekDto(WeekDto.of(currentWeek))
-                .pastWeekDtos(weekDtos)
-                .build();
     }
 
     public WeeklyTopDto getAnimeWeeklyTop(Long weekId, int size) {
-        Week week = weekRepository.findById(weekId)
-                .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
-
-        if (!week.getAnnouncePrepared()) throw new WeekHandler(ErrorStatus.ANNOUNCEMENT_NOT_PREPARED);
-
-        List<DuckstarRankPreviewDto> duckstarRankPreviews =
-                animeQueryService.getAnimeRankPreviewsByWeekId(
-                        weekId,
-                        size
-                );
+        WeekChartSnapshot snapshot = chartSnapshotCache.getOrLoad(weekId);
 
         return WeeklyTopDto.builder()
                 .duckstarRankPreviews(
-                        duckstarRankPreviews
+                        top(snapshot.duckstarRankPreviews(), size)
                 )
                 .anilabRankPreviews(
-                        animeQueryService.getAnilabPreviewsByWeekId(weekId, size)
+                        top(snapshot.anilabRankPreviews(), size)
                 )
                 .animeCornerRankPreviews(
-                        animeQueryService.getAnimeCornerPreviewsByWeekId(weekId, size)
+                        top(snapshot.animeCornerRankPreviews(), size)
                 )
                 .build();
     }
+
+    private static <T> List<T> top(List<T> list, int size) {
+        return list.subList(0, Math.min(size, list.size()));
+    }
 }
@@ -4,8 +4,10 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.AuthHandler;
 import com.duckstar.apiPayload.exception.handler.MemberHandler;
 import com.duckstar.domain.Member;
-import com.duckstar.s3.S3Uploader;
+import com.duckstar.s3.ImagePipeline;
+import com.duckstar.s3.ImagePipeline.ImageProfile;
 import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.MemberPrincipalCache;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.web.dto.MemberRequestDto;
 import com.duckstar.web.dto.MemberResponseDto;
@@ -26,7 +28,8 @@ import static com.duckstar.web.dto.MemberResponseDto.*;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final S3Uploader s3Uploader;
+    private final ImagePipeline imagePipeline;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     public MePreviewDto getCurrentUser(MemberPrincipal principal) {
         if (principal == null) {
@@ -68,8 +71,10 @@ public class MemberService {
 
             MultipartFile reqImage = request.getImage();
             if (reqImage != null && !reqImage.isEmpty()) {
-                s3Uploader.delete(profileImageUrl);
-                profileImageUrl = s3Uploader.uploadProfileImage(reqImage, "members");
+                // 새 이미지 참조를 먼저 잡고 예전 이미지 해제 (같은 이미지를 다시 올린 경우 지워지지 않도록)
+                String oldProfileImageUrl = profileImageUrl;
+                profileImageUrl = imagePipeline.submit(reqImage, "members", ImageProfile.PROFILE).url();
+                imagePipeline.delete(oldProfileImageUrl);
             }
 
             boolean nicknameChanged = !Objects.equals(member.getNickname(), nickname);
@@ -78,6 +83,7 @@ public class MemberService {
             boolean isChanged = nicknameChanged || imageChanged;
             if (isChanged) {
                 member.updateProfile(nickname, profileImageUrl);
+                memberPrincipalCache.invalidate(member.getId());
             }
 
             return UpdateReceiptDto.builder()
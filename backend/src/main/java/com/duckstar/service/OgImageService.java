@@ -0,0 +1,337 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import com.sksamuel.scrimage.ImmutableImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Open Graph 이미지 변환 + 캐시
+ *
+ *  - key: sha256(url, format, width, height) -> 메모리 LRU (바이트 한도) -> 디스크 (용량 한도)
+ *  - 같은 key 동시 요청은 변환 한 번으로 합침
+ *  - 동시 변환 수는 세마포어로 제한, 대기가 길어지면 IMAGE_PIPELINE_BUSY
+ *  - ETag 는 변환 결과 바이트의 해시
+ */
+@Slf4j
+@Service
+public class OgImageService {
+
+    // OG 이미지 최적 크기
+    private static final int OG_WIDTH = 1200;
+    private static final int OG_HEIGHT = 630;
+
+    private static final int CONNECT_TIMEOUT_MS = 3_000;
+    private static final int READ_TIMEOUT_MS = 10_000;
+
+    private final long memoryMaxBytes;
+    private final Path diskDir;
+    private final long diskMaxBytes;
+    private final Semaphore conversionPermits;
+    private final long conversionWaitMillis;
+
+    // accessOrder = true -> LRU
+    private final LinkedHashMap<String, OgImage> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes = 0;
+
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final Object diskEvictionLock = new Object();
+
+    private final ConcurrentMap<String, CompletableFuture<OgImage>> inFlight = new ConcurrentHashMap<>();
+
+    public record OgImage(
+            byte[] bytes,
+            MediaType mediaType,
+            String etag
+    ) {}
+
+    public OgImageService(
+            @Value("${app.og-image.memory-max-bytes:33554432}") long memoryMaxBytes,
+            @Value("${app.og-image.disk-dir:${java.io.tmpdir}/duckstar-og}") String diskDir,
+            @Value("${app.og-image.disk-max-bytes:268435456}") long diskMaxBytes,
+            @Value("${app.og-image.max-concurrent-conversions:4}") int maxConcurrentConversions,
+            @Value("${app.og-image.conversion-wait-ms:10000}") long conversionWaitMillis
+    ) {
+        this.memoryMaxBytes = memoryMaxBytes;
+        this.diskDir = Path.of(diskDir);
+        this.diskMaxBytes = diskMaxBytes;
+        this.conversionPermits = new Semaphore(maxConcurrentConversions);
+        this.conversionWaitMillis = conversionWaitMillis;
+
+        initDisk();
+    }
+
+    /**
+     * @param format jpg / png
+     */
+    public OgImage get(String url, String format, Integer width, Integer height) {
+        String key = cacheKey(url, format, width, height);
+
+        OgImage cached = getFromMemory(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<OgImage> created = new CompletableFuture<>();
+        CompletableFuture<OgImage> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            OgImage image = loadFromDisk(key, format);
+            if (image == null) {
+                image = convertWithPermit(url, format, width, height);
+                writeToDisk(key, format, image.bytes());
+            }
+            putToMemory(key, image);
+            created.complete(image);
+            return image;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private OgImage join(CompletableFuture<OgImage> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    //=== 변환 ===//
+
+    private OgImage convertWithPermit(String url, String format, Integer width, Integer height) {
+        boolean acquired;
+        try {
+            acquired = conversionPermits.tryAcquire(conversionWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageHandler(ErrorStatus.IMAGE_PIPELINE_BUSY);
+        }
+        if (!acquired) {
+            throw new ImageHandler(ErrorStatus.IMAGE_PIPELINE_BUSY);
+        }
+
+        try {
+            byte[] bytes = convert(url, format, width, height);
+            return new OgImage(bytes, mediaTypeOf(format), etagOf(bytes));
+        } catch (IOException e) {
+            log.warn("OG 이미지 변환 실패 - url: {}, 이유: {}", url, e.getMessage());
+            throw new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE);
+        } finally {
+            conversionPermits.release();
+        }
+    }
+
+    private byte[] convert(String url, String format, Integer width, Integer height) throws IOException {
+        // 이미지 다운로드
+        ImmutableImage image;
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        connection.setReadTimeout(READ_TIMEOUT_MS);
+        try (InputStream inputStream = connection.getInputStream()) {
+            image = ImmutableImage.loader().fromStream(inputStream);
+        }
+
+        // 리사이즈 (선택적)
+        if (width != null && height != null) {
+            image = image.scaleTo(width, height);
+        } else if (width != null) {
+            // width만 지정된 경우 비율 유지
+            double scale = (double) width / image.width;
+            int newHeight = (int) (image.height * scale);
+            image = image.scaleTo(width, newHeight);
+        } else if (height != null) {
+            // height만 지정된 경우 비율 유지
+            double scale = (double) height / image.height;
+            int newWidth = (int) (image.width * scale);
+            image = image.scaleTo(newWidth, height);
+        } else {
+            // OG 이미지 최적 크기 (1200x630)로 리사이즈 (지정되지 않은 경우)
+            double widthScale = (double) OG_WIDTH / image.width;
+            double heightScale = (double) OG_HEIGHT / image.height;
+            double scale = Math.max(widthScale, heightScale); // 비율 유지하며 최소 크기 보장
+
+            int newWidth = (int) (image.width * scale);
+            int newHeight = (int) (image.height * scale);
+            image = image.scaleTo(newWidth, newHeight);
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(image.awt(), format, baos);
+        return baos.toByteArray();
+    }
+
+    //=== 메모리 LRU ===//
+
+    private synchronized OgImage getFromMemory(String key) {
+        return memory.get(key);
+    }
+
+    private synchronized void putToMemory(String key, OgImage image) {
+        // 한도보다 큰 이미지는 디스크에만
+        if (image.bytes().length > memoryMaxBytes) {
+            return;
+        }
+
+        OgImage previous = memory.put(key, image);
+        if (previous != null) {
+            memoryBytes -= previous.bytes().length;
+        }
+        memoryBytes += image.bytes().length;
+
+        Iterator<OgImage> it = memory.values().iterator();
+        while (memoryBytes > memoryMaxBytes && it.hasNext()) {
+            memoryBytes -= it.next().bytes().length;
+            it.remove();
+        }
+    }
+
+    //=== 디스크 ===//
+
+    private void initDisk() {
+        try {
+            Files.createDirectories(diskDir);
+            try (Stream<Path> files = Files.list(diskDir)) {
+                diskBytes.set(files.mapToLong(this::sizeOf).sum());
+            }
+        } catch (IOException e) {
+            log.warn("OG 이미지 디스크 캐시 초기화 실패 - dir: {}", diskDir, e);
+        }
+    }
+
+    private OgImage loadFromDisk(String key, String format) {
+        Path file = diskDir.resolve(key + "." + format);
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            // 디스크 LRU: 최근 사용 시각 갱신
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return new OgImage(bytes, mediaTypeOf(format), etagOf(bytes));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("OG 이미지 디스크 캐시 읽기 실패 - file: {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, String format, byte[] bytes) {
+        Path file = diskDir.resolve(key + "." + format);
+        try {
+            Path temp = Files.createTempFile(diskDir, ".og-", ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("OG 이미지 디스크 캐시 쓰기 실패 - file: {}", file, e);
+            return;
+        }
+
+        if (diskBytes.addAndGet(bytes.length) > diskMaxBytes) {
+            evictDisk();
+        }
+    }
+
+    // 오래 안 쓰인 파일부터 한도의 90% 까지 삭제
+    private void evictDisk() {
+        synchronized (diskEvictionLock) {
+            if (diskBytes.get() <= diskMaxBytes) {
+                return;
+            }
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(diskDir)) {
+                files = stream
+                        .sorted(Comparator.comparing(this::lastModifiedOf))
+                        .toList();
+            } catch (IOException e) {
+                log.warn("OG 이미지 디스크 캐시 정리 실패 - dir: {}", diskDir, e);
+                return;
+            }
+
+            long target = diskMaxBytes * 9 / 10;
+            for (Path file : files) {
+                if (diskBytes.get() <= target) {
+                    break;
+                }
+                long size = sizeOf(file);
+                try {
+                    if (Files.deleteIfExists(file)) {
+                        diskBytes.addAndGet(-size);
+                    }
+                } catch (IOException e) {
+                    log.warn("OG 이미지 디스크 캐시 삭제 실패 - file: {}", file, e);
+                }
+            }
+        }
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private FileTime lastModifiedOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    //=== key / ETag ===//
+
+    private static String cacheKey(String url, String format, Integer width, Integer height) {
+        return sha256Hex(url + "\n" + format + "\n" + width + "\n" + height);
+    }
+
+    private static String etagOf(byte[] bytes) {
+        return "\"" + sha256Hex(bytes).substring(0, 32) + "\"";
+    }
+
+    private static MediaType mediaTypeOf(String format) {
+        return format.equals("png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG;
+    }
+
+    private static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256Hex(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
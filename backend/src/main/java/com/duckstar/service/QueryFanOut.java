@@ -0,0 +1,271 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.GeneralException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 서로 독립인 읽기 쿼리를 병렬로 돌리는 작은 실행기
+ *
+ *  - 요청 하나가 open 한 Scope 안에서 fork -> join, 모든 갈래가 같은 마감 시각을 공유
+ *    (마감을 넘기거나 한 갈래가 실패하면 나머지는 취소하고 예외를 그대로 던짐)
+ *  - 갈래마다 별도 스레드에서 읽기 전용 트랜잭션 (REQUIRES_NEW -> 커넥션 따로), 남은 시간을 트랜잭션 타임아웃으로
+ *    (타임아웃은 초 단위라 올림 - 마감을 넘겨 끝난 갈래는 결과를 버리고 마감 초과로 처리)
+ *  - 호출한 쪽은 이미 커넥션을 들고 있으므로 갈래는 커넥션을 하나 더 씀 -> 풀이 바닥난 상태에서 갈래가
+ *    getConnection 에서 기다리지 않도록, 쉬는 커넥션이 min-idle-connections 보다 많을 때만 다른 스레드로 넘김
+ *    (Hikari 풀이 아니거나 아직 시작 전이면 넘기지 않음)
+ *  - 전체 스레드 수, 요청당 동시 갈래 수도 제한하고,
+ *    여유가 없으면 갈래를 호출한 스레드에서 바로 실행 (호출한 쪽 트랜잭션 그대로)
+ *  - 갈래별 소요 시간은 actuator metrics 의 query.fan-out 으로 (Timer 는 scope x 갈래마다 한 번만 등록), 마감 초과 시 로그로
+ *  - 갈래 스레드에는 요청 / 보안 컨텍스트가 없으므로 순수 조회만 넘길 것
+ */
+@Slf4j
+@Component
+public class QueryFanOut {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final HikariDataSource hikariDataSource;  // Hikari 풀이 아니면 null
+
+    private final int perRequest;
+    private final int minIdleConnections;
+    private final long deadlineNanos;
+
+    private final ThreadPoolExecutor executor;
+
+    private record TimerKey(String scope, String branch) {}
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public QueryFanOut(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            DataSource dataSource,
+            // Hikari 기본 풀 10 - 요청 스레드 몫을 남겨 둠
+            @Value("${app.query-fan-out.threads:4}") int threads,
+            @Value("${app.query-fan-out.per-request:3}") int perRequest,
+            @Value("${app.query-fan-out.min-idle-connections:2}") int minIdleConnections,
+            @Value("${app.query-fan-out.deadline:3s}") Duration deadline
+    ) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.hikariDataSource = unwrapHikari(dataSource);
+        this.perRequest = perRequest;
+        this.minIdleConnections = minIdleConnections;
+        this.deadlineNanos = deadline.toNanos();
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "query-fan-out-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // 대기열 없이 놀고 있는 스레드에만 넘김 (거절되면 호출한 스레드에서 실행)
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ?
+                    dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 갈래가 쓸 커넥션을 바로 얻을 수 있을 만큼 풀에 여유가 있는지 (대략치 - 확인 직후 다른 요청이 가져갈 수 있음)
+     */
+    private boolean hasSpareConnection() {
+        if (hikariDataSource == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool != null && pool.getIdleConnections() > minIdleConnections;
+    }
+
+    public Scope open(String name) {
+        return new Scope(name, System.nanoTime() + deadlineNanos);
+    }
+
+    /**
+     * 갈래 결과 - join 이 끝난 뒤에만 get
+     */
+    public static final class Branch<T> {
+        private final String name;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private volatile long elapsedNanos = -1;
+
+        private Branch(String name) {
+            this.name = name;
+        }
+
+        public T get() {
+            return future.getNow(null);
+        }
+    }
+
+    /**
+     * 요청 스레드 하나에서만 사용 (try-with-resources)
+     */
+    public final class Scope implements AutoCloseable {
+        private final String name;
+        private final long deadlineAt;
+        private final Semaphore permits = new Semaphore(perRequest);
+        private final List<Branch<?>> branches = new ArrayList<>();
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        private final List<Future<?>> running = new ArrayList<>();
+
+        private Scope(String name, long deadlineAt) {
+            this.name = name;
+            this.deadlineAt = deadlineAt;
+        }
+
+        public <T> Branch<T> fork(String branchName, Supplier<T> query) {
+            Branch<T> branch = new Branch<>(branchName);
+            branches.add(branch);
+
+            if (hasSpareConnection() && permits.tryAcquire()) {
+                try {
+                    running.add(executor.submit(() -> {
+                        try {
+                            runInNewTransaction(branch, query);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                    return branch;
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                }
+            }
+
+            // 여유 없음 (커넥션 / 스레드 / 요청당 갈래) -> 지금 이 스레드에서
+            run(branch, query);
+            return branch;
+        }
+
+        private <T> void runInNewTransaction(Branch<T> branch, Supplier<T> query) {
+            long remainingNanos = deadlineAt - System.nanoTime();
+            if (remainingNanos <= 0) {
+                fail(branch, new GeneralException(ErrorStatus.QUERY_DEADLINE_EXCEEDED));
+                return;
+            }
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            // 초 단위 올림 (마감보다 짧게 끊지 않음) - 마감은 끝난 뒤 직접 비교
+            readOnly.setTimeout((int) TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+            run(branch, () -> {
+                T result = readOnly.execute(status -> query.get());
+                if (System.nanoTime() - deadlineAt > 0) {
+                    throw new GeneralException(ErrorStatus.QUERY_DEADLINE_EXCEEDED);
+                }
+                return result;
+            });
+        }
+
+        private <T> void run(Branch<T> branch, Supplier<T> query) {
+            long startedAt = System.nanoTime();
+            try {
+                T result = query.get();
+                record(branch, startedAt);
+                branch.future.complete(result);
+            } catch (RuntimeException e) {
+                record(branch, startedAt);
+                fail(branch, e);
+            }
+        }
+
+        private void fail(Branch<?> branch, RuntimeException e) {
+            branch.future.completeExceptionally(e);
+            firstFailure.completeExceptionally(e);
+        }
+
+        private void record(Branch<?> branch, long startedAt) {
+            branch.elapsedNanos = System.nanoTime() - startedAt;
+            timers.computeIfAbsent(new TimerKey(name, branch.name), key -> Timer.builder("query.fan-out")
+                            .tag("scope", key.scope())
+                            .tag("branch", key.branch())
+                            .description("병렬 조회 갈래별 소요 시간")
+                            .register(meterRegistry))
+                    .record(branch.elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 모든 갈래가 끝날 때까지 (마감 시각까지만) 대기 - 실패한 갈래의 예외를 그대로 던짐
+         */
+        public void join() {
+            CompletableFuture<?> all = CompletableFuture.allOf(
+                    branches.stream().map(b -> b.future).toArray(CompletableFuture[]::new));
+            try {
+                CompletableFuture.anyOf(all, firstFailure)
+                        .get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+
+            } catch (TimeoutException e) {
+                log.warn("병렬 조회 마감 초과 - scope: {}, 갈래: {}", name, describe());
+                throw new GeneralException(ErrorStatus.QUERY_DEADLINE_EXCEEDED);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeneralException(ErrorStatus.QUERY_DEADLINE_EXCEEDED);
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("병렬 조회 - scope: {}, 갈래: {}", name, describe());
+            }
+        }
+
+        private String describe() {
+            return branches.stream()
+                    .map(b -> b.name + "=" + (b.elapsedNanos < 0 ?
+                            "running" :
+                            TimeUnit.NANOSECONDS.toMillis(b.elapsedNanos) + "ms"))
+                    .collect(Collectors.joining(", "));
+        }
+
+        /**
+         * 끝나지 않은 갈래 취소 (join 전에 예외로 빠져나가는 경우 포함)
+         */
+        @Override
+        public void close() {
+            running.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -11,7 +11,8 @@ import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
 import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
 import com.duckstar.repository.Reply.ReplyRepository;
 import com.duckstar.repository.ReplyLikeRepository;
-import com.duckstar.s3.S3Uploader;
+import com.duckstar.s3.ImagePipeline;
+import com.duckstar.s3.ImagePipeline.ImageProfile;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.web.dto.PageInfo;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,8 +40,9 @@ public class ReplyService {
     private final MemberRepository memberRepository;
     private final AnimeCommentRepository animeCommentRepository;
 
-    private final S3Uploader s3Uploader;
+    private final ImagePipeline imagePipeline;
     private final EpisodeStarRepository episodeStarRepository;
+    private final CommentCounter commentCounter;
 
     private ReplyLike findLikeByIdOrThrow(Long replyLikeId) {
         return replyLikeRepository.findById(replyLikeId)
@@ -80,7 +83,7 @@ public class ReplyService {
         String imageUrl = null;
         MultipartFile image = content.getAttachedImage();
         if (image != null && !image.isEmpty()) {
-            imageUrl = s3Uploader.uploadWithUUID(image, "comments");
+            imageUrl = imagePipeline.submit(image, "comments", ImageProfile.COMMENT).url();
         }
 
         Reply reply = Reply.create(
@@ -93,6 +96,7 @@ public class ReplyService {
         );
 
         Reply saved = replyRepository.save(reply);
+        commentCounter.onReplyAdded(comment);
 
         return ReplyDto.ofCreated(
                 saved,
@@ -153,6 +157,7 @@ public class ReplyService {
                 new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
 
         ReplyLike replyLike = null;
+        boolean liked = false;
         if (replyLikeId != null) {
             replyLike = findLikeByIdOrThrow(replyLikeId);
 
@@ -161,7 +166,7 @@ public class ReplyService {
                 throw new LikeHandler(ErrorStatus.LIKE_UNAUTHORIZED);
             }
 
-            replyLike.restoreLike();
+            liked = replyLikeRepository.updateIsLiked(replyLikeId, true, LocalDateTime.now()) > 0;
         } else {
             Optional<ReplyLike> likeOpt = replyLikeRepository.findByReplyAndMember(reply, member);
             // 여기서 존재하는 경우는 그냥 무시-> 빈 dto 반환
@@ -169,10 +174,19 @@ public class ReplyService {
             if (likeOpt.isEmpty()) {
                 replyLike = ReplyLike.create(reply, member);
                 replyLike = replyLikeRepository.save(replyLike);
+                liked = true;
             }
         }
 
-        return LikeResultDto.ofReply(replyLike);
+        if (replyLike == null) {
+            return LikeResultDto.ofReply(null, null);
+        }
+
+        Integer likeCount = liked ?
+                commentCounter.addReplyLike(replyId, 1) :
+                replyRepository.findLikeCountById(replyId);
+
+        return LikeResultDto.ofReply(replyLike, likeCount);
     }
 
     @Transactional
@@ -200,11 +214,16 @@ public class ReplyService {
             throw new LikeHandler(ErrorStatus.DISLIKE_UNAUTHORIZED);
         }
 
-        replyLike.discardLike();
+        LocalDateTime now = LocalDateTime.now();
+        boolean discarded = replyLikeRepository.updateIsLiked(replyLikeId, false, now) > 0;
+
+        Integer likeCount = discarded ?
+                commentCounter.addReplyLike(replyId, -1) :
+                replyRepository.findLikeCountById(replyId);
 
         return DiscardLikeResultDto.builder()
-                .likeCount(replyLike.getReply().getLikeCount())
-                .discardedAt(replyLike.getUpdatedAt())
+                .likeCount(likeCount)
+                .discardedAt(now)
                 .build();
     }
 
@@ -220,18 +239,22 @@ public class ReplyService {
         boolean isAuthor = Objects.equals(reply.getAuthor().getId(), principal.getId());
         boolean isAdmin = principal.isAdmin();
 
+        boolean wasVisible = reply.getStatus() == CommentStatus.NORMAL;
+
         if (isAuthor) {
             reply.setStatus(CommentStatus.DELETED);
-            reply.getParent().removeReply();
 
         } else if (isAdmin) {
             reply.setStatus(CommentStatus.ADMIN_DELETED);
-            reply.getParent().removeReply();
 
         } else {
             throw new CommentHandler(ErrorStatus.DELETE_UNAUTHORIZED);
         }
 
+        if (wasVisible) {
+            commentCounter.onReplyRemoved(reply.getParent());
+        }
+
         return DeleteResultDto.builder()
                 .status(reply.getStatus())
                 .createdAt(reply.getCreatedAt())
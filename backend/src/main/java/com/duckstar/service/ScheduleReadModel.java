@@ -0,0 +1,305 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.QuarterHandler;
+import com.duckstar.domain.enums.DayOfWeekShort;
+import com.duckstar.repository.AnimeQuarter.AnimeQuarterRepository;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.duckstar.web.dto.SearchResponseDto.*;
+
+/**
+ * 편성표 읽기 모델 (분기 편성표 / 주차 편성표)
+ *
+ *  - 요일별 그룹핑 + 24시 정책 정렬까지 끝낸 응답을 메모리에 들고 있고, ETag 는 응답 내용의 해시
+ *  - 애니/에피소드 편집 시 커밋 후 영향받는 항목만 버린다.
+ *      invalidateAnime         : 해당 애니가 들어있는 분기/주차 항목 (분기 항목은 바로 다시 만듦)
+ *      invalidateAnimeEpisodes : 에피소드 일정 변경 - 해당 애니의 분기 항목 + 새 애니가 끼어들 수 있는 주차 항목 전부
+ *      invalidateAll           : 신규 애니 등록, CSV 임포트 - 분기/주차 항목 전부
+ *  - 만드는 도중 무효화되면 결과는 응답에만 쓰고 저장하지 않음 (generation 비교)
+ */
+@Slf4j
+@Component
+public class ScheduleReadModel {
+    private static final int MAX_WEEK_ENTRIES = 64;
+
+    private final WeekRepository weekRepository;
+    private final AnimeQuarterRepository animeQuarterRepository;
+    private final EpisodeRepository episodeRepository;
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<QuarterKey, ScheduleSnapshot> quarterSchedules = new ConcurrentHashMap<>();
+    private final Map<LocalDateTime, ScheduleSnapshot> weekSchedules = new ConcurrentHashMap<>();
+
+    public ScheduleReadModel(
+            WeekRepository weekRepository,
+            AnimeQuarterRepository animeQuarterRepository,
+            EpisodeRepository episodeRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.weekRepository = weekRepository;
+        this.animeQuarterRepository = animeQuarterRepository;
+        this.episodeRepository = episodeRepository;
+        this.objectMapper = objectMapper;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public record QuarterKey(Integer year, Integer quarter) {}
+
+    public record ScheduleSnapshot(
+            AnimePreviewListDto animePreviewListDto,
+            Set<Long> animeIds,
+            String etag
+    ) {}
+
+    // 주차 편성표: 각 에피소드의 실제 방영 시각 기준
+    private static final Comparator<AnimePreviewDto> WEEK_COMPARATOR = (a, b) -> {
+        if (a.getAirTime() == null || b.getAirTime() == null) return 0;
+
+        int hourA = DayOfWeekShort.getLogicalHour(a.getScheduledAt().toLocalTime());
+        int hourB = DayOfWeekShort.getLogicalHour(b.getScheduledAt().toLocalTime());
+
+        if (hourA != hourB) return Integer.compare(hourA, hourB);
+
+        // 시간이 같으면 분 단위 비교
+        return a.getScheduledAt().getMinute() - b.getScheduledAt().getMinute();
+    };
+
+    // 분기 편성표: 정규 방영 시각 기준
+    private static final Comparator<AnimePreviewDto> QUARTER_COMPARATOR = (a, b) -> {
+        if (a.getAirTime() == null || b.getAirTime() == null) return 0;
+
+        LocalDateTime aScheduledAt = a.getScheduledAt();
+        LocalTime aLocalTime = aScheduledAt == null ? a.getAirTime() : aScheduledAt.toLocalTime();
+        LocalDateTime bScheduledAt = b.getScheduledAt();
+        LocalTime bLocalTime = bScheduledAt == null ? b.getAirTime() : bScheduledAt.toLocalTime();
+
+        int hourA = DayOfWeekShort.getLogicalHour(aLocalTime);
+        int hourB = DayOfWeekShort.getLogicalHour(bLocalTime);
+
+        if (hourA != hourB) return Integer.compare(hourA, hourB);
+
+        // 시간이 같으면 분 단위 비교
+        return aLocalTime.getMinute() - bLocalTime.getMinute();
+    };
+
+    //=== 조회 ===//
+
+    public ScheduleSnapshot getQuarterSchedule(Integer year, Integer quarter) {
+        QuarterKey key = new QuarterKey(year, quarter);
+        ScheduleSnapshot cached = quarterSchedules.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startedGeneration = generation.get();
+        ScheduleSnapshot snapshot = buildQuarter(key);
+        store(quarterSchedules, key, snapshot, startedGeneration);
+        return snapshot;
+    }
+
+    /**
+     * @param weekStart 이번 주 월요일 + 클라이언트 offset
+     */
+    public ScheduleSnapshot getWeekSchedule(LocalDateTime weekStart) {
+        ScheduleSnapshot cached = weekSchedules.get(weekStart);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startedGeneration = generation.get();
+        ScheduleSnapshot snapshot = buildWeek(weekStart);
+
+        // 지난 주차 (offset 별로 쌓이는 항목) 정리
+        if (weekSchedules.size() >= MAX_WEEK_ENTRIES) {
+            LocalDateTime lastWeek = weekStart.minusDays(7);
+            weekSchedules.keySet().removeIf(start -> start.isBefore(lastWeek));
+            if (weekSchedules.size() >= MAX_WEEK_ENTRIES) {
+                weekSchedules.clear();
+            }
+        }
+        store(weekSchedules, weekStart, snapshot, startedGeneration);
+        return snapshot;
+    }
+
+    private <K> void store(Map<K, ScheduleSnapshot> map, K key, ScheduleSnapshot snapshot, long startedGeneration) {
+        map.put(key, snapshot);
+        // 만드는 사이 무효화되었으면 저장 취소
+        if (generation.get() != startedGeneration) {
+            map.remove(key, snapshot);
+        }
+    }
+
+    //=== 무효화 ===//
+
+    public void invalidateAnime(Long animeId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+
+            List<QuarterKey> affectedQuarters = removeIf(quarterSchedules, s -> s.animeIds().contains(animeId));
+            removeIf(weekSchedules, s -> s.animeIds().contains(animeId));
+
+            rebuildQuarters(affectedQuarters);
+        });
+    }
+
+    /**
+     * 에피소드 일정 변경 - 해당 애니의 분기 항목 + 주차 항목 전부
+     */
+    public void invalidateAnimeEpisodes(Long animeId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+
+            List<QuarterKey> affectedQuarters = removeIf(quarterSchedules, s -> s.animeIds().contains(animeId));
+            weekSchedules.clear();
+
+            rebuildQuarters(affectedQuarters);
+        });
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+
+            List<QuarterKey> affectedQuarters = new ArrayList<>(quarterSchedules.keySet());
+            quarterSchedules.clear();
+            weekSchedules.clear();
+
+            rebuildQuarters(affectedQuarters);
+        });
+    }
+
+    private <K> List<K> removeIf(Map<K, ScheduleSnapshot> map, Predicate<ScheduleSnapshot> predicate) {
+        List<K> removed = new ArrayList<>();
+        map.forEach((key, snapshot) -> {
+            if (predicate.test(snapshot) && map.remove(key, snapshot)) {
+                removed.add(key);
+            }
+        });
+        return removed;
+    }
+
+    private void rebuildQuarters(List<QuarterKey> keys) {
+        for (QuarterKey key : keys) {
+            try {
+                long startedGeneration = generation.get();
+                ScheduleSnapshot snapshot = readOnlyTransaction.execute(status -> buildQuarter(key));
+                store(quarterSchedules, key, snapshot, startedGeneration);
+            } catch (RuntimeException e) {
+                // 다음 요청에서 다시 만들어짐
+                log.warn("분기 편성표 재생성 실패 - {}", key, e);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    //=== 생성 ===//
+
+    private ScheduleSnapshot buildQuarter(QuarterKey key) {
+        Long quarterId = weekRepository.findQuarterIdByYQ(key.year(), key.quarter())
+                .orElseThrow(() -> new QuarterHandler(ErrorStatus.QUARTER_NOT_FOUND));
+
+        List<AnimePreviewDto> animePreviews =
+                animeQuarterRepository.getAnimePreviewsByQuarter(quarterId);
+
+        AnimePreviewListDto dto = AnimePreviewListDto.builder()
+                .year(key.year())
+                .quarter(key.quarter())
+                .scheduleDtos(bucket(animePreviews, QUARTER_COMPARATOR))
+                .build();
+
+        return toSnapshot(dto, animePreviews);
+    }
+
+    private ScheduleSnapshot buildWeek(LocalDateTime weekStart) {
+        List<AnimePreviewDto> animePreviews =
+                episodeRepository.getAnimePreviewsByDuration(weekStart, weekStart.plusDays(7));
+
+        AnimePreviewListDto dto = AnimePreviewListDto.builder()
+                .scheduleDtos(bucket(animePreviews, WEEK_COMPARATOR))
+                .build();
+
+        return toSnapshot(dto, animePreviews);
+    }
+
+    private List<ScheduleDto> bucket(List<AnimePreviewDto> animePreviews, Comparator<AnimePreviewDto> comparator) {
+        Map<DayOfWeekShort, List<AnimePreviewDto>> groupedMap = animePreviews.stream()
+                .collect(Collectors.groupingBy(
+                        dto -> dto.getDayOfWeek() == null ?
+                                DayOfWeekShort.SPECIAL :
+                                dto.getDayOfWeek()
+                ));
+
+        // 모든 요일(MON~SPECIAL)을 순회하며 DTO 구성 및 내부 정렬
+        return Arrays.stream(DayOfWeekShort.values())
+                .map(day -> {
+                    List<AnimePreviewDto> list = new ArrayList<>(groupedMap.getOrDefault(day, List.of()));
+
+                    // 서비스 단의 비즈니스 규칙(24시 정책)으로 정렬 수행
+                    list.sort(comparator);
+
+                    return ScheduleDto.builder()
+                            .dayOfWeekShort(day)
+                            .animePreviews(List.copyOf(list))
+                            .build();
+                })
+                .toList();
+    }
+
+    private ScheduleSnapshot toSnapshot(AnimePreviewListDto dto, List<AnimePreviewDto> animePreviews) {
+        Set<Long> animeIds = animePreviews.stream()
+                .map(AnimePreviewDto::getAnimeId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new ScheduleSnapshot(dto, animeIds, etagOf(dto));
+    }
+
+    private String etagOf(AnimePreviewListDto dto) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(dto));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
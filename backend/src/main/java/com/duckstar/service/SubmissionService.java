@@ -12,7 +12,9 @@ import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.security.repository.ShadowBanRepository;
+import com.duckstar.service.VoteService.StarTallyBuffer;
 import com.duckstar.service.VoteService.VoteCommandService;
+import com.duckstar.service.VoteService.WeekVoteStateCache;
 import com.duckstar.web.dto.PageInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +37,10 @@ public class SubmissionService {
     private final MemberRepository memberRepository;
     private final WeekRepository weekRepository;
 
+    private final ChartSnapshotCache chartSnapshotCache;
+    private final WeekVoteStateCache weekVoteStateCache;
+    private final StarTallyBuffer starTallyBuffer;
+
     public SubmissionCountSliceDto getSubmissionCountGroupByIp(Pageable pageable) {
         int page = pageable.getPageNumber();
         int size = pageable.getPageSize();
@@ -64,13 +70,20 @@ public class SubmissionService {
             String ipHash,
             String reason
     ) {
+        // 재집계 (refreshEpisodeStatsByWeekId) 는 이 트랜잭션의 첫 조회보다 먼저 표시
+        starTallyBuffer.markRecount();
+
         List<WeekVoteSubmission> submissions = submissionRepository.findByWeek_IdAndIpHash(weekId, ipHash);
 
         submissions.forEach(submission -> submission.setBlocked(true));
+        weekVoteStateCache.invalidate(weekId, submissions.stream()
+                .map(WeekVoteSubmission::getPrincipalKey)
+                .toArray(String[]::new));
 
         shadowBanRepository.findByIpHash(ipHash).get().setAllWithdrawn(true);
 
         voteCommandService.refreshEpisodeStatsByWeekId(weekId);
+        chartSnapshotCache.invalidate(weekId);
 
         // 로그 남기기
         adminActionLogRepository.save(
@@ -99,14 +112,21 @@ public class SubmissionService {
             String ipHash,
             String reason
     ) {
+        // 재집계 (refreshEpisodeStatsByWeekId) 는 이 트랜잭션의 첫 조회보다 먼저 표시
+        starTallyBuffer.markRecount();
+
         List<WeekVoteSubmission> submissions = submissionRepository.findByWeek_IdAndIpHash(weekId, ipHash);
 
         submissions.forEach(submission -> submission.setBlocked(false));
+        weekVoteStateCache.invalidate(weekId, submissions.stream()
+                .map(WeekVoteSubmission::getPrincipalKey)
+                .toArray(String[]::new));
 
         shadowBanRepository.findByIpHash(ipHash).orElseThrow(() -> new AdminHandler(ErrorStatus.BAN_NOT_FOUND))
                 .setAllWithdrawn(false);
 
         voteCommandService.refreshEpisodeStatsByWeekId(weekId);
+        chartSnapshotCache.invalidate(weekId);
 
         // 롤백 활성화 끄기
         adminActionLogRepository.findById(logId).orElseThrow(() -> new AdminHandler(ErrorStatus.LOG_NOT_FOUND))
@@ -0,0 +1,107 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Survey;
+import com.duckstar.domain.enums.SurveyStatus;
+import com.duckstar.domain.enums.SurveyType;
+import com.duckstar.repository.SurveyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서베이 목록 read model
+ *
+ *  - 서베이 허브 목록을 매 요청 findAll 하지 않도록 메모리에 불변 리스트로 보관
+ *  - 상태 전이는 SurveyTransitionScheduler 가 커밋 후 applyStatusChanges 로 밀어 넣음
+ *  - DB 직접 수정 대비로 스케줄러 reload 때 통째로 다시 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyReadModel {
+
+    private final SurveyRepository surveyRepository;
+
+    private volatile List<SurveyView> views;
+
+    public record SurveyView(
+            Long surveyId,
+            Integer year,
+            SurveyType type,
+            SurveyStatus status,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String thumbnailUrl
+    ) {
+        public static SurveyView of(Survey survey) {
+            return new SurveyView(
+                    survey.getId(),
+                    survey.getYearValue(),
+                    survey.getSurveyType(),
+                    survey.getStatus(),
+                    survey.getStartDateTime(),
+                    survey.getEndDateTime(),
+                    survey.getThumbnailUrl()
+            );
+        }
+
+        public SurveyView withStatus(SurveyStatus status) {
+            return new SurveyView(surveyId, year, type, status, startDateTime, endDateTime, thumbnailUrl);
+        }
+    }
+
+    public List<SurveyView> getSurveys() {
+        List<SurveyView> current = views;
+        return current != null ? current : reload();
+    }
+
+    public Optional<SurveyView> getSurvey(Long surveyId) {
+        Optional<SurveyView> view = find(getSurveys(), surveyId);
+        if (view.isPresent()) {
+            return view;
+        }
+
+        // 목록을 읽은 뒤에 추가된 서베이
+        return surveyRepository.findById(surveyId).isPresent() ?
+                find(reload(), surveyId) :
+                Optional.empty();
+    }
+
+    public synchronized List<SurveyView> reload() {
+        List<SurveyView> loaded = surveyRepository.findAll().stream()
+                .map(SurveyView::of)
+                .toList();
+        views = loaded;
+        return loaded;
+    }
+
+    /**
+     * 상태 전이 반영 (커밋 후 호출) - 바뀐 서베이만 교체한 새 리스트로 바꿔 끼움
+     */
+    public synchronized void applyStatusChanges(Map<Long, SurveyStatus> changes) {
+        List<SurveyView> current = views;
+        if (current == null || changes.isEmpty()) {
+            return;
+        }
+
+        views = current.stream()
+                .map(view -> {
+                    SurveyStatus status = changes.get(view.surveyId());
+                    return status == null || status == view.status() ? view : view.withStatus(status);
+                })
+                .toList();
+
+        log.info("서베이 목록 상태 반영 - {}", changes);
+    }
+
+    private static Optional<SurveyView> find(List<SurveyView> views, Long surveyId) {
+        return views.stream()
+                .filter(view -> view.surveyId().equals(surveyId))
+                .findFirst();
+    }
+}
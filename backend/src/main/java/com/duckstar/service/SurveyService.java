@@ -6,7 +6,6 @@ import com.duckstar.domain.Survey;
 import com.duckstar.domain.enums.SurveyStatus;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
 import com.duckstar.repository.SurveyRepository;
-import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.web.support.VoteCookieManager;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,9 +15,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static com.duckstar.service.SurveyReadModel.*;
 import static com.duckstar.web.dto.ChartDto.*;
 import static com.duckstar.web.dto.RankInfoDto.*;
 import static com.duckstar.web.dto.SurveyResponseDto.*;
@@ -30,18 +32,9 @@ public class SurveyService {
 
     private final SurveyRepository surveyRepository;
     private final VoteCookieManager voteCookieManager;
-    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
     private final SurveyCandidateRepository surveyCandidateRepository;
-
-    @Transactional
-    public void updateStatus() {
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Survey> surveys = surveyRepository.findAllByStatusIn(
-                List.of(SurveyStatus.NOT_YET, SurveyStatus.OPEN, SurveyStatus.CLOSED));
-
-        surveys.forEach(survey -> survey.updateStatus(now));
-    }
+    private final SurveyReadModel surveyReadModel;
+    private final SurveyVotedIndex surveyVotedIndex;
 
     public SurveyRankPage getSurveyRankPage(
             Long surveyId, MemberPrincipal principal, Pageable pageable) {
@@ -68,13 +61,19 @@ public class SurveyService {
     }
 
     public List<SurveyDto> getSurveyDtos(Long memberId, HttpServletRequest req) {
-        List<Survey> surveys = surveyRepository.findAll();
+        List<SurveyView> surveys = surveyReadModel.getSurveys();
+
+        // 서베이 타입별 쿠키라 서베이마다 principalKey 가 다를 수 있음 -> 모아서 한 번에 조회
+        Map<Long, String> principalKeyBySurveyId = new HashMap<>();
+        for (SurveyView survey : surveys) {
+            String cookieId = voteCookieManager.readCookie(req, survey.type());
+            principalKeyBySurveyId.put(
+                    survey.surveyId(), voteCookieManager.toPrincipalKey(memberId, cookieId));
+        }
+        Set<Long> votedSurveyIds = surveyVotedIndex.findVotedSurveyIds(principalKeyBySurveyId);
+
         return surveys.stream()
-                .map(s -> {
-                    String cookieId = voteCookieManager.readCookie(req, s.getSurveyType());
-                    String principalKey = voteCookieManager.toPrincipalKey(memberId, cookieId);
-                    return getSurveyDto(principalKey, s);
-                })
+                .map(s -> toSurveyDto(s, votedSurveyIds.contains(s.surveyId())))
                 .toList();
     }
 
@@ -83,29 +82,25 @@ public class SurveyService {
             Long memberId,
             HttpServletRequest req
     ) {
-        Survey survey = surveyRepository.findById(surveyId).orElseThrow(() ->
+        SurveyView survey = surveyReadModel.getSurvey(surveyId).orElseThrow(() ->
                 new SurveyHandler(ErrorStatus.SURVEY_NOT_FOUND));
 
-        String cookieId = voteCookieManager.readCookie(req, survey.getSurveyType());
+        String cookieId = voteCookieManager.readCookie(req, survey.type());
         String principalKey = voteCookieManager.toPrincipalKey(memberId, cookieId);
 
-        return getSurveyDto(principalKey, survey);
+        return toSurveyDto(survey, surveyVotedIndex.hasVoted(surveyId, principalKey));
     }
 
-    private SurveyDto getSurveyDto(String principalKey, Survey survey) {
-        boolean hasVoted = principalKey != null &&
-                surveyVoteSubmissionRepository
-                        .existsBySurveyAndPrincipalKey(survey, principalKey);
-
+    private SurveyDto toSurveyDto(SurveyView survey, boolean hasVoted) {
         return SurveyDto.builder()
-                .thumbnailUrl(survey.getThumbnailUrl())
-                .surveyId(survey.getId())
+                .thumbnailUrl(survey.thumbnailUrl())
+                .surveyId(survey.surveyId())
                 .hasVoted(hasVoted)
-                .status(survey.getStatus())
-                .year(survey.getYearValue())
-                .type(survey.getSurveyType())
-                .startDateTime(survey.getStartDateTime())
-                .endDateTime(survey.getEndDateTime())
+                .status(survey.status())
+                .year(survey.year())
+                .type(survey.type())
+                .startDateTime(survey.startDateTime())
+                .endDateTime(survey.endDateTime())
                 .build();
     }
 }
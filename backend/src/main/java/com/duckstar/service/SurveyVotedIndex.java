@@ -0,0 +1,179 @@
+package com.duckstar.service;
+
+import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * principalKey -> 투표한 서베이 ID 비트맵
+ *
+ *  - 서베이 목록의 "투표함" 여부를 (surveyId, principalKey) 쌍마다 조회하지 않고,
+ *    캐시에 없는 principalKey 만 모아 한 번의 쿼리 (principal_key IN ...) 로 채운다.
+ *  - 서베이 ID 는 작고 조밀하므로 BitSet 으로 보관 (오탐이 없어야 해서 Bloom filter 는 쓰지 않음)
+ *  - 투표 / 로그인 이관 시 커밋 후 반영, TTL 과 최대 개수로 메모리 제한
+ *  - 조회 도중 커밋된 투표가 옛 값으로 덮이지 않도록 key 구간별 버전이 바뀌었으면 캐시하지 않음
+ */
+@Component
+public class SurveyVotedIndex {
+
+    private static final int STRIPES = 64;
+
+    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<String, VotedSurveys> index = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    public record VotedSurveyRecord(String principalKey, Long surveyId) {}
+
+    // bitmap 은 만든 뒤 바꾸지 않음 (갱신은 복사본으로 교체)
+    private record VotedSurveys(BitSet bitmap, long expiresAt) {
+        boolean contains(Long surveyId) {
+            return surveyId <= Integer.MAX_VALUE && bitmap.get(surveyId.intValue());
+        }
+    }
+
+    public SurveyVotedIndex(
+            SurveyVoteSubmissionRepository surveyVoteSubmissionRepository,
+            @Value("${app.survey.voted-index.ttl:10m}") Duration ttl,
+            @Value("${app.survey.voted-index.max-size:50000}") int maxSize
+    ) {
+        this.surveyVoteSubmissionRepository = surveyVoteSubmissionRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param principalKeyBySurveyId surveyId -> 그 서베이 타입 쿠키 기준 principalKey (null 이면 투표 안 함)
+     * @return 투표한 서베이 ID
+     */
+    public Set<Long> findVotedSurveyIds(Map<Long, String> principalKeyBySurveyId) {
+        long now = System.nanoTime();
+
+        Map<String, VotedSurveys> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String principalKey : principalKeyBySurveyId.values()) {
+            if (principalKey == null || resolved.containsKey(principalKey)) {
+                continue;
+            }
+            VotedSurveys cached = index.get(principalKey);
+            if (cached != null && cached.expiresAt() - now > 0) {
+                resolved.put(principalKey, cached);
+            } else {
+                missing.add(principalKey);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            resolved.putAll(load(missing, now));
+        }
+
+        Set<Long> voted = new HashSet<>();
+        principalKeyBySurveyId.forEach((surveyId, principalKey) -> {
+            VotedSurveys surveys = principalKey == null ? null : resolved.get(principalKey);
+            if (surveys != null && surveys.contains(surveyId)) {
+                voted.add(surveyId);
+            }
+        });
+        return voted;
+    }
+
+    public boolean hasVoted(Long surveyId, String principalKey) {
+        if (principalKey == null) {
+            return false;
+        }
+        return findVotedSurveyIds(Map.of(surveyId, principalKey)).contains(surveyId);
+    }
+
+    private Map<String, VotedSurveys> load(Set<String> principalKeys, long now) {
+        Map<String, BitSet> bitmaps = new HashMap<>();
+        Map<String, Long> seenVersions = new HashMap<>();
+        principalKeys.forEach(key -> {
+            bitmaps.put(key, new BitSet());
+            seenVersions.put(key, versions.get(stripe(key)));
+        });
+
+        surveyVoteSubmissionRepository.findVotedSurveyRecords(principalKeys)
+                .forEach(record -> bitmaps.get(record.principalKey())
+                        .set(Math.toIntExact(record.surveyId())));
+
+        Map<String, VotedSurveys> loaded = new HashMap<>();
+        bitmaps.forEach((key, bitmap) -> {
+            VotedSurveys surveys = new VotedSurveys(bitmap, now + ttlNanos);
+            loaded.put(key, surveys);
+            put(key, surveys, seenVersions.get(key), now);
+        });
+        return loaded;
+    }
+
+    private void put(String principalKey, VotedSurveys surveys, long seenVersion, long now) {
+        if (index.size() >= maxSize) {
+            index.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (index.size() >= maxSize) {
+                index.clear();
+            }
+        }
+        // 버전 확인과 저장을 같은 key 잠금 안에서 (markVoted 의 computeIfPresent 와 직렬화)
+        index.compute(principalKey, (key, existing) ->
+                versions.get(stripe(key)) == seenVersion ? surveys : existing);
+    }
+
+    private static int stripe(String principalKey) {
+        return Math.floorMod(principalKey.hashCode(), STRIPES);
+    }
+
+    //=== 갱신 ===//
+
+    /**
+     * 서베이 투표 저장 후 호출 - 커밋 후 비트 추가
+     */
+    public void markVoted(String principalKey, Long surveyId) {
+        if (principalKey == null) {
+            return;
+        }
+        afterCommit(() -> {
+            versions.incrementAndGet(stripe(principalKey));
+            index.computeIfPresent(principalKey, (key, surveys) -> {
+                BitSet bitmap = (BitSet) surveys.bitmap().clone();
+                bitmap.set(Math.toIntExact(surveyId));
+                return new VotedSurveys(bitmap, surveys.expiresAt());
+            });
+        });
+    }
+
+    /**
+     * 투표 기록의 principalKey 가 바뀐 경우 (로그인 이관) - 양쪽 모두 다음 조회 때 다시 읽음
+     */
+    public void invalidate(String... principalKeys) {
+        afterCommit(() -> {
+            for (String principalKey : principalKeys) {
+                if (principalKey != null) {
+                    versions.incrementAndGet(stripe(principalKey));
+                    index.remove(principalKey);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.Week;
+import com.duckstar.domain.enums.DayOfWeekShort;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.util.QuarterUtil;
+import com.duckstar.util.QuarterUtil.YQWRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.duckstar.service.VoteService.WeekVoteStateCache.*;
+import static com.duckstar.web.dto.VoteResponseDto.*;
+
+/**
+ * 실시간 투표 후보 (VOTING_WINDOW 에피소드) 읽기 모델
+ *
+ *  - 후보 목록은 모두에게 같고 정해진 전이 시각에만 바뀌므로, 애니 미리보기 + 주차 + 별점 통계까지
+ *    만든 후보를 메모리에 한 벌만 들고 있음
+ *  - 요청마다는 보는 사람의 별점만 WeekVoteStateCache 에서 꺼내 덮어씀 (principalKey 없으면 조회 X)
+ *  - 실시간 집계는 StarTallyBuffer.overlay 로 (호출하는 쪽)
+ *  - 상태 전이, 에피소드 일정 편집, 애니 썸네일 변경, 통계 재집계 시 커밋 후 invalidate
+ *  - 만드는 도중 무효화되면 결과는 응답에만 쓰고 저장하지 않음 (generation 비교)
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveCandidateReadModel {
+
+    private final EpisodeRepository episodeRepository;
+    private final WeekVoteStateCache weekVoteStateCache;
+    private final WeekRepository weekRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    private record ViewerStarRecord(
+            Long episodeStarId,
+            Integer starScore,
+            boolean isBlocked
+    ) {}
+
+    /**
+     * @param candidate 보는 사람 별점 없이 만든 후보 (result.info == null)
+     * @param weekId    에피소드가 속한 주 (없으면 null - 아직 주차 미생성)
+     */
+    private record LiveCandidate(
+            LiveCandidateDto candidate,
+            Long weekId,
+            int voterCount,
+            int[] stars
+    ) {}
+
+    private record Snapshot(List<LiveCandidate> candidates, Set<Long> weekIds, Set<Long> episodeIds) {}
+
+    //=== 조회 ===//
+
+    /**
+     * ⚠️ 캐시 미스일 때만 후보 조회 - 읽기 트랜잭션 안에서 호출
+     * @param principalKeys 보는 사람의 principal_key (최대 2개, 없으면 빈 목록)
+     */
+    public List<LiveCandidateDto> getLiveCandidates(List<String> principalKeys) {
+        Snapshot current = getOrLoad();
+        if (current.candidates().isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ViewerStarRecord> viewerStars = getViewerStars(principalKeys, current);
+
+        return current.candidates().stream()
+                .map(c -> {
+                    ViewerStarRecord star = viewerStars.get(c.candidate().getEpisodeId());
+                    if (star == null) {
+                        return c.candidate();
+                    }
+
+                    // EpisodeStar 존재 시 별점 통계 셋팅
+                    StarInfoDto info = StarInfoDto.of(
+                            star.isBlocked(),
+                            star.episodeStarId(),
+                            star.starScore(),
+                            c.voterCount(),
+                            c.stars()
+                    );
+                    return c.candidate().toBuilder()
+                            .result(VoteResultDto.builder()
+                                    .voterCount(c.voterCount())
+                                    .info(info)
+                                    .build())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 주차 (많아야 2개) x principalKey (많아야 2개) 의 투표 상태에서 후보 에피소드의 별점만 (회수한 별점 제외)
+     */
+    private Map<Long, ViewerStarRecord> getViewerStars(List<String> principalKeys, Snapshot current) {
+        Map<Long, ViewerStarRecord> viewerStars = new HashMap<>();
+        for (Long weekId : current.weekIds()) {
+            for (String principalKey : principalKeys) {
+                WeekVoteState state = weekVoteStateCache.get(weekId, principalKey);
+                state.stars().forEach((episodeId, star) -> {
+                    if (star.starScore() != null && current.episodeIds().contains(episodeId)) {
+                        viewerStars.putIfAbsent(episodeId,
+                                new ViewerStarRecord(star.episodeStarId(), star.starScore(), state.isBlocked()));
+                    }
+                });
+            }
+        }
+        return viewerStars;
+    }
+
+    private Snapshot getOrLoad() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+
+            long startedGeneration = generation.get();
+            current = build();
+            // 만드는 사이 무효화되었으면 저장 취소
+            if (generation.get() == startedGeneration) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    //=== 무효화 ===//
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    //=== 생성 ===//
+
+    private Snapshot build() {
+        List<Episode> episodes = episodeRepository.findLiveCandidatesWithAnime();
+
+        // 주차는 많아야 2개 (지난 주 + 이번 주)
+        Map<LocalDateTime, Optional<Long>> weekIdByStart = new HashMap<>();
+
+        List<LiveCandidate> candidates = new ArrayList<>(episodes.size());
+        for (Episode episode : episodes) {
+            Anime anime = episode.getAnime();
+
+            //=== 에피소드가 속한 주 계산 ===//
+            LocalDateTime scheduledAt = episode.getScheduledAt();
+            YQWRecord record = null;
+            Long weekId = null;
+            if (scheduledAt != null) {
+                record = QuarterUtil.getThisWeekRecord(scheduledAt);
+                weekId = weekIdByStart.computeIfAbsent(
+                        QuarterUtil.getThisWeekStartedAt(scheduledAt),
+                        start -> weekRepository
+                                .findWeekByStartDateTimeLessThanEqualAndEndDateTimeGreaterThan(scheduledAt, scheduledAt)
+                                .map(Week::getId)
+                ).orElse(null);
+            }
+
+            LiveCandidateDto candidate = LiveCandidateDto.builder()
+                    .year(record != null ? record.yearValue() : null)
+                    .quarter(record != null ? record.quarterValue() : null)
+                    .week(record != null ? record.weekValue() : null)
+                    .episodeId(episode.getId())
+                    .animeId(anime.getId())
+                    .mainThumbnailUrl(anime.getMainThumbnailUrl())
+                    .titleKor(anime.getTitleKor())
+                    .dayOfWeek(DayOfWeekShort.getLogicalDay(scheduledAt))
+                    .scheduledAt(scheduledAt)
+                    .genre(anime.getGenre())
+                    .medium(anime.getMedium())
+                    .result(VoteResultDto.builder()
+                            .voterCount(episode.getVoterCount())
+                            .build())
+                    .build();
+
+            int[] stars = {
+                    episode.getStar_0_5(), episode.getStar_1_0(), episode.getStar_1_5(),
+                    episode.getStar_2_0(), episode.getStar_2_5(), episode.getStar_3_0(),
+                    episode.getStar_3_5(), episode.getStar_4_0(), episode.getStar_4_5(),
+                    episode.getStar_5_0()
+            };
+            candidates.add(new LiveCandidate(candidate, weekId, episode.getVoterCount(), stars));
+        }
+
+        Set<Long> weekIds = candidates.stream()
+                .map(LiveCandidate::weekId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        Set<Long> episodeIds = candidates.stream()
+                .map(c -> c.candidate().getEpisodeId())
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new Snapshot(List.copyOf(candidates), weekIds, episodeIds);
+    }
+}
@@ -0,0 +1,471 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.duckstar.web.dto.VoteResponseDto.*;
+
+/**
+ * 에피소드 별점 집계 write-behind 버퍼
+ *
+ *  - 투표 요청은 Episode 행을 수정하지 않고 에피소드별 LongAdder 에 델타만 누적한다.
+ *    (인기 작품 방영 직후 같은 Episode 행 락에 투표 요청들이 줄 서지 않도록)
+ *  - 델타는 투표 트랜잭션이 커밋된 뒤에만 쌓인다. (롤백된 표가 집계에 남지 않도록)
+ *    커밋 전까지는 같은 트랜잭션의 응답에만 보인다.
+ *  - 누적된 델타는 몇 초마다 상대값 UPDATE (voter_count = voter_count + ?) 로 모아서 반영한다.
+ *  - 응답의 voterCount, StarInfoDto 는 DB 가 아닌 버퍼의 실시간 집계를 사용한다.
+ *  - 서버가 반영 전에 죽더라도 EpisodeStar 가 원본이므로,
+ *    기동 시 refreshEpisodeStatsByWeekId 로 재집계하여 복구한다.
+ *  - 재집계: markRecount 로 epoch 를 올린 뒤 EpisodeStar 를 읽고, 커밋 후 reset 에서
+ *    그 epoch 이전 델타만 버린다. (재집계가 읽는 사이 커밋된 표는 남김)
+ *    재집계 중에는 flush 를 멈춘다. (재집계 값이 덮어쓸 행에 델타를 더하지 않도록)
+ *  - 에피소드 집계는 재집계 후 남은 델타가 없거나, 반영할 델타 없이 flush 를 몇 번 지나면 버린다.
+ *    (이후 조회는 Episode 행 값 그대로, 다음 투표 때 다시 만듦 -> 투표가 끝난 에피소드가 쌓이지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StarTallyBuffer {
+
+    private static final int EVICT_AFTER_IDLE_FLUSHES = 2;
+
+    private final EpisodeRepository episodeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Tally> tallies = new ConcurrentHashMap<>();
+
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicInteger recounting = new AtomicInteger();  // 0 보다 크면 flush 멈춤
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    //=== 기록 ===//
+
+    /**
+     * 별점 변화 기록 (생성: old == null, 회수: new == null) - 커밋 후 반영
+     * ⚠️ 차단된 제출의 별점은 호출하지 않는다 (통계 반영 X)
+     */
+    public void record(Episode episode, Integer oldScore, Integer newScore) {
+        if (Objects.equals(oldScore, newScore)) {
+            return;
+        }
+
+        long[] delta = new long[11];
+        delta[0] = (newScore != null ? 1 : 0) - (oldScore != null ? 1 : 0);
+        if (oldScore != null) {
+            delta[oldScore] -= 1;
+        }
+        if (newScore != null) {
+            delta[newScore] += 1;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(episode.getId(), Counts.of(episode), delta);
+            return;
+        }
+
+        Uncommitted uncommitted = (Uncommitted) TransactionSynchronizationManager.getResource(Uncommitted.KEY);
+        if (uncommitted == null) {
+            uncommitted = new Uncommitted();
+            TransactionSynchronizationManager.bindResource(Uncommitted.KEY, uncommitted);
+            Uncommitted records = uncommitted;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    records.deltas.forEach((episodeId, d) -> apply(episodeId, records.seeds.get(episodeId), d));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(Uncommitted.KEY);
+                }
+            });
+        }
+        uncommitted.add(episode, delta);
+    }
+
+    private void apply(Long episodeId, Counts seed, long[] delta) {
+        // 버리는 쪽 (evict) 과 겹치지 않도록 맵 항목 잠금 안에서 더함
+        tallies.compute(episodeId, (id, tally) -> {
+            Tally target = tally != null ? tally : new Tally(seed);
+            target.add(epoch.get(), delta);
+            return target;
+        });
+    }
+
+    //=== 조회 ===//
+
+    public Integer getVoterCount(Episode episode) {
+        Tally tally = tallies.get(episode.getId());
+        long[] own = uncommittedDelta(episode.getId());
+        if (tally == null && own == null) {
+            return episode.getVoterCount();
+        }
+
+        long voterCount = tally != null ? tally.voterCount() : episode.getVoterCount();
+        return (int) (voterCount + (own != null ? own[0] : 0));
+    }
+
+    public StarInfoDto getStarInfo(Boolean isBlocked, EpisodeStar episodeStar, Episode episode) {
+        Tally tally = tallies.get(episode.getId());
+        long[] own = uncommittedDelta(episode.getId());
+        if (tally == null && own == null) {
+            return StarInfoDto.of(isBlocked, episodeStar, episode);
+        }
+
+        Counts counts = tally != null ? tally.counts() : Counts.of(episode);
+        int[] stars = counts.stars().clone();
+        int voterCount = counts.voterCount();
+        if (own != null) {
+            voterCount += (int) own[0];
+            for (int i = 0; i < stars.length; i++) {
+                stars[i] += (int) own[i + 1];
+            }
+        }
+
+        return StarInfoDto.of(isBlocked, episodeStar, voterCount, stars);
+    }
+
+    /**
+     * DB 조회로 만든 결과에 실시간 집계 덮어쓰기
+     */
+    public VoteResultDto overlay(Long episodeId, VoteResultDto result) {
+        Tally tally = tallies.get(episodeId);
+        if (tally == null || result == null) {
+            return result;
+        }
+
+        Counts counts = tally.counts();
+        StarInfoDto info = result.getInfo();
+
+        return VoteResultDto.builder()
+                .voterCount(counts.voterCount())
+                .info(info == null ? null : StarInfoDto.of(
+                        info.getIsBlocked(),
+                        info.getEpisodeStarId(),
+                        info.getUserStarScore(),
+                        counts.voterCount(),
+                        counts.stars()
+                ))
+                .build();
+    }
+
+    // 현재 트랜잭션에서 기록했지만 아직 커밋되지 않은 델타
+    private long[] uncommittedDelta(Long episodeId) {
+        Uncommitted uncommitted = (Uncommitted) TransactionSynchronizationManager.getResource(Uncommitted.KEY);
+        return uncommitted != null ? uncommitted.deltas.get(episodeId) : null;
+    }
+
+    //=== 재집계 ===//
+
+    /**
+     * EpisodeStar 기준 재집계 시작 - 재집계 트랜잭션 안에서, 첫 조회 전에 호출
+     *  (MySQL REPEATABLE READ 스냅샷은 첫 조회 시점에 잡히므로 그보다 먼저 epoch 를 올려야 함)
+     *  - 같은 트랜잭션에서 여러 번 불러도 처음 한 번만 적용
+     *  - 진행 중인 flush 가 끝나길 기다리고, 트랜잭션이 끝날 때까지 flush 를 멈춤
+     */
+    public void markRecount() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(RecountMark.KEY)) {
+            return;
+        }
+
+        long mark;
+        flushLock.lock();
+        try {
+            recounting.incrementAndGet();
+            mark = epoch.incrementAndGet();
+        } finally {
+            flushLock.unlock();
+        }
+
+        TransactionSynchronizationManager.bindResource(RecountMark.KEY, new RecountMark(mark));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RecountMark.KEY);
+                recounting.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 재집계한 Episode 통계로 버퍼 초기화 - setStats 후 같은 트랜잭션에서 호출
+     *  - 커밋 후 재집계 값을 새 기준으로 삼고, markRecount 이전 델타만 버린다.
+     *  - markRecount 이후 델타는 재집계에 없으므로 실시간 집계와 다음 flush 에 그대로 남김
+     */
+    public void reset(Collection<Episode> episodes) {
+        if (episodes.isEmpty()) {
+            return;
+        }
+        RecountMark recountMark = (RecountMark) TransactionSynchronizationManager.getResource(RecountMark.KEY);
+        if (recountMark == null) {
+            throw new IllegalStateException("markRecount 없이 reset 할 수 없습니다.");
+        }
+
+        long mark = recountMark.epoch();
+        Map<Long, Counts> recounted = new HashMap<>();
+        episodes.forEach(episode -> recounted.put(episode.getId(), Counts.of(episode)));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 재집계 이후 델타가 없으면 Episode 행 값이 곧 집계 -> 버림
+                recounted.forEach((episodeId, counts) -> tallies.computeIfPresent(episodeId, (id, tally) -> {
+                    tally.rebase(counts, mark);
+                    return tally.isEmpty() ? null : tally;
+                }));
+            }
+        });
+    }
+
+    //=== 반영 ===//
+
+    @Scheduled(fixedDelayString = "${app.vote.star-flush-interval-ms:3000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (recounting.get() > 0) {
+                // 재집계가 끝난 뒤 다음 주기에
+                return;
+            }
+
+            Map<Long, Map<Long, long[]>> deltas = new HashMap<>();
+            List<Long> idleEpisodeIds = new ArrayList<>();
+            tallies.forEach((episodeId, tally) -> {
+                Map<Long, long[]> delta = tally.drain();
+                if (!delta.isEmpty()) {
+                    deltas.put(episodeId, delta);
+                    tally.idleFlushes = 0;
+                } else if (++tally.idleFlushes >= EVICT_AFTER_IDLE_FLUSHES) {
+                    idleEpisodeIds.add(episodeId);
+                }
+            });
+
+            // 마지막 반영이 한 주기 이상 지난 집계 - 그 사이 새 델타가 없을 때만 버림
+            idleEpisodeIds.forEach(episodeId -> tallies.computeIfPresent(episodeId, (id, tally) ->
+                    tally.hasPending() ? tally : null));
+
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        deltas.forEach((episodeId, delta) ->
+                                episodeRepository.addStarStats(episodeId, sum(delta.values()))));
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                log.error("❌ 별점 집계 반영 실패 - episodes: {}", deltas.keySet(), e);
+                deltas.forEach((episodeId, delta) -> {
+                    Tally tally = tallies.get(episodeId);
+                    if (tally != null) {
+                        tally.restore(delta);
+                    }
+                });
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static long[] sum(Collection<long[]> deltas) {
+        long[] total = new long[11];
+        for (long[] delta : deltas) {
+            for (int i = 0; i < total.length; i++) {
+                total[i] += delta[i];
+            }
+        }
+        return total;
+    }
+
+    //=== 내부 구조 ===//
+
+    /**
+     * 트랜잭션 하나가 기록한 커밋 전 델타 (트랜잭션 리소스로 바인딩)
+     */
+    private static final class Uncommitted {
+        private static final Object KEY = new Object();
+
+        private final Map<Long, long[]> deltas = new HashMap<>();
+        private final Map<Long, Counts> seeds = new HashMap<>();
+
+        private void add(Episode episode, long[] delta) {
+            Long episodeId = episode.getId();
+            seeds.putIfAbsent(episodeId, Counts.of(episode));
+            long[] total = deltas.computeIfAbsent(episodeId, id -> new long[11]);
+            for (int i = 0; i < total.length; i++) {
+                total[i] += delta[i];
+            }
+        }
+    }
+
+    private record RecountMark(long epoch) {
+        private static final Object KEY = new Object();
+    }
+
+    /**
+     * Episode 행의 별점 통계 (Tally 의 기준값)
+     */
+    private record Counts(int voterCount, int[] stars) {
+        private static Counts of(Episode episode) {
+            return new Counts(episode.getVoterCount(), new int[]{
+                    episode.getStar_0_5(), episode.getStar_1_0(), episode.getStar_1_5(),
+                    episode.getStar_2_0(), episode.getStar_2_5(), episode.getStar_3_0(),
+                    episode.getStar_3_5(), episode.getStar_4_0(), episode.getStar_4_5(),
+                    episode.getStar_5_0()
+            });
+        }
+    }
+
+    /**
+     * 델타 한 벌 ([voterCount, star_0_5 ... star_5_0])
+     */
+    private static final class Delta {
+        private final LongAdder[] adders = new LongAdder[11];
+
+        private Delta() {
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        private void add(long[] delta) {
+            for (int i = 0; i < adders.length; i++) {
+                if (delta[i] != 0) {
+                    adders[i].add(delta[i]);
+                }
+            }
+        }
+
+        private long sum(int i) {
+            return adders[i].sum();
+        }
+
+        /**
+         * @return 비운 델타, 변화 없으면 null
+         */
+        private long[] drain() {
+            long[] delta = new long[adders.length];
+            boolean changed = false;
+            for (int i = 0; i < adders.length; i++) {
+                delta[i] = adders[i].sumThenReset();
+                changed |= delta[i] != 0;
+            }
+            return changed ? delta : null;
+        }
+    }
+
+    /**
+     * 에피소드 하나의 실시간 집계 = 기준값 + epoch 별 델타
+     *  - live    : 기준값 이후 쌓인 델타 (읽기용)
+     *  - pending : 아직 DB 에 반영되지 않은 델타
+     */
+    private static final class Tally {
+        private volatile Counts base;
+        private final ConcurrentSkipListMap<Long, Delta> live = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<Long, Delta> pending = new ConcurrentSkipListMap<>();
+        private int idleFlushes;  // flushLock 안에서만
+
+        private Tally(Counts base) {
+            this.base = base;
+        }
+
+        private void add(long epoch, long[] delta) {
+            live.computeIfAbsent(epoch, e -> new Delta()).add(delta);
+            pending.computeIfAbsent(epoch, e -> new Delta()).add(delta);
+        }
+
+        private long voterCount() {
+            long voterCount = base.voterCount();
+            for (Delta delta : live.values()) {
+                voterCount += delta.sum(0);
+            }
+            return voterCount;
+        }
+
+        private Counts counts() {
+            Counts current = base;
+            long voterCount = current.voterCount();
+            long[] stars = new long[10];
+            for (int i = 0; i < stars.length; i++) {
+                stars[i] = current.stars()[i];
+            }
+            for (Delta delta : live.values()) {
+                voterCount += delta.sum(0);
+                for (int i = 0; i < stars.length; i++) {
+                    stars[i] += delta.sum(i + 1);
+                }
+            }
+
+            int[] snapshot = new int[10];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = (int) stars[i];
+            }
+            return new Counts((int) voterCount, snapshot);
+        }
+
+        /**
+         * 재집계 값을 기준값으로 - mark 이전 epoch 의 델타는 재집계에 포함되어 있으므로 버림
+         */
+        private void rebase(Counts recounted, long mark) {
+            live.headMap(mark).clear();
+            pending.headMap(mark).clear();
+            base = recounted;
+        }
+
+        /**
+         * @return epoch -> 비운 델타 (변화 없는 epoch 제외)
+         */
+        private Map<Long, long[]> drain() {
+            Map<Long, long[]> drained = new HashMap<>();
+            pending.forEach((e, delta) -> {
+                long[] d = delta.drain();
+                if (d != null) {
+                    drained.put(e, d);
+                }
+            });
+            return drained;
+        }
+
+        private boolean isEmpty() {
+            return live.isEmpty() && !hasPending();
+        }
+
+        private boolean hasPending() {
+            for (Delta delta : pending.values()) {
+                for (int i = 0; i < 11; i++) {
+                    if (delta.sum(i) != 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void restore(Map<Long, long[]> drained) {
+            drained.forEach((e, d) -> pending.computeIfAbsent(e, k -> new Delta()).add(d));
+        }
+    }
+}
@@ -17,12 +17,14 @@ import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
 import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepositoryCustom.EligibleStarRecord;
 import com.duckstar.repository.SurveyVote.SurveyVoteRepository;
 import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.security.service.ShadowBanService;
+import com.duckstar.service.SurveyVotedIndex;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.support.Hasher;
 import com.duckstar.web.support.IdentifierExtractor;
@@ -41,6 +43,7 @@ import java.util.stream.Stream;
 
 import static com.duckstar.web.dto.SurveyRequestDto.*;
 import static com.duckstar.web.dto.VoteRequestDto.*;
+import static com.duckstar.service.VoteService.WeekVoteStateCache.*;
 import static com.duckstar.web.dto.VoteResponseDto.*;
 
 @Service
@@ -62,10 +65,15 @@ public class VoteCommandServiceImpl implements VoteCommandService {
     private final ShadowBanService shadowBanService;
     private final SurveyRepository surveyRepository;
     private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+    private final SurveyVotedIndex surveyVotedIndex;
     private final SurveyCandidateRepository surveyCandidateRepository;
     private final SurveyVoteRepository surveyVoteRepository;
     private final AnimeRepository animeRepository;
 
+    private final StarTallyBuffer starTallyBuffer;
+    private final LiveCandidateReadModel liveCandidateReadModel;
+    private final WeekVoteStateCache weekVoteStateCache;
+
     @Override
     public void voteSurvey(
             AnimeVoteRequest request,
@@ -129,6 +137,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         } catch (DataIntegrityViolationException e) {
             throw new VoteHandler(ErrorStatus.ALREADY_VOTED);
         }
+        surveyVotedIndex.markVoted(savedSubmission.getPrincipalKey(), surveyId);
 
         //=== 실제 투표지 검사: 후보 유효성(중복 포함됨, 이번 주 후보 아님) ===//
         List<BallotRequestDto> ballotRequests = request.getBallotRequests();
@@ -340,7 +349,11 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                 }
 
                 // 별점 반영
-                episodeStar.updateStarScore(isBlocked, newStarScore);
+                Integer oldScore = episodeStar.updateStarScore(newStarScore);
+                if (!isBlocked) {
+                    starTallyBuffer.record(episode, oldScore, newStarScore);
+                }
+                weekVoteStateCache.recordStar(episodeStar.getWeekVoteSubmission(), episodeStar);
             }
 
         } else {
@@ -356,9 +369,9 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         }
 
         return VoteResultDto.builder()
-                .voterCount(episode.getVoterCount())
+                .voterCount(starTallyBuffer.getVoterCount(episode))
                 .info(
-                        StarInfoDto.of(
+                        starTallyBuffer.getStarInfo(
                                 episodeStar.getWeekVoteSubmission().isBlocked(),
                                 episodeStar,
                                 episode
@@ -378,56 +391,75 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         //=== 제출 정보 찾기 ===//
         Long memberId = member != null ? member.getId() : null;
         String principalKey = voteCookieManager.toPrincipalKey(memberId, cookieId);
-        Optional<WeekVoteSubmission> submissionOpt =
-                submissionRepository.findByWeek_IdAndPrincipalKey(week.getId(), principalKey);
-
-        WeekVoteSubmission submission = submissionOpt.orElseGet(() -> {
-            String ip = identifierExtractor.extract(requestRaw);
-            String ipHash = hasher.hash(ip);
+        WeekVoteState voteState = weekVoteStateCache.get(week.getId(), principalKey);
 
-            boolean isBanned = shadowBanService.isBanned(ipHash);
-
-            // 일단 기록용으로만 둔다
-            String userAgent = identifierExtractor.safeUserAgent(requestRaw);
-            String fpHash = identifierExtractor.safeFpHash(requestRaw);
-
-            return submissionRepository.save(WeekVoteSubmission.create(
-                    isBanned,
-                    week,
-                    member,
-                    cookieId,
-                    ipHash,
-                    userAgent,
-                    fpHash,
-                    voteCookieManager.toPrincipalKey(memberId, cookieId),
-                    ContentType.ANIME
-            ));
-        });
+        Long submissionId = voteState.submissionId();
+        WeekVoteSubmission submission = submissionId != null ?
+                submissionRepository.getReferenceById(submissionId) :
+                createSubmission(week, member, cookieId, requestRaw);
 
         //=== 별점 반영 ===//
-        Optional<EpisodeStar> episodeStarOpt = episodeStarRepository
-                .findByEpisode_IdAndWeekVoteSubmission_Id(episode.getId(), submission.getId());
+        StarState cachedStar = voteState.getStar(episode.getId());
+        Optional<EpisodeStar> episodeStarOpt = cachedStar == null ?
+                Optional.empty() :
+                episodeStarRepository.findById(cachedStar.episodeStarId());
 
         boolean isBlocked = submission.isBlocked();  // 차단 유저는 통계 반영 X
 
         EpisodeStar episodeStar;
+        Integer oldScore;
         if (episodeStarOpt.isPresent()) {
             episodeStar = episodeStarOpt.get();
-            episodeStar.updateStarScore(isBlocked, starScore);
+            oldScore = episodeStar.updateStarScore(starScore);
         } else {
             episodeStar = episodeStarRepository.save(
                     EpisodeStar.create(
-                            isBlocked,
                             submission,
                             episode,
                             starScore
                     )
             );
+            oldScore = null;
+        }
+
+        if (!isBlocked) {
+            // AnimeVote 와 다르게 바로바로 반영
+            starTallyBuffer.record(episode, oldScore, starScore);
         }
+        weekVoteStateCache.recordStar(submission, episodeStar);
 
         return episodeStar;
     }
 
+    private WeekVoteSubmission createSubmission(
+            Week week,
+            Member member,
+            String cookieId,
+            HttpServletRequest requestRaw
+    ) {
+        Long memberId = member != null ? member.getId() : null;
+        String ip = identifierExtractor.extract(requestRaw);
+        String ipHash = hasher.hash(ip);
+
+        boolean isBanned = shadowBanService.isBanned(ipHash);
+
+        // 일단 기록용으로만 둔다
+        String userAgent = identifierExtractor.safeUserAgent(requestRaw);
+        String fpHash = identifierExtractor.safeFpHash(requestRaw);
+
+        return submissionRepository.save(WeekVoteSubmission.create(
+                isBanned,
+                week,
+                member,
+                cookieId,
+                ipHash,
+                userAgent,
+                fpHash,
+                voteCookieManager.toPrincipalKey(memberId, cookieId),
+                ContentType.ANIME
+        ));
+    }
+
     @Override
     public VoteFormResultDto voteOrUpdateStarWithLoginAndComment(
             LateStarRequestDto request,
@@ -481,7 +513,11 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                     throw new AuthHandler(ErrorStatus.STAR_UNAUTHORIZED);
                 }
 
-                episodeStar.updateStarScore(isBlocked, newStarScore);
+                Integer oldScore = episodeStar.updateStarScore(newStarScore);
+                if (!isBlocked) {
+                    starTallyBuffer.record(episode, oldScore, newStarScore);
+                }
+                weekVoteStateCache.recordStar(episodeStar.getWeekVoteSubmission(), episodeStar);
             }
 
         } else {
@@ -527,7 +563,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         }
 
         // 별점 통계
-        StarInfoDto info = StarInfoDto.of(
+        StarInfoDto info = starTallyBuffer.getStarInfo(
                 episodeStar.getWeekVoteSubmission().isBlocked(),
                 episodeStar,
                 episode
@@ -535,7 +571,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
 
         return VoteFormResultDto.builder()
                 .isLateParticipating(episodeStar.isLateParticipating())
-                .voterCount(episode.getVoterCount())
+                .voterCount(starTallyBuffer.getVoterCount(episode))
                 .info(info)
                 .voteUpdatedAt(episodeStar.getUpdatedAt())
                 .commentId(comment.getId())
@@ -595,19 +631,27 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         }
 
         // 별점 회수
-        episodeStar.withdrawScore();
+        Integer oldScore = episodeStar.withdrawScore();
+        if (!episodeStar.getWeekVoteSubmission().isBlocked()) {
+            starTallyBuffer.record(episode, oldScore, null);
+        }
+        weekVoteStateCache.recordStar(episodeStar.getWeekVoteSubmission(), episodeStar);
     }
 
     @Override
     public void refreshEpisodeStatsByWeekId(Long weekId) {
+        // EpisodeStar 를 읽기 전에 - 이후 커밋되는 표의 델타는 버퍼에 남김
+        starTallyBuffer.markRecount();
+
         Week lastWeek = weekRepository.findWeekById(weekId).orElseThrow(() ->
                 new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
-        //=== 회수된 표 제외 === //
-        List<EpisodeStar> allEpisodeStars = episodeStarRepository.findAllEligibleByWeekId(weekId);
-
-        Map<Long, List<EpisodeStar>> episodeStarMap = allEpisodeStars.stream()
-                .collect(Collectors.groupingBy(es -> es.getEpisode().getId()));
+        //=== 회수된 표 제외, 에피소드별 점수 분포 (단일 패스) === //
+        Map<Long, int[]> scoresMap = new HashMap<>();
+        try (Stream<EligibleStarRecord> records = episodeStarRepository.streamEligibleRecordsByWeekId(weekId)) {
+            records.forEach(record -> scoresMap
+                    .computeIfAbsent(record.episodeId(), id -> new int[10])[record.starScore() - 1] += 1);
+        }
 
         //=== 이번 주 휴방 아닌 에피소드들 - 표 집계 ===//
         List<Episode> episodes = episodeRepository
@@ -618,23 +662,16 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                 .toList();
 
         for (Episode episode : episodes) {
-            List<EpisodeStar> thisEpisodeStars =
-                    episodeStarMap.get(episode.getId());
-
-            if (thisEpisodeStars != null && !thisEpisodeStars.isEmpty())  {
-                int voterCount = thisEpisodeStars.size();
+            // 남은 표가 없는 에피소드도 0 으로 맞춘다 (전부 회수된 경우)
+            int[] scores = scoresMap.getOrDefault(episode.getId(), new int[10]);
+            int voterCount = Arrays.stream(scores).sum();
 
-                int[] scores = new int[10];
-
-                for (EpisodeStar episodeStar : thisEpisodeStars) {
-                    Integer starScore = episodeStar.getStarScore();
-                    int idx = starScore - 1;
-                    scores[idx] += 1;
-                }
-
-                episode.setStats(voterCount, scores);
-            }
+            episode.setStats(voterCount, scores);
         }
+
+        // 재집계 값 커밋 후 실시간 집계 버퍼 초기화
+        starTallyBuffer.reset(episodes);
+        liveCandidateReadModel.invalidate();
     }
 
     @Override
@@ -0,0 +1,266 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
+import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * (weekId, principalKey) -> 그 주에 보는 사람이 남긴 주간 투표 상태
+ *
+ *  - submission ID + 에피소드별 (EpisodeStar ID, 별점) 을 들고 있어서
+ *    주차 후보 / 실시간 후보의 "내 별점", 투표 시 submission · EpisodeStar 찾기를 조인 없이 해결
+ *  - 이번 주 + 지난 주 (투표 가능한 주) 만 보관, 더 옛날 주는 조회만 하고 저장하지 않음
+ *  - 투표 / 수정 / 회수는 커밋 후 캐시에 바로 반영 (write-through), 로그인 이관 · 차단 시 제거
+ *  - 개수 대신 추정 메모리 사용량 합계로 제한 (LRU 로 오래 안 쓴 것부터 제거)
+ *  - 조회 도중 커밋된 투표가 옛 값으로 덮이지 않도록 key 구간별 버전이 바뀌었으면 캐시하지 않음
+ */
+@Component
+public class WeekVoteStateCache {
+
+    private static final int STRIPES = 64;
+    private static final int RETAINED_WEEKS = 2;
+
+    // 대략치 (압축 OOP 기준): key + 엔트리 + 맵 노드 / 별점 하나당 Long, Integer, 레코드, 해시 노드
+    private static final long ENTRY_OVERHEAD_BYTES = 200;
+    private static final long STAR_BYTES = 112;
+
+    private final WeekVoteSubmissionRepository weekVoteSubmissionRepository;
+
+    private final long maxBytes;
+    private long usedBytes;  // entries 잠금 안에서만
+
+    private final Map<Key, WeekVoteState> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    // 지금까지 본 가장 최근 주 ID 들 (오름차순, 최대 RETAINED_WEEKS 개) - entries 잠금 안에서만
+    private final TreeSet<Long> retainedWeekIds = new TreeSet<>();
+
+    public record VoteStateRecord(
+            Long submissionId,
+            Boolean isBlocked,
+            Long episodeId,
+            Long episodeStarId,
+            Integer starScore
+    ) {}
+
+    /**
+     * @param starScore 회수한 별점은 null (EpisodeStar 는 남아 있어서 다시 투표하면 재사용)
+     */
+    public record StarState(Long episodeStarId, Integer starScore) {}
+
+    /**
+     * @param submissionId 제출 기록 없으면 null
+     * @param stars        episodeId -> 별점 (만든 뒤 바꾸지 않음, 갱신은 복사본으로 교체)
+     */
+    public record WeekVoteState(Long submissionId, boolean isBlocked, Map<Long, StarState> stars) {
+        public static final WeekVoteState EMPTY = new WeekVoteState(null, false, Map.of());
+
+        public StarState getStar(Long episodeId) {
+            return stars.get(episodeId);
+        }
+
+        // 회수하지 않은 별점이 있는 에피소드
+        public Set<Long> getVotedEpisodeIds() {
+            return stars.entrySet().stream()
+                    .filter(e -> e.getValue().starScore() != null)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        }
+
+        private WeekVoteState withStar(Long submissionId, boolean isBlocked, Long episodeId, StarState star) {
+            Map<Long, StarState> copy = new HashMap<>(stars);
+            copy.put(episodeId, star);
+            return new WeekVoteState(submissionId, isBlocked, Collections.unmodifiableMap(copy));
+        }
+
+        private long estimatedBytes(Key key) {
+            return ENTRY_OVERHEAD_BYTES + key.principalKey().length() + STAR_BYTES * stars.size();
+        }
+    }
+
+    private record Key(Long weekId, String principalKey) {}
+
+    public WeekVoteStateCache(
+            WeekVoteSubmissionRepository weekVoteSubmissionRepository,
+            @Value("${app.vote.state-cache.max-bytes:32MB}") DataSize maxBytes
+    ) {
+        this.weekVoteSubmissionRepository = weekVoteSubmissionRepository;
+        this.maxBytes = maxBytes.toBytes();
+    }
+
+    //=== 조회 ===//
+
+    /**
+     * ⚠️ 캐시 미스일 때만 DB 조회 - 트랜잭션 안에서 호출
+     * @param principalKey null 이면 (쿠키 없음) 빈 상태
+     */
+    public WeekVoteState get(Long weekId, String principalKey) {
+        if (weekId == null || principalKey == null) {
+            return WeekVoteState.EMPTY;
+        }
+
+        Key key = new Key(weekId, principalKey);
+        synchronized (entries) {
+            WeekVoteState cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long seenVersion = versions.get(stripe(key));
+        WeekVoteState loaded = load(weekId, principalKey);
+        store(key, loaded, seenVersion);
+        return loaded;
+    }
+
+    private WeekVoteState load(Long weekId, String principalKey) {
+        List<VoteStateRecord> records = weekVoteSubmissionRepository.getVoteStateRecords(weekId, principalKey);
+        if (records.isEmpty()) {
+            return WeekVoteState.EMPTY;
+        }
+
+        Map<Long, StarState> stars = new HashMap<>();
+        for (VoteStateRecord record : records) {
+            // 별점 없는 submission 은 episodeId 가 null 인 한 줄
+            if (record.episodeId() != null) {
+                stars.putIfAbsent(record.episodeId(), new StarState(record.episodeStarId(), record.starScore()));
+            }
+        }
+        VoteStateRecord first = records.get(0);
+        return new WeekVoteState(
+                first.submissionId(),
+                Boolean.TRUE.equals(first.isBlocked()),
+                Collections.unmodifiableMap(stars)
+        );
+    }
+
+    private void store(Key key, WeekVoteState state, long seenVersion) {
+        synchronized (entries) {
+            // 버전 확인과 저장을 같은 잠금 안에서 (write-through 와 직렬화)
+            if (versions.get(stripe(key)) != seenVersion || !retain(key.weekId())) {
+                return;
+            }
+            replace(key, state);
+        }
+    }
+
+    //=== 갱신 ===//
+
+    /**
+     * 별점 투표 / 수정 / 회수 후 호출 - 커밋 후 캐시에 있는 상태에만 반영
+     *  (없으면 다음 조회 때 DB 에서 읽음)
+     */
+    public void recordStar(WeekVoteSubmission submission, EpisodeStar episodeStar) {
+        Key key = new Key(submission.getWeek().getId(), submission.getPrincipalKey());
+        Long submissionId = submission.getId();
+        boolean isBlocked = submission.isBlocked();
+        Long episodeId = episodeStar.getEpisode().getId();
+        StarState star = new StarState(episodeStar.getId(), episodeStar.getStarScore());
+
+        afterCommit(() -> {
+            synchronized (entries) {
+                versions.incrementAndGet(stripe(key));
+                WeekVoteState state = entries.get(key);
+                if (state != null) {
+                    replace(key, state.withStar(submissionId, isBlocked, episodeId, star));
+                }
+            }
+        });
+    }
+
+    /**
+     * 투표 기록의 principalKey 가 바뀌거나 (로그인 이관) 차단 여부가 바뀐 경우 - 다음 조회 때 다시 읽음
+     */
+    public void invalidate(Long weekId, String... principalKeys) {
+        List<Key> keys = Arrays.stream(principalKeys)
+                .filter(Objects::nonNull)
+                .map(principalKey -> new Key(weekId, principalKey))
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            synchronized (entries) {
+                for (Key key : keys) {
+                    versions.incrementAndGet(stripe(key));
+                    remove(key);
+                }
+            }
+        });
+    }
+
+    //=== 메모리 관리 (entries 잠금 안에서만) ===//
+
+    /**
+     * 이번 주 + 지난 주만 보관 - 새 주가 보이면 가장 옛날 주를 통째로 비움
+     */
+    private boolean retain(Long weekId) {
+        if (retainedWeekIds.contains(weekId)) {
+            return true;
+        }
+        if (retainedWeekIds.size() >= RETAINED_WEEKS && weekId < retainedWeekIds.first()) {
+            return false;
+        }
+
+        retainedWeekIds.add(weekId);
+        while (retainedWeekIds.size() > RETAINED_WEEKS) {
+            Long expired = retainedWeekIds.pollFirst();
+            entries.entrySet().removeIf(e -> {
+                if (e.getKey().weekId().equals(expired)) {
+                    usedBytes -= e.getValue().estimatedBytes(e.getKey());
+                    return true;
+                }
+                return false;
+            });
+        }
+        return true;
+    }
+
+    private void replace(Key key, WeekVoteState state) {
+        remove(key);
+        entries.put(key, state);
+        usedBytes += state.estimatedBytes(key);
+
+        // 오래 안 쓴 것부터 제거
+        Iterator<Map.Entry<Key, WeekVoteState>> it = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Key, WeekVoteState> eldest = it.next();
+            usedBytes -= eldest.getValue().estimatedBytes(eldest.getKey());
+            it.remove();
+        }
+    }
+
+    private void remove(Key key) {
+        WeekVoteState removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.estimatedBytes(key);
+        }
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
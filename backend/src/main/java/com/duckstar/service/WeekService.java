@@ -1,16 +1,13 @@
 package com.duckstar.service;
 
-import com.duckstar.abroad.aniLab.AnilabRepository;
-import com.duckstar.abroad.animeCorner.AnimeCornerRepository;
 import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.QuarterHandler;
 import com.duckstar.apiPayload.exception.handler.WeekHandler;
 import com.duckstar.domain.Quarter;
 import com.duckstar.domain.Week;
-import com.duckstar.domain.enums.DayOfWeekShort;
-import com.duckstar.repository.AnimeQuarter.AnimeQuarterRepository;
-import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.service.ChartSnapshotCache.WeekChartSnapshot;
+import com.duckstar.service.ScheduleReadModel.ScheduleSnapshot;
 import com.duckstar.web.dto.PageInfo;
 import com.duckstar.web.dto.RankInfoDto.RankPreviewDto;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +20,6 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.duckstar.web.dto.AnimeResponseDto.*;
@@ -37,11 +33,9 @@ import static com.duckstar.web.dto.WeekResponseDto.*;
 public class WeekService {
 
     private final WeekRepository weekRepository;
-    private final AnimeQuarterRepository animeQuarterRepository;
-    private final EpisodeRepository episodeRepository;
 
-    private final AnilabRepository anilabRepository;
-    private final AnimeCornerRepository animeCornerRepository;
+    private final ChartSnapshotCache chartSnapshotCache;
+    private final ScheduleReadModel scheduleReadModel;
 
     public Week getCurrentWeek() {
         LocalDateTime now = LocalDateTime.now();
@@ -63,144 +57,35 @@ public class WeekService {
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
     }
 
-    public AnimePreviewListDto getWeeklyScheduleFromOffset(LocalTime offset) {
+    public ScheduleSnapshot getWeeklyScheduleFromOffset(LocalTime offset) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime thisMonday = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
                 .with(offset);
-        LocalDateTime endMonday = thisMonday.plusDays(7);
 
-        List<AnimePreviewDto> animePreviews =
-                episodeRepository.getAnimePreviewsByDuration(thisMonday, endMonday);
-
-        // 임시 그룹핑
-        Map<DayOfWeekShort, List<AnimePreviewDto>> groupedMap = animePreviews.stream()
-                .collect(Collectors.groupingBy(
-                        dto -> dto.getDayOfWeek() == null ?
-                                DayOfWeekShort.SPECIAL :
-                                dto.getDayOfWeek()
-                ));
-
-        Comparator<AnimePreviewDto> scheduleComparator = (a, b) -> {
-            if (a.getAirTime() == null || b.getAirTime() == null) return 0;
-
-            int hourA = DayOfWeekShort.getLogicalHour(a.getScheduledAt().toLocalTime());
-            int hourB = DayOfWeekShort.getLogicalHour(b.getScheduledAt().toLocalTime());
-
-            if (hourA != hourB) return Integer.compare(hourA, hourB);
-
-            // 시간이 같으면 분 단위 비교
-            return a.getScheduledAt().getMinute() - b.getScheduledAt().getMinute();
-        };
-
-        // 모든 요일(MON~SPECIAL)을 순회하며 DTO 구성 및 내부 정렬
-        List<ScheduleDto> scheduleDtos = Arrays.stream(DayOfWeekShort.values())
-                .map(day -> {
-                    List<AnimePreviewDto> list = new ArrayList<>(groupedMap.getOrDefault(day, List.of()));
-
-                    // 서비스 단의 비즈니스 규칙(24시 정책)으로 정렬 수행
-                    list.sort(scheduleComparator);
-
-                    return ScheduleDto.builder()
-                            .dayOfWeekShort(day)
-                            .animePreviews(list)
-                            .build();
-                })
-                .toList();
-
-        return AnimePreviewListDto.builder()
-                .scheduleDtos(scheduleDtos)
-                .build();
+        return scheduleReadModel.getWeekSchedule(thisMonday);
     }
 
-    public AnimePreviewListDto getScheduleByQuarterId(Integer year, Integer quarter) {
-        Long quarterId = getQuarterIdByYQ(year, quarter);
-        List<AnimePreviewDto> animePreviews =
-                animeQuarterRepository.getAnimePreviewsByQuarter(quarterId);
-
-        // 임시 그룹핑
-        Map<DayOfWeekShort, List<AnimePreviewDto>> groupedMap = animePreviews.stream()
-                .collect(Collectors.groupingBy(
-                        dto -> dto.getDayOfWeek() == null ?
-                                DayOfWeekShort.SPECIAL :
-                                dto.getDayOfWeek()
-                ));
-
-        Comparator<AnimePreviewDto> scheduleComparator = (a, b) -> {
-            if (a.getAirTime() == null || b.getAirTime() == null) return 0;
-
-            LocalDateTime aScheduledAt = a.getScheduledAt();
-            LocalTime aLocalTime = aScheduledAt == null ? a.getAirTime() : aScheduledAt.toLocalTime();
-            LocalDateTime bScheduledAt = b.getScheduledAt();
-            LocalTime bLocalTime = bScheduledAt == null ? b.getAirTime() : bScheduledAt.toLocalTime();
-
-            int hourA = DayOfWeekShort.getLogicalHour(aLocalTime);
-            int hourB = DayOfWeekShort.getLogicalHour(bLocalTime);
-
-            if (hourA != hourB) return Integer.compare(hourA, hourB);
-
-            // 시간이 같으면 분 단위 비교
-            return aLocalTime.getMinute() - bLocalTime.getMinute();
-        };
-
-        // 모든 요일(MON~SPECIAL)을 순회하며 DTO 구성 및 내부 정렬
-        List<ScheduleDto> scheduleDtos = Arrays.stream(DayOfWeekShort.values())
-                .map(day -> {
-                    List<AnimePreviewDto> list = new ArrayList<>(groupedMap.getOrDefault(day, List.of()));
-
-                    // 서비스 단의 비즈니스 규칙(24시 정책)으로 정렬 수행
-                    list.sort(scheduleComparator);
-
-                    return ScheduleDto.builder()
-                            .dayOfWeekShort(day)
-                            .animePreviews(list)
-                            .build();
-                })
-                .toList();
-
-        return AnimePreviewListDto.builder()
-                .year(year)
-                .quarter(quarter)
-                .scheduleDtos(scheduleDtos)
-                .build();
+    public ScheduleSnapshot getScheduleByQuarterId(Integer year, Integer quarter) {
+        return scheduleReadModel.getQuarterSchedule(year, quarter);
     }
 
     public AnimeRankSliceDto getAnimeRankSliceDto(Long weekId, Pageable pageable) {
-        Week week = weekRepository.findById(weekId)
-                .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
-
-        if (!week.getAnnouncePrepared()) throw new WeekHandler(ErrorStatus.ANNOUNCEMENT_NOT_PREPARED);
-
-        LocalDateTime weekEndDateTime = week.getEndDateTime();
+        // 발표된 주차 차트는 스냅샷에서 잘라서 응답 (캐시 미스일 때만 DB 조회)
+        WeekChartSnapshot snapshot = chartSnapshotCache.getOrLoad(weekId);
 
         int page = pageable.getPageNumber();
         int size = pageable.getPageSize();
 
-        List<AnimeRankDto> rows = episodeRepository
-                .getAnimeRankDtosByWeekId(
-                        weekId, weekEndDateTime, page * size, size + 1);
-        boolean duckstarHasNext = rows.size() > size;
-
-        List<RankPreviewDto> animeCornerRankDtos = animeCornerRepository
-                .findAllByWeek_Id(weekId, page * size, size + 1)
-                .stream()
-                .map(RankPreviewDto::of)
-                .toList();
-        boolean animeCornerHasNext = animeCornerRankDtos.size() > size;
-
-        List<RankPreviewDto> aniLabRankDtos = anilabRepository
-                .findAllByWeek_Id(weekId, page * size, size + 1)
-                .stream()
-                .map(RankPreviewDto::of)
-                .toList();
-        boolean aniLabHasNext = aniLabRankDtos.size() > size;
+        List<AnimeRankDto> rows = slice(snapshot.animeRankDtos(), page, size);
+        boolean duckstarHasNext = hasNext(snapshot.animeRankDtos(), page, size);
 
-        boolean hasNextTotal = duckstarHasNext || animeCornerHasNext || aniLabHasNext;
+        List<RankPreviewDto> animeCornerRankDtos = slice(snapshot.animeCornerRankPreviews(), page, size);
+        boolean animeCornerHasNext = hasNext(snapshot.animeCornerRankPreviews(), page, size);
+
+        List<RankPreviewDto> aniLabRankDtos = slice(snapshot.anilabRankPreviews(), page, size);
+        boolean aniLabHasNext = hasNext(snapshot.anilabRankPreviews(), page, size);
 
-        if (hasNextTotal) {
-            if (duckstarHasNext) rows = rows.subList(0, size);
-            if (animeCornerHasNext) animeCornerRankDtos = animeCornerRankDtos.subList(0, size);
-            if (aniLabHasNext) aniLabRankDtos = aniLabRankDtos.subList(0, size);
-        }
+        boolean hasNextTotal = duckstarHasNext || animeCornerHasNext || aniLabHasNext;
 
         PageInfo pageInfo = PageInfo.builder()
                 .hasNext(hasNextTotal)
@@ -209,8 +94,8 @@ public class WeekService {
                 .build();
 
         return AnimeRankSliceDto.builder()
-                .voterCount(week.getAnimeVoterCount())
-                .voteTotalCount(week.getAnimeVotes())
+                .voterCount(snapshot.voterCount())
+                .voteTotalCount(snapshot.voteTotalCount())
                 .animeRankDtos(rows)
                 .animeTrendRankPreviews(animeCornerRankDtos)
                 .aniLabRankPreviews(aniLabRankDtos)
@@ -218,6 +103,16 @@ public class WeekService {
                 .build();
     }
 
+    private static <T> List<T> slice(List<T> list, int page, int size) {
+        int from = Math.min(page * size, list.size());
+        int to = Math.min(from + size, list.size());
+        return list.subList(from, to);
+    }
+
+    private static boolean hasNext(List<?> list, int page, int size) {
+        return list.size() > (page + 1) * size;
+    }
+
     @Transactional
     public Week getOrCreateWeek(
             Quarter quarter,
@@ -0,0 +1,208 @@
+package com.duckstar.util;
+
+import java.util.*;
+
+/**
+ * 애니메이션 제목 검색 색인 (불변)
+ *
+ *  - 제목(한/영/원제)은 소문자 + 띄어쓰기 제거로 정규화, 한국어 제목은 초성 문자열도 미리 계산
+ *  - 1글자 / 2글자(bigram) 단위 posting list 로 후보를 좁힌 뒤 contains 로 확인
+ *  - 결과 순서: 접두 일치 → 중간 일치, 같은 순위면 짧은 제목 → animeId
+ */
+public class AnimeTitleIndex {
+
+    public static final AnimeTitleIndex EMPTY = of(List.of());
+
+    private static final int PREFIX = 0;
+    private static final int INFIX = 1;
+
+    public record IndexedTitle(Long animeId, String titleKor, String titleEng, String titleOrigin) {}
+
+    private final Long[] animeIds;
+    private final String[][] texts;     // 엔트리별 정규화 제목들
+    private final String[] chosungs;    // 엔트리별 한국어 제목 초성
+    private final int[] titleLengths;
+
+    private final Map<String, int[]> textPostings;
+    private final Map<String, int[]> chosungPostings;
+
+    private AnimeTitleIndex(List<IndexedTitle> titles) {
+        int n = titles.size();
+        animeIds = new Long[n];
+        texts = new String[n][];
+        chosungs = new String[n];
+        titleLengths = new int[n];
+
+        Map<String, List<Integer>> textGrams = new HashMap<>();
+        Map<String, List<Integer>> chosungGrams = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            IndexedTitle title = titles.get(i);
+            animeIds[i] = title.animeId();
+
+            List<String> normalized = new ArrayList<>(3);
+            for (String raw : new String[]{ title.titleKor(), title.titleEng(), title.titleOrigin() }) {
+                if (raw != null && !raw.isBlank()) {
+                    normalized.add(ChosungUtil.normalize(raw));
+                }
+            }
+            texts[i] = normalized.toArray(String[]::new);
+            titleLengths[i] = texts[i].length == 0 ? Integer.MAX_VALUE : texts[i][0].length();
+
+            chosungs[i] = title.titleKor() == null ? "" :
+                    ChosungUtil.extractChosung(title.titleKor().toLowerCase());
+
+            for (String text : texts[i]) {
+                addGrams(textGrams, text, i);
+            }
+            addGrams(chosungGrams, chosungs[i], i);
+        }
+
+        textPostings = toPostings(textGrams);
+        chosungPostings = toPostings(chosungGrams);
+    }
+
+    public static AnimeTitleIndex of(List<IndexedTitle> titles) {
+        return new AnimeTitleIndex(titles);
+    }
+
+    public int size() {
+        return animeIds.length;
+    }
+
+    /**
+     * @return 순위 순서의 animeId 목록
+     */
+    public List<Long> search(String searchQuery) {
+        if (searchQuery == null) {
+            return List.of();
+        }
+        String trimmed = searchQuery.trim().toLowerCase();
+        String query = ChosungUtil.normalize(trimmed);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        boolean isChosung = ChosungUtil.isChosungOnly(trimmed);
+        int[] candidates = candidates(isChosung ? chosungPostings : textPostings, query);
+        if (candidates.length == 0) {
+            return List.of();
+        }
+
+        List<int[]> hits = new ArrayList<>();  // [엔트리, 순위]
+        for (int i : candidates) {
+            int rank = isChosung ? rankOf(chosungs[i], query) : rankOf(texts[i], query);
+            if (rank >= 0) {
+                hits.add(new int[]{ i, rank });
+            }
+        }
+
+        hits.sort(Comparator
+                .<int[]>comparingInt(h -> h[1])
+                .thenComparingInt(h -> titleLengths[h[0]])
+                .thenComparing(h -> animeIds[h[0]]));
+
+        List<Long> result = new ArrayList<>(hits.size());
+        for (int[] hit : hits) {
+            result.add(animeIds[hit[0]]);
+        }
+        return result;
+    }
+
+    private static int rankOf(String[] targets, String query) {
+        int best = -1;
+        for (String target : targets) {
+            int rank = rankOf(target, query);
+            if (rank == PREFIX) {
+                return PREFIX;
+            }
+            if (rank == INFIX) {
+                best = INFIX;
+            }
+        }
+        return best;
+    }
+
+    private static int rankOf(String target, String query) {
+        int idx = target.indexOf(query);
+        if (idx < 0) {
+            return -1;
+        }
+        return idx == 0 ? PREFIX : INFIX;
+    }
+
+    /**
+     * 질의의 모든 gram posting list 교집합 (짧은 목록부터)
+     */
+    private static int[] candidates(Map<String, int[]> postings, String query) {
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(l -> l.length));
+
+        int[] result = lists.get(0);
+        for (int k = 1; k < lists.size() && result.length > 0; k++) {
+            result = intersect(result, lists.get(k));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // 1글자 질의는 unigram, 그 외는 bigram
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static void addGrams(Map<String, List<Integer>> gramMap, String text, int entry) {
+        for (int i = 0; i < text.length(); i++) {
+            addPosting(gramMap, text.substring(i, i + 1), entry);
+            if (i + 2 <= text.length()) {
+                addPosting(gramMap, text.substring(i, i + 2), entry);
+            }
+        }
+    }
+
+    private static void addPosting(Map<String, List<Integer>> gramMap, String gram, int entry) {
+        List<Integer> posting = gramMap.computeIfAbsent(gram, g -> new ArrayList<>());
+        // 엔트리 순서대로 추가되므로 마지막 값만 확인하면 중복 제거
+        if (posting.isEmpty() || posting.get(posting.size() - 1) != entry) {
+            posting.add(entry);
+        }
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, List<Integer>> gramMap) {
+        Map<String, int[]> postings = new HashMap<>(gramMap.size() * 2);
+        gramMap.forEach((gram, posting) ->
+                postings.put(gram, posting.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+}
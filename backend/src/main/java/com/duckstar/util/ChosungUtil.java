@@ -33,8 +33,13 @@ public class ChosungUtil {
         }
     }
 
+    // 검색 색인용 정규화: 소문자 + 띄어쓰기 제거
+    public static String normalize(String text) {
+        return removeSpaces(text.toLowerCase());
+    }
+
     // 한글 초성 추출 함수
-    private static String extractChosung(String text) {
+    public static String extractChosung(String text) {
         StringBuilder result = new StringBuilder();
 
         for (int i = 0; i < text.length(); i++) {
@@ -56,12 +61,34 @@ public class ChosungUtil {
     }
 
     // 초성만 입력했는지 확인 (한글 자음과 띄어쓰기만 있는지)
-    private static boolean isChosungOnly(String query) {
-        return query.matches("^[ㄱ-ㅎ\\s]+$");
+    // 요청마다 정규식을 컴파일하지 않도록 문자 단위로 확인
+    public static boolean isChosungOnly(String query) {
+        if (query.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char ch = query.charAt(i);
+            if (!(ch >= 'ㄱ' && ch <= 'ㅎ') && !Character.isWhitespace(ch)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     // 띄어쓰기 제거
     private static String removeSpaces(String text) {
-        return text.replaceAll("\\s+", "");
+        StringBuilder result = null;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                if (result == null) {
+                    result = new StringBuilder(text.length());
+                    result.append(text, 0, i);
+                }
+            } else if (result != null) {
+                result.append(ch);
+            }
+        }
+        return result == null ? text : result.toString();
     }
 }
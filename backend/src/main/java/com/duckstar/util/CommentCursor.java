@@ -0,0 +1,59 @@
+package com.duckstar.util;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.CommentHandler;
+import com.duckstar.domain.enums.CommentSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 피드 keyset 커서 - 마지막으로 내려준 댓글의 정렬 키
+ *
+ *  - POPULAR: (likeCount, replyCount, createdAt, id) 내림차순
+ *  - RECENT : (createdAt, id) 내림차순
+ *  - OLDEST : (createdAt, id) 오름차순
+ *  - 클라이언트에는 base64url 문자열로만 노출, 정렬 기준이 다르면 거절
+ */
+public record CommentCursor(
+        CommentSortType sortBy,
+        Integer likeCount,
+        Integer replyCount,
+        LocalDateTime createdAt,
+        Long commentId
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                sortBy.name(),
+                String.valueOf(likeCount),
+                String.valueOf(replyCount),
+                createdAt.toString(),
+                String.valueOf(commentId)
+        );
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor, CommentSortType sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !sortBy.name().equals(parts[0])) {
+                throw new CommentHandler(ErrorStatus.INVALID_COMMENT_CURSOR);
+            }
+            return new CommentCursor(
+                    sortBy,
+                    Integer.valueOf(parts[1]),
+                    Integer.valueOf(parts[2]),
+                    LocalDateTime.parse(parts[3]),
+                    Long.valueOf(parts[4])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CommentHandler(ErrorStatus.INVALID_COMMENT_CURSOR);
+        }
+    }
+}
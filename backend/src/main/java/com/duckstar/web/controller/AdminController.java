@@ -11,6 +11,7 @@ import com.duckstar.security.service.ShadowBanService;
 import com.duckstar.service.AdminActionLogService;
 import com.duckstar.service.AnimeService.AnimeCommandService;
 import com.duckstar.service.AnimeService.AnimeQueryService;
+import com.duckstar.service.ChartPublishJob;
 import com.duckstar.service.ChartService;
 import com.duckstar.service.EpisodeService.EpisodeCommandService;
 import com.duckstar.service.EpisodeService.EpisodeQueryService;
@@ -35,6 +36,7 @@ import java.util.List;
 
 import static com.duckstar.web.dto.admin.AdminLogDto.*;
 import static com.duckstar.web.dto.admin.AnimeRequestDto.*;
+import static com.duckstar.web.dto.admin.ChartResponseDto.*;
 import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 import static com.duckstar.web.dto.admin.CsvRequestDto.*;
 import static com.duckstar.web.dto.admin.EpisodeRequestDto.*;
@@ -300,9 +302,9 @@ public class AdminController {
     }
 
     @Operation(summary = "편의용 주간 마감 API",
-            description = "주간 덕스타 차트 계산, AniLab 차트 csv 읽고 등록")
+            description = "주간 덕스타 차트 발표 시작 (비동기), AniLab 차트 csv 읽고 등록")
     @PostMapping(value = "/chart/{year}/{quarter}/{week}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ApiResponse<Void> calculateRankAndImportAniLab(
+    public ApiResponse<ChartPublishJobDto> calculateRankAndImportAniLab(
             @PathVariable Integer year,
             @PathVariable Integer quarter,
             @PathVariable Integer week,
@@ -310,12 +312,34 @@ public class AdminController {
     ) throws IOException {
         Long weekId = weekService.getWeekIdByYQW(year, quarter, week);
 
-        // 바로 발표 준비 완료됨 주의
-        chartService.calculateRankByYQW(weekId);
+        // 단계가 끝나는 대로 발표 준비 완료됨 주의 (진행 상황은 아래 조회 API)
+        ChartPublishJob job = chartService.startPublish(weekId);
 
         csvImportService.importAnimeCorner(weekId, request.getAnimeCornerCsv());
         csvImportService.importAnilab(weekId, request.getAnilabCsv());
 
-        return ApiResponse.onSuccess(null);
+        return ApiResponse.onSuccess(ChartPublishJobDto.of(job));
+    }
+
+    @Operation(summary = "주간 차트 발표 진행 상황 조회 API")
+    @GetMapping("/chart/{year}/{quarter}/{week}/job")
+    public ApiResponse<ChartPublishJobDto> getChartPublishJob(
+            @PathVariable Integer year,
+            @PathVariable Integer quarter,
+            @PathVariable Integer week
+    ) {
+        Long weekId = weekService.getWeekIdByYQW(year, quarter, week);
+        return ApiResponse.onSuccess(ChartPublishJobDto.of(chartService.getPublishJob(weekId)));
+    }
+
+    @Operation(summary = "주간 차트 발표 재개 API", description = "실패했거나 재기동으로 중단된 단계부터 다시 진행")
+    @PostMapping("/chart/{year}/{quarter}/{week}/resume")
+    public ApiResponse<ChartPublishJobDto> resumeChartPublishJob(
+            @PathVariable Integer year,
+            @PathVariable Integer quarter,
+            @PathVariable Integer week
+    ) {
+        Long weekId = weekService.getWeekIdByYQW(year, quarter, week);
+        return ApiResponse.onSuccess(ChartPublishJobDto.of(chartService.resumePublish(weekId)));
     }
 }
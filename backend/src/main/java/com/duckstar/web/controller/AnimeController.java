@@ -38,6 +38,8 @@ public class AnimeController {
             @PathVariable Long animeId,
             @RequestParam(required = false) List<Long> episodeIds,
             @RequestParam(defaultValue = "RECENT") CommentSortType sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer includeReplies,
             @ParameterObject @PageableDefault(size = 10) Pageable pageable,
             @AuthenticationPrincipal MemberPrincipal principal
     ) {
@@ -46,6 +48,8 @@ public class AnimeController {
                         animeId,
                         episodeIds,
                         sortBy,
+                        cursor,
+                        includeReplies,
                         pageable,
                         principal
                 ));
@@ -2,6 +2,7 @@ package com.duckstar.web.controller;
 
 import com.duckstar.apiPayload.ApiResponse;
 import com.duckstar.service.QuarterService;
+import com.duckstar.service.ScheduleReadModel.ScheduleSnapshot;
 import com.duckstar.service.SearchService;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.dto.SearchResponseDto;
@@ -9,6 +10,7 @@ import com.duckstar.web.dto.SearchResponseDto.AnimePreviewListDto;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalTime;
 import java.util.List;
@@ -45,17 +47,23 @@ public class SearchController {
                     3. 첫 방영 애니들만: 방영까지 남은 시간 표시""")
     @GetMapping
     public ApiResponse<AnimePreviewListDto> getWeeklySchedule(
-            @RequestParam Integer hour, @RequestParam Integer minute) {
-        return ApiResponse.onSuccess(
-                weekService.getWeeklyScheduleFromOffset(LocalTime.of(hour, minute)));
+            @RequestParam Integer hour, @RequestParam Integer minute, WebRequest webRequest) {
+        ScheduleSnapshot schedule = weekService.getWeeklyScheduleFromOffset(LocalTime.of(hour, minute));
+        if (webRequest.checkNotModified(schedule.etag())) {
+            return null;    // 304
+        }
+        return ApiResponse.onSuccess(schedule.animePreviewListDto());
     }
 
     @Operation(summary = "특정 시즌의 분류된 편성표 조회 API")
     @GetMapping("/{year}/{quarter}")
     public ApiResponse<AnimePreviewListDto> getScheduleByQuarter(
-            @PathVariable Integer year, @PathVariable Integer quarter) {
-        return ApiResponse.onSuccess(
-                weekService.getScheduleByQuarterId(year, quarter));
+            @PathVariable Integer year, @PathVariable Integer quarter, WebRequest webRequest) {
+        ScheduleSnapshot schedule = weekService.getScheduleByQuarterId(year, quarter);
+        if (webRequest.checkNotModified(schedule.etag())) {
+            return null;    // 304
+        }
+        return ApiResponse.onSuccess(schedule.animePreviewListDto());
     }
 
     @Operation(summary = "키워드를 통한 애니메이션 검색 API")
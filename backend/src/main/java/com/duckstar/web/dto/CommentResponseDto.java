@@ -26,6 +26,10 @@ public class CommentResponseDto {
         List<CommentDto> commentDtos;
 
         PageInfo pageInfo;
+
+        // 다음 슬라이스 요청 시 cursor 로 그대로 전달 (마지막 슬라이스면 없음)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor;
     }
 
     @Builder
@@ -73,6 +77,14 @@ public class CommentResponseDto {
         // 추가 (2025년 12월 24일)
         Long surveyCandidateId;
 
+        // includeReplies 요청 시 첫 답글 슬라이스 (답글 조회 API page 0 과 같은 모양)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        ReplySliceDto replySlice;
+
+        public void setReplySlice(ReplySliceDto replySlice) {
+            this.replySlice = replySlice;
+        }
+
         public static CommentDto ofCreated(
                 AnimeComment comment,
                 Member author,
@@ -208,26 +220,26 @@ public class CommentResponseDto {
         Integer likeCount;
         LocalDateTime likedAt;
 
-        public static LikeResultDto ofComment(CommentLike commentLike) {
+        public static LikeResultDto ofComment(CommentLike commentLike, Integer likeCount) {
             if (commentLike == null) {
                 return LikeResultDto.builder().build();
             }
 
             return LikeResultDto.builder()
                     .likeId(commentLike.getId())
-                    .likeCount(commentLike.getComment().getLikeCount())
+                    .likeCount(likeCount)
                     .likedAt(LocalDateTime.now())
                     .build();
         }
 
-        public static LikeResultDto ofReply(ReplyLike replyLike) {
+        public static LikeResultDto ofReply(ReplyLike replyLike, Integer likeCount) {
             if (replyLike == null) {
                 return LikeResultDto.builder().build();
             }
 
             return LikeResultDto.builder()
                     .likeId(replyLike.getId())
-                    .likeCount(replyLike.getReply().getLikeCount())
+                    .likeCount(likeCount)
                     .likedAt(LocalDateTime.now())
                     .build();
         }
@@ -12,7 +12,7 @@ import java.util.List;
 public class VoteResponseDto {
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     public static class CandidateFormDto {  // 후보 모달용
         Long episodeId;
@@ -52,7 +52,7 @@ public class VoteResponseDto {
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     public static class LiveCandidateDto {
         /**
@@ -88,7 +88,7 @@ public class VoteResponseDto {
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     public static class VoteFormResultDto {
         Boolean isLateParticipating;
@@ -172,5 +172,51 @@ public class VoteResponseDto {
                     .star_5_0(episode.getStar_5_0())
                     .build();
         }
+
+        public static StarInfoDto of(
+                Boolean isBlocked,
+                EpisodeStar episodeStar,
+                int voterCount,
+                int[] stars
+        ) {
+            return of(
+                    isBlocked,
+                    episodeStar != null ? episodeStar.getId() : null,
+                    episodeStar != null ? episodeStar.getStarScore() : null,
+                    voterCount,
+                    stars
+            );
+        }
+
+        // 실시간 집계(StarTallyBuffer) 기반
+        public static StarInfoDto of(
+                Boolean isBlocked,
+                Long episodeStarId,
+                Integer userStarScore,
+                int voterCount,
+                int[] stars
+        ) {
+            double weightedSum = 0.0;
+            for (int i = 0; i < stars.length; i++) {
+                weightedSum += (i + 1) * stars[i];
+            }
+
+            return StarInfoDto.builder()
+                    .isBlocked(isBlocked)
+                    .episodeStarId(episodeStarId)
+                    .userStarScore(userStarScore)
+                    .starAverage(voterCount == 0 ? 0.0 : weightedSum / voterCount)
+                    .star_0_5(stars[0])
+                    .star_1_0(stars[1])
+                    .star_1_5(stars[2])
+                    .star_2_0(stars[3])
+                    .star_2_5(stars[4])
+                    .star_3_0(stars[5])
+                    .star_3_5(stars[6])
+                    .star_4_0(stars[7])
+                    .star_4_5(stars[8])
+                    .star_5_0(stars[9])
+                    .build();
+        }
     }
 }
@@ -0,0 +1,42 @@
+package com.duckstar.web.dto.admin;
+
+import com.duckstar.domain.enums.ChartPublishStep;
+import com.duckstar.service.ChartPublishJob;
+import com.duckstar.service.ChartPublishJob.Status;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class ChartResponseDto {
+
+    @Builder
+    @Getter
+    public static class ChartPublishJobDto {
+        Long weekId;
+
+        Status status;
+        ChartPublishStep step;
+
+        Integer rankedCount;
+        Integer bannerCount;
+
+        String errorMessage;
+
+        LocalDateTime createdAt;
+        LocalDateTime finishedAt;
+
+        public static ChartPublishJobDto of(ChartPublishJob job) {
+            return ChartPublishJobDto.builder()
+                    .weekId(job.getWeekId())
+                    .status(job.getStatus())
+                    .step(job.getStep())
+                    .rankedCount(job.getRankedCount())
+                    .bannerCount(job.getBannerCount())
+                    .errorMessage(job.getErrorMessage())
+                    .createdAt(job.getCreatedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.duckstar.web.dto.admin;
+
+import com.duckstar.abroad.reader.CsvImportJob;
+import com.duckstar.abroad.reader.CsvImportJob.Kind;
+import com.duckstar.abroad.reader.CsvImportJob.Status;
+import com.duckstar.abroad.reader.CsvImportJob.Step;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class CsvResponseDto {
+
+    @Builder
+    @Getter
+    public static class ImportJobDto {
+        Long jobId;
+        Kind kind;
+        Long targetId;
+
+        Status status;
+        Step step;
+
+        // 행 저장 진행
+        Integer totalRows;
+        Integer savedRows;
+        Integer skippedRows;
+
+        // 이미지 진행
+        Integer totalImages;
+        Integer imagesDone;
+        Integer imagesFailed;
+
+        String errorMessage;
+
+        LocalDateTime createdAt;
+        LocalDateTime finishedAt;
+
+        public static ImportJobDto of(CsvImportJob job) {
+            return ImportJobDto.builder()
+                    .jobId(job.getId())
+                    .kind(job.getKind())
+                    .targetId(job.getTargetId())
+                    .status(job.getStatus())
+                    .step(job.getStep())
+                    .totalRows(job.getTotalRows())
+                    .savedRows(job.getSavedRows().get())
+                    .skippedRows(job.getSkippedRows().get())
+                    .totalImages(job.getTotalImages())
+                    .imagesDone(job.getImagesDone().get())
+                    .imagesFailed(job.getImagesFailed().get())
+                    .errorMessage(job.getErrorMessage())
+                    .createdAt(job.getCreatedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
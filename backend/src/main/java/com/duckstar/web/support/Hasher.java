@@ -4,35 +4,170 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.VoteHandler;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * ip -> HmacSHA256 해시
+ *
+ *  - 초기화된 Mac 은 풀에서 빌려 쓴다. (ThreadLocal 은 가상 스레드마다 새로 만들어지므로 사용 X)
+ *  - HEX / Base64(url, no padding) 는 조회 테이블로 풀 버퍼에 직접 인코딩
+ *  - 한 클라이언트가 연달아 투표하므로 최근 ip 결과를 2세대 캐시로 기억
+ */
 public class Hasher {
-    private final byte[] key;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int DIGEST_LENGTH = 32;
+    private static final int MAX_POOLED_MACS = 64;
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+                    .getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKeySpec keySpec;
     private final boolean useHex; // true면 HEX, false면 Base64
 
+    private final Queue<Worker> pool = new ConcurrentLinkedQueue<>();
+
+    // 2세대 캐시: current 가 절반을 채우면 previous 로 밀어낸다 (최대 cacheSize 개)
+    private final int generationSize;
+    private volatile Map<String, String> current = new ConcurrentHashMap<>();
+    private volatile Map<String, String> previous = new ConcurrentHashMap<>();
+
     public Hasher(byte[] key, boolean useHex) {
-        this.key = key;
+        this(key, useHex, DEFAULT_CACHE_SIZE);
+    }
+
+    public Hasher(byte[] key, boolean useHex, int cacheSize) {
+        this.keySpec = new SecretKeySpec(key, ALGORITHM);
         this.useHex = useHex;
+        this.generationSize = Math.max(1, cacheSize / 2);
     }
 
     public String hash(String ip) {
+        if (ip == null) {
+            // 캐시 (ConcurrentHashMap) 는 null 키를 받지 않으므로 먼저 확인
+            throw new VoteHandler(ErrorStatus.HASH_FAILED);
+        }
+
+        String cached = current.get(ip);
+        if (cached != null) {
+            return cached;
+        }
+        cached = previous.get(ip);
+        if (cached != null) {
+            remember(ip, cached);
+            return cached;
+        }
+
+        String hashed = compute(ip);
+        remember(ip, hashed);
+        return hashed;
+    }
+
+    private void remember(String ip, String hashed) {
+        Map<String, String> generation = current;
+        if (generation.size() >= generationSize) {
+            synchronized (this) {
+                if (current == generation) {
+                    previous = generation;
+                    current = new ConcurrentHashMap<>();
+                }
+            }
+            generation = current;
+        }
+        generation.put(ip, hashed);
+    }
+
+    private String compute(String ip) {
+        Worker worker = pool.poll();
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(key, "HmacSHA256"));
-            byte[] macBytes = mac.doFinal(ip.getBytes(StandardCharsets.UTF_8));
-            return useHex ? toHex(macBytes) : Base64.getUrlEncoder().withoutPadding().encodeToString(macBytes);
+            if (worker == null) {
+                worker = new Worker(keySpec);
+            }
+            String hashed = worker.hash(ip, useHex);
+            if (pool.size() < MAX_POOLED_MACS) {
+                pool.offer(worker);
+            }
+            return hashed;
         } catch (Exception e) {
+            // 상태를 알 수 없는 Mac 은 풀에 돌려놓지 않음
             throw new VoteHandler(ErrorStatus.HASH_FAILED);
         }
     }
 
-    private String toHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
+    private static final class Worker {
+        private final Mac mac;
+        private final byte[] input = new byte[64];  // IPv6 최대 길이 이상
+        private final byte[] digest = new byte[DIGEST_LENGTH];
+        private final byte[] text = new byte[DIGEST_LENGTH * 2];
+
+        private Worker(SecretKeySpec keySpec) throws GeneralSecurityException {
+            this.mac = Mac.getInstance(ALGORITHM);
+            this.mac.init(keySpec);
+        }
+
+        private String hash(String ip, boolean useHex) throws ShortBufferException {
+            // ip 는 대부분 ASCII 이므로 재사용 버퍼에 바로 복사
+            int length = ip.length();
+            boolean isAscii = length <= input.length;
+            for (int i = 0; isAscii && i < length; i++) {
+                char ch = ip.charAt(i);
+                if (ch >= 0x80) {
+                    isAscii = false;
+                } else {
+                    input[i] = (byte) ch;
+                }
+            }
+            if (isAscii) {
+                mac.update(input, 0, length);
+            } else {
+                mac.update(ip.getBytes(StandardCharsets.UTF_8));
+            }
+            mac.doFinal(digest, 0);  // doFinal 후 Mac 은 같은 키로 재사용 가능
+
+            int textLength = useHex ? encodeHex() : encodeBase64Url();
+            return new String(text, 0, textLength, StandardCharsets.ISO_8859_1);
+        }
+
+        private int encodeHex() {
+            int n = 0;
+            for (byte b : digest) {
+                text[n++] = HEX[(b >> 4) & 0x0f];
+                text[n++] = HEX[b & 0x0f];
+            }
+            return n;
+        }
+
+        private int encodeBase64Url() {
+            int n = 0;
+            int i = 0;
+            for (; i + 3 <= digest.length; i += 3) {
+                int bits = (digest[i] & 0xff) << 16 | (digest[i + 1] & 0xff) << 8 | (digest[i + 2] & 0xff);
+                text[n++] = BASE64_URL[(bits >>> 18) & 0x3f];
+                text[n++] = BASE64_URL[(bits >>> 12) & 0x3f];
+                text[n++] = BASE64_URL[(bits >>> 6) & 0x3f];
+                text[n++] = BASE64_URL[bits & 0x3f];
+            }
+            int remaining = digest.length - i;
+            if (remaining == 1) {
+                int bits = (digest[i] & 0xff) << 16;
+                text[n++] = BASE64_URL[(bits >>> 18) & 0x3f];
+                text[n++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            } else if (remaining == 2) {
+                int bits = (digest[i] & 0xff) << 16 | (digest[i + 1] & 0xff) << 8;
+                text[n++] = BASE64_URL[(bits >>> 18) & 0x3f];
+                text[n++] = BASE64_URL[(bits >>> 12) & 0x3f];
+                text[n++] = BASE64_URL[(bits >>> 6) & 0x3f];
+            }
+            return n;
         }
-        return sb.toString();
     }
 }
@@ -46,7 +46,8 @@ public class TempTest {
     public void calculateRankManual() {
         Long weekId = weekService.getWeekIdByYQW(2026, 1, 1);
 
-        chartService.calculateRankByYQW(weekId);
+        chartService.buildDuckstars(weekId, false);
+        chartService.createBanners(weekId);
     }
 
     @Test
@@ -87,6 +88,7 @@ public class TempTest {
             );
 
             episode.setRankInfo(week2, newRankInfo);
+            episode.getAnime().applyRankInfo(newRankInfo);
         });
 
         //=== 덕스타 런칭부터 임의의 주차까지의 week_id들 ===//
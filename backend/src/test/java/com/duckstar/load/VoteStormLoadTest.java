@@ -0,0 +1,234 @@
+package com.duckstar.load;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.Member;
+import com.duckstar.domain.Quarter;
+import com.duckstar.domain.Week;
+import com.duckstar.domain.enums.Medium;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.QuarterRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.service.VoteService.StarTallyBuffer;
+import com.duckstar.service.VoteService.VoteCommandService;
+import com.duckstar.util.QuarterUtil;
+import com.duckstar.util.QuarterUtil.YQWRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.duckstar.web.dto.VoteRequestDto.StarRequestDto;
+import static com.duckstar.web.dto.VoteResponseDto.VoteResultDto;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방영 직후 별점 투표 몰림 재현 (실제 MySQL - 행 잠금, 유니크 충돌이 H2 와 다름)
+ *  - 회원들이 VOTING_WINDOW 에피소드들에 동시에 별점, 일부는 방금 받은 episodeStarId 로 수정
+ *  - 지연 분포 (p50/p90/p99/max), 처리량, 실패 수를 커밋별 JSON 으로 남김
+ *  - 기본 test 에서 제외 -> ./gradlew loadTest
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+public class VoteStormLoadTest {
+
+    private static final int ANIMES = 20;
+    private static final int MEMBERS = 2000;
+    private static final int THREADS = 32;
+    private static final double REVOTE_RATIO = 0.2;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 4);
+    }
+
+    @Autowired QuarterRepository quarterRepository;
+    @Autowired WeekRepository weekRepository;
+    @Autowired AnimeRepository animeRepository;
+    @Autowired EpisodeRepository episodeRepository;
+    @Autowired MemberRepository memberRepository;
+
+    @Autowired VoteCommandService voteCommandService;
+    @Autowired StarTallyBuffer starTallyBuffer;
+
+    List<Long> episodeIds = new ArrayList<>();
+    List<Long> memberIds = new ArrayList<>();
+
+    record Summary(
+            String commit,
+            int threads,
+            int requests,
+            int errors,
+            double throughputPerSec,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double maxMs
+    ) {}
+
+    @BeforeEach
+    void setUp() {
+        // 방금 방영된 에피소드 -> VOTING_WINDOW, 그 시각이 속한 주
+        LocalDateTime scheduledAt = LocalDateTime.now().minusHours(1);
+        YQWRecord record = QuarterUtil.getThisWeekRecord(scheduledAt);
+
+        Quarter quarter = quarterRepository.save(Quarter.create(record.yearValue(), record.quarterValue()));
+        weekRepository.save(Week.create(
+                quarter, record.weekValue(), QuarterUtil.getThisWeekStartedAt(scheduledAt)));
+
+        for (int i = 0; i < ANIMES; i++) {
+            Anime anime = animeRepository.save(Anime.builder()
+                    .titleKor("부하_테스트_" + i)
+                    .medium(Medium.TVA)
+                    .build());
+            Episode episode = episodeRepository.save(Episode.create(anime, 1, scheduledAt, null, false));
+            episodeIds.add(episode.getId());
+        }
+
+        String prefix = UUID.randomUUID().toString();
+        List<Member> members = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(Member.createSocial(OAuthProvider.KAKAO, prefix + "-" + i, "voter" + i, null));
+        }
+        memberRepository.saveAll(members).forEach(member -> memberIds.add(member.getId()));
+    }
+
+    @Test
+    public void 별점_투표_몰림() throws Exception {
+        //given - 회원마다 에피소드 하나에 투표, 일부는 이어서 수정
+        Random random = new Random(42);
+        List<Callable<Long>> tasks = new ArrayList<>();
+        Set<String> distinctVotes = ConcurrentHashMap.newKeySet();
+        for (Long memberId : memberIds) {
+            Long episodeId = episodeIds.get(random.nextInt(ANIMES));
+            int score = 1 + random.nextInt(10);
+            boolean revote = random.nextDouble() < REVOTE_RATIO;
+            String remoteAddr = "10.%d.%d.%d".formatted(
+                    random.nextInt(256), random.nextInt(256), 1 + random.nextInt(254));
+
+            tasks.add(() -> {
+                long started = System.nanoTime();
+                VoteResultDto result = vote(episodeId, score, null, memberId, remoteAddr);
+                if (revote) {
+                    vote(episodeId, 11 - score, result.getInfo().getEpisodeStarId(), memberId, remoteAddr);
+                }
+                distinctVotes.add(memberId + ":" + episodeId);
+                return System.nanoTime() - started;
+            });
+        }
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<Long>> futures = new ArrayList<>();
+        for (Callable<Long> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        List<Long> latencies = new ArrayList<>(tasks.size());
+        try {
+            for (Future<Long> future : futures) {
+                try {
+                    latencies.add(future.get(5, TimeUnit.MINUTES));
+                } catch (ExecutionException e) {
+                    errors.incrementAndGet();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        starTallyBuffer.flush();
+
+        //then
+        Summary summary = summarize(latencies, tasks.size(), errors.get(), elapsed);
+        writeSummary(summary);
+
+        assertThat(summary.errors()).isZero();
+        int voterCount = episodeRepository.findAllById(episodeIds).stream()
+                .mapToInt(Episode::getVoterCount)
+                .sum();
+        assertThat(voterCount).isEqualTo(distinctVotes.size());
+    }
+
+    private VoteResultDto vote(Long episodeId, int score, Long episodeStarId, Long memberId, String remoteAddr) {
+        StarRequestDto request = new StarRequestDto();
+        ReflectionTestUtils.setField(request, "episodeId", episodeId);
+        ReflectionTestUtils.setField(request, "starScore", score);
+        ReflectionTestUtils.setField(request, "episodeStarId", episodeStarId);
+
+        MockHttpServletRequest requestRaw = new MockHttpServletRequest();
+        requestRaw.setRemoteAddr(remoteAddr);
+        return voteCommandService.voteOrUpdateStar(request, memberId, requestRaw, new MockHttpServletResponse());
+    }
+
+    private Summary summarize(List<Long> latencies, int requests, int errors, long elapsedNanos) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Summary(
+                System.getProperty("load.commit", "local"),
+                THREADS,
+                requests,
+                errors,
+                latencies.size() / (elapsedNanos / 1e9),
+                percentileMs(sorted, 0.50),
+                percentileMs(sorted, 0.90),
+                percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6
+        );
+    }
+
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private void writeSummary(Summary summary) throws Exception {
+        Path dir = Path.of(System.getProperty("load.results-dir", "build/results/load"));
+        Files.createDirectories(dir);
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(dir.resolve("vote-storm-" + summary.commit() + ".json").toFile(), summary);
+    }
+}
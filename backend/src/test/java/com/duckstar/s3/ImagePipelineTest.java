@@ -0,0 +1,121 @@
+package com.duckstar.s3;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import com.duckstar.s3.ImagePipeline.ImageProfile;
+import com.duckstar.s3.ImagePipeline.ImageUpload;
+import com.duckstar.s3.StoredImageIndex.StoredVariants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ImagePipelineTest {
+
+    private static final String BASE_URL = "http://localhost:8080/images";
+
+    @TempDir
+    Path root;
+
+    private LocalImageStorage storage;
+    private StoredImageIndex storedImageIndex;
+    private ImagePipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalImageStorage(root.toString(), BASE_URL);
+        // 색인에 없는 원본 / 마지막 참조로 동작
+        storedImageIndex = mock(StoredImageIndex.class);
+        when(storedImageIndex.acquire(anyString(), anyString())).thenReturn(Optional.empty());
+        when(storedImageIndex.release(anyString())).thenReturn(true);
+
+        pipeline = new ImagePipeline(storage, storedImageIndex, 2, 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void 업로드하면_WebP_본_이미지와_썸네일이_저장됨() throws Exception {
+        MockMultipartFile file = png("cat.png", 1280, 720);
+
+        ImageUpload upload = pipeline.submit(file, "comments", ImageProfile.COMMENT);
+
+        assertThat(upload.url()).startsWith(BASE_URL + "/comments/").endsWith(".webp");
+        assertThat(upload.thumbnailUrl()).endsWith("_thumb.webp");
+
+        upload.completion().get(30, TimeUnit.SECONDS);
+
+        Path main = storage.resolve(upload.url().substring(BASE_URL.length() + 1));
+        Path thumb = storage.resolve(upload.thumbnailUrl().substring(BASE_URL.length() + 1));
+        assertThat(Files.size(main)).isPositive();
+        assertThat(Files.size(thumb)).isPositive();
+
+        // 업로드가 끝난 뒤 원본 해시로 색인 등록
+        verify(storedImageIndex).register(
+                anyString(), eq(ImageProfile.COMMENT.name()), eq(upload.url()), eq(upload.thumbnailUrl()));
+
+        // 삭제 시 썸네일도 함께
+        pipeline.delete(upload.url());
+        pipeline.shutdown();
+        assertThat(main).doesNotExist();
+        assertThat(thumb).doesNotExist();
+    }
+
+    @Test
+    public void 이미_올린_원본은_처리없이_색인_URL_재사용() throws Exception {
+        MockMultipartFile file = png("cat.png", 1280, 720);
+        String contentHash = StoredImageIndex.hash(file.getBytes());
+        when(storedImageIndex.acquire(contentHash, ImageProfile.COMMENT.name()))
+                .thenReturn(Optional.of(new StoredVariants(BASE_URL + "/comments/a.webp", BASE_URL + "/comments/a_thumb.webp")));
+
+        ImageUpload upload = pipeline.submit(file, "comments", ImageProfile.COMMENT);
+
+        assertThat(upload.url()).isEqualTo(BASE_URL + "/comments/a.webp");
+        assertThat(upload.completion()).isCompleted();
+        pipeline.shutdown();
+        assertThat(root).isEmptyDirectory();
+        verify(storedImageIndex, never()).register(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void 해상도는_헤더만으로_검증() throws Exception {
+        MockMultipartFile file = png("wide.png", 5000, 1);
+
+        assertThatThrownBy(() -> pipeline.submit(file, "comments", ImageProfile.COMMENT))
+                .isInstanceOf(ImageHandler.class)
+                .extracting("code")
+                .isEqualTo(ErrorStatus.IMAGE_RESOLUTION_TOO_HIGH);
+    }
+
+    @Test
+    public void 이미지가_아닌_내용은_거절() {
+        MockMultipartFile file = new MockMultipartFile(
+                "image", "fake.png", "image/png", "not an image".getBytes());
+
+        assertThatThrownBy(() -> pipeline.submit(file, "comments", ImageProfile.COMMENT))
+                .isInstanceOf(ImageHandler.class);
+    }
+
+    private MockMultipartFile png(String filename, int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("image", filename, "image/png", out.toByteArray());
+    }
+}
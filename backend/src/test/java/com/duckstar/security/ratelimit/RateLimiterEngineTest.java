@@ -0,0 +1,132 @@
+package com.duckstar.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RateLimiterEngineTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    public void 토큰_버킷_동시_요청은_한도만큼만_허용() throws Exception {
+        RateLimiterEngine engine = new RateLimiterEngine(1_000, clock::get);
+        RateLimitPolicy policy = RateLimitPolicy.tokenBucket("vote", 30, WINDOW);
+
+        assertThat(hammer(engine, policy, "ip:1.1.1.1", 16, 500)).isEqualTo(30);
+
+        // 한 간격(window / limit) 지나면 하나 회복
+        clock.addAndGet(WINDOW.toNanos() / 30);
+        assertThat(engine.tryAcquire("ip:1.1.1.1", policy)).isTrue();
+        assertThat(engine.tryAcquire("ip:1.1.1.1", policy)).isFalse();
+    }
+
+    @Test
+    public void 슬라이딩_윈도우_동시_요청은_한도만큼만_허용() throws Exception {
+        RateLimiterEngine engine = new RateLimiterEngine(1_000, clock::get);
+        RateLimitPolicy policy = RateLimitPolicy.slidingWindow("comment", 20, WINDOW);
+
+        assertThat(hammer(engine, policy, "user:1", 16, 500)).isEqualTo(20);
+
+        // 다음 윈도우 절반 지점: 직전 윈도우 20건 * 0.5 = 10건 반영 -> 10건 더 허용
+        clock.addAndGet(WINDOW.toNanos() + WINDOW.toNanos() / 2);
+        assertThat(hammer(engine, policy, "user:1", 16, 500)).isEqualTo(10);
+
+        // 두 윈도우 지나면 초기화
+        clock.addAndGet(WINDOW.toNanos() * 2);
+        assertThat(hammer(engine, policy, "user:1", 16, 500)).isEqualTo(20);
+    }
+
+    @Test
+    public void 키는_서로_독립() {
+        RateLimiterEngine engine = new RateLimiterEngine(1_000, clock::get);
+        RateLimitPolicy policy = RateLimitPolicy.slidingWindow("login", 1, WINDOW);
+
+        assertThat(engine.tryAcquire("ip:a", policy)).isTrue();
+        assertThat(engine.tryAcquire("ip:a", policy)).isFalse();
+        assertThat(engine.tryAcquire("ip:b", policy)).isTrue();
+    }
+
+    @Test
+    public void 유휴_키는_정리되고_키_수는_상한을_넘지_않음() throws Exception {
+        int maxKeys = 1_000;
+        RateLimiterEngine engine = new RateLimiterEngine(maxKeys, clock::get);
+        RateLimitPolicy policy = RateLimitPolicy.tokenBucket("vote", 10, WINDOW);
+
+        // 서로 다른 ip 가 상한의 10배만큼 동시에 요청
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < maxKeys * 10 / 8; i++) {
+                        engine.tryAcquire("ip:" + thread + "." + i, policy);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // 동시 삽입 중 잠깐 넘칠 수 있는 여유분은 스레드 수 이내
+        assertThat(engine.size()).isLessThanOrEqualTo(maxKeys + 8);
+
+        // 윈도우 2배가 지나면 모두 유휴 키
+        clock.addAndGet(WINDOW.toNanos() * 2 + 1);
+        engine.evictIdle();
+        assertThat(engine.size()).isZero();
+    }
+
+    @Test
+    public void 한도는_1_이상_65535_이하() {
+        assertThatThrownBy(() -> RateLimitPolicy.slidingWindow("x", 0, WINDOW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimitPolicy.slidingWindow("x", 70_000, WINDOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int hammer(
+            RateLimiterEngine engine,
+            RateLimitPolicy policy,
+            String key,
+            int threads,
+            int requestsPerThread
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        if (engine.tryAcquire(key, policy)) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return allowed.get();
+    }
+}
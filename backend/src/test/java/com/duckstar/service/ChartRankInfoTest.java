@@ -0,0 +1,135 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.Week;
+import com.duckstar.domain.enums.Medium;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.domain.vo.RankInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순위 -> 스트릭 단계 단위 테스트
+ *  - 한 애니의 에피소드가 같은 주에 여럿 순위에 든 경우, 애니를 순위 순으로 차례로 고친 것과 같아야 함
+ */
+public class ChartRankInfoTest {
+
+    private static final LocalDateTime WEEK_START = LocalDateTime.of(2026, 1, 5, 0, 0);
+    private static final LocalDate LAST_WEEK_END = WEEK_START.plusWeeks(1).toLocalDate();
+
+    private long nextEpisodeId = 1L;
+
+    @Test
+    public void 같은_애니_여러_에피소드는_앞_순위_기록에_이어서_계산() {
+        //given - 지난주 3위, 최고 3위, TOP10 1주
+        Anime anime = anime(1L);
+        anime.initRankInfo(3, LAST_WEEK_END.minusWeeks(1));
+        Anime other = anime(2L);
+
+        Episode first = episode(anime);
+        Episode second = episode(anime);
+        Episode otherEpisode = episode(other);
+
+        Map<Integer, List<Episode>> chart = new LinkedHashMap<>();
+        chart.put(1, List.of(first));
+        chart.put(2, List.of(otherEpisode));
+        chart.put(4, List.of(second));
+
+        //when
+        int rankedCount = ChartService.setRankInfos(week(), chart);
+
+        //then - 두 번째 에피소드는 1위 반영 뒤의 애니 기준
+        assertThat(rankedCount).isEqualTo(3);
+
+        RankInfo firstInfo = first.getRankInfo();
+        assertThat(firstInfo.getRankDiff()).isEqualTo(2);
+        assertThat(firstInfo.getPeakRank()).isEqualTo(1);
+        assertThat(firstInfo.getWeeksOnTop10()).isEqualTo(2);
+
+        RankInfo secondInfo = second.getRankInfo();
+        assertThat(secondInfo.getRankDiff()).isEqualTo(-3);
+        assertThat(secondInfo.getConsecutiveWeeksAtSameRank()).isEqualTo(1);
+        assertThat(secondInfo.getPeakRank()).isEqualTo(1);
+        assertThat(secondInfo.getPeakDate()).isEqualTo(LAST_WEEK_END);
+        assertThat(secondInfo.getWeeksOnTop10()).isEqualTo(3);
+
+        // 애니는 읽기만
+        assertThat(anime.getLastRank()).isEqualTo(3);
+
+        //when - 스트릭 반영 (조회 순서와 무관)
+        Set<Long> rankedAnimeIds = ChartService.applyRankInfos(List.of(second, otherEpisode, first));
+
+        //then - 마지막 (4위) 기록이 남음
+        assertThat(rankedAnimeIds).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(anime.getLastRank()).isEqualTo(4);
+        assertThat(anime.getPeakRank()).isEqualTo(1);
+        assertThat(anime.getPeakDate()).isEqualTo(LAST_WEEK_END);
+        assertThat(anime.getWeeksOnTop10()).isEqualTo(3);
+    }
+
+    @Test
+    public void 처음_순위에_든_애니는_첫_에피소드만_NEW() {
+        //given - 지난 기록 없음, 같은 순위 동점 2개 + 아래 순위 1개
+        Anime anime = anime(1L);
+
+        Episode first = episode(anime);
+        Episode tied = episode(anime);
+        Episode last = episode(anime);
+
+        Map<Integer, List<Episode>> chart = new LinkedHashMap<>();
+        chart.put(2, List.of(tied, first));  // 동점은 에피소드 id 순
+        chart.put(12, List.of(last));
+
+        //when
+        ChartService.setRankInfos(week(), chart);
+        ChartService.applyRankInfos(List.of(last, tied, first));
+
+        //then
+        assertThat(first.getRankInfo().getRankDiff()).isNull();
+
+        assertThat(tied.getRankInfo().getRankDiff()).isZero();
+        assertThat(tied.getRankInfo().getConsecutiveWeeksAtSameRank()).isEqualTo(2);
+        assertThat(tied.getRankInfo().getWeeksOnTop10()).isEqualTo(2);
+
+        assertThat(last.getRankInfo().getRankDiff()).isEqualTo(-10);
+        assertThat(last.getRankInfo().getWeeksOnTop10()).isEqualTo(2);
+
+        // 데뷔는 첫 에피소드, 나머지는 이어서
+        assertThat(anime.getDebutRank()).isEqualTo(2);
+        assertThat(anime.getLastRank()).isEqualTo(12);
+        assertThat(anime.getSameRankWeekStreak()).isEqualTo(1);
+        assertThat(anime.getPeakRank()).isEqualTo(2);
+        assertThat(anime.getWeeksOnTop10()).isEqualTo(2);
+    }
+
+    //=== 도우미 ===//
+
+    private static Week week() {
+        return Week.create(null, 1, WEEK_START);
+    }
+
+    private static Anime anime(Long id) {
+        Anime anime = Anime.builder()
+                .titleKor("순위_테스트_" + id)
+                .medium(Medium.TVA)
+                .build();
+        ReflectionTestUtils.setField(anime, "id", id);
+        return anime;
+    }
+
+    private Episode episode(Anime anime) {
+        Episode episode = Episode.create(anime, 1, WEEK_START, WEEK_START.plusWeeks(1), false);
+        ReflectionTestUtils.setField(episode, "id", nextEpisodeId++);
+
+        int[] scores = new int[10];
+        scores[7] = 20;
+        episode.setStats(20, scores);
+        return episode;
+    }
+}
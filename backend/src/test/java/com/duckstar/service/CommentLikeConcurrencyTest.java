@@ -0,0 +1,187 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.Member;
+import com.duckstar.domain.enums.Medium;
+import com.duckstar.domain.mapping.CommentLike;
+import com.duckstar.domain.mapping.comment.AnimeComment;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.CommentLikeRepository;
+import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.domain.enums.Role;
+import com.duckstar.security.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static com.duckstar.web.dto.CommentResponseDto.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 수 카운터 동시성 테스트
+ *  - 스레드마다 자기 트랜잭션으로 커밋해야 하므로 @Transactional 없이 직접 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CommentLikeConcurrencyTest {
+
+    private static final int LIKERS = 100;
+    private static final int THREADS = 16;
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired AnimeRepository animeRepository;
+    @Autowired AnimeCommentRepository animeCommentRepository;
+    @Autowired CommentLikeRepository commentLikeRepository;
+
+    @Autowired CommentService commentService;
+    @Autowired CommentCounter commentCounter;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    Long animeId;
+    Long commentId;
+    List<Long> likerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString();
+
+        Member author = memberRepository.save(Member.createSocial(
+                OAuthProvider.KAKAO, prefix + "-author", "author", null));
+
+        Anime anime = animeRepository.save(Anime.builder()
+                .titleKor("동시성_테스트")
+                .medium(Medium.TVA)
+                .build());
+        animeId = anime.getId();
+
+        AnimeComment comment = animeCommentRepository.save(AnimeComment.create(
+                anime, null, author, false, 0, null, "body"));
+        commentId = comment.getId();
+
+        for (int i = 0; i < LIKERS; i++) {
+            Member liker = memberRepository.save(Member.createSocial(
+                    OAuthProvider.KAKAO, prefix + "-" + i, "liker" + i, null));
+            likerIds.add(liker.getId());
+        }
+        likerIds.add(author.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<CommentLike> likes = commentLikeRepository.findAll().stream()
+                .filter(like -> like.getComment().getId().equals(commentId))
+                .toList();
+        commentLikeRepository.deleteAll(likes);
+        animeCommentRepository.deleteById(commentId);
+        animeRepository.deleteById(animeId);
+        memberRepository.deleteAllById(likerIds);
+    }
+
+    @Test
+    public void 동시_좋아요_100건_유실_없음() throws Exception {
+        //when - 100명이 동시에 좋아요
+        List<LikeResultDto> likeResults = runConcurrently(memberId ->
+                commentService.giveLike(commentId, null, MemberPrincipal.of(memberId, Role.USER)));
+
+        //then
+        assertThat(animeCommentRepository.findLikeCountById(commentId)).isEqualTo(LIKERS);
+        // 각 요청이 1 ~ 100 을 하나씩 봄 (같은 값을 본 요청이 있으면 유실)
+        assertThat(likeResults)
+                .extracting(LikeResultDto::getLikeCount)
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.rangeClosed(1, LIKERS).boxed().toList());
+
+        //when - 100명이 동시에 좋아요 취소
+        Map<Long, Long> likeIdByMemberId = new HashMap<>();
+        for (int i = 0; i < LIKERS; i++) {
+            likeIdByMemberId.put(likerIds.get(i), likeResults.get(i).getLikeId());
+        }
+        runConcurrently(memberId -> commentService.discardLike(
+                commentId, likeIdByMemberId.get(memberId), MemberPrincipal.of(memberId, Role.USER)));
+
+        //then
+        assertThat(animeCommentRepository.findLikeCountById(commentId)).isZero();
+    }
+
+    @Test
+    public void 같은_좋아요_반복_복구는_한_번만_집계() throws Exception {
+        //given
+        Long memberId = likerIds.get(0);
+        MemberPrincipal principal = MemberPrincipal.of(memberId, Role.USER);
+        Long likeId = commentService.giveLike(commentId, null, principal).getLikeId();
+        commentService.discardLike(commentId, likeId, principal);
+
+        //when - 같은 회원이 취소한 좋아요를 동시에 여러 번 복구
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LikeResultDto>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return commentService.giveLike(commentId, likeId, principal);
+            }));
+        }
+        start.countDown();
+        for (Future<LikeResultDto> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(animeCommentRepository.findLikeCountById(commentId)).isEqualTo(1);
+    }
+
+    @Test
+    public void 재집계는_좋아요_기록_기준() throws Exception {
+        //given - 카운터가 어긋난 상태
+        runConcurrently(memberId ->
+                commentService.giveLike(commentId, null, MemberPrincipal.of(memberId, Role.USER)));
+        transactionTemplate.executeWithoutResult(status ->
+                commentCounter.addCommentLike(commentId, 7));
+
+        //when
+        commentCounter.reconcileReactions();
+
+        //then
+        assertThat(animeCommentRepository.findLikeCountById(commentId)).isEqualTo(LIKERS);
+    }
+
+    /**
+     * 좋아요 누르는 회원 100명이 동시에 task 실행 (결과는 likerIds 순서)
+     */
+    private <T> List<T> runConcurrently(Function<Long, T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < LIKERS; i++) {
+            Long memberId = likerIds.get(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.apply(memberId);
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,158 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.Member;
+import com.duckstar.domain.Quarter;
+import com.duckstar.domain.Week;
+import com.duckstar.domain.enums.ContentType;
+import com.duckstar.domain.enums.EpEvaluateState;
+import com.duckstar.domain.enums.Medium;
+import com.duckstar.domain.mapping.comment.AnimeComment;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.QuarterRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
+import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.domain.enums.Role;
+import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.service.VoteService.LiveCandidateReadModel;
+import com.duckstar.util.QuarterUtil;
+import com.duckstar.util.QuarterUtil.YQWRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.duckstar.web.dto.VoteResponseDto.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 늦참 댓글 삭제 -> 실시간 후보의 "내 별점" 반영 테스트
+ *  - 별점 캐시는 커밋 후 갱신되므로 @Transactional 없이 직접 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class LateStarCommentDeleteTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired AnimeRepository animeRepository;
+    @Autowired EpisodeRepository episodeRepository;
+    @Autowired QuarterRepository quarterRepository;
+    @Autowired WeekRepository weekRepository;
+    @Autowired WeekVoteSubmissionRepository weekVoteSubmissionRepository;
+    @Autowired EpisodeStarRepository episodeStarRepository;
+    @Autowired AnimeCommentRepository animeCommentRepository;
+
+    @Autowired CommentService commentService;
+    @Autowired LiveCandidateReadModel liveCandidateReadModel;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    Long memberId;
+    Long animeId;
+    Long episodeId;
+    Long submissionId;
+    Long episodeStarId;
+    Long commentId;
+    String principalKey;
+
+    @BeforeEach
+    void setUp() {
+        Member author = memberRepository.save(Member.createSocial(
+                OAuthProvider.KAKAO, UUID.randomUUID().toString(), "author", null));
+        memberId = author.getId();
+        principalKey = "m:" + memberId;
+
+        Anime anime = animeRepository.save(Anime.builder()
+                .titleKor("늦참_삭제_테스트")
+                .medium(Medium.TVA)
+                .build());
+        animeId = anime.getId();
+
+        //=== 방영 직후 (VOTING_WINDOW) 에피소드와 그 주 ===//
+        LocalDateTime scheduledAt = LocalDateTime.now().minusHours(1);
+        Week week = getOrCreateWeek(scheduledAt);
+
+        Episode episode = Episode.create(anime, 1, scheduledAt, scheduledAt.plusWeeks(1), false);
+
+        // 늦참 별점은 LOGIN_REQUIRED 에서 생김 - 만든 뒤 후보 목록에 보이도록 VOTING_WINDOW 로 되돌림
+        episode.setEvaluateState(EpEvaluateState.LOGIN_REQUIRED);
+        WeekVoteSubmission submission = weekVoteSubmissionRepository.save(WeekVoteSubmission.create(
+                false, week, author, null, null, null, null, principalKey, ContentType.ANIME));
+        submissionId = submission.getId();
+
+        EpisodeStar episodeStar = EpisodeStar.create(submission, episode, 8);
+        episode.setEvaluateState(EpEvaluateState.VOTING_WINDOW);
+        episodeId = episodeRepository.save(episode).getId();
+        episodeStarId = episodeStarRepository.save(episodeStar).getId();
+
+        AnimeComment comment = AnimeComment.create(anime, episode, author, false, 0, null, "body");
+        comment.setEpisodeStar(episodeStar);
+        commentId = animeCommentRepository.save(comment).getId();
+
+        liveCandidateReadModel.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        animeCommentRepository.deleteById(commentId);
+        episodeStarRepository.deleteById(episodeStarId);
+        weekVoteSubmissionRepository.deleteById(submissionId);
+        episodeRepository.deleteById(episodeId);
+        animeRepository.deleteById(animeId);
+        memberRepository.deleteById(memberId);
+
+        liveCandidateReadModel.invalidate();
+    }
+
+    @Test
+    public void 늦참_댓글_삭제시_실시간_후보에서_내_별점_제거() throws Exception {
+        //given - 후보 조회로 내 투표 상태가 캐시됨
+        LiveCandidateDto before = findCandidate();
+        assertThat(before.getResult()).isNotNull();
+        assertThat(before.getResult().getInfo().getUserStarScore()).isEqualTo(8);
+
+        //when
+        commentService.deleteAnimeComment(commentId, MemberPrincipal.of(memberId, Role.USER));
+
+        //then - 캐시된 상태에도 회수가 반영되어 별점 없이 보임
+        assertThat(episodeStarRepository.findById(episodeStarId).orElseThrow().getStarScore()).isNull();
+        assertThat(findCandidate().getResult()).isNull();
+    }
+
+    private LiveCandidateDto findCandidate() {
+        List<LiveCandidateDto> candidates = transactionTemplate.execute(status ->
+                liveCandidateReadModel.getLiveCandidates(List.of(principalKey)));
+
+        return candidates.stream()
+                .filter(c -> c.getEpisodeId().equals(episodeId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Week getOrCreateWeek(LocalDateTime time) {
+        return weekRepository.findWeekByStartDateTimeLessThanEqualAndEndDateTimeGreaterThan(time, time)
+                .orElseGet(() -> {
+                    YQWRecord record = QuarterUtil.getThisWeekRecord(time);
+                    Quarter quarter = quarterRepository
+                            .findByYearValueAndQuarterValue(record.yearValue(), record.quarterValue())
+                            .orElseGet(() -> quarterRepository.save(
+                                    Quarter.create(record.yearValue(), record.quarterValue())));
+                    return weekRepository.save(Week.create(
+                            quarter, record.weekValue(), QuarterUtil.getThisWeekStartedAt(time)));
+                });
+    }
+}
@@ -0,0 +1,243 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 별점 집계 버퍼 단위 테스트
+ *  - 트랜잭션은 동기화 콜백만 흉내 (afterCommit / afterCompletion), DB 반영은 mock 으로 확인
+ */
+public class StarTallyBufferTest {
+
+    private static final Long EPISODE_ID = 1L;
+
+    private EpisodeRepository episodeRepository;
+    private StarTallyBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        episodeRepository = mock(EpisodeRepository.class);
+        buffer = new StarTallyBuffer(episodeRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    public void 커밋된_표만_flush_에서_반영() throws Exception {
+        //given
+        inTransaction(true, () -> {
+            buffer.record(episode(), null, 8);
+            // 커밋 전에는 같은 트랜잭션에서만 보임
+            assertThat(buffer.getVoterCount(episode())).isEqualTo(1);
+        });
+        inTransaction(false, () -> buffer.record(episode(), null, 6));
+
+        assertThat(buffer.getVoterCount(episode())).isEqualTo(1);
+
+        //when
+        buffer.flush();
+        buffer.flush();
+
+        //then - 롤백된 표 제외, 반영한 델타는 다시 보내지 않음
+        verify(episodeRepository).addStarStats(eq(EPISODE_ID), aryEq(delta(1, 8)));
+        verifyNoMoreInteractions(episodeRepository);
+    }
+
+    @Test
+    public void 재집계는_표시_이전_델타만_버림() throws Exception {
+        //given - 재집계에 포함될 표 2개
+        buffer.record(episode(), null, 10);
+        buffer.record(episode(), null, 10);
+
+        //when - 재집계가 읽는 사이 다른 트랜잭션에서 표 1개 커밋
+        inTransaction(true, () -> {
+            buffer.markRecount();
+            runOnOtherThread(() -> buffer.record(episode(), null, 4));
+
+            Episode recounted = episode();
+            recounted.setStats(2, stars(10, 2));
+            buffer.reset(List.of(recounted));
+        });
+
+        //then - 재집계 값 + 재집계 이후 표
+        assertThat(buffer.getVoterCount(episode())).isEqualTo(3);
+
+        buffer.flush();
+        verify(episodeRepository).addStarStats(eq(EPISODE_ID), aryEq(delta(1, 4)));
+        verifyNoMoreInteractions(episodeRepository);
+    }
+
+    @Test
+    public void 재집계_중에는_flush_멈춤() throws Exception {
+        //given
+        buffer.record(episode(), null, 6);
+
+        CountDownLatch marked = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> recount = CompletableFuture.runAsync(() -> inTransaction(true, () -> {
+            buffer.markRecount();
+            marked.countDown();
+            await(finish);
+        }));
+        await(marked);
+
+        //when(1) - 재집계 트랜잭션 진행 중
+        buffer.flush();
+
+        //then(1)
+        verify(episodeRepository, never()).addStarStats(anyLong(), any());
+
+        //when(2) - 재집계 끝난 뒤
+        finish.countDown();
+        recount.get(10, TimeUnit.SECONDS);
+        buffer.flush();
+
+        //then(2)
+        verify(episodeRepository).addStarStats(eq(EPISODE_ID), aryEq(delta(1, 6)));
+    }
+
+    @Test
+    public void 반영_중인_델타는_재집계_표시를_기다린_뒤_버려짐() throws Exception {
+        //given - flush 가 DB 반영 도중에 멈춰 있음
+        buffer.record(episode(), null, 2);
+
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            await(proceed);
+            return null;
+        }).when(episodeRepository).addStarStats(anyLong(), any());
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        await(flushing);
+
+        //when - 그 사이 재집계 시작 (반영된 표까지 읽음)
+        CountDownLatch marked = new CountDownLatch(1);
+        CompletableFuture<Void> recount = CompletableFuture.runAsync(() -> inTransaction(true, () -> {
+            buffer.markRecount();
+            marked.countDown();
+
+            Episode recounted = episode();
+            recounted.setStats(1, stars(2, 1));
+            buffer.reset(List.of(recounted));
+        }));
+
+        //then - 반영이 끝나기 전에는 epoch 를 올리지 않음
+        assertThat(marked.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        proceed.countDown();
+        flush.get(10, TimeUnit.SECONDS);
+        recount.get(10, TimeUnit.SECONDS);
+        assertThat(marked.getCount()).isZero();
+
+        // 반영된 델타는 다시 보내지 않고, 남은 델타가 없으므로 집계는 버려짐 (Episode 행 값 그대로)
+        buffer.flush();
+        verify(episodeRepository, times(1)).addStarStats(eq(EPISODE_ID), aryEq(delta(1, 2)));
+        assertThat(buffer.getVoterCount(episode())).isZero();
+    }
+
+    @Test
+    public void 반영할_델타_없이_flush_를_지나면_집계_버림() throws Exception {
+        //given
+        buffer.record(episode(), null, 7);
+        buffer.flush();
+        assertThat(buffer.getVoterCount(episode())).isEqualTo(1);
+
+        //when(1) - 한 주기 쉼
+        buffer.flush();
+
+        //then(1) - 아직 유지
+        assertThat(buffer.getVoterCount(episode())).isEqualTo(1);
+
+        //when(2) - 두 주기 쉼
+        buffer.flush();
+
+        //then(2) - 버려져서 Episode 행 값 그대로
+        assertThat(buffer.getVoterCount(episode())).isZero();
+
+        // 다시 투표하면 그 Episode 값 기준으로 새로 집계
+        Episode flushed = episode();
+        flushed.setStats(1, stars(7, 1));
+        buffer.record(flushed, null, 3);
+        assertThat(buffer.getVoterCount(flushed)).isEqualTo(2);
+    }
+
+    //=== 도우미 ===//
+
+    /**
+     * 통계가 비어 있는 같은 에피소드 (요청마다 새로 읽은 엔티티처럼)
+     */
+    private static Episode episode() {
+        LocalDateTime scheduledAt = LocalDateTime.now().minusHours(1);
+        Episode episode = Episode.create(null, 1, scheduledAt, scheduledAt.plusWeeks(1), false);
+        ReflectionTestUtils.setField(episode, "id", EPISODE_ID);
+        return episode;
+    }
+
+    // [voterCount, star_0_5 ... star_5_0]
+    private static long[] delta(long voters, int score) {
+        long[] delta = new long[11];
+        delta[0] = voters;
+        delta[score] = voters;
+        return delta;
+    }
+
+    private static int[] stars(int score, int count) {
+        int[] stars = new int[10];
+        stars[score - 1] = count;
+        return stars;
+    }
+
+    /**
+     * 트랜잭션 하나 흉내 - commit 이면 afterCommit 후 afterCompletion, 아니면 afterCompletion 만
+     */
+    private static void inTransaction(boolean commit, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            }
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, commit ?
+                    TransactionSynchronization.STATUS_COMMITTED :
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void runOnOtherThread(Runnable task) {
+        CompletableFuture.runAsync(task).join();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}